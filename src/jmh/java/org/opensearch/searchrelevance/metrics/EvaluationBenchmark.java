@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.searchrelevance.metrics.calculator.Evaluation;
+import org.opensearch.searchrelevance.metrics.calculator.EvaluationKernel;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+
+/**
+ * Throughput of the evaluation of a single ranked list, by the separate calculators of {@link Evaluation} and by the
+ * single pass {@link EvaluationKernel} behind {@link EvaluationMetrics}.
+ * The judgments cover the given share of the ranked docIds and a few docs that were not retrieved, the ranked list repeats
+ * earlier docIds at the given share of its positions as search results without deduplication do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EvaluationBenchmark {
+
+    private static final List<MetricSpec> ALL_METRICS = MetricSpec.parseAll(
+        List.of("precision@5", "precision@10", "recall@10", "MAP", "ndcg", "ndcg@10", "dcg@10", "mrr", "err@10"),
+        new MetricRegistry()
+    );
+
+    @Param({ "10", "100", "1000" })
+    public int size;
+
+    /**
+     * share of the ranked docIds with a judgment
+     */
+    @Param({ "0.1", "0.5", "1.0" })
+    public double judgmentCoverage;
+
+    /**
+     * share of the positions of the ranked list that repeat a docId of an earlier position
+     */
+    @Param({ "0.0", "0.5" })
+    public double duplicateRatio;
+
+    private List<String> docIds;
+    private Map<String, Double> judgments;
+    private double[] scores;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        docIds = new ArrayList<>(size);
+        judgments = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && random.nextDouble() < duplicateRatio) {
+                docIds.add(docIds.get(random.nextInt(i)));
+                continue;
+            }
+            String docId = "doc" + i;
+            docIds.add(docId);
+            if (random.nextDouble() < judgmentCoverage) {
+                judgments.put(docId, (double) random.nextInt(4));
+            }
+        }
+        for (int i = 0; i < size / 10; i++) {
+            judgments.put("unretrieved" + i, (double) random.nextInt(4));
+        }
+        scores = EvaluationKernel.resolveScores(docIds, judgments);
+    }
+
+    @Benchmark
+    public void separateCalculators(Blackhole blackhole) {
+        blackhole.consume(Evaluation.calculatePrecisionAtK(docIds, judgments, 5));
+        blackhole.consume(Evaluation.calculatePrecisionAtK(docIds, judgments, 10));
+        blackhole.consume(Evaluation.calculateMAP(docIds, judgments));
+        blackhole.consume(Evaluation.calculateNDCG(docIds, judgments));
+    }
+
+    @Benchmark
+    public Map<String, String> evaluationMetrics() {
+        return EvaluationMetrics.calculateEvaluationMetrics(docIds, judgments, MetricSpec.DEFAULT_METRICS);
+    }
+
+    @Benchmark
+    public Map<String, String> evaluationMetricsAllTypes() {
+        return EvaluationMetrics.calculateEvaluationMetrics(docIds, judgments, ALL_METRICS);
+    }
+
+    @Benchmark
+    public double[] resolveScores() {
+        return EvaluationKernel.resolveScores(docIds, judgments);
+    }
+
+    @Benchmark
+    public Map<String, String> kernelResolvedScores() {
+        return EvaluationKernel.evaluate(scores, judgments, MetricSpec.DEFAULT_METRICS);
+    }
+}
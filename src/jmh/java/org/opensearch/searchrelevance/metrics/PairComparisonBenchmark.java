@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.searchrelevance.metrics.calculator.PairComparison;
+import org.opensearch.searchrelevance.metrics.calculator.PairComparison.RankBiasedOverlap;
+
+/**
+ * Throughput of the pairwise comparison of two ranked lists, by every calculator of {@link PairComparison} and by
+ * {@link PairwiseComparisonMetrics} that computes all of them.
+ * List B shares about half of the docIds of list A in a shuffled order, duplicates repeat docIds within both lists.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PairComparisonBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int size;
+
+    /**
+     * share of the positions of both lists that repeat a docId of an earlier position
+     */
+    @Param({ "0.0", "0.5" })
+    public double duplicateRatio;
+
+    private List<String> listA;
+    private List<String> listB;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42L);
+        listA = rankedList("a", random);
+        listB = rankedList("b", random);
+        // about half of the docIds of list B are moved to other ranks of list A
+        for (int i = 0; i < size; i++) {
+            if (random.nextBoolean()) {
+                listB.set(i, listA.get(random.nextInt(size)));
+            }
+        }
+    }
+
+    private List<String> rankedList(String prefix, Random random) {
+        List<String> docIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && random.nextDouble() < duplicateRatio) {
+                docIds.add(docIds.get(random.nextInt(i)));
+            } else {
+                docIds.add(prefix + i);
+            }
+        }
+        return docIds;
+    }
+
+    @Benchmark
+    public double jaccard() {
+        return PairComparison.calculateJaccardSimilarity(listA, listB);
+    }
+
+    @Benchmark
+    public RankBiasedOverlap rankBiasedOverlap() {
+        return PairComparison.calculateRankBiasedOverlap(listA, listB, 0.5, 0.9);
+    }
+
+    @Benchmark
+    public double frequencyWeighted() {
+        return PairComparison.calculateFrequencyWeightedSimilarity(listA, listB);
+    }
+
+    @Benchmark
+    public Map<String, Double> pairwiseComparisonMetrics() {
+        return PairwiseComparisonMetrics.calculatePairwiseMetrics(listA, listB);
+    }
+}
@@ -21,8 +21,15 @@ public class MetricsConstants {
      * pariwise comparison field names
      */
     public static final String METRICS_PAIRWISE_COMPARISON_FIELD_NAME = "pairwiseComparison";
+    public static final String METRICS_PAIRWISE_COMPARISONS_FIELD_NAME = "pairwiseComparisons";
+    public static final String METRICS_EVALUATION_SUMMARY_FIELD_NAME = "evaluationSummary";
+    public static final String METRICS_SIGNIFICANCE_FIELD_NAME = "significance";
+    public static final String METRICS_COVERAGE_FIELD_NAME = "coverage";
     public static final String PAIRWISE_FIELD_NAME_A = "0";
     public static final String PAIRWISE_FIELD_NAME_B = "1";
+    public static final String PAIRWISE_SEARCH_CONFIGURATION_A = "searchConfigurationA";
+    public static final String PAIRWISE_SEARCH_CONFIGURATION_B = "searchConfigurationB";
+    public static final String PAIRWISE_QUERY_COUNT = "queryCount";
 
     /**
      * metadata map fields
@@ -26,6 +26,11 @@ public class PluginConstants {
     public static final String JUDGMENTS_URL = SEARCH_RELEVANCE_BASE_URI + "/judgments";
     /** The URI for this plugin's search configurations rest actions */
     public static final String SEARCH_CONFIGURATIONS_URL = SEARCH_RELEVANCE_BASE_URI + "/search_configurations";
+    /** The URI for this plugin's search result cache rest actions */
+    public static final String SEARCH_RESULT_CACHE_URI = SEARCH_RELEVANCE_BASE_URI + "/search_result_cache";
+
+    /** The thread pool metrics are computed on */
+    public static final String METRICS_THREAD_POOL_NAME = "search_relevance_metrics";
 
     /** The URI PARAMS placeholders */
     public static final String DOCUMENT_ID = "id";
@@ -47,6 +52,8 @@ public class PluginConstants {
     public static final String JUDGMENT_INDEX_MAPPING = "mappings/judgment.json";
     public static final String EVALUATION_RESULT_INDEX = ".plugins-search-relevance-evaluation-result";
     public static final String EVALUATION_RESULT_INDEX_MAPPING = "mappings/evaluation_result.json";
+    public static final String EXPERIMENT_RESULT_INDEX = ".plugins-search-relevance-experiment-result";
+    public static final String EXPERIMENT_RESULT_INDEX_MAPPING = "mappings/experiment_result.json";
     public static final String JUDGMENT_CACHE_INDEX = ".plugins-search-relevance-judgment-cache";
     public static final String JUDGMENT_CACHE_INDEX_MAPPING = "mappings/judgment_cache.json";
 
@@ -8,6 +8,8 @@
 package org.opensearch.searchrelevance.dao;
 
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EVALUATION_RESULT;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EVALUATION_RESULT_BULK_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EVALUATION_RESULT_FLUSH_INTERVAL;
 
 import java.io.IOException;
 
@@ -16,6 +18,8 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
@@ -24,14 +28,24 @@ import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.indices.SystemIndexBulkWriter;
 import org.opensearch.searchrelevance.model.EvaluationResult;
+import org.opensearch.threadpool.ThreadPool;
 
 public class EvaluationResultDao {
     private static final Logger LOGGER = LogManager.getLogger(EvaluationResultDao.class);
     private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
 
-    public EvaluationResultDao(SearchRelevanceIndicesManager searchRelevanceIndicesManager) {
+    public EvaluationResultDao(
+        SearchRelevanceIndicesManager searchRelevanceIndicesManager,
+        ThreadPool threadPool,
+        ClusterService clusterService
+    ) {
         this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
     }
 
     /**
@@ -64,6 +78,21 @@ public class EvaluationResultDao {
         }
     }
 
+    /**
+     * Create a writer that stores the evaluation results of one experiment with bulk requests
+     * and refreshes the evaluation result index once when closed
+     */
+    public SystemIndexBulkWriter createBulkWriter() {
+        ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        return new SystemIndexBulkWriter(
+            searchRelevanceIndicesManager,
+            threadPool,
+            EVALUATION_RESULT,
+            clusterSettings.get(EVALUATION_RESULT_BULK_SIZE),
+            clusterSettings.get(EVALUATION_RESULT_FLUSH_INTERVAL)
+        );
+    }
+
     /**
      * Delete evaluationResult by evaluationResultId
      * @param evaluationResultId - id to be deleted
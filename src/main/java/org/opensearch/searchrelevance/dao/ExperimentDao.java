@@ -7,19 +7,25 @@
  */
 package org.opensearch.searchrelevance.dao;
 
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_SIGNIFICANCE_FIELD_NAME;
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
@@ -81,6 +87,39 @@ public class ExperimentDao {
         }
     }
 
+    /**
+     * Replace the progress of an experiment, other fields of the experiment are kept
+     * @param experimentId - id of the experiment
+     * @param progress - progress counters to be stored
+     * @param listener - action lister for async operation
+     */
+    public void updateExperimentProgress(
+        final String experimentId,
+        final Map<String, Object> progress,
+        final ActionListener<UpdateResponse> listener
+    ) {
+        searchRelevanceIndicesManager.partialUpdateDoc(experimentId, Map.of(Experiment.PROGRESS, progress), EXPERIMENT, listener);
+    }
+
+    /**
+     * Add the significance tests to the summary of a completed experiment, other fields of the experiment are kept
+     * @param experimentId - id of the experiment
+     * @param significance - significance test per pair of search configurations and metric
+     * @param listener - action lister for async operation
+     */
+    public void updateExperimentSignificance(
+        final String experimentId,
+        final List<Map<String, Object>> significance,
+        final ActionListener<UpdateResponse> listener
+    ) {
+        searchRelevanceIndicesManager.partialUpdateDoc(
+            experimentId,
+            Map.of(Experiment.RESULTS, Map.of(METRICS_SIGNIFICANCE_FIELD_NAME, significance)),
+            EXPERIMENT,
+            listener
+        );
+    }
+
     /**
      * Delete experiment by experimentId
      * @param experimentId - id to be deleted
@@ -103,6 +142,27 @@ public class ExperimentDao {
         return searchRelevanceIndicesManager.getDocByDocId(experimentId, EXPERIMENT, listener);
     }
 
+    /**
+     * Get the source of an experiment by experimentId
+     * @param experimentId - id of the experiment
+     * @param listener - action lister for async operation, fails with NOT_FOUND if the experiment does not exist
+     */
+    public void getExperimentSource(String experimentId, ActionListener<Map<String, Object>> listener) {
+        getExperiment(experimentId, ActionListener.wrap(response -> {
+            if (response.getHits().getHits().length == 0) {
+                listener.onFailure(new SearchRelevanceException("Experiment not found: " + experimentId, RestStatus.NOT_FOUND));
+                return;
+            }
+            listener.onResponse(response.getHits().getHits()[0].getSourceAsMap());
+        }, e -> {
+            if (ExceptionsHelper.unwrap(e, IndexNotFoundException.class) != null) {
+                listener.onFailure(new SearchRelevanceException("Experiment not found: " + experimentId, RestStatus.NOT_FOUND));
+                return;
+            }
+            listener.onFailure(e);
+        }));
+    }
+
     /**
      * List experiment by source builder
      * @param sourceBuilder - source builder to be searched
@@ -0,0 +1,268 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISONS_FIELD_NAME;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_RESULT;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_CHECKPOINT_BATCH_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_CHECKPOINT_INTERVAL;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.indices.SystemIndexBulkWriter;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.threadpool.ThreadPool;
+
+public class ExperimentResultDao {
+    private static final Logger LOGGER = LogManager.getLogger(ExperimentResultDao.class);
+    private static final int PAGE_SIZE = 1000;
+    private static final String PAIRWISE_COMPARISONS_PATH = ExperimentResult.RESULTS + "." + METRICS_PAIRWISE_COMPARISONS_FIELD_NAME;
+
+    private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+
+    public ExperimentResultDao(
+        SearchRelevanceIndicesManager searchRelevanceIndicesManager,
+        ThreadPool threadPool,
+        ClusterService clusterService
+    ) {
+        this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+    }
+
+    /**
+     * Create experiment result index if not exists
+     * @param stepListener - step lister for async operation
+     */
+    public void createIndexIfAbsent(final StepListener<Void> stepListener) {
+        searchRelevanceIndicesManager.createIndexIfAbsent(EXPERIMENT_RESULT, stepListener);
+    }
+
+    /**
+     * Create a writer that checkpoints the completed queryTexts of one experiment in batches
+     */
+    public SystemIndexBulkWriter createCheckpointWriter() {
+        ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        return new SystemIndexBulkWriter(
+            searchRelevanceIndicesManager,
+            threadPool,
+            EXPERIMENT_RESULT,
+            clusterSettings.get(EXPERIMENT_CHECKPOINT_BATCH_SIZE),
+            clusterSettings.get(EXPERIMENT_CHECKPOINT_INTERVAL)
+        );
+    }
+
+    /**
+     * Load the queryTexts of an experiment that already have results
+     * @param experimentId - experiment the results belong to
+     * @param listener - receives the checkpointed queryTexts
+     */
+    public void loadCheckpointedQueryTexts(final String experimentId, final ActionListener<Set<String>> listener) {
+        Set<String> queryTexts = new HashSet<>();
+        if (!clusterService.state().metadata().hasIndex(EXPERIMENT_RESULT.getIndexName())) {
+            listener.onResponse(queryTexts);
+            return;
+        }
+        loadCheckpointedQueryTextsPage(experimentId, null, queryTexts, listener);
+    }
+
+    private void loadCheckpointedQueryTextsPage(
+        String experimentId,
+        Object[] searchAfter,
+        Set<String> queryTexts,
+        ActionListener<Set<String>> listener
+    ) {
+        // only the queryText is needed, results are not loaded
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId)
+        ).fetchSource(ExperimentResult.QUERY_TEXT, null).size(PAGE_SIZE).sort(ExperimentResult.QUERY_TEXT, SortOrder.ASC);
+        if (searchAfter != null) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+
+        searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, EXPERIMENT_RESULT, ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            for (SearchHit hit : hits) {
+                queryTexts.add((String) hit.getSourceAsMap().get(ExperimentResult.QUERY_TEXT));
+            }
+            if (hits.length < PAGE_SIZE) {
+                LOGGER.debug("Loaded {} checkpointed queryTexts of experiment [{}]", queryTexts.size(), experimentId);
+                listener.onResponse(queryTexts);
+                return;
+            }
+            loadCheckpointedQueryTextsPage(experimentId, hits[hits.length - 1].getSortValues(), queryTexts, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Load the evaluation references of an experiment, so that a re-run can carry its unchanged evaluations over
+     * and a resumed experiment can summarize the metrics of its checkpointed queryTexts
+     * @param experimentId - experiment the results belong to
+     * @param listener - receives the reference per queryText and searchConfigId of every fingerprinted or summarized evaluation
+     */
+    public void loadEvaluationReferences(
+        final String experimentId,
+        final ActionListener<Map<String, Map<String, EvaluationReference>>> listener
+    ) {
+        Map<String, Map<String, EvaluationReference>> evaluations = new HashMap<>();
+        if (!clusterService.state().metadata().hasIndex(EXPERIMENT_RESULT.getIndexName())) {
+            listener.onResponse(evaluations);
+            return;
+        }
+        loadEvaluationReferencesPage(experimentId, null, evaluations, listener);
+    }
+
+    private void loadEvaluationReferencesPage(
+        String experimentId,
+        Object[] searchAfter,
+        Map<String, Map<String, EvaluationReference>> evaluations,
+        ActionListener<Map<String, Map<String, EvaluationReference>>> listener
+    ) {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId)
+        )
+            .fetchSource(
+                new String[] {
+                    ExperimentResult.QUERY_TEXT,
+                    ExperimentResult.RESULTS,
+                    ExperimentResult.FINGERPRINTS,
+                    ExperimentResult.METRICS },
+                null
+            )
+            .size(PAGE_SIZE)
+            .sort(ExperimentResult.QUERY_TEXT, SortOrder.ASC);
+        if (searchAfter != null) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+
+        searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, EXPERIMENT_RESULT, ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            for (SearchHit hit : hits) {
+                Map<String, Object> source = hit.getSourceAsMap();
+                Map<String, Object> results = (Map<String, Object>) source.getOrDefault(ExperimentResult.RESULTS, Map.of());
+                Map<String, Object> fingerprints = (Map<String, Object>) source.getOrDefault(ExperimentResult.FINGERPRINTS, Map.of());
+                Map<String, Object> metrics = (Map<String, Object>) source.getOrDefault(ExperimentResult.METRICS, Map.of());
+                Map<String, EvaluationReference> queryEvaluations = new HashMap<>();
+                for (Map.Entry<String, Object> entry : results.entrySet()) {
+                    String searchConfigurationId = entry.getKey();
+                    // the result of an evaluation is its evaluationId, pairwise comparisons are neither fingerprinted nor summarized
+                    if (!(entry.getValue() instanceof String evaluationId)
+                        || !(fingerprints.containsKey(searchConfigurationId) || metrics.containsKey(searchConfigurationId))) {
+                        continue;
+                    }
+                    Map<String, String> evaluationMetrics = new HashMap<>();
+                    ((Map<String, Object>) metrics.getOrDefault(searchConfigurationId, Map.of())).forEach(
+                        (metric, value) -> evaluationMetrics.put(metric, String.valueOf(value))
+                    );
+                    queryEvaluations.put(
+                        searchConfigurationId,
+                        new EvaluationReference(evaluationId, (String) fingerprints.get(searchConfigurationId), evaluationMetrics)
+                    );
+                }
+                if (!queryEvaluations.isEmpty()) {
+                    evaluations.put((String) source.get(ExperimentResult.QUERY_TEXT), queryEvaluations);
+                }
+            }
+            if (hits.length < PAGE_SIZE) {
+                LOGGER.debug("Loaded evaluation references of {} queryTexts of experiment [{}]", evaluations.size(), experimentId);
+                listener.onResponse(evaluations);
+                return;
+            }
+            loadEvaluationReferencesPage(experimentId, hits[hits.length - 1].getSortValues(), evaluations, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * Load the pairwise comparisons of a PAIRWISE_COMPARISON experiment, so that a resumed experiment summarizes the pairs
+     * of its checkpointed queryTexts
+     * @param experimentId - experiment the results belong to
+     * @param listener - receives the per pair sums of every checkpointed queryText
+     */
+    public void loadPairwiseSummary(final String experimentId, final ActionListener<PairwiseSummary> listener) {
+        PairwiseSummary pairwiseSummary = new PairwiseSummary();
+        if (!clusterService.state().metadata().hasIndex(EXPERIMENT_RESULT.getIndexName())) {
+            listener.onResponse(pairwiseSummary);
+            return;
+        }
+        loadPairwiseSummaryPage(experimentId, null, pairwiseSummary, listener);
+    }
+
+    private void loadPairwiseSummaryPage(
+        String experimentId,
+        Object[] searchAfter,
+        PairwiseSummary pairwiseSummary,
+        ActionListener<PairwiseSummary> listener
+    ) {
+        // only the pairwise comparisons are needed, the ranked docIds are not loaded
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().query(
+            QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId)
+        )
+            .fetchSource(new String[] { ExperimentResult.QUERY_TEXT, PAIRWISE_COMPARISONS_PATH }, null)
+            .size(PAGE_SIZE)
+            .sort(ExperimentResult.QUERY_TEXT, SortOrder.ASC);
+        if (searchAfter != null) {
+            sourceBuilder.searchAfter(searchAfter);
+        }
+
+        searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, EXPERIMENT_RESULT, ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            for (SearchHit hit : hits) {
+                Map<String, Object> results = (Map<String, Object>) hit.getSourceAsMap().getOrDefault(ExperimentResult.RESULTS, Map.of());
+                if (results.get(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME) instanceof List<?> pairwiseResults) {
+                    pairwiseSummary.add((List<Map<String, Object>>) pairwiseResults);
+                }
+            }
+            if (hits.length < PAGE_SIZE) {
+                LOGGER.debug("Loaded pairwise comparisons of experiment [{}]", experimentId);
+                listener.onResponse(pairwiseSummary);
+                return;
+            }
+            loadPairwiseSummaryPage(experimentId, hits[hits.length - 1].getSortValues(), pairwiseSummary, listener);
+        }, listener::onFailure));
+    }
+
+    /**
+     * List a page of the results of an experiment
+     * @param experimentId - experiment the results belong to
+     * @param sourceBuilder - pagination, sort and optional query on the results, always restricted to the experiment
+     * @param listener - action lister for async operation
+     */
+    public void listExperimentResults(
+        final String experimentId,
+        final SearchSourceBuilder sourceBuilder,
+        final ActionListener<SearchResponse> listener
+    ) {
+        BoolQueryBuilder query = QueryBuilders.boolQuery().filter(QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, experimentId));
+        if (sourceBuilder.query() != null) {
+            query.filter(sourceBuilder.query());
+        }
+        sourceBuilder.query(query);
+        searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, EXPERIMENT_RESULT, listener);
+    }
+}
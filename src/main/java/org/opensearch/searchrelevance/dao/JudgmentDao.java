@@ -10,6 +10,10 @@ package org.opensearch.searchrelevance.dao;
 import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.JUDGMENT;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,6 +30,7 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
 import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRatingTable;
 
 public class JudgmentDao {
     private static final Logger LOGGER = LogManager.getLogger(JudgmentDao.class);
@@ -123,4 +128,82 @@ public class JudgmentDao {
 
         return searchRelevanceIndicesManager.listDocsBySearchRequest(sourceBuilder, JUDGMENT, listener);
     }
+
+    /**
+     * Fetch each judgment once and load all of them into a single rating table.
+     * Judgments that fail to load are skipped, the load only fails if none of the judgments can be fetched.
+     * A judgment that is not found, e.g. a deleted judgment, contributes no ratings, like a judgment without ratings.
+     * @param judgmentIds - ids of judgments to be loaded, later judgments override earlier ones
+     * @param listener - action lister for async operation
+     */
+    public void loadJudgmentRatingTable(List<String> judgmentIds, ActionListener<JudgmentRatingTable> listener) {
+        if (judgmentIds == null || judgmentIds.isEmpty()) {
+            listener.onResponse(new JudgmentRatingTable());
+            return;
+        }
+        AtomicReferenceArray<Map<String, Object>> judgmentSources = new AtomicReferenceArray<>(judgmentIds.size());
+        AtomicInteger pendingJudgments = new AtomicInteger(judgmentIds.size());
+        // judgments that were fetched, found or not found
+        AtomicInteger fetchedJudgments = new AtomicInteger();
+
+        for (int i = 0; i < judgmentIds.size(); i++) {
+            final int position = i;
+            final String judgmentId = judgmentIds.get(i);
+            getJudgment(judgmentId, new ActionListener<SearchResponse>() {
+                @Override
+                public void onResponse(SearchResponse response) {
+                    try {
+                        if (response.getHits().getHits().length == 0) {
+                            LOGGER.warn("Judgment {} not found, it contributes no ratings", judgmentId);
+                        } else {
+                            judgmentSources.set(position, response.getHits().getHits()[0].getSourceAsMap());
+                        }
+                        fetchedJudgments.incrementAndGet();
+                    } catch (Exception e) {
+                        LOGGER.error("Failed to parse judgment {}", judgmentId, e);
+                    }
+                    onJudgmentLoaded();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    LOGGER.error("Failed to fetch judgment {}", judgmentId, e);
+                    onJudgmentLoaded();
+                }
+
+                private void onJudgmentLoaded() {
+                    if (pendingJudgments.decrementAndGet() == 0) {
+                        buildJudgmentRatingTable(judgmentSources, fetchedJudgments.get() > 0, listener);
+                    }
+                }
+            });
+        }
+    }
+
+    private void buildJudgmentRatingTable(
+        AtomicReferenceArray<Map<String, Object>> judgmentSources,
+        boolean hasFetchedJudgment,
+        ActionListener<JudgmentRatingTable> listener
+    ) {
+        if (!hasFetchedJudgment) {
+            listener.onFailure(new SearchRelevanceException("Failed to fetch any valid judgments", RestStatus.INTERNAL_SERVER_ERROR));
+            return;
+        }
+        JudgmentRatingTable ratingTable = new JudgmentRatingTable();
+        try {
+            for (int i = 0; i < judgmentSources.length(); i++) {
+                Map<String, Object> judgmentSource = judgmentSources.get(i);
+                if (judgmentSource != null) {
+                    ratingTable.addJudgment(judgmentSource);
+                }
+            }
+        } catch (Exception e) {
+            listener.onFailure(new SearchRelevanceException("Failed to load judgment ratings", e, RestStatus.INTERNAL_SERVER_ERROR));
+            return;
+        }
+        if (ratingTable.isEmpty()) {
+            LOGGER.warn("No ratings found in any of the judgments");
+        }
+        listener.onResponse(ratingTable);
+    }
 }
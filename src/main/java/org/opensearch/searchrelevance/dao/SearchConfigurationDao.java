@@ -12,9 +12,10 @@ import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.SEAR
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -125,10 +126,15 @@ public class SearchConfigurationDao {
         Map<String, Object> results,
         ActionListener<Map<String, Object>> stepListener
     ) {
-        Map<String, List<String>> indexAndQueries = new HashMap<>();
+        Map<String, List<String>> indexAndQueries = new ConcurrentHashMap<>();
 
         GroupedActionListener<SearchResponse> groupedListener = new GroupedActionListener<>(ActionListener.wrap(responses -> {
-            results.put(METRICS_INDEX_AND_QUERIES_FIELD_NAME, indexAndQueries);
+            // search configurations keep the order of the request, so that pairwise comparisons are deterministic
+            Map<String, List<String>> orderedIndexAndQueries = new LinkedHashMap<>();
+            for (String searchConfigurationId : searchConfigurationList) {
+                orderedIndexAndQueries.put(searchConfigurationId, indexAndQueries.get(searchConfigurationId));
+            }
+            results.put(METRICS_INDEX_AND_QUERIES_FIELD_NAME, orderedIndexAndQueries);
             stepListener.onResponse(results);
         }, stepListener::onFailure), searchConfigurationList.size());
 
@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.opensearch.searchrelevance.utils.TimeUtils;
+
+/**
+ * Live counters of a running experiment.
+ * Slices evaluated by other nodes are counted once they complete.
+ * Throughput and ETA are computed over the current run only, queryTexts checkpointed by a previous run count as completed
+ * but do not speed up the ETA.
+ */
+public class ExperimentProgress {
+    public static final String TOTAL_QUERIES = "totalQueries";
+    public static final String COMPLETED_QUERIES = "completedQueries";
+    public static final String PENDING_QUERIES = "pendingQueries";
+    public static final String SEARCHES_ISSUED = "searchesIssued";
+    public static final String SEARCH_FAILURES = "searchFailures";
+    public static final String SEARCH_TIMEOUTS = "searchTimeouts";
+    public static final String SEARCHES_PER_SECOND = "searchesPerSecond";
+    public static final String ELAPSED_MILLIS = "elapsedMillis";
+    public static final String ETA_MILLIS = "etaMillis";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String EVALUATED_QUERIES = "evaluatedQueries";
+    public static final String SKIPPED_QUERIES = "skippedQueries";
+    public static final String EVALUATED_RATIO = "evaluatedRatio";
+    public static final String TIME_BUDGET_EXPIRED = "timeBudgetExpired";
+
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+    private final AtomicInteger completedQueries = new AtomicInteger();
+    private final AtomicLong remoteSearchesIssued = new AtomicLong();
+    private final AtomicLong remoteSearchFailures = new AtomicLong();
+    private final AtomicLong remoteSearchTimeouts = new AtomicLong();
+    private volatile int totalQueries;
+    private volatile int checkpointedQueries;
+    private volatile ExperimentSearchQueue searchQueue;
+
+    public ExperimentProgress() {
+        this(System::nanoTime);
+    }
+
+    ExperimentProgress(LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+    }
+
+    /**
+     * Set the queryTexts of the experiment once they are known
+     * @param totalQueries - distinct queryTexts of the experiment
+     * @param checkpointedQueries - queryTexts already completed by a previous run
+     */
+    public void onQueriesPlanned(int totalQueries, int checkpointedQueries) {
+        this.totalQueries = totalQueries;
+        this.checkpointedQueries = checkpointedQueries;
+    }
+
+    /**
+     * Count the searches of the experiment search queue
+     */
+    public void onSearchQueueCreated(ExperimentSearchQueue searchQueue) {
+        this.searchQueue = searchQueue;
+    }
+
+    public void onQueryCompleted() {
+        completedQueries.incrementAndGet();
+    }
+
+    /**
+     * Count a slice of the experiment evaluated by another node
+     * @param completedQueries - queryTexts completed by the slice
+     * @param searchesIssued - searches issued by the slice
+     * @param searchFailures - searches of the slice that failed
+     * @param searchTimeouts - searches of the slice that timed out
+     */
+    public void onRemoteSliceCompleted(int completedQueries, long searchesIssued, long searchFailures, long searchTimeouts) {
+        this.completedQueries.addAndGet(completedQueries);
+        remoteSearchesIssued.addAndGet(searchesIssued);
+        remoteSearchFailures.addAndGet(searchFailures);
+        remoteSearchTimeouts.addAndGet(searchTimeouts);
+    }
+
+    /**
+     * Snapshot of the counters, as stored in the experiment document and returned by the progress API
+     */
+    public Map<String, Object> toMap() {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - startNanos);
+        int completedInRun = completedQueries.get();
+        int completed = checkpointedQueries + completedInRun;
+        int pending = Math.max(0, totalQueries - completed);
+        ExperimentSearchQueue queue = searchQueue;
+        long searchesIssued = remoteSearchesIssued.get() + (queue == null ? 0 : queue.getSearchesIssued());
+        long searchFailures = remoteSearchFailures.get() + (queue == null ? 0 : queue.getSearchFailures());
+        long searchTimeouts = remoteSearchTimeouts.get() + (queue == null ? 0 : queue.getSearchTimeouts());
+
+        Map<String, Object> progress = new HashMap<>();
+        progress.put(TOTAL_QUERIES, totalQueries);
+        progress.put(COMPLETED_QUERIES, completed);
+        progress.put(PENDING_QUERIES, pending);
+        progress.put(SEARCHES_ISSUED, searchesIssued);
+        progress.put(SEARCH_FAILURES, searchFailures);
+        progress.put(SEARCH_TIMEOUTS, searchTimeouts);
+        progress.put(SEARCHES_PER_SECOND, elapsedMillis == 0 ? 0.0 : searchesIssued * 1000.0 / elapsedMillis);
+        progress.put(ELAPSED_MILLIS, elapsedMillis);
+        // unknown until the first queryText of this run completes
+        progress.put(ETA_MILLIS, completedInRun == 0 ? -1L : pending * elapsedMillis / completedInRun);
+        progress.put(UPDATED_AT, TimeUtils.getTimestamp());
+        return progress;
+    }
+
+    /**
+     * Share of the queryTexts of the experiment that were evaluated, as stored in the experiment summary once it completes.
+     * QueryTexts are skipped when the time budget of the experiment expires before they are evaluated.
+     * @param timeBudgetExpired - whether the experiment stopped scheduling searches because its time budget expired
+     */
+    public Map<String, Object> toCoverageMap(boolean timeBudgetExpired) {
+        int evaluated = checkpointedQueries + completedQueries.get();
+        ExperimentSearchQueue queue = searchQueue;
+        Map<String, Object> coverage = new HashMap<>();
+        coverage.put(TOTAL_QUERIES, totalQueries);
+        coverage.put(EVALUATED_QUERIES, evaluated);
+        coverage.put(SKIPPED_QUERIES, Math.max(0, totalQueries - evaluated));
+        coverage.put(EVALUATED_RATIO, totalQueries == 0 ? 1.0 : Math.min(1.0, (double) evaluated / totalQueries));
+        coverage.put(SEARCH_TIMEOUTS, remoteSearchTimeouts.get() + (queue == null ? 0 : queue.getSearchTimeouts()));
+        coverage.put(TIME_BUDGET_EXPIRED, timeBudgetExpired);
+        return coverage;
+    }
+}
@@ -0,0 +1,1362 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_COVERAGE_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_EVALUATION_SUMMARY_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_INDEX_AND_QUERIES_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISONS_FIELD_NAME;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_CHECKPOINT_BATCH_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_MIN_QUERIES_PER_NODE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_PROGRESS_FLUSH_INTERVAL;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_SIGNIFICANCE_RESAMPLES;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_SLICE_TIMEOUT;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.StepListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.indices.SystemIndexBulkWriter;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
+import org.opensearch.searchrelevance.judgments.LlmJudgmentsProcessor;
+import org.opensearch.searchrelevance.metrics.EvaluationSummary;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.metrics.PairedSignificanceTester;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRatingTable;
+import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.model.builder.SearchConfigurationTemplate;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceRequest;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceResponse;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
+import org.opensearch.searchrelevance.transport.experiment.RunExperimentSliceAction;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Runs experiments coordinated by the local node.
+ * The queryTexts of an experiment are partitioned across the nodes of the cluster, every node evaluates its slice
+ * and stores its results, the coordinating node merges the slice counters into the experiment summary.
+ * Every completed queryText is checkpointed as an {@link ExperimentResult} right after its evaluation results are stored,
+ * so that an interrupted experiment can be resumed on any node without evaluating the checkpointed queryTexts again.
+ * Every run is a {@link SearchRelevanceTask}, cancelling the task stops scheduling searches and marks the experiment CANCELLED.
+ */
+public class ExperimentRunner {
+    private static final Logger LOGGER = LogManager.getLogger(ExperimentRunner.class);
+    /**
+     * Time left to a slice past the time budget, to drain its in-flight searches and store its results
+     */
+    private static final TimeValue SLICE_TIMEOUT_GRACE = TimeValue.timeValueMinutes(1);
+
+    private final ExperimentDao experimentDao;
+    private final ExperimentResultDao experimentResultDao;
+    private final SearchConfigurationDao searchConfigurationDao;
+    private final JudgmentDao judgmentDao;
+    private final EvaluationResultDao evaluationResultDao;
+    private final MetricsHelper metricsHelper;
+    private final PairedSignificanceTester significanceTester;
+    private final JudgmentsProcessorFactory judgmentsProcessorFactory;
+    private final ExperimentSearchScheduler experimentSearchScheduler;
+    private final ThreadPool threadPool;
+    private final ClusterService clusterService;
+
+    /**
+     * Experiments running on this node
+     */
+    private final Map<String, RunningExperiment> runningExperiments = new ConcurrentHashMap<>();
+
+    public ExperimentRunner(
+        ExperimentDao experimentDao,
+        ExperimentResultDao experimentResultDao,
+        SearchConfigurationDao searchConfigurationDao,
+        JudgmentDao judgmentDao,
+        EvaluationResultDao evaluationResultDao,
+        MetricsHelper metricsHelper,
+        PairedSignificanceTester significanceTester,
+        JudgmentsProcessorFactory judgmentsProcessorFactory,
+        ExperimentSearchScheduler experimentSearchScheduler,
+        ThreadPool threadPool,
+        ClusterService clusterService
+    ) {
+        this.experimentDao = experimentDao;
+        this.experimentResultDao = experimentResultDao;
+        this.searchConfigurationDao = searchConfigurationDao;
+        this.judgmentDao = judgmentDao;
+        this.evaluationResultDao = evaluationResultDao;
+        this.metricsHelper = metricsHelper;
+        this.significanceTester = significanceTester;
+        this.judgmentsProcessorFactory = judgmentsProcessorFactory;
+        this.experimentSearchScheduler = experimentSearchScheduler;
+        this.threadPool = threadPool;
+        this.clusterService = clusterService;
+    }
+
+    /**
+     * Whether the experiment is running on this node
+     * @param experimentId - id of the experiment
+     */
+    public boolean isRunning(String experimentId) {
+        return runningExperiments.containsKey(experimentId);
+    }
+
+    /**
+     * Live progress of an experiment running on this node
+     * @param experimentId - id of the experiment
+     * @return progress of the experiment, null if the experiment is not running on this node
+     */
+    public ExperimentProgress getProgress(String experimentId) {
+        RunningExperiment runningExperiment = runningExperiments.get(experimentId);
+        return runningExperiment == null ? null : runningExperiment.progress;
+    }
+
+    /**
+     * Run an experiment asynchronously, the experiment document is updated with the final results or the failure
+     * @param transportService - transport service of the local node, the experiment task is registered with its task manager
+     *                           and the slices of the experiment are sent to the other nodes as child requests of the task
+     * @param experimentId - id of the experiment document, expected in PROCESSING status
+     * @param request - experiment definition
+     * @param queryTexts - queryTexts of the experiment query set
+     * @param checkpointedQueryTexts - queryTexts completed by a previous run, those are not evaluated again
+     * @param previousEvaluations - evaluation references per queryText and searchConfigId of the experiment this one re-runs,
+     *                            or of this experiment when it is resumed; evaluations whose fingerprint did not change are
+     *                            carried over instead of being evaluated again, checkpointed ones count towards the summary
+     */
+    public void run(
+        TransportService transportService,
+        String experimentId,
+        PutExperimentRequest request,
+        List<String> queryTexts,
+        Set<String> checkpointedQueryTexts,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations
+    ) {
+        run(transportService, experimentId, request, queryTexts, checkpointedQueryTexts, previousEvaluations, new PairwiseSummary());
+    }
+
+    /**
+     * Run an experiment asynchronously, the pairwise summary of the experiment starts from the pairwise comparisons of its
+     * checkpointed queryTexts
+     * @param checkpointedPairwiseSummary - pairwise comparisons of the checkpointed queryTexts of a resumed PAIRWISE_COMPARISON
+     *                                    experiment
+     * @see #run(TransportService, String, PutExperimentRequest, List, Set, Map)
+     */
+    public void run(
+        TransportService transportService,
+        String experimentId,
+        PutExperimentRequest request,
+        List<String> queryTexts,
+        Set<String> checkpointedQueryTexts,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        PairwiseSummary checkpointedPairwiseSummary
+    ) {
+        TaskManager taskManager = transportService.getTaskManager();
+        SearchRelevanceTask experimentTask = SearchRelevanceTask.register(
+            taskManager,
+            SearchRelevanceTask.EXPERIMENT_TASK_ACTION,
+            "experiment[" + experimentId + "]"
+        );
+        ExperimentProgress progress = new ExperimentProgress();
+        Scheduler.Cancellable progressFlush = threadPool.scheduleWithFixedDelay(
+            () -> flushProgress(experimentId),
+            clusterService.getClusterSettings().get(EXPERIMENT_PROGRESS_FLUSH_INTERVAL),
+            ThreadPool.Names.GENERIC
+        );
+        // the time budget covers the whole experiment, slices get the part of the budget left when they start
+        long deadlineNanos = request.getTimeBudget() == null ? Long.MAX_VALUE : System.nanoTime() + request.getTimeBudget().nanos();
+        RunningExperiment runningExperiment = new RunningExperiment(
+            progress,
+            progressFlush,
+            () -> taskManager.unregister(experimentTask),
+            deadlineNanos,
+            TimeUtils.getTimestamp()
+        );
+        if (runningExperiments.putIfAbsent(experimentId, runningExperiment) != null) {
+            progressFlush.cancel();
+            taskManager.unregister(experimentTask);
+            LOGGER.warn("Experiment [{}] is already running on this node", experimentId);
+            return;
+        }
+
+        StepListener<Void> createIndexStep = new StepListener<>();
+        experimentResultDao.createIndexIfAbsent(createIndexStep);
+
+        StepListener<Map<String, Object>> getSearchConfigsStep = new StepListener<>();
+        createIndexStep.whenComplete(
+            v -> searchConfigurationDao.getSearchConfigsWithStepListener(
+                request.getSearchConfigurationList(),
+                new HashMap<>(),
+                getSearchConfigsStep
+            ),
+            error -> handleAsyncFailure(experimentId, request, "Failed to create experiment result index", error)
+        );
+        getSearchConfigsStep.whenComplete(
+            searchConfigResults -> calculateMetricsAsync(
+                transportService,
+                experimentId,
+                request,
+                experimentTask,
+                queryTexts,
+                checkpointedQueryTexts,
+                previousEvaluations,
+                checkpointedPairwiseSummary,
+                searchConfigResults
+            ),
+            error -> handleAsyncFailure(experimentId, request, "Failed at async step 1: Get Search Configurations", error)
+        );
+    }
+
+    private void calculateMetricsAsync(
+        TransportService transportService,
+        String experimentId,
+        PutExperimentRequest request,
+        SearchRelevanceTask experimentTask,
+        List<String> queryTexts,
+        Set<String> checkpointedQueryTexts,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        PairwiseSummary checkpointedPairwiseSummary,
+        Map<String, Object> results
+    ) {
+        if (experimentTask.isCancelled()) {
+            handleAsyncFailure(experimentId, request, "Experiment cancelled", experimentTask.newCancellationException());
+            return;
+        }
+        Map<String, List<String>> indexAndQueries = (Map<String, List<String>>) results.get(METRICS_INDEX_AND_QUERIES_FIELD_NAME);
+
+        if (queryTexts == null || indexAndQueries == null) {
+            handleAsyncFailure(
+                experimentId,
+                request,
+                "Failed to calculate metrics: Missing required data",
+                new IllegalStateException("Missing required data for metrics calculation")
+            );
+            return;
+        }
+
+        // results are keyed by queryText, so a repeated queryText is only evaluated once
+        List<String> remainingQueryTexts = queryTexts.stream()
+            .distinct()
+            .filter(queryText -> !checkpointedQueryTexts.contains(queryText))
+            .collect(Collectors.toList());
+        updateProgress(
+            experimentId,
+            progress -> progress.onQueriesPlanned(checkpointedQueryTexts.size() + remainingQueryTexts.size(), checkpointedQueryTexts.size())
+        );
+        if (!checkpointedQueryTexts.isEmpty()) {
+            LOGGER.info(
+                "Resuming experiment [{}] with {} checkpointed and {} remaining queryTexts",
+                experimentId,
+                checkpointedQueryTexts.size(),
+                remainingQueryTexts.size()
+            );
+        }
+        // checkpointed queryTexts are not evaluated again, their metrics still count towards the experiment summary
+        EvaluationSummary evaluationSummary = new EvaluationSummary();
+        for (String queryText : checkpointedQueryTexts) {
+            previousEvaluations.getOrDefault(queryText, Collections.emptyMap())
+                .forEach((searchConfigurationId, evaluation) -> evaluationSummary.add(searchConfigurationId, evaluation.metrics()));
+        }
+        processQueryTextMetrics(
+            transportService,
+            experimentId,
+            request,
+            experimentTask,
+            indexAndQueries,
+            remainingQueryTexts,
+            checkpointedQueryTexts,
+            previousEvaluations,
+            checkpointedPairwiseSummary,
+            evaluationSummary
+        );
+    }
+
+    private void processQueryTextMetrics(
+        TransportService transportService,
+        String experimentId,
+        PutExperimentRequest request,
+        SearchRelevanceTask experimentTask,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        Set<String> checkpointedQueryTexts,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        PairwiseSummary pairwiseSummary,
+        EvaluationSummary evaluationSummary
+    ) {
+        // per queryText results are only stored as experiment results, the experiment keeps the summary
+        AtomicBoolean hasFailure = new AtomicBoolean(false);
+
+        if (request.getType() == ExperimentType.LLM_EVALUATION && request.getModelId() != null) {
+            Map<String, Object> metadata = new HashMap<>();
+            metadata.put("modelId", request.getModelId());
+            metadata.put("querySetId", request.getQuerySetId());
+            metadata.put("searchConfigurationList", request.getSearchConfigurationList());
+            metadata.put("size", request.getSize());
+
+            // search configurations are compiled once, building a search request only substitutes the queryText
+            Map<String, SearchConfigurationTemplate> searchTemplates;
+            try {
+                searchTemplates = SearchConfigurationTemplate.compileAll(indexAndQueries);
+            } catch (Exception e) {
+                handleFailure(e, hasFailure, experimentId, request);
+                return;
+            }
+
+            String llmJudgmentId = UUID.randomUUID().toString();
+            List<String> updatedJudgmentList = new ArrayList<>(request.getJudgmentList());
+            updatedJudgmentList.add(llmJudgmentId);
+            PutExperimentRequest evaluationRequest = new PutExperimentRequest(
+                request.getType(),
+                request.getQuerySetId(),
+                request.getSearchConfigurationList(),
+                updatedJudgmentList,
+                null,
+                request.getSize(),
+                request.getTimeBudget(),
+                request.getSearchTimeout(),
+                request.getPriority(),
+                request.getMetrics()
+            );
+
+            // Step 1: Store the llm judgment as processing, its scores are added while the queryTexts are judged
+            StepListener<Void> createJudgmentStep = new StepListener<>();
+            judgmentDao.putJudgement(
+                buildLlmJudgment(llmJudgmentId, metadata, AsyncStatus.PROCESSING, new HashMap<>()),
+                ActionListener.wrap(response -> createJudgmentStep.onResponse(null), createJudgmentStep::onFailure)
+            );
+
+            // Step 2: Record the judgment in the experiment, so that a resumed experiment evaluates against it
+            StepListener<Void> recordJudgmentStep = new StepListener<>();
+            createJudgmentStep.whenComplete(
+                v -> experimentDao.updateExperiment(
+                    buildExperiment(experimentId, evaluationRequest, AsyncStatus.PROCESSING, new HashMap<>()),
+                    ActionListener.wrap(response -> recordJudgmentStep.onResponse(null), recordJudgmentStep::onFailure)
+                ),
+                error -> handleFailure(error, hasFailure, experimentId, request)
+            );
+
+            // Step 3: Load the ratings of the other judgments
+            StepListener<JudgmentRatingTable> loadRatingsStep = new StepListener<>();
+            recordJudgmentStep.whenComplete(
+                v -> judgmentDao.loadJudgmentRatingTable(request.getJudgmentList(), loadRatingsStep),
+                error -> handleFailure(error, hasFailure, experimentId, request)
+            );
+
+            // Step 4: Evaluate every queryText as soon as it is judged
+            loadRatingsStep.whenComplete(
+                ratingTable -> executeLlmEvaluation(
+                    transportService,
+                    experimentId,
+                    evaluationRequest,
+                    experimentTask,
+                    searchTemplates,
+                    queryTexts,
+                    checkpointedQueryTexts.size(),
+                    metadata,
+                    llmJudgmentId,
+                    ratingTable,
+                    evaluationSummary,
+                    hasFailure
+                ),
+                error -> handleFailure(error, hasFailure, experimentId, request)
+            );
+        } else {
+            executeExperimentEvaluation(
+                transportService,
+                experimentId,
+                request,
+                experimentTask,
+                indexAndQueries,
+                queryTexts,
+                checkpointedQueryTexts.size(),
+                previousEvaluations,
+                pairwiseSummary,
+                evaluationSummary,
+                hasFailure
+            );
+        }
+    }
+
+    /**
+     * Judge the queryTexts with the LLM and evaluate every queryText on the local node as soon as its scores arrive,
+     * evaluation reuses the ranked docIds of the judgment searches.
+     * The scores of the llm judgment are stored every batch of judged queryTexts, the judgment is completed once every queryText
+     * is judged, the experiment once the judgment and the evaluation are done.
+     */
+    private void executeLlmEvaluation(
+        TransportService transportService,
+        String experimentId,
+        PutExperimentRequest request,
+        SearchRelevanceTask experimentTask,
+        Map<String, SearchConfigurationTemplate> searchTemplates,
+        List<String> queryTexts,
+        int checkpointedQueries,
+        Map<String, Object> metadata,
+        String llmJudgmentId,
+        JudgmentRatingTable ratingTable,
+        EvaluationSummary evaluationSummary,
+        AtomicBoolean hasFailure
+    ) {
+        StepListener<ExperimentSliceResponse> evaluationStep = new StepListener<>();
+        SliceEvaluation slice = startSlice(
+            experimentId,
+            request,
+            experimentTask,
+            queryTexts.size(),
+            remainingTimeBudget(experimentId),
+            evaluationStep
+        );
+        Set<String> unjudgedQueryTexts = ConcurrentHashMap.newKeySet();
+        unjudgedQueryTexts.addAll(queryTexts);
+        // stored while the queryTexts are judged, so that a failed or interrupted judgment keeps the scores of the judged queryTexts
+        LlmJudgmentCheckpointer llmJudgments = new LlmJudgmentCheckpointer(
+            judgmentDao,
+            llmJudgmentId,
+            clusterService.getClusterSettings().get(EXPERIMENT_CHECKPOINT_BATCH_SIZE),
+            judgments -> buildLlmJudgment(llmJudgmentId, metadata, AsyncStatus.PROCESSING, judgments)
+        );
+
+        StepListener<Void> judgmentStep = new StepListener<>();
+        LlmJudgmentsProcessor llmJudgmentsProcessor = judgmentsProcessorFactory.getLlmJudgmentsProcessor();
+        llmJudgmentsProcessor.generateJudgmentScore(metadata, experimentTask, (queryText, rankedDocIds, docIdToScore) -> {
+            llmJudgments.add(queryText, docIdToScore);
+            if (unjudgedQueryTexts.remove(queryText)) {
+                ratingTable.addRatings(queryText, docIdToScore);
+                evaluateQueryTexts(
+                    experimentId,
+                    request,
+                    experimentTask,
+                    searchTemplates,
+                    List.of(queryText),
+                    Map.of(queryText, rankedDocIds),
+                    Collections.emptyMap(),
+                    ratingTable,
+                    slice
+                );
+            }
+        }, ActionListener.wrap(allJudgments -> {
+            // queryTexts the judgment did not return are evaluated against the other judgments only
+            List<String> remainingQueryTexts = new ArrayList<>(unjudgedQueryTexts);
+            if (unjudgedQueryTexts.removeAll(remainingQueryTexts)) {
+                evaluateQueryTexts(
+                    experimentId,
+                    request,
+                    experimentTask,
+                    searchTemplates,
+                    remainingQueryTexts,
+                    Collections.emptyMap(),
+                    Collections.emptyMap(),
+                    ratingTable,
+                    slice
+                );
+            }
+            llmJudgments.finish(
+                judgments -> buildLlmJudgment(llmJudgmentId, metadata, AsyncStatus.COMPLETED, judgments),
+                ActionListener.wrap(response -> judgmentStep.onResponse(null), judgmentStep::onFailure)
+            );
+        }, error -> {
+            AsyncStatus status = SearchRelevanceTask.isCancellation(error) ? AsyncStatus.CANCELLED : AsyncStatus.ERROR;
+            Map<String, Object> errorMetadata = new HashMap<>(metadata);
+            errorMetadata.put("error", error.getMessage());
+            llmJudgments.finish(
+                judgments -> buildLlmJudgment(llmJudgmentId, errorMetadata, status, judgments),
+                ActionListener.wrap(
+                    response -> LOGGER.info("Updated judgment {} status to {}", llmJudgmentId, status),
+                    e -> LOGGER.error("Failed to update error status for judgment: " + llmJudgmentId, e)
+                )
+            );
+            judgmentStep.onFailure(error);
+        }));
+        evaluationStep.whenComplete(
+            response -> judgmentStep.whenComplete(v -> {
+                evaluationSummary.merge(response.getEvaluationSummary());
+                updateFinalExperiment(
+                    experimentId,
+                    request,
+                    checkpointedQueries + response.getCompletedQueries(),
+                    response.getSkippedQueries(),
+                    response.getPairwiseSummary(),
+                    evaluationSummary
+                );
+            }, error -> handleSliceFailure(transportService, experimentTask, error, hasFailure, experimentId, request)),
+            error -> handleSliceFailure(transportService, experimentTask, error, hasFailure, experimentId, request)
+        );
+        // a failed judgment stops the evaluation of the queryTexts that are already judged
+        judgmentStep.whenComplete(v -> {}, error -> slice.onFailure.accept(error));
+    }
+
+    /**
+     * Partition the queryTexts across the nodes of the cluster and evaluate every slice on its node,
+     * the experiment completes once every slice is evaluated and fails with the first failed slice
+     */
+    private void executeExperimentEvaluation(
+        TransportService transportService,
+        String experimentId,
+        PutExperimentRequest request,
+        SearchRelevanceTask experimentTask,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        int checkpointedQueries,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        PairwiseSummary pairwiseSummary,
+        EvaluationSummary evaluationSummary,
+        AtomicBoolean hasFailure
+    ) {
+        if (queryTexts.isEmpty()) {
+            updateFinalExperiment(experimentId, request, checkpointedQueries, 0, pairwiseSummary, evaluationSummary);
+            return;
+        }
+
+        List<DiscoveryNode> sliceNodes = selectSliceNodes(
+            clusterService.localNode(),
+            clusterService.state().nodes(),
+            queryTexts.size(),
+            clusterService.getClusterSettings().get(EXPERIMENT_MIN_QUERIES_PER_NODE)
+        );
+        List<List<String>> slices = partition(queryTexts, sliceNodes.size());
+        AtomicInteger completedQueries = new AtomicInteger(checkpointedQueries);
+        AtomicInteger skippedQueries = new AtomicInteger(0);
+        AtomicInteger pendingSlices = new AtomicInteger(slices.size());
+        LOGGER.info("Evaluating {} queryTexts of experiment [{}] on {} nodes", queryTexts.size(), experimentId, slices.size());
+
+        for (int i = 0; i < slices.size(); i++) {
+            DiscoveryNode node = sliceNodes.get(i);
+            List<String> slice = slices.get(i);
+            Map<String, Map<String, EvaluationReference>> slicePreviousEvaluations = new HashMap<>();
+            for (String queryText : slice) {
+                Map<String, EvaluationReference> evaluations = previousEvaluations.get(queryText);
+                if (evaluations != null) {
+                    slicePreviousEvaluations.put(queryText, evaluations);
+                }
+            }
+            ActionListener<ExperimentSliceResponse> sliceListener = ActionListener.wrap(response -> {
+                completedQueries.addAndGet(response.getCompletedQueries());
+                skippedQueries.addAndGet(response.getSkippedQueries());
+                pairwiseSummary.merge(response.getPairwiseSummary());
+                evaluationSummary.merge(response.getEvaluationSummary());
+                if (pendingSlices.decrementAndGet() == 0) {
+                    updateFinalExperiment(
+                        experimentId,
+                        request,
+                        completedQueries.get(),
+                        skippedQueries.get(),
+                        pairwiseSummary,
+                        evaluationSummary
+                    );
+                }
+            }, error -> handleSliceFailure(transportService, experimentTask, error, hasFailure, experimentId, request));
+
+            TimeValue timeBudget = remainingTimeBudget(experimentId);
+            if (node.equals(clusterService.localNode())) {
+                evaluateSlice(
+                    experimentId,
+                    request,
+                    experimentTask,
+                    indexAndQueries,
+                    slice,
+                    slicePreviousEvaluations,
+                    timeBudget,
+                    sliceListener
+                );
+            } else {
+                transportService.sendChildRequest(
+                    node,
+                    RunExperimentSliceAction.NAME,
+                    new ExperimentSliceRequest(experimentId, request, indexAndQueries, slice, slicePreviousEvaluations, timeBudget),
+                    experimentTask,
+                    TransportRequestOptions.builder()
+                        .withTimeout(sliceRequestTimeout(timeBudget, clusterService.getClusterSettings().get(EXPERIMENT_SLICE_TIMEOUT)))
+                        .build(),
+                    new ActionListenerResponseHandler<>(ActionListener.wrap(response -> {
+                        updateProgress(
+                            experimentId,
+                            progress -> progress.onRemoteSliceCompleted(
+                                response.getCompletedQueries(),
+                                response.getSearchesIssued(),
+                                response.getSearchFailures(),
+                                response.getSearchTimeouts()
+                            )
+                        );
+                        sliceListener.onResponse(response);
+                    }, sliceListener::onFailure), ExperimentSliceResponse::new)
+                );
+            }
+        }
+    }
+
+    /**
+     * Evaluate a slice of an experiment that is coordinated by another node
+     * @param task - slice task, child of the experiment task on the coordinating node
+     * @param request - slice of the experiment
+     * @param listener - action lister for async operation, completed once the results of the slice are stored
+     */
+    public void runSlice(SearchRelevanceTask task, ExperimentSliceRequest request, ActionListener<ExperimentSliceResponse> listener) {
+        LOGGER.info("Evaluating {} queryTexts of experiment [{}]", request.getQueryTexts().size(), request.getExperimentId());
+        evaluateSlice(
+            request.getExperimentId(),
+            request.getExperimentRequest(),
+            task,
+            request.getIndexAndQueries(),
+            request.getQueryTexts(),
+            request.getPreviousEvaluations(),
+            request.getTimeBudget(),
+            listener
+        );
+    }
+
+    /**
+     * The local node always takes a slice, other data nodes take one as long as every slice gets at least the minimum queryTexts
+     * per node.
+     */
+    static List<DiscoveryNode> selectSliceNodes(
+        DiscoveryNode localNode,
+        DiscoveryNodes clusterNodes,
+        int queryCount,
+        int minQueriesPerNode
+    ) {
+        int maxNodes = Math.max(1, (queryCount + minQueriesPerNode - 1) / minQueriesPerNode);
+        List<DiscoveryNode> nodes = new ArrayList<>();
+        nodes.add(localNode);
+        for (DiscoveryNode node : clusterNodes) {
+            if (nodes.size() >= maxNodes) {
+                break;
+            }
+            if (node.equals(localNode) == false && node.isDataNode()) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Timeout of a slice sent to another node: the time budget left plus a grace period to store the results of the slice,
+     * or the slice timeout setting when the experiment has no time budget
+     */
+    static TimeValue sliceRequestTimeout(TimeValue timeBudget, TimeValue sliceTimeout) {
+        if (timeBudget == null) {
+            return sliceTimeout;
+        }
+        return TimeValue.timeValueNanos(timeBudget.nanos() + SLICE_TIMEOUT_GRACE.nanos());
+    }
+
+    /**
+     * Split queryTexts into the given number of contiguous slices whose sizes differ by at most one
+     */
+    static List<List<String>> partition(List<String> queryTexts, int sliceCount) {
+        List<List<String>> slices = new ArrayList<>(sliceCount);
+        int from = 0;
+        for (int i = 0; i < sliceCount; i++) {
+            int to = from + queryTexts.size() / sliceCount + (i < queryTexts.size() % sliceCount ? 1 : 0);
+            slices.add(new ArrayList<>(queryTexts.subList(from, to)));
+            from = to;
+        }
+        return slices;
+    }
+
+    /**
+     * Evaluate queryTexts of an experiment on the local node and checkpoint every completed queryText
+     */
+    private void evaluateSlice(
+        String experimentId,
+        PutExperimentRequest request,
+        SearchRelevanceTask task,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        TimeValue timeBudget,
+        ActionListener<ExperimentSliceResponse> listener
+    ) {
+        SliceEvaluation slice = startSlice(experimentId, request, task, queryTexts.size(), timeBudget, listener);
+        if (queryTexts.isEmpty()) {
+            return;
+        }
+        // search configurations are compiled once per slice, building a search request only substitutes the queryText
+        Map<String, SearchConfigurationTemplate> searchTemplates;
+        try {
+            searchTemplates = SearchConfigurationTemplate.compileAll(indexAndQueries);
+        } catch (Exception e) {
+            slice.onFailure.accept(e);
+            return;
+        }
+
+        if (request.getType() == ExperimentType.PAIRWISE_COMPARISON) {
+            for (List<String> queryTextBatch : partitionQueryTexts(queryTexts, searchTemplates.size())) {
+                metricsHelper.processPairwiseMetrics(
+                    queryTextBatch,
+                    searchTemplates,
+                    request.getSize(),
+                    slice.searchQueue,
+                    ActionListener.wrap(batchResults -> batchResults.forEach((queryText, queryResults) -> {
+                        List<Map<String, Object>> pairwiseResults = (List<Map<String, Object>>) queryResults.get(
+                            METRICS_PAIRWISE_COMPARISONS_FIELD_NAME
+                        );
+                        slice.pairwiseSummary.add(pairwiseResults);
+                        handleQueryResults(
+                            queryText,
+                            queryResults,
+                            Collections.emptyMap(),
+                            Collections.emptyMap(),
+                            task,
+                            experimentId,
+                            slice
+                        );
+                    }), error -> failBatch(slice, queryTextBatch.size(), error))
+                );
+            }
+            return;
+        }
+
+        // Preload every judgment once so that query evaluations only read from the in-memory rating table
+        judgmentDao.loadJudgmentRatingTable(
+            request.getJudgmentList(),
+            ActionListener.wrap(
+                ratingTable -> evaluateQueryTexts(
+                    experimentId,
+                    request,
+                    task,
+                    searchTemplates,
+                    queryTexts,
+                    Collections.emptyMap(),
+                    previousEvaluations,
+                    ratingTable,
+                    slice
+                ),
+                slice.onFailure::accept
+            )
+        );
+    }
+
+    /**
+     * Set up the writers, the search queue and the counters of a slice evaluated on the local node,
+     * the slice completes once the given number of queryTexts is evaluated or skipped and their results are stored
+     * @param request - experiment request, its search timeout and priority apply to the searches of the slice
+     * @param timeBudget - time budget left for the slice, null if the experiment has no time budget
+     */
+    private SliceEvaluation startSlice(
+        String experimentId,
+        PutExperimentRequest request,
+        SearchRelevanceTask task,
+        int queryCount,
+        TimeValue timeBudget,
+        ActionListener<ExperimentSliceResponse> listener
+    ) {
+        // evaluation results are written in bulk and the index is refreshed once when the slice completes
+        SystemIndexBulkWriter evaluationResultWriter = evaluationResultDao.createBulkWriter();
+        // completed queryTexts are checkpointed in batches, once their evaluation results are stored
+        SystemIndexBulkWriter checkpointWriter = experimentResultDao.createCheckpointWriter();
+        // all searches of the slice share one queue so that in-flight searches are capped per experiment and per node
+        ExperimentSearchQueue searchQueue = experimentSearchScheduler.createQueue(
+            experimentId,
+            request.getSearchTimeout(),
+            request.getPriority()
+        );
+        updateProgress(experimentId, progress -> progress.onSearchQueueCreated(searchQueue));
+        // queued searches fail with the cancellation, which fails the slice
+        task.addCancellationListener(() -> experimentSearchScheduler.cancel(searchQueue, task.newCancellationException()));
+        // once the time budget expires queued searches fail with this exception, their queryTexts are skipped instead of failing
+        // the slice
+        Exception timeBudgetExpiry = new SearchRelevanceException(
+            "Time budget of experiment [" + experimentId + "] expired",
+            RestStatus.REQUEST_TIMEOUT
+        );
+        Scheduler.Cancellable deadline = timeBudget == null ? null : threadPool.schedule(() -> {
+            LOGGER.info("Time budget of experiment [{}] expired, queued searches are skipped", experimentId);
+            experimentSearchScheduler.cancel(searchQueue, timeBudgetExpiry);
+        }, timeBudget, ThreadPool.Names.GENERIC);
+
+        AtomicInteger completedQueries = new AtomicInteger(0);
+        AtomicInteger skippedQueries = new AtomicInteger(0);
+        AtomicBoolean hasFailure = new AtomicBoolean(false);
+        PairwiseSummary pairwiseSummary = new PairwiseSummary();
+        EvaluationSummary evaluationSummary = new EvaluationSummary();
+        SliceEvaluation slice = new SliceEvaluation(
+            evaluationResultWriter,
+            checkpointWriter,
+            searchQueue,
+            completedQueries,
+            skippedQueries,
+            new AtomicInteger(queryCount),
+            hasFailure,
+            pairwiseSummary,
+            evaluationSummary,
+            timeBudgetExpiry,
+            error -> failSlice(error, hasFailure, listener),
+            () -> completeSlice(
+                completedQueries,
+                skippedQueries,
+                searchQueue,
+                deadline,
+                hasFailure,
+                pairwiseSummary,
+                evaluationSummary,
+                evaluationResultWriter,
+                checkpointWriter,
+                listener
+            )
+        );
+        if (queryCount == 0) {
+            slice.onCompleted.run();
+        }
+        return slice;
+    }
+
+    /**
+     * Evaluate queryTexts of a slice against the rating table
+     * @param rankedDocIds - ranked docIds per queryText and searchConfigId of searches that already ran
+     * @param previousEvaluations - evaluation references per queryText and searchConfigId of the experiment being re-run
+     */
+    private void evaluateQueryTexts(
+        String experimentId,
+        PutExperimentRequest request,
+        SearchRelevanceTask task,
+        Map<String, SearchConfigurationTemplate> searchTemplates,
+        List<String> queryTexts,
+        Map<String, Map<String, List<String>>> rankedDocIds,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        JudgmentRatingTable ratingTable,
+        SliceEvaluation slice
+    ) {
+        for (List<String> queryTextBatch : partitionQueryTexts(queryTexts, searchTemplates.size())) {
+            metricsHelper.processEvaluationMetrics(
+                queryTextBatch,
+                searchTemplates,
+                request.getSize(),
+                request.getMetrics(),
+                request.getJudgmentList(),
+                ratingTable,
+                slice.searchQueue,
+                slice.evaluationResultWriter,
+                rankedDocIds,
+                previousEvaluations,
+                ActionListener.wrap(batchResults -> batchResults.forEach((queryText, evaluations) -> {
+                    Map<String, Object> queryResults = new HashMap<>();
+                    Map<String, String> fingerprints = new HashMap<>();
+                    Map<String, Map<String, String>> metrics = new HashMap<>();
+                    evaluations.forEach((searchConfigurationId, evaluation) -> {
+                        queryResults.put(searchConfigurationId, evaluation.evaluationId());
+                        if (evaluation.fingerprint() != null) {
+                            fingerprints.put(searchConfigurationId, evaluation.fingerprint());
+                        }
+                        metrics.put(searchConfigurationId, evaluation.metrics());
+                        slice.evaluationSummary.add(searchConfigurationId, evaluation.metrics());
+                    });
+                    handleQueryResults(queryText, queryResults, fingerprints, metrics, task, experimentId, slice);
+                }), error -> failBatch(slice, queryTextBatch.size(), error))
+            );
+        }
+    }
+
+    /**
+     * Split queryTexts into batches whose searches across all search configurations fit in one multi-search request
+     */
+    private List<List<String>> partitionQueryTexts(List<String> queryTexts, int searchConfigurationCount) {
+        int queriesPerBatch = Math.max(1, experimentSearchScheduler.getMultiSearchBatchSize() / Math.max(1, searchConfigurationCount));
+        List<List<String>> batches = new ArrayList<>();
+        for (int from = 0; from < queryTexts.size(); from += queriesPerBatch) {
+            batches.add(queryTexts.subList(from, Math.min(from + queriesPerBatch, queryTexts.size())));
+        }
+        return batches;
+    }
+
+    private void handleQueryResults(
+        String queryText,
+        Map<String, Object> queryResults,
+        Map<String, String> fingerprints,
+        Map<String, Map<String, String>> metrics,
+        SearchRelevanceTask task,
+        String experimentId,
+        SliceEvaluation slice
+    ) {
+        if (slice.hasFailure.get()) return;
+        if (task.isCancelled()) {
+            slice.onFailure.accept(task.newCancellationException());
+            return;
+        }
+
+        try {
+            ExperimentResult experimentResult = new ExperimentResult(
+                TimeUtils.getTimestamp(),
+                experimentId,
+                queryText,
+                queryResults,
+                fingerprints,
+                metrics
+            );
+            slice.checkpointWriter.add(
+                experimentResult.id(),
+                experimentResult,
+                ActionListener.wrap(
+                    v -> {},
+                    error -> LOGGER.warn("Failed to checkpoint query [{}] of experiment [{}]", queryText, experimentId, error)
+                )
+            );
+            slice.completedQueries.incrementAndGet();
+            updateProgress(experimentId, ExperimentProgress::onQueryCompleted);
+            if (slice.pendingQueries.decrementAndGet() == 0) {
+                slice.onCompleted.run();
+            }
+        } catch (Exception e) {
+            slice.onFailure.accept(e);
+        }
+    }
+
+    private void completeSlice(
+        AtomicInteger completedQueries,
+        AtomicInteger skippedQueries,
+        ExperimentSearchQueue searchQueue,
+        Scheduler.Cancellable deadline,
+        AtomicBoolean hasFailure,
+        PairwiseSummary pairwiseSummary,
+        EvaluationSummary evaluationSummary,
+        SystemIndexBulkWriter evaluationResultWriter,
+        SystemIndexBulkWriter checkpointWriter,
+        ActionListener<ExperimentSliceResponse> listener
+    ) {
+        if (deadline != null) {
+            deadline.cancel();
+        }
+        StepListener<Void> closeEvaluationResultsStep = new StepListener<>();
+        evaluationResultWriter.close(closeEvaluationResultsStep);
+
+        StepListener<Void> closeCheckpointsStep = new StepListener<>();
+        closeEvaluationResultsStep.whenComplete(
+            v -> checkpointWriter.close(closeCheckpointsStep),
+            error -> failSlice(error, hasFailure, listener)
+        );
+        closeCheckpointsStep.whenComplete(
+            v -> listener.onResponse(
+                new ExperimentSliceResponse(
+                    completedQueries.get(),
+                    skippedQueries.get(),
+                    searchQueue.getSearchesIssued(),
+                    searchQueue.getSearchFailures(),
+                    searchQueue.getSearchTimeouts(),
+                    pairwiseSummary,
+                    evaluationSummary
+                )
+            ),
+            error -> failSlice(error, hasFailure, listener)
+        );
+    }
+
+    /**
+     * A batch of queryTexts fails the slice, unless its searches were dropped because the time budget expired:
+     * then its queryTexts are skipped and the slice completes with the queryTexts evaluated so far.
+     * Only the exception the searches are cancelled with at the deadline skips the batch, a cancelled task or a search failure
+     * after the deadline still fails the slice.
+     */
+    private void failBatch(SliceEvaluation slice, int queryCount, Exception error) {
+        if (error != slice.timeBudgetExpiry) {
+            slice.onFailure.accept(error);
+            return;
+        }
+        slice.skippedQueries.addAndGet(queryCount);
+        if (slice.pendingQueries.addAndGet(-queryCount) == 0) {
+            slice.onCompleted.run();
+        }
+    }
+
+    private void failSlice(Exception error, AtomicBoolean hasFailure, ActionListener<ExperimentSliceResponse> listener) {
+        if (hasFailure.compareAndSet(false, true)) {
+            listener.onFailure(error);
+        }
+    }
+
+    /**
+     * The first failed slice fails the experiment and cancels the other slices,
+     * the completed slices are checkpointed so the experiment can be resumed
+     */
+    private void handleSliceFailure(
+        TransportService transportService,
+        SearchRelevanceTask experimentTask,
+        Exception error,
+        AtomicBoolean hasFailure,
+        String experimentId,
+        PutExperimentRequest request
+    ) {
+        if (hasFailure.compareAndSet(false, true) == false) {
+            return;
+        }
+        if (experimentTask.isCancelled() == false) {
+            transportService.getTaskManager()
+                .cancelTaskAndDescendants(
+                    experimentTask,
+                    "a slice of experiment [" + experimentId + "] failed",
+                    false,
+                    ActionListener.wrap(() -> {})
+                );
+        }
+        handleAsyncFailure(experimentId, request, "Failed to process metrics", error);
+    }
+
+    private void handleFailure(Exception error, AtomicBoolean hasFailure, String experimentId, PutExperimentRequest request) {
+        if (hasFailure.compareAndSet(false, true)) {
+            handleAsyncFailure(experimentId, request, "Failed to process metrics", error);
+        }
+    }
+
+    private void updateFinalExperiment(
+        String experimentId,
+        PutExperimentRequest request,
+        int completedQueries,
+        int skippedQueries,
+        PairwiseSummary pairwiseSummary,
+        EvaluationSummary evaluationSummary
+    ) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put(Experiment.QUERY_COUNT, completedQueries);
+        RunningExperiment running = runningExperiments.get(experimentId);
+        if (running != null) {
+            // queryTexts are only skipped by the time budget, a budget expiring once every queryText is evaluated leaves it complete
+            summary.put(METRICS_COVERAGE_FIELD_NAME, running.progress.toCoverageMap(skippedQueries > 0));
+        }
+        // per pair means over all compared queryTexts, checkpointed ones included
+        if (pairwiseSummary.isEmpty() == false) {
+            summary.put(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME, pairwiseSummary.toList());
+        }
+        // per search configuration and metric aggregates over all evaluated queryTexts, checkpointed ones included
+        if (evaluationSummary.isEmpty() == false) {
+            summary.put(METRICS_EVALUATION_SUMMARY_FIELD_NAME, evaluationSummary.toList(request.getSearchConfigurationList()));
+        }
+        Experiment finalExperiment = buildExperiment(experimentId, request, AsyncStatus.COMPLETED, summary);
+        RunningExperiment runningExperiment = finishExperiment(experimentId);
+        afterProgressFlush(
+            runningExperiment,
+            () -> experimentDao.updateExperiment(finalExperiment, ActionListener.wrap(response -> {
+                LOGGER.debug("Updated final experiment: {}", experimentId);
+                flushFinalProgress(experimentId, runningExperiment);
+                // the resampling cost grows with queryTexts and pairs, it must not hold back the completion of the experiment
+                testSignificance(experimentId, request);
+            }, error -> handleAsyncFailure(experimentId, request, "Failed to update final experiment", error)))
+        );
+    }
+
+    /**
+     * Test the significance of the differences between the search configurations of a completed experiment and add the tests
+     * to its summary, a failed test leaves the summary without significance
+     */
+    private void testSignificance(String experimentId, PutExperimentRequest request) {
+        int resamples = clusterService.getClusterSettings().get(EXPERIMENT_SIGNIFICANCE_RESAMPLES);
+        if (request.getType() == ExperimentType.PAIRWISE_COMPARISON || request.getSearchConfigurationList().size() < 2 || resamples == 0) {
+            return;
+        }
+        StepListener<List<Map<String, Object>>> significanceStep = new StepListener<>();
+        experimentResultDao.loadEvaluationReferences(
+            experimentId,
+            ActionListener.wrap(
+                evaluations -> significanceTester.test(
+                    evaluations,
+                    request.getSearchConfigurationList(),
+                    resamples,
+                    experimentId.hashCode(),
+                    request.getPriority(),
+                    significanceStep
+                ),
+                significanceStep::onFailure
+            )
+        );
+        significanceStep.whenComplete(significance -> {
+            if (significance.isEmpty()) {
+                return;
+            }
+            experimentDao.updateExperimentSignificance(
+                experimentId,
+                significance,
+                ActionListener.wrap(
+                    response -> LOGGER.debug("Updated significance of experiment: {}", experimentId),
+                    error -> LOGGER.warn("Failed to update significance of experiment [{}]", experimentId, error)
+                )
+            );
+        }, error -> LOGGER.warn("Failed to test the significance of experiment [{}]", experimentId, error));
+    }
+
+    private void handleAsyncFailure(String experimentId, PutExperimentRequest request, String message, Exception error) {
+        RunningExperiment runningExperiment = finishExperiment(experimentId);
+        AsyncStatus status = SearchRelevanceTask.isCancellation(error) ? AsyncStatus.CANCELLED : AsyncStatus.ERROR;
+        if (status == AsyncStatus.CANCELLED) {
+            LOGGER.info("Cancelled experiment: {}", experimentId);
+        } else {
+            LOGGER.error(message + " for experiment: " + experimentId, error);
+        }
+
+        Experiment finalExperiment = buildExperiment(experimentId, request, status, Map.of("error", error.getMessage()));
+        afterProgressFlush(
+            runningExperiment,
+            () -> experimentDao.updateExperiment(
+                finalExperiment,
+                ActionListener.wrap(
+                    response -> {
+                        LOGGER.info("Updated experiment {} status to {}", experimentId, status);
+                        flushFinalProgress(experimentId, runningExperiment);
+                    },
+                    e -> LOGGER.error("Failed to update error status for experiment: " + experimentId, e)
+                )
+            )
+        );
+    }
+
+    private RunningExperiment finishExperiment(String experimentId) {
+        RunningExperiment runningExperiment = runningExperiments.remove(experimentId);
+        if (runningExperiment != null) {
+            runningExperiment.progressFlush.cancel();
+            runningExperiment.taskRegistration.close();
+        }
+        return runningExperiment;
+    }
+
+    /**
+     * Time budget left to the experiment, null if it has no time budget
+     */
+    private TimeValue remainingTimeBudget(String experimentId) {
+        RunningExperiment runningExperiment = runningExperiments.get(experimentId);
+        if (runningExperiment == null || runningExperiment.deadlineNanos == Long.MAX_VALUE) {
+            return null;
+        }
+        return TimeValue.timeValueNanos(Math.max(0L, runningExperiment.deadlineNanos - System.nanoTime()));
+    }
+
+    private void updateProgress(String experimentId, Consumer<ExperimentProgress> update) {
+        RunningExperiment runningExperiment = runningExperiments.get(experimentId);
+        if (runningExperiment != null) {
+            update.accept(runningExperiment.progress);
+        }
+    }
+
+    /**
+     * Periodic flush of the progress of a running experiment, skipped while the previous flush is in flight
+     * and once the experiment is finishing
+     */
+    private void flushProgress(String experimentId) {
+        RunningExperiment runningExperiment = runningExperiments.get(experimentId);
+        if (runningExperiment == null || runningExperiment.startProgressFlush() == false) {
+            return;
+        }
+        writeProgress(experimentId, runningExperiment.progress, () -> {
+            Runnable finalUpdate = runningExperiment.endProgressFlush();
+            if (finalUpdate != null) {
+                finalUpdate.run();
+            }
+        });
+    }
+
+    /**
+     * Runs the final status update once no periodic progress flush is in flight, so that a late flush never lands after it
+     */
+    private void afterProgressFlush(RunningExperiment runningExperiment, Runnable finalUpdate) {
+        if (runningExperiment == null || runningExperiment.runAfterProgressFlush(finalUpdate) == false) {
+            finalUpdate.run();
+        }
+    }
+
+    /**
+     * The final status update replaces the whole experiment, the last progress is written once it is stored
+     */
+    private void flushFinalProgress(String experimentId, RunningExperiment runningExperiment) {
+        if (runningExperiment != null) {
+            writeProgress(experimentId, runningExperiment.progress, () -> {});
+        }
+    }
+
+    private void writeProgress(String experimentId, ExperimentProgress progress, Runnable onWritten) {
+        experimentDao.updateExperimentProgress(experimentId, progress.toMap(), ActionListener.wrap(response -> {
+            LOGGER.debug("Updated progress of experiment: {}", experimentId);
+            onWritten.run();
+        }, e -> {
+            LOGGER.warn("Failed to update progress of experiment: {}", experimentId, e);
+            onWritten.run();
+        }));
+    }
+
+    private Experiment buildExperiment(String experimentId, PutExperimentRequest request, AsyncStatus status, Map<String, Object> results) {
+        // the owner is only recorded while the experiment runs, so that it cannot be resumed elsewhere at the same time
+        RunningExperiment runningExperiment = status == AsyncStatus.PROCESSING ? runningExperiments.get(experimentId) : null;
+        return new Experiment(
+            experimentId,
+            TimeUtils.getTimestamp(),
+            request.getType(),
+            status,
+            request.getQuerySetId(),
+            request.getSearchConfigurationList(),
+            request.getJudgmentList(),
+            request.getSize(),
+            MetricSpec.toStrings(request.getMetrics()),
+            results,
+            runningExperiment == null ? null : clusterService.localNode().getId(),
+            runningExperiment == null ? null : runningExperiment.startedAt,
+            request.getPriority(),
+            request.getTimeBudget(),
+            request.getSearchTimeout()
+        );
+    }
+
+    private Judgment buildLlmJudgment(
+        String judgmentId,
+        Map<String, Object> metadata,
+        AsyncStatus status,
+        Map<String, Map<String, String>> llmJudgments
+    ) {
+        return new Judgment(
+            judgmentId,
+            TimeUtils.getTimestamp(),
+            "LLM Generated Judgment" + new Date(),
+            status,
+            JudgmentType.LLM_JUDGMENT,
+            metadata,
+            new HashMap<>(llmJudgments)
+        );
+    }
+
+    /**
+     * State of an experiment running on this node
+     */
+    private static final class RunningExperiment {
+        private final ExperimentProgress progress;
+        private final Scheduler.Cancellable progressFlush;
+        private final Releasable taskRegistration;
+        /**
+         * System.nanoTime() at which the time budget expires, Long.MAX_VALUE without time budget
+         */
+        private final long deadlineNanos;
+        private final String startedAt;
+        /**
+         * Guarded by this: whether a periodic progress flush is in flight, whether the experiment is finishing,
+         * and the final status update waiting for the in-flight flush
+         */
+        private boolean flushingProgress;
+        private boolean finishing;
+        private Runnable afterProgressFlush;
+
+        private RunningExperiment(
+            ExperimentProgress progress,
+            Scheduler.Cancellable progressFlush,
+            Releasable taskRegistration,
+            long deadlineNanos,
+            String startedAt
+        ) {
+            this.progress = progress;
+            this.progressFlush = progressFlush;
+            this.taskRegistration = taskRegistration;
+            this.deadlineNanos = deadlineNanos;
+            this.startedAt = startedAt;
+        }
+
+        private synchronized boolean startProgressFlush() {
+            if (flushingProgress || finishing) {
+                return false;
+            }
+            flushingProgress = true;
+            return true;
+        }
+
+        /**
+         * @return the final status update to run now that the flush is done, null if there is none
+         */
+        private synchronized Runnable endProgressFlush() {
+            flushingProgress = false;
+            Runnable next = afterProgressFlush;
+            afterProgressFlush = null;
+            return next;
+        }
+
+        /**
+         * @return true if the final status update is deferred until the in-flight flush is done, false if it can run now
+         */
+        private synchronized boolean runAfterProgressFlush(Runnable finalUpdate) {
+            finishing = true;
+            if (flushingProgress) {
+                afterProgressFlush = finalUpdate;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Writers, search queue and counters of a slice evaluated on the local node
+     */
+    private static final class SliceEvaluation {
+        private final SystemIndexBulkWriter evaluationResultWriter;
+        private final SystemIndexBulkWriter checkpointWriter;
+        private final ExperimentSearchQueue searchQueue;
+        private final AtomicInteger completedQueries;
+        private final AtomicInteger skippedQueries;
+        private final AtomicInteger pendingQueries;
+        private final AtomicBoolean hasFailure;
+        private final PairwiseSummary pairwiseSummary;
+        private final EvaluationSummary evaluationSummary;
+        /**
+         * failure of the searches cancelled because the time budget expired
+         */
+        private final Exception timeBudgetExpiry;
+        private final Consumer<Exception> onFailure;
+        private final Runnable onCompleted;
+
+        private SliceEvaluation(
+            SystemIndexBulkWriter evaluationResultWriter,
+            SystemIndexBulkWriter checkpointWriter,
+            ExperimentSearchQueue searchQueue,
+            AtomicInteger completedQueries,
+            AtomicInteger skippedQueries,
+            AtomicInteger pendingQueries,
+            AtomicBoolean hasFailure,
+            PairwiseSummary pairwiseSummary,
+            EvaluationSummary evaluationSummary,
+            Exception timeBudgetExpiry,
+            Consumer<Exception> onFailure,
+            Runnable onCompleted
+        ) {
+            this.evaluationResultWriter = evaluationResultWriter;
+            this.checkpointWriter = checkpointWriter;
+            this.searchQueue = searchQueue;
+            this.completedQueries = completedQueries;
+            this.skippedQueries = skippedQueries;
+            this.pendingQueries = pendingQueries;
+            this.hasFailure = hasFailure;
+            this.pairwiseSummary = pairwiseSummary;
+            this.evaluationSummary = evaluationSummary;
+            this.timeBudgetExpiry = timeBudgetExpiry;
+            this.onFailure = onFailure;
+            this.onCompleted = onCompleted;
+        }
+    }
+}
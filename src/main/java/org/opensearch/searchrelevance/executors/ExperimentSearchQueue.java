@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+
+/**
+ * Per experiment queue of searches waiting for the {@link ExperimentSearchScheduler}.
+ * The queue keeps an adaptive window of in-flight searches: it is halved whenever a search is rejected
+ * and grows back by one after a full window of successful searches, up to the configured max.
+ * All mutable state is guarded by the owning scheduler.
+ */
+public class ExperimentSearchQueue {
+    private final String experimentId;
+    private final TimeValue searchTimeout;
+    private final ExperimentPriority priority;
+    private final AtomicLong searchesIssued = new AtomicLong();
+    private final AtomicLong searchFailures = new AtomicLong();
+    private final AtomicLong searchTimeouts = new AtomicLong();
+
+    final Deque<ExperimentSearchScheduler.PendingSearch> pending = new ArrayDeque<>();
+    int inFlight;
+    int scheduledRetries;
+    boolean active;
+    Exception cancellation;
+    private int window;
+    private int successesInWindow;
+
+    ExperimentSearchQueue(String experimentId, int window) {
+        this(experimentId, window, null, ExperimentPriority.BATCH);
+    }
+
+    ExperimentSearchQueue(String experimentId, int window, TimeValue searchTimeout, ExperimentPriority priority) {
+        this.experimentId = experimentId;
+        this.window = window;
+        this.searchTimeout = searchTimeout;
+        this.priority = priority;
+    }
+
+    public String getExperimentId() {
+        return experimentId;
+    }
+
+    /**
+     * Timeout of every search of the experiment, null if the searches run without timeout
+     */
+    public TimeValue getSearchTimeout() {
+        return searchTimeout;
+    }
+
+    /**
+     * Priority class whose lane the searches of the experiment are scheduled from
+     */
+    public ExperimentPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Number of searches sent to the cluster, including retries of rejected searches
+     */
+    public long getSearchesIssued() {
+        return searchesIssued.get();
+    }
+
+    /**
+     * Number of searches that failed after all retries
+     */
+    public long getSearchFailures() {
+        return searchFailures.get();
+    }
+
+    /**
+     * Number of searches that hit the search timeout and returned the hits collected so far
+     */
+    public long getSearchTimeouts() {
+        return searchTimeouts.get();
+    }
+
+    void onSearchesIssued(int count) {
+        searchesIssued.addAndGet(count);
+    }
+
+    void onSearchFailures(int count) {
+        searchFailures.addAndGet(count);
+    }
+
+    void onSearchTimeouts(int count) {
+        searchTimeouts.addAndGet(count);
+    }
+
+    int window(int maxWindow) {
+        return Math.min(window, maxWindow);
+    }
+
+    boolean isIdle() {
+        return pending.isEmpty() && inFlight == 0 && scheduledRetries == 0;
+    }
+
+    void onSuccess(int maxWindow) {
+        if (++successesInWindow >= window) {
+            window = Math.min(window + 1, maxWindow);
+            successesInWindow = 0;
+        }
+    }
+
+    void onRejection() {
+        window = Math.max(1, window / 2);
+        successesInWindow = 0;
+    }
+}
@@ -0,0 +1,462 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_MAX_CONCURRENT_SEARCHES;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_MULTI_SEARCH_BATCH_SIZE;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.NODE_MAX_CONCURRENT_SEARCHES;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_REJECTION_BACKOFF;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_REJECTION_MAX_RETRIES;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+/**
+ * Node level scheduler of experiment searches.
+ * Searches are submitted in batches that are executed as a single multi-search request. The scheduler caps
+ * in-flight searches per experiment and per node and queues the remaining batches in one lane per {@link ExperimentPriority}.
+ * Lanes share the node capacity with weighted fair queuing: the next batch comes from the waiting lane that was served the
+ * fewest searches relative to its weight, within a lane experiments are served round-robin.
+ * Rejected searches are retried with exponential backoff and shrink the window of the rejected experiment
+ * instead of failing the experiment, only the rejected items of a batch are retried.
+ */
+public class ExperimentSearchScheduler {
+    private static final Logger LOGGER = LogManager.getLogger(ExperimentSearchScheduler.class);
+    private static final long MAX_REJECTION_BACKOFF_MILLIS = 30_000L;
+
+    private final Client client;
+    private final ThreadPool threadPool;
+
+    private volatile int maxConcurrentSearchesPerExperiment;
+    private volatile int maxConcurrentSearchesPerNode;
+    private volatile TimeValue rejectionBackoff;
+    private volatile int rejectionMaxRetries;
+    private volatile int multiSearchBatchSize;
+    private volatile int interactivePriorityWeight;
+
+    /**
+     * Lane of every priority class, guarded by this
+     */
+    private final Map<ExperimentPriority, Lane> lanes = new EnumMap<>(ExperimentPriority.class);
+    private int inFlightSearches;
+
+    public ExperimentSearchScheduler(Client client, ThreadPool threadPool, ClusterService clusterService) {
+        this.client = client;
+        this.threadPool = threadPool;
+
+        Settings settings = clusterService.getSettings();
+        this.maxConcurrentSearchesPerExperiment = EXPERIMENT_MAX_CONCURRENT_SEARCHES.get(settings);
+        this.maxConcurrentSearchesPerNode = NODE_MAX_CONCURRENT_SEARCHES.get(settings);
+        this.rejectionBackoff = SEARCH_REJECTION_BACKOFF.get(settings);
+        this.rejectionMaxRetries = SEARCH_REJECTION_MAX_RETRIES.get(settings);
+        this.multiSearchBatchSize = EXPERIMENT_MULTI_SEARCH_BATCH_SIZE.get(settings);
+        this.interactivePriorityWeight = EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT.get(settings);
+        for (ExperimentPriority priority : ExperimentPriority.values()) {
+            lanes.put(priority, new Lane());
+        }
+
+        ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        clusterSettings.addSettingsUpdateConsumer(EXPERIMENT_MAX_CONCURRENT_SEARCHES, value -> {
+            this.maxConcurrentSearchesPerExperiment = value;
+            dispatch();
+        });
+        clusterSettings.addSettingsUpdateConsumer(NODE_MAX_CONCURRENT_SEARCHES, value -> {
+            this.maxConcurrentSearchesPerNode = value;
+            dispatch();
+        });
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_REJECTION_BACKOFF, value -> this.rejectionBackoff = value);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_REJECTION_MAX_RETRIES, value -> this.rejectionMaxRetries = value);
+        clusterSettings.addSettingsUpdateConsumer(EXPERIMENT_MULTI_SEARCH_BATCH_SIZE, value -> this.multiSearchBatchSize = value);
+        clusterSettings.addSettingsUpdateConsumer(EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT, value -> this.interactivePriorityWeight = value);
+    }
+
+    /**
+     * Max number of searches an experiment should submit in a single batch
+     */
+    public int getMultiSearchBatchSize() {
+        return multiSearchBatchSize;
+    }
+
+    /**
+     * Create the search queue of an experiment
+     * @param experimentId - id of the experiment the searches belong to
+     */
+    public ExperimentSearchQueue createQueue(String experimentId) {
+        return createQueue(experimentId, null, ExperimentPriority.BATCH);
+    }
+
+    /**
+     * Create the search queue of an experiment
+     * @param experimentId - id of the experiment the searches belong to
+     * @param searchTimeout - timeout of every search of the experiment, null for none
+     * @param priority - priority class whose lane the searches are scheduled from
+     */
+    public ExperimentSearchQueue createQueue(String experimentId, TimeValue searchTimeout, ExperimentPriority priority) {
+        return new ExperimentSearchQueue(experimentId, maxConcurrentSearchesPerExperiment, searchTimeout, priority);
+    }
+
+    /**
+     * Queue a batch of searches of an experiment, the batch is executed as one multi-search request once
+     * the experiment and the node have capacity.
+     * @param queue - search queue of the experiment
+     * @param searchRequests - search requests to be executed
+     * @param listener - receives one item per search request, in the order of searchRequests
+     */
+    public void multiSearch(
+        ExperimentSearchQueue queue,
+        List<SearchRequest> searchRequests,
+        ActionListener<MultiSearchResponse.Item[]> listener
+    ) {
+        if (searchRequests.isEmpty()) {
+            listener.onResponse(new MultiSearchResponse.Item[0]);
+            return;
+        }
+        SearchBatch batch = new SearchBatch(queue, searchRequests, listener, threadPool.getThreadContext().newRestorableContext(false));
+        PendingSearch pendingSearch = new PendingSearch(batch, IntStream.range(0, searchRequests.size()).toArray(), 0);
+        Exception cancellation;
+        synchronized (this) {
+            cancellation = queue.cancellation;
+            if (cancellation == null) {
+                queue.pending.addLast(pendingSearch);
+                activate(queue);
+            }
+        }
+        if (cancellation != null) {
+            listener.onFailure(cancellation);
+            return;
+        }
+        dispatch();
+    }
+
+    /**
+     * Cancel the searches of an experiment: queued batches fail with the cancellation and later batches are rejected.
+     * In-flight searches are not interrupted, their results are still delivered.
+     * @param queue - search queue of the experiment
+     * @param cancellation - failure of the cancelled batches
+     */
+    public void cancel(ExperimentSearchQueue queue, Exception cancellation) {
+        List<PendingSearch> cancelledSearches;
+        synchronized (this) {
+            if (queue.cancellation != null) {
+                return;
+            }
+            queue.cancellation = cancellation;
+            cancelledSearches = new ArrayList<>(queue.pending);
+            queue.pending.clear();
+        }
+        LOGGER.info("Cancelled {} queued search batches of experiment [{}]", cancelledSearches.size(), queue.getExperimentId());
+        for (PendingSearch pendingSearch : cancelledSearches) {
+            pendingSearch.batch.listener.onFailure(cancellation);
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        List<PendingSearch> searchesToRun = new ArrayList<>();
+        synchronized (this) {
+            PendingSearch next;
+            while ((next = pollNext()) != null) {
+                searchesToRun.add(next);
+            }
+        }
+        for (PendingSearch pendingSearch : searchesToRun) {
+            execute(pendingSearch);
+        }
+    }
+
+    /**
+     * Poll the next batch from the lanes in the order of their virtual time, guarded by this.
+     * The lane the batch is taken from advances its virtual time by the searches of the batch divided by its weight.
+     */
+    private PendingSearch pollNext() {
+        List<Map.Entry<ExperimentPriority, Lane>> lanesByVirtualTime = new ArrayList<>(lanes.entrySet());
+        lanesByVirtualTime.sort((a, b) -> Double.compare(a.getValue().virtualTime, b.getValue().virtualTime));
+        for (Map.Entry<ExperimentPriority, Lane> lane : lanesByVirtualTime) {
+            PendingSearch next = pollNext(lane.getValue());
+            if (next != null) {
+                lane.getValue().virtualTime += (double) next.permits() / weight(lane.getKey());
+                return next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Poll the next batch of a lane round-robin from the experiments that have capacity in their window, guarded by this.
+     * A batch larger than a window still runs once nothing else of its experiment or on the node is in flight.
+     */
+    private PendingSearch pollNext(Lane lane) {
+        int queueCount = lane.activeQueues.size();
+        for (int i = 0; i < queueCount; i++) {
+            ExperimentSearchQueue queue = lane.activeQueues.pollFirst();
+            if (queue.isIdle()) {
+                queue.active = false;
+                continue;
+            }
+            lane.activeQueues.addLast(queue);
+            PendingSearch next = queue.pending.peekFirst();
+            if (next == null) {
+                continue;
+            }
+            int permits = next.permits();
+            boolean experimentHasCapacity = queue.inFlight == 0
+                || queue.inFlight + permits <= queue.window(maxConcurrentSearchesPerExperiment);
+            boolean nodeHasCapacity = inFlightSearches == 0 || inFlightSearches + permits <= maxConcurrentSearchesPerNode;
+            if (experimentHasCapacity && nodeHasCapacity) {
+                queue.pending.pollFirst();
+                queue.inFlight += permits;
+                inFlightSearches += permits;
+                return next;
+            }
+        }
+        return null;
+    }
+
+    private void activate(ExperimentSearchQueue queue) {
+        if (!queue.active) {
+            queue.active = true;
+            Lane lane = lanes.get(queue.getPriority());
+            if (lane.activeQueues.isEmpty()) {
+                // a lane that was idle does not bank the share it did not use, it starts level with the lanes that kept searching
+                for (Lane other : lanes.values()) {
+                    if (other != lane && !other.activeQueues.isEmpty()) {
+                        lane.virtualTime = Math.max(lane.virtualTime, other.virtualTime);
+                    }
+                }
+            }
+            lane.activeQueues.addLast(queue);
+        }
+    }
+
+    private int weight(ExperimentPriority priority) {
+        return priority == ExperimentPriority.INTERACTIVE ? interactivePriorityWeight : 1;
+    }
+
+    private void execute(PendingSearch pendingSearch) {
+        MultiSearchRequest multiSearchRequest = new MultiSearchRequest();
+        multiSearchRequest.maxConcurrentSearchRequests(pendingSearch.positions.length);
+        pendingSearch.batch.queue.onSearchesIssued(pendingSearch.permits());
+        for (int position : pendingSearch.positions) {
+            multiSearchRequest.add(pendingSearch.batch.requests.get(position));
+        }
+        try (ThreadContext.StoredContext ignored = pendingSearch.batch.context.get()) {
+            client.multiSearch(multiSearchRequest, new ActionListener<MultiSearchResponse>() {
+                @Override
+                public void onResponse(MultiSearchResponse response) {
+                    onMultiSearchResponse(pendingSearch, response);
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    onMultiSearchFailure(pendingSearch, e);
+                }
+            });
+        }
+    }
+
+    private void onMultiSearchResponse(PendingSearch pendingSearch, MultiSearchResponse response) {
+        SearchBatch batch = pendingSearch.batch;
+        MultiSearchResponse.Item[] items = response.getResponses();
+        List<Integer> rejectedPositions = new ArrayList<>();
+        int failures = 0;
+        int timeouts = 0;
+        for (int i = 0; i < pendingSearch.positions.length; i++) {
+            int position = pendingSearch.positions[i];
+            MultiSearchResponse.Item item = items[i];
+            if (isRejected(item) && pendingSearch.attempt < rejectionMaxRetries) {
+                rejectedPositions.add(position);
+            } else {
+                batch.results[position] = item;
+                if (item.isFailure()) {
+                    failures++;
+                } else if (item.getResponse().isTimedOut()) {
+                    timeouts++;
+                }
+            }
+        }
+        batch.queue.onSearchFailures(failures);
+        batch.queue.onSearchTimeouts(timeouts);
+
+        if (rejectedPositions.isEmpty()) {
+            release(pendingSearch, true);
+            try {
+                batch.listener.onResponse(batch.results);
+            } finally {
+                dispatch();
+            }
+            return;
+        }
+        scheduleRetry(pendingSearch, rejectedPositions.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private void onMultiSearchFailure(PendingSearch pendingSearch, Exception e) {
+        if (isRejection(e) && pendingSearch.attempt < rejectionMaxRetries) {
+            scheduleRetry(pendingSearch, pendingSearch.positions);
+            return;
+        }
+        if (isRejection(e)) {
+            LOGGER.error(
+                "Experiment [{}] searches rejected after {} retries",
+                pendingSearch.batch.queue.getExperimentId(),
+                pendingSearch.attempt
+            );
+        }
+        release(pendingSearch, false);
+        pendingSearch.batch.queue.onSearchFailures(pendingSearch.permits());
+        try {
+            pendingSearch.batch.listener.onFailure(e);
+        } finally {
+            dispatch();
+        }
+    }
+
+    private void scheduleRetry(PendingSearch pendingSearch, int[] rejectedPositions) {
+        ExperimentSearchQueue queue = pendingSearch.batch.queue;
+        long backoffMillis = Math.min(rejectionBackoff.millis() << Math.min(pendingSearch.attempt, 20), MAX_REJECTION_BACKOFF_MILLIS);
+        PendingSearch retry = new PendingSearch(pendingSearch.batch, rejectedPositions, pendingSearch.attempt + 1);
+        synchronized (this) {
+            inFlightSearches -= pendingSearch.permits();
+            queue.inFlight -= pendingSearch.permits();
+            queue.scheduledRetries++;
+            queue.onRejection();
+        }
+        LOGGER.warn(
+            "Experiment [{}] had {} searches rejected, retrying in {}ms with window {}",
+            queue.getExperimentId(),
+            rejectedPositions.length,
+            backoffMillis,
+            queue.window(maxConcurrentSearchesPerExperiment)
+        );
+        threadPool.schedule(() -> {
+            Exception cancellation;
+            synchronized (this) {
+                queue.scheduledRetries--;
+                cancellation = queue.cancellation;
+                if (cancellation == null) {
+                    queue.pending.addFirst(retry);
+                    activate(queue);
+                }
+            }
+            if (cancellation != null) {
+                retry.batch.listener.onFailure(cancellation);
+            }
+            dispatch();
+        }, TimeValue.timeValueMillis(backoffMillis), ThreadPool.Names.GENERIC);
+        dispatch();
+    }
+
+    private synchronized void release(PendingSearch pendingSearch, boolean success) {
+        ExperimentSearchQueue queue = pendingSearch.batch.queue;
+        inFlightSearches -= pendingSearch.permits();
+        queue.inFlight -= pendingSearch.permits();
+        if (success) {
+            for (int i = 0; i < pendingSearch.permits(); i++) {
+                queue.onSuccess(maxConcurrentSearchesPerExperiment);
+            }
+        }
+    }
+
+    private static boolean isRejected(MultiSearchResponse.Item item) {
+        return item.isFailure() ? isRejection(item.getFailure()) : hasRejectedShards(item.getResponse());
+    }
+
+    private static boolean isRejection(Exception e) {
+        return ExceptionsHelper.unwrapCause(e) instanceof OpenSearchRejectedExecutionException
+            || ExceptionsHelper.status(e) == RestStatus.TOO_MANY_REQUESTS;
+    }
+
+    private static boolean hasRejectedShards(SearchResponse response) {
+        for (ShardSearchFailure shardFailure : response.getShardFailures()) {
+            if (shardFailure.status() == RestStatus.TOO_MANY_REQUESTS) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Experiments of a priority class with pending or in-flight searches
+     */
+    private static final class Lane {
+        private final Deque<ExperimentSearchQueue> activeQueues = new ArrayDeque<>();
+        /**
+         * searches served by the lane divided by its weight
+         */
+        private double virtualTime;
+    }
+
+    /**
+     * A batch of searches submitted together, results are collected across retries
+     */
+    private static final class SearchBatch {
+        private final ExperimentSearchQueue queue;
+        private final List<SearchRequest> requests;
+        private final MultiSearchResponse.Item[] results;
+        private final ActionListener<MultiSearchResponse.Item[]> listener;
+        private final Supplier<ThreadContext.StoredContext> context;
+
+        private SearchBatch(
+            ExperimentSearchQueue queue,
+            List<SearchRequest> requests,
+            ActionListener<MultiSearchResponse.Item[]> listener,
+            Supplier<ThreadContext.StoredContext> context
+        ) {
+            this.queue = queue;
+            this.requests = requests;
+            this.results = new MultiSearchResponse.Item[requests.size()];
+            this.listener = listener;
+            this.context = context;
+        }
+    }
+
+    /**
+     * Searches of a batch waiting for execution, either all of them or the rejected ones of a previous attempt
+     */
+    static final class PendingSearch {
+        private final SearchBatch batch;
+        private final int[] positions;
+        private final int attempt;
+
+        private PendingSearch(SearchBatch batch, int[] positions, int attempt) {
+            this.batch = batch;
+            this.positions = positions;
+            this.attempt = attempt;
+        }
+
+        int permits() {
+            return positions.length;
+        }
+    }
+}
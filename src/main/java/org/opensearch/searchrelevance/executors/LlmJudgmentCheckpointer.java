@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.model.Judgment;
+
+/**
+ * Stores the scores of an LLM judgment while its queryTexts are judged, so that the judged queryTexts survive a failed
+ * or interrupted experiment.
+ * The judgment is written again every batch of judged queryTexts. Writes never overlap, and once the final write is requested
+ * no partial write lands after it.
+ */
+final class LlmJudgmentCheckpointer {
+    private static final Logger LOGGER = LogManager.getLogger(LlmJudgmentCheckpointer.class);
+
+    private final JudgmentDao judgmentDao;
+    private final String judgmentId;
+    private final int batchSize;
+    /**
+     * builds the PROCESSING judgment from the scores judged so far
+     */
+    private final Function<Map<String, Map<String, String>>, Judgment> processingJudgment;
+    private final Map<String, Map<String, String>> judgments = new ConcurrentHashMap<>();
+
+    // guarded by this
+    private int unwrittenQueries;
+    private boolean writing;
+    private boolean finishing;
+    private Runnable afterWrite;
+
+    LlmJudgmentCheckpointer(
+        JudgmentDao judgmentDao,
+        String judgmentId,
+        int batchSize,
+        Function<Map<String, Map<String, String>>, Judgment> processingJudgment
+    ) {
+        this.judgmentDao = judgmentDao;
+        this.judgmentId = judgmentId;
+        this.batchSize = batchSize;
+        this.processingJudgment = processingJudgment;
+    }
+
+    /**
+     * Add the scores of a judged queryText, the judgment is written once a batch of queryTexts is not stored yet
+     */
+    void add(String queryText, Map<String, String> docIdToScore) {
+        judgments.put(queryText, docIdToScore);
+        synchronized (this) {
+            unwrittenQueries++;
+            if (writing || finishing || unwrittenQueries < batchSize) {
+                return;
+            }
+            writing = true;
+            unwrittenQueries = 0;
+        }
+        writePartial();
+    }
+
+    /**
+     * Write the final judgment once the in-flight partial write, if any, is stored
+     * @param finalJudgment - builds the final judgment from all judged scores
+     * @param listener - action lister for async operation
+     */
+    void finish(Function<Map<String, Map<String, String>>, Judgment> finalJudgment, ActionListener<Object> listener) {
+        Runnable finalWrite = () -> judgmentDao.updateJudgment(finalJudgment.apply(judgments()), listener);
+        synchronized (this) {
+            finishing = true;
+            if (writing) {
+                afterWrite = finalWrite;
+                return;
+            }
+        }
+        finalWrite.run();
+    }
+
+    /**
+     * Scores judged so far, keyed by queryText
+     */
+    Map<String, Map<String, String>> judgments() {
+        return new HashMap<>(judgments);
+    }
+
+    private void writePartial() {
+        judgmentDao.updateJudgment(processingJudgment.apply(judgments()), ActionListener.wrap(response -> {
+            LOGGER.debug("Stored the scores judged so far of judgment: {}", judgmentId);
+            onPartialWritten();
+        }, e -> {
+            LOGGER.warn("Failed to store the scores judged so far of judgment: {}", judgmentId, e);
+            onPartialWritten();
+        }));
+    }
+
+    private void onPartialWritten() {
+        Runnable next;
+        boolean writeAgain = false;
+        synchronized (this) {
+            next = afterWrite;
+            afterWrite = null;
+            if (next == null && finishing == false && unwrittenQueries >= batchSize) {
+                unwrittenQueries = 0;
+                writeAgain = true;
+            } else {
+                writing = false;
+            }
+        }
+        if (next != null) {
+            next.run();
+        } else if (writeAgain) {
+            writePartial();
+        }
+    }
+}
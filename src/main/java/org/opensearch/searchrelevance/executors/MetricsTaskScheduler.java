@@ -0,0 +1,156 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.METRICS_THREAD_POOL_NAME;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Node level scheduler of the metric tasks of experiments, e.g. pairwise comparisons and significance tests.
+ * At most one task per thread of the metrics thread pool is handed to the pool, the remaining tasks wait in one lane per
+ * {@link ExperimentPriority}. Lanes share the pool with the same weighted fair queuing as the experiment searches, see
+ * {@link ExperimentSearchScheduler}: the next task comes from the waiting lane that was served the fewest tasks relative
+ * to its weight, so that the metrics of a large BATCH experiment do not hold back the metrics of an INTERACTIVE experiment.
+ */
+public class MetricsTaskScheduler {
+    private final ThreadPool threadPool;
+    private final int concurrency;
+
+    private volatile int interactivePriorityWeight;
+
+    /**
+     * Lane of every priority class, guarded by this
+     */
+    private final Map<ExperimentPriority, Lane> lanes = new EnumMap<>(ExperimentPriority.class);
+    private int runningTasks;
+
+    public MetricsTaskScheduler(ThreadPool threadPool, ClusterService clusterService) {
+        this.threadPool = threadPool;
+        this.concurrency = OpenSearchExecutors.allocatedProcessors(clusterService.getSettings());
+        this.interactivePriorityWeight = EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT.get(clusterService.getSettings());
+        for (ExperimentPriority priority : ExperimentPriority.values()) {
+            lanes.put(priority, new Lane());
+        }
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT, value -> this.interactivePriorityWeight = value);
+    }
+
+    /**
+     * Number of metric tasks that run at the same time, the size of the metrics thread pool
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Run a metric task on the metrics thread pool once it is its turn
+     * @param priority - priority class of the experiment the task belongs to
+     * @param task - metric task, a rejection by the thread pool is reported to it
+     */
+    public void execute(ExperimentPriority priority, AbstractRunnable task) {
+        synchronized (this) {
+            Lane lane = lanes.get(priority);
+            if (lane.pending.isEmpty()) {
+                // a lane that was idle does not bank the share it did not use, it starts level with the lanes that kept running
+                for (Lane other : lanes.values()) {
+                    if (other != lane && !other.pending.isEmpty()) {
+                        lane.virtualTime = Math.max(lane.virtualTime, other.virtualTime);
+                    }
+                }
+            }
+            lane.pending.addLast(task);
+        }
+        dispatch();
+    }
+
+    private void dispatch() {
+        AbstractRunnable next;
+        while ((next = pollNext()) != null) {
+            AbstractRunnable task = next;
+            threadPool.executor(METRICS_THREAD_POOL_NAME).execute(new AbstractRunnable() {
+                @Override
+                protected void doRun() throws Exception {
+                    task.run();
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    task.onFailure(e);
+                }
+
+                @Override
+                public void onRejection(Exception e) {
+                    task.onRejection(e);
+                }
+
+                @Override
+                public void onAfter() {
+                    // the thread pool calls it once the task ran or was rejected
+                    release();
+                }
+            });
+        }
+    }
+
+    /**
+     * Poll the next task from the lanes in the order of their virtual time while the metrics thread pool has a free thread,
+     * the lane the task is taken from advances its virtual time by one divided by its weight
+     */
+    private synchronized AbstractRunnable pollNext() {
+        if (runningTasks >= concurrency) {
+            return null;
+        }
+        Lane nextLane = null;
+        ExperimentPriority nextPriority = null;
+        for (Map.Entry<ExperimentPriority, Lane> lane : lanes.entrySet()) {
+            if (!lane.getValue().pending.isEmpty() && (nextLane == null || lane.getValue().virtualTime < nextLane.virtualTime)) {
+                nextLane = lane.getValue();
+                nextPriority = lane.getKey();
+            }
+        }
+        if (nextLane == null) {
+            return null;
+        }
+        nextLane.virtualTime += 1.0 / weight(nextPriority);
+        runningTasks++;
+        return nextLane.pending.pollFirst();
+    }
+
+    private void release() {
+        synchronized (this) {
+            runningTasks--;
+        }
+        dispatch();
+    }
+
+    private int weight(ExperimentPriority priority) {
+        return priority == ExperimentPriority.INTERACTIVE ? interactivePriorityWeight : 1;
+    }
+
+    /**
+     * Metric tasks of a priority class waiting for a thread
+     */
+    private static final class Lane {
+        private final Deque<AbstractRunnable> pending = new ArrayDeque<>();
+        /**
+         * tasks served by the lane divided by its weight
+         */
+        private double virtualTime;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskManager;
+
+/**
+ * Cancellable task of a long-running experiment or judgment job.
+ * The task is registered with the task manager for the lifetime of the job, so that it is listed by _tasks
+ * and can be cancelled with _tasks/{taskId}/_cancel.
+ */
+public class SearchRelevanceTask extends CancellableTask {
+    private static final Logger LOGGER = LogManager.getLogger(SearchRelevanceTask.class);
+
+    public static final String TASK_TYPE = "transport";
+    public static final String EXPERIMENT_TASK_ACTION = TRANSPORT_ACTION_NAME_PREFIX + "experiment/run";
+    public static final String JUDGMENT_TASK_ACTION = TRANSPORT_ACTION_NAME_PREFIX + "judgment/run";
+
+    private final List<Runnable> cancellationListeners = new CopyOnWriteArrayList<>();
+
+    public SearchRelevanceTask(long id, String type, String action, String description, TaskId parentTaskId, Map<String, String> headers) {
+        super(id, type, action, description, parentTaskId, headers);
+    }
+
+    /**
+     * Register a new task with the task manager, the caller must unregister it once the job completes
+     * @param taskManager - task manager of the local node
+     * @param action - action name of the job
+     * @param description - description listed by _tasks
+     */
+    public static SearchRelevanceTask register(TaskManager taskManager, String action, String description) {
+        return (SearchRelevanceTask) taskManager.register(TASK_TYPE, action, new TaskAwareRequest() {
+            private TaskId parentTaskId = TaskId.EMPTY_TASK_ID;
+
+            @Override
+            public void setParentTask(TaskId taskId) {
+                this.parentTaskId = taskId;
+            }
+
+            @Override
+            public TaskId getParentTask() {
+                return parentTaskId;
+            }
+
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new SearchRelevanceTask(id, type, action, description, parentTaskId, headers);
+            }
+        });
+    }
+
+    /**
+     * Run the listener once the task is cancelled, immediately if it is already cancelled
+     * @param listener - stops the work of the job, must not block
+     */
+    public void addCancellationListener(Runnable listener) {
+        cancellationListeners.add(listener);
+        if (isCancelled() && cancellationListeners.remove(listener)) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Failure of the work that is stopped because the task is cancelled
+     */
+    public TaskCancelledException newCancellationException() {
+        return new TaskCancelledException("Task [" + getId() + "] " + getDescription() + " was cancelled: " + getReasonCancelled());
+    }
+
+    @Override
+    public boolean shouldCancelChildrenOnCancellation() {
+        return true;
+    }
+
+    @Override
+    protected void onCancelled() {
+        LOGGER.info("Cancelled task [{}] {}: {}", getId(), getDescription(), getReasonCancelled());
+        for (Runnable listener : cancellationListeners) {
+            if (cancellationListeners.remove(listener)) {
+                listener.run();
+            }
+        }
+    }
+
+    /**
+     * Whether the failure of a job is caused by the cancellation of its task
+     */
+    public static boolean isCancellation(Exception e) {
+        return ExceptionsHelper.unwrap(e, TaskCancelledException.class) != null;
+    }
+}
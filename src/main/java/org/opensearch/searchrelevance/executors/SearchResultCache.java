@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.SEARCH_RESULT_CACHE_MAX_DOC_IDS;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.indices.stats.IndicesStatsRequest;
+import org.opensearch.action.admin.indices.stats.IndicesStatsResponse;
+import org.opensearch.action.admin.indices.stats.ShardStats;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.index.shard.DocsStats;
+import org.opensearch.transport.client.Client;
+
+/**
+ * Node level cache of the ranked doc ids returned by experiment and judgment searches.
+ * Entries are keyed by a digest of the search request, the user running it and the generation of the searched indices.
+ * The generation is derived from the max sequence number and the searchable docs of every primary shard, so that any write
+ * that becomes visible to searches leads to new keys; entries of older generations are never read again and age out.
+ * The cache is bounded by the total number of cached doc ids and evicts the least recently used entries.
+ */
+public class SearchResultCache {
+    private static final Logger LOGGER = LogManager.getLogger(SearchResultCache.class);
+
+    private final Client client;
+    private final long maxDocIds;
+    private final Cache<String, List<String>> cache;
+
+    public SearchResultCache(Client client, ClusterService clusterService) {
+        this.client = client;
+        this.maxDocIds = SEARCH_RESULT_CACHE_MAX_DOC_IDS.get(clusterService.getSettings());
+        this.cache = CacheBuilder.<String, List<String>>builder()
+            .setMaximumWeight(Math.max(1L, maxDocIds))
+            .weigher((key, docIds) -> docIds.size() + 1L)
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return maxDocIds > 0;
+    }
+
+    /**
+     * Resolve the generation of every index expression before its searches are executed.
+     * Expressions whose generation cannot be resolved, e.g. because of failed shards, are left out and their searches bypass the cache.
+     * The generations are read with the plugin's permissions, so that searching users do not need index monitor privileges.
+     * @param indices - index expressions of the search requests
+     * @param listener - receives the generation per index expression, never fails
+     */
+    public void resolveGenerations(Collection<String> indices, ActionListener<Map<String, String>> listener) {
+        if (isEnabled() == false) {
+            listener.onResponse(Collections.emptyMap());
+            return;
+        }
+        resolveIndexGenerations(indices, listener);
+    }
+
+    /**
+     * Resolve the generation of every index expression whether the cache is enabled or not, e.g. to fingerprint evaluation results
+     * @param indices - index expressions of the search requests
+     * @param listener - receives the generation per index expression, never fails
+     */
+    public void resolveIndexGenerations(Collection<String> indices, ActionListener<Map<String, String>> listener) {
+        Set<String> distinctIndices = new HashSet<>(indices);
+        if (distinctIndices.isEmpty()) {
+            listener.onResponse(Collections.emptyMap());
+            return;
+        }
+        Map<String, String> generations = new ConcurrentHashMap<>();
+        GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(
+            ActionListener.wrap(v -> listener.onResponse(generations), listener::onFailure),
+            distinctIndices.size()
+        );
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        for (String index : distinctIndices) {
+            ActionListener<IndicesStatsResponse> statsListener = new ContextPreservingActionListener<>(
+                threadContext.newRestorableContext(false),
+                ActionListener.wrap(response -> {
+                    String generation = generation(response);
+                    if (generation != null) {
+                        generations.put(index, generation);
+                    }
+                    groupedListener.onResponse(null);
+                }, e -> {
+                    LOGGER.debug("Failed to resolve the generation of [{}], its searches bypass the search result cache", index, e);
+                    groupedListener.onResponse(null);
+                })
+            );
+            IndicesStatsRequest statsRequest = new IndicesStatsRequest().indices(Strings.splitStringByCommaToArray(index))
+                .clear()
+                .docs(true);
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                client.admin().indices().stats(statsRequest, statsListener);
+            }
+        }
+    }
+
+    /**
+     * Cache key of a search request, computed in the thread context of the requesting user before it is stashed
+     * @param searchRequest - search request to be executed
+     * @param generation - generation of the searched indices, null if unknown
+     * @return cache key, null if the search cannot be cached
+     */
+    public String key(SearchRequest searchRequest, String generation) {
+        if (isEnabled() == false || generation == null) {
+            return null;
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            searchRequest.writeTo(out);
+            // results depend on the document level security of the searching user
+            ThreadContext threadContext = client.threadPool().getThreadContext();
+            out.writeOptionalString(threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT));
+            out.writeString(generation);
+            return MessageDigests.toHexString(MessageDigests.sha256().digest(BytesReference.toBytes(out.bytes())));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to compute the search result cache key, the search bypasses the cache", e);
+            return null;
+        }
+    }
+
+    /**
+     * Ranked doc ids of a cached search
+     * @param key - cache key of the search, null for searches that cannot be cached
+     * @return doc ids, null on cache miss
+     */
+    public List<String> get(String key) {
+        return key == null ? null : cache.get(key);
+    }
+
+    /**
+     * Cache the ranked doc ids of a search, partial responses are not cached
+     * @param key - cache key of the search, null for searches that cannot be cached
+     * @param response - search response
+     * @param docIds - ranked doc ids of the response
+     */
+    public void put(String key, SearchResponse response, List<String> docIds) {
+        if (key == null || response.isTimedOut() || response.getFailedShards() > 0) {
+            return;
+        }
+        cache.put(key, Collections.unmodifiableList(new ArrayList<>(docIds)));
+    }
+
+    public Cache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    public int count() {
+        return cache.count();
+    }
+
+    public long weight() {
+        return cache.weight();
+    }
+
+    /**
+     * Digest of the write state of the primary shards, null if some shard did not report its stats
+     */
+    private static String generation(IndicesStatsResponse response) {
+        if (response.getFailedShards() > 0) {
+            return null;
+        }
+        List<String> shardGenerations = new ArrayList<>();
+        for (ShardStats shardStats : response.getShards()) {
+            if (shardStats.getShardRouting().primary() == false) {
+                continue;
+            }
+            SeqNoStats seqNoStats = shardStats.getSeqNoStats();
+            DocsStats docsStats = shardStats.getStats().getDocs();
+            if (seqNoStats == null || docsStats == null) {
+                return null;
+            }
+            shardGenerations.add(
+                String.join(
+                    ":",
+                    shardStats.getShardRouting().index().getUUID(),
+                    String.valueOf(shardStats.getShardRouting().id()),
+                    String.valueOf(seqNoStats.getMaxSeqNo()),
+                    String.valueOf(docsStats.getCount()),
+                    String.valueOf(docsStats.getDeleted()),
+                    String.valueOf(docsStats.getTotalSizeInBytes())
+                )
+            );
+        }
+        Collections.sort(shardGenerations);
+        byte[] digest = MessageDigests.sha256().digest(String.join(",", shardGenerations).getBytes(StandardCharsets.UTF_8));
+        return MessageDigests.toHexString(digest);
+    }
+}
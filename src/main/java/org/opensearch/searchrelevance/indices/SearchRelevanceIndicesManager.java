@@ -10,6 +10,7 @@ package org.opensearch.searchrelevance.indices;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -20,10 +21,16 @@ import org.opensearch.action.DocWriteRequest.OpType;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.refresh.RefreshRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.Streams;
 import org.opensearch.core.action.ActionListener;
@@ -113,6 +120,58 @@ public class SearchRelevanceIndicesManager {
         });
     }
 
+    /**
+     * Put docs to the system index in a single bulk request without forcing a refresh, docs with an existing id are overwritten,
+     * callers are expected to refresh the index once all docs are written
+     * @param docs - document id to content map need to be executed
+     * @param index - system index
+     * @param listener - action lister for async operation, receives the per doc results
+     */
+    public void bulkPutDocs(
+        final Map<String, XContentBuilder> docs,
+        final SearchRelevanceIndices index,
+        final ActionListener<BulkResponse> listener
+    ) {
+        StashedThreadContext.run(client, () -> {
+            try {
+                BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(WriteRequest.RefreshPolicy.NONE);
+                docs.forEach(
+                    (docId, xContentBuilder) -> bulkRequest.add(
+                        new IndexRequest(index.getIndexName()).id(docId).opType(DocWriteRequest.OpType.INDEX).source(xContentBuilder)
+                    )
+                );
+                client.bulk(bulkRequest, listener);
+            } catch (Exception e) {
+                listener.onFailure(new SearchRelevanceException("Failed to bulk store docs", e, RestStatus.INTERNAL_SERVER_ERROR));
+            }
+        });
+    }
+
+    /**
+     * Refresh the system index so that docs written without refresh become visible
+     * @param index - system index
+     * @param listener - action lister for async operation
+     */
+    public void refreshIndex(final SearchRelevanceIndices index, final ActionListener<Void> listener) {
+        StashedThreadContext.run(client, () -> {
+            try {
+                client.admin()
+                    .indices()
+                    .refresh(
+                        new RefreshRequest(index.getIndexName()),
+                        ActionListener.wrap(
+                            response -> listener.onResponse(null),
+                            e -> listener.onFailure(
+                                new SearchRelevanceException("Failed to refresh index", e, RestStatus.INTERNAL_SERVER_ERROR)
+                            )
+                        )
+                    );
+            } catch (Exception e) {
+                listener.onFailure(new SearchRelevanceException("Failed to refresh index", e, RestStatus.INTERNAL_SERVER_ERROR));
+            }
+        });
+    }
+
     /**
      * Update a doc to the system index
      * @param docId - document id need to be executed
@@ -140,6 +199,31 @@ public class SearchRelevanceIndicesManager {
         });
     }
 
+    /**
+     * Update some fields of an existing doc of the system index without forcing a refresh
+     * @param docId - document id need to be executed
+     * @param fields - fields to be replaced, other fields of the doc are kept
+     * @param index - system index
+     * @param listener - action lister for async operation
+     */
+    public void partialUpdateDoc(
+        final String docId,
+        final Map<String, Object> fields,
+        final SearchRelevanceIndices index,
+        final ActionListener<UpdateResponse> listener
+    ) {
+        StashedThreadContext.run(client, () -> {
+            try {
+                client.update(
+                    new UpdateRequest(index.getIndexName(), docId).doc(fields).setRefreshPolicy(WriteRequest.RefreshPolicy.NONE),
+                    listener
+                );
+            } catch (Exception e) {
+                listener.onFailure(new SearchRelevanceException("Failed to update doc", e, RestStatus.INTERNAL_SERVER_ERROR));
+            }
+        });
+    }
+
     /**
      * Delete a doc by doc id
      * @param docId - document id need to be executed
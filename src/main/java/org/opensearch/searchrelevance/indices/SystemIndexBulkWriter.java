@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.indices;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+/**
+ * Buffers docs of a system index and writes them with bulk requests.
+ * The buffer is flushed once it holds bulkSize docs or when the oldest buffered doc waited for flushInterval.
+ * Bulk requests do not refresh the index, the index is refreshed once when the writer is closed.
+ */
+public class SystemIndexBulkWriter {
+    private static final Logger LOGGER = LogManager.getLogger(SystemIndexBulkWriter.class);
+
+    private final SearchRelevanceIndicesManager searchRelevanceIndicesManager;
+    private final ThreadPool threadPool;
+    private final SearchRelevanceIndices index;
+    private final int bulkSize;
+    private final TimeValue flushInterval;
+
+    /**
+     * Buffered writes and flush state, guarded by this
+     */
+    private List<PendingWrite> buffer = new ArrayList<>();
+    private Scheduler.ScheduledCancellable scheduledFlush;
+    private boolean closed;
+    private boolean written;
+
+    public SystemIndexBulkWriter(
+        SearchRelevanceIndicesManager searchRelevanceIndicesManager,
+        ThreadPool threadPool,
+        SearchRelevanceIndices index,
+        int bulkSize,
+        TimeValue flushInterval
+    ) {
+        this.searchRelevanceIndicesManager = searchRelevanceIndicesManager;
+        this.threadPool = threadPool;
+        this.index = index;
+        this.bulkSize = bulkSize;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Buffer a doc to be stored in the system index
+     * @param docId - document id need to be executed
+     * @param doc - content to be stored
+     * @param listener - action lister for async operation, completed once the bulk request containing the doc returns
+     */
+    public void add(final String docId, final ToXContentObject doc, final ActionListener<Void> listener) {
+        if (doc == null) {
+            listener.onFailure(new SearchRelevanceException("Doc cannot be null", RestStatus.BAD_REQUEST));
+            return;
+        }
+        XContentBuilder source;
+        try {
+            source = doc.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
+        } catch (IOException e) {
+            listener.onFailure(new SearchRelevanceException("Failed to store doc", e, RestStatus.INTERNAL_SERVER_ERROR));
+            return;
+        }
+
+        List<PendingWrite> writes = null;
+        synchronized (this) {
+            if (closed) {
+                String message = "Bulk writer of [" + index.getIndexName() + "] is closed";
+                listener.onFailure(new SearchRelevanceException(message, RestStatus.INTERNAL_SERVER_ERROR));
+                return;
+            }
+            written = true;
+            buffer.add(new PendingWrite(docId, source, listener));
+            if (buffer.size() >= bulkSize) {
+                writes = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = threadPool.schedule(this::flush, flushInterval, ThreadPool.Names.GENERIC);
+            }
+        }
+        if (writes != null) {
+            write(writes, ActionListener.wrap(v -> {}, e -> {}));
+        }
+    }
+
+    /**
+     * Write all buffered docs
+     */
+    public void flush() {
+        List<PendingWrite> writes;
+        synchronized (this) {
+            writes = drain();
+        }
+        write(writes, ActionListener.wrap(v -> {}, e -> {}));
+    }
+
+    /**
+     * Write the remaining buffered docs and refresh the system index once if any doc was added,
+     * docs added after close are rejected
+     * @param listener - action lister for async operation
+     */
+    public void close(final ActionListener<Void> listener) {
+        List<PendingWrite> writes;
+        boolean refresh;
+        synchronized (this) {
+            closed = true;
+            refresh = written;
+            writes = drain();
+        }
+        write(writes, ActionListener.wrap(v -> {
+            if (refresh) {
+                searchRelevanceIndicesManager.refreshIndex(index, listener);
+            } else {
+                listener.onResponse(null);
+            }
+        }, listener::onFailure));
+    }
+
+    private List<PendingWrite> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel();
+            scheduledFlush = null;
+        }
+        List<PendingWrite> writes = buffer;
+        buffer = new ArrayList<>();
+        return writes;
+    }
+
+    private void write(List<PendingWrite> writes, ActionListener<Void> listener) {
+        if (writes.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        Map<String, XContentBuilder> docs = new LinkedHashMap<>();
+        for (PendingWrite write : writes) {
+            docs.put(write.docId, write.source);
+        }
+        searchRelevanceIndicesManager.bulkPutDocs(docs, index, new ActionListener<BulkResponse>() {
+            @Override
+            public void onResponse(BulkResponse bulkResponse) {
+                if (bulkResponse.hasFailures()) {
+                    LOGGER.warn("Failed to store some docs of [{}]: {}", index.getIndexName(), bulkResponse.buildFailureMessage());
+                }
+                BulkItemResponse[] items = bulkResponse.getItems();
+                for (int i = 0; i < items.length; i++) {
+                    BulkItemResponse item = items[i];
+                    if (item.isFailed()) {
+                        writes.get(i).listener.onFailure(
+                            new SearchRelevanceException("Failed to store doc", item.getFailure().getCause(), item.status())
+                        );
+                    } else {
+                        writes.get(i).listener.onResponse(null);
+                    }
+                }
+                listener.onResponse(null);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                LOGGER.error("Failed to store {} docs of [{}]", writes.size(), index.getIndexName(), e);
+                for (PendingWrite write : writes) {
+                    write.listener.onFailure(e);
+                }
+                listener.onFailure(e);
+            }
+        });
+    }
+
+    private static final class PendingWrite {
+        private final String docId;
+        private final XContentBuilder source;
+        private final ActionListener<Void> listener;
+
+        private PendingWrite(String docId, XContentBuilder source, ActionListener<Void> listener) {
+            this.docId = docId;
+            this.source = source;
+            this.listener = listener;
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.opensearch.searchrelevance.judgments;
 import java.util.Map;
 
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.executors.SearchRelevanceTask;
 import org.opensearch.searchrelevance.model.JudgmentType;
 
 /**
@@ -25,7 +26,12 @@ public interface BaseJudgmentsProcessor {
     /**
      * Generate judgment score based on metadata
      * @param metadata used generate judgment scores for various judgment type
+     * @param task cancellable task of the job, no new search or predict call is made once it is cancelled
      * @param listener async action
      */
-    public void generateJudgmentScore(Map<String, Object> metadata, ActionListener<Map<String, Map<String, String>>> listener);
+    public void generateJudgmentScore(
+        Map<String, Object> metadata,
+        SearchRelevanceTask task,
+        ActionListener<Map<String, Map<String, String>>> listener
+    );
 }
@@ -11,6 +11,7 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
 import org.opensearch.searchrelevance.ml.MLAccessor;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.transport.client.Client;
@@ -20,6 +21,7 @@ public class JudgmentsProcessorFactory {
     private final QuerySetDao querySetDao;
     private final SearchConfigurationDao searchConfigurationDao;
     private final JudgmentCacheDao judgmentCacheDao;
+    private final SearchResultCache searchResultCache;
 
     private final Client client;
 
@@ -29,20 +31,29 @@ public class JudgmentsProcessorFactory {
         QuerySetDao querySetDao,
         SearchConfigurationDao searchConfigurationDao,
         JudgmentCacheDao judgmentCacheDao,
+        SearchResultCache searchResultCache,
         Client client
     ) {
         this.mlAccessor = mlAccessor;
         this.querySetDao = querySetDao;
         this.searchConfigurationDao = searchConfigurationDao;
         this.judgmentCacheDao = judgmentCacheDao;
+        this.searchResultCache = searchResultCache;
         this.client = client;
     }
 
     public BaseJudgmentsProcessor getProcessor(JudgmentType type) {
         return switch (type) {
-            case LLM_JUDGMENT -> new LlmJudgmentsProcessor(mlAccessor, querySetDao, searchConfigurationDao, judgmentCacheDao, client);
+            case LLM_JUDGMENT -> getLlmJudgmentsProcessor();
             case UBI_JUDGMENT -> new UbiJudgmentsProcessor(client);
             default -> throw new IllegalArgumentException("Unsupported experiment type: " + type);
         };
     }
+
+    /**
+     * LLM judgment processor, which can also hand the ranked doc ids of its searches to an experiment
+     */
+    public LlmJudgmentsProcessor getLlmJudgmentsProcessor() {
+        return new LlmJudgmentsProcessor(mlAccessor, querySetDao, searchConfigurationDao, judgmentCacheDao, searchResultCache, client);
+    }
 }
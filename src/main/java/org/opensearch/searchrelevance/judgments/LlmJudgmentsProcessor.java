@@ -12,7 +12,6 @@ import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_IND
 import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
 import static org.opensearch.searchrelevance.model.JudgmentCache.SCORE;
 import static org.opensearch.searchrelevance.model.QueryWithReference.DELIMITER;
-import static org.opensearch.searchrelevance.model.builder.SearchRequestBuilder.buildSearchRequest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -23,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -39,9 +40,12 @@ import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.SearchRelevanceTask;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
 import org.opensearch.searchrelevance.ml.MLAccessor;
 import org.opensearch.searchrelevance.model.JudgmentCache;
 import org.opensearch.searchrelevance.model.JudgmentType;
+import org.opensearch.searchrelevance.model.builder.SearchConfigurationTemplate;
 import org.opensearch.searchrelevance.shared.StashedThreadContext;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.transport.client.Client;
@@ -57,6 +61,7 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
     private final QuerySetDao querySetDao;
     private final SearchConfigurationDao searchConfigurationDao;
     private final JudgmentCacheDao judgmentCacheDao;
+    private final SearchResultCache searchResultCache;
     private final Client client;
 
     @Inject
@@ -65,12 +70,14 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         QuerySetDao querySetDao,
         SearchConfigurationDao searchConfigurationDao,
         JudgmentCacheDao judgmentCacheDao,
+        SearchResultCache searchResultCache,
         Client client
     ) {
         this.mlAccessor = mlAccessor;
         this.querySetDao = querySetDao;
         this.searchConfigurationDao = searchConfigurationDao;
         this.judgmentCacheDao = judgmentCacheDao;
+        this.searchResultCache = searchResultCache;
         this.client = client;
     }
 
@@ -80,7 +87,28 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
     }
 
     @Override
-    public void generateJudgmentScore(Map<String, Object> metadata, ActionListener<Map<String, Map<String, String>>> listener) {
+    public void generateJudgmentScore(
+        Map<String, Object> metadata,
+        SearchRelevanceTask task,
+        ActionListener<Map<String, Map<String, String>>> listener
+    ) {
+        generateJudgmentScore(metadata, task, null, listener);
+    }
+
+    /**
+     * Generate judgment scores and hand every judged queryText to the caller as soon as its scores arrive,
+     * so that an experiment can evaluate it while the other queryTexts are still judged
+     * @param metadata used generate judgment scores
+     * @param task cancellable task of the job, no new search or predict call is made once it is cancelled
+     * @param queryJudgmentListener receives every judged queryText, null if not needed
+     * @param listener async action, receives all judgment scores once every queryText is judged
+     */
+    public void generateJudgmentScore(
+        Map<String, Object> metadata,
+        SearchRelevanceTask task,
+        QueryJudgmentListener queryJudgmentListener,
+        ActionListener<Map<String, Map<String, String>>> listener
+    ) {
         String querySetId = (String) metadata.get("querySetId");
         String modelId = (String) metadata.get("modelId");
         List<String> searchConfigurationList = (List<String>) metadata.get("searchConfigurationList");
@@ -102,7 +130,9 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         });
 
         // Step 3: Generate LLM Judgments
-        getSearchConfigsStep.whenComplete(searchConfigResults -> { generateLLMJudgments(modelId, size, results, listener); }, error -> {
+        getSearchConfigsStep.whenComplete(searchConfigResults -> {
+            generateLLMJudgments(modelId, size, results, task, queryJudgmentListener, listener);
+        }, error -> {
             LOGGER.error("Failed to get search configurations", error);
             listener.onFailure(
                 new SearchRelevanceException("Failed to get search configurations", error, RestStatus.INTERNAL_SERVER_ERROR)
@@ -114,82 +144,133 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         String modelId,
         int size,
         Map<String, Object> results,
+        SearchRelevanceTask task,
+        QueryJudgmentListener queryJudgmentListener,
         ActionListener<Map<String, Map<String, String>>> listener
     ) {
         Map<String, List<String>> indexAndQueries = (Map<String, List<String>>) results.get(METRICS_INDEX_AND_QUERIES_FIELD_NAME);
         List<String> queryTextWithReferences = (List<String>) results.get(METRICS_QUERY_TEXT_FIELD_NAME);
+        // search configurations are compiled once, building a search request only substitutes the queryText
+        Map<String, SearchConfigurationTemplate> searchTemplates;
+        try {
+            searchTemplates = SearchConfigurationTemplate.compileAll(indexAndQueries);
+        } catch (Exception e) {
+            listener.onFailure(new SearchRelevanceException("Failed to compile search configurations", e, RestStatus.BAD_REQUEST));
+            return;
+        }
 
         Map<String, Map<String, String>> allJudgments = new HashMap<>();
         AtomicInteger remainingQueries = new AtomicInteger(queryTextWithReferences.size());
+        // the judgment fails once, even though every queryText fails after a cancellation
+        AtomicBoolean hasFailure = new AtomicBoolean(false);
+
+        // judgment searches need the document sources for the LLM, they always run but their ranked doc ids are cached
+        // so that experiments on the same search configurations do not search again
+        Set<String> indices = searchTemplates.values().stream().map(SearchConfigurationTemplate::index).collect(Collectors.toSet());
+        searchResultCache.resolveGenerations(indices, ActionListener.wrap(generations -> {
+            for (String queryTextWithReference : queryTextWithReferences) {
+                Map<String, List<String>> rankedDocIds = new ConcurrentHashMap<>();
+                processQueryText(
+                    modelId,
+                    size,
+                    searchTemplates,
+                    generations,
+                    queryTextWithReference,
+                    task,
+                    rankedDocIds,
+                    new ActionListener<Map<String, String>>() {
+                        @Override
+                        public void onResponse(Map<String, String> docIdToScore) {
+                            synchronized (allJudgments) {
+                                allJudgments.put(queryTextWithReference, docIdToScore);
+                            }
+                            if (queryJudgmentListener != null && hasFailure.get() == false) {
+                                queryJudgmentListener.onQueryJudged(queryTextWithReference, rankedDocIds, docIdToScore);
+                            }
+                            if (remainingQueries.decrementAndGet() == 0) {
+                                listener.onResponse(allJudgments);
+                            }
+                        }
 
-        for (String queryTextWithReference : queryTextWithReferences) {
-            processQueryText(modelId, size, indexAndQueries, queryTextWithReference, new ActionListener<Map<String, String>>() {
-                @Override
-                public void onResponse(Map<String, String> docIdToScore) {
-                    synchronized (allJudgments) {
-                        allJudgments.put(queryTextWithReference, docIdToScore);
-                    }
-                    if (remainingQueries.decrementAndGet() == 0) {
-                        listener.onResponse(allJudgments);
+                        @Override
+                        public void onFailure(Exception e) {
+                            if (hasFailure.compareAndSet(false, true)) {
+                                listener.onFailure(
+                                    new SearchRelevanceException("Failed to generate LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR)
+                                );
+                            }
+                        }
                     }
-                }
-
-                @Override
-                public void onFailure(Exception e) {
-                    listener.onFailure(
-                        new SearchRelevanceException("Failed to generate LLM judgments", e, RestStatus.INTERNAL_SERVER_ERROR)
-                    );
-                }
-            });
-        }
+                );
+            }
+        }, listener::onFailure));
     }
 
     private void processQueryText(
         String modelId,
         int size,
-        Map<String, List<String>> indexAndQueries,
+        Map<String, SearchConfigurationTemplate> searchTemplates,
+        Map<String, String> generations,
         String queryTextWithReference,
+        SearchRelevanceTask task,
+        Map<String, List<String>> rankedDocIds,
         ActionListener<Map<String, String>> listener
     ) {
+        if (task.isCancelled()) {
+            listener.onFailure(task.newCancellationException());
+            return;
+        }
         Set<Map<String, String>> unionHits = new HashSet<>();
         Map<String, String> docIdToScore = new HashMap<>();
 
-        AtomicInteger pendingSearches = new AtomicInteger(indexAndQueries.size());
-        for (Map.Entry<String, List<String>> entry : indexAndQueries.entrySet()) {
-            String index = entry.getValue().get(0);
-            String queryText = queryTextWithReference.split(DELIMITER, 2)[0];
-            String query = entry.getValue().get(1);
-            String searchPipeline = entry.getValue().get(2);
-
-            SearchRequest searchRequest = buildSearchRequest(index, query, queryText, searchPipeline, size);
-            StashedThreadContext.run(client, () -> client.search(searchRequest, ActionListener.wrap(response -> {
-                SearchHit[] hits = response.getHits().getHits();
-                List<String> docIds = Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toList());
-
-                deduplicateFromProcessedDocs(index, queryTextWithReference, docIds, docIdToScore, ActionListener.wrap(unprocessedDocIds -> {
-                    Arrays.stream(hits).filter(hit -> unprocessedDocIds.contains(hit.getId())).forEach(hit -> {
-                        Map<String, String> hitMap = new HashMap<>();
-                        hitMap.put("_id", hit.getId());
-                        hitMap.put("_index", hit.getIndex());
-                        hitMap.put("_source", hit.getSourceAsString());
-                        unionHits.add(hitMap);
-                    });
-
-                    if (pendingSearches.decrementAndGet() == 0) {
-                        generateLLMJudgmentForQueryText(index, modelId, queryTextWithReference, unionHits, docIdToScore, listener);
-                    }
-                }, e -> {
-                    LOGGER.error("Deduplication failed for index: {}", index, e);
-                    if (pendingSearches.decrementAndGet() == 0) {
-                        generateLLMJudgmentForQueryText(index, modelId, queryTextWithReference, unionHits, docIdToScore, listener);
-                    }
-                }));
-            }, e -> {
-                LOGGER.error("Search failed for index: {}", index, e);
+        AtomicInteger pendingSearches = new AtomicInteger(searchTemplates.size());
+        String queryText = queryTextWithReference.split(DELIMITER, 2)[0];
+        for (Map.Entry<String, SearchConfigurationTemplate> entry : searchTemplates.entrySet()) {
+            SearchConfigurationTemplate template = entry.getValue();
+            String index = template.index();
+
+            SearchRequest searchRequest = template.buildSearchRequest(queryText, size, false);
+            // cached under the id-only search that evaluations run, both rank the same doc ids
+            SearchRequest idsOnlySearchRequest = template.buildSearchRequest(queryText, size, true);
+            // the key depends on the requesting user, it is computed before the thread context is stashed
+            String cacheKey = searchResultCache.key(idsOnlySearchRequest, generations.get(index));
+            Runnable onSearchCompleted = () -> {
                 if (pendingSearches.decrementAndGet() == 0) {
-                    generateLLMJudgmentForQueryText(index, modelId, queryTextWithReference, unionHits, docIdToScore, listener);
+                    generateLLMJudgmentForQueryText(index, modelId, queryTextWithReference, unionHits, docIdToScore, task, listener);
                 }
-            })));
+            };
+            StashedThreadContext.run(client, () -> {
+                client.search(searchRequest, ActionListener.wrap(response -> {
+                    SearchHit[] hits = response.getHits().getHits();
+                    List<String> docIds = Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toList());
+                    searchResultCache.put(cacheKey, response, docIds);
+                    rankedDocIds.put(entry.getKey(), docIds);
+
+                    deduplicateFromProcessedDocs(
+                        index,
+                        queryTextWithReference,
+                        docIds,
+                        docIdToScore,
+                        ActionListener.wrap(unprocessedDocIds -> {
+                            Arrays.stream(hits).filter(hit -> unprocessedDocIds.contains(hit.getId())).forEach(hit -> {
+                                Map<String, String> hitMap = new HashMap<>();
+                                hitMap.put("_id", hit.getId());
+                                hitMap.put("_index", hit.getIndex());
+                                hitMap.put("_source", hit.getSourceAsString());
+                                unionHits.add(hitMap);
+                            });
+
+                            onSearchCompleted.run();
+                        }, e -> {
+                            LOGGER.error("Deduplication failed for index: {}", index, e);
+                            onSearchCompleted.run();
+                        })
+                    );
+                }, e -> {
+                    LOGGER.error("Search failed for index: {}", index, e);
+                    onSearchCompleted.run();
+                }));
+            });
         }
     }
 
@@ -199,11 +280,12 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         String queryTextWithReference,
         Set<Map<String, String>> unprocessedUnionHits,
         Map<String, String> docIdToScore,
+        SearchRelevanceTask task,
         ActionListener<Map<String, String>> listener
     ) {
         LOGGER.debug("calculating LLM evaluation with modelId: {} and unprocessed unionHits: {}", modelId, unprocessedUnionHits);
         LOGGER.debug("processed docIdToScore before llm evaluation: {}", docIdToScore);
-        predictWithRetry(index, queryTextWithReference, modelId, unprocessedUnionHits, docIdToScore, listener, 0);
+        predictWithRetry(index, queryTextWithReference, modelId, unprocessedUnionHits, docIdToScore, task, listener, 0);
     }
 
     private void predictWithRetry(
@@ -212,9 +294,14 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         String modelId,
         Set<Map<String, String>> unionHits,
         Map<String, String> docIdToScore,
+        SearchRelevanceTask task,
         ActionListener<Map<String, String>> listener,
         int retryCount
     ) {
+        if (task.isCancelled()) {
+            listener.onFailure(task.newCancellationException());
+            return;
+        }
         String queryText = queryTextWithReference.split(DELIMITER, 2)[0];
         String referenceAnswer = queryTextWithReference.split(DELIMITER, 2)[1];
         mlAccessor.predict(modelId, queryText, referenceAnswer, new ArrayList<>(unionHits), new ActionListener<String>() {
@@ -250,7 +337,7 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
                     long delay = (long) Math.pow(2, retryCount) * 1000;
                     try {
                         Thread.sleep(delay);
-                        predictWithRetry(index, queryTextWithReference, modelId, unionHits, docIdToScore, listener, retryCount + 1);
+                        predictWithRetry(index, queryTextWithReference, modelId, unionHits, docIdToScore, task, listener, retryCount + 1);
                     } catch (InterruptedException ie) {
                         Thread.currentThread().interrupt();
                         listener.onFailure(
@@ -355,4 +442,16 @@ public class LlmJudgmentsProcessor implements BaseJudgmentsProcessor {
         return String.join(":", index, docId);
     }
 
+    /**
+     * Receives the judgment of a single queryText as soon as its LLM scores arrive
+     */
+    @FunctionalInterface
+    public interface QueryJudgmentListener {
+        /**
+         * @param queryTextWithReference - judged queryText
+         * @param rankedDocIds - ranked docIds of every successful judgment search, keyed by search configuration id
+         * @param docIdToScore - judgment scores of the queryText
+         */
+        void onQueryJudged(String queryTextWithReference, Map<String, List<String>> rankedDocIds, Map<String, String> docIdToScore);
+    }
 }
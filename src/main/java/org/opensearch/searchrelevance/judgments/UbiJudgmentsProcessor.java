@@ -16,6 +16,7 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.SearchRelevanceTask;
 import org.opensearch.searchrelevance.judgments.clickmodel.coec.CoecClickModel;
 import org.opensearch.searchrelevance.judgments.clickmodel.coec.CoecClickModelParameters;
 import org.opensearch.searchrelevance.model.JudgmentType;
@@ -36,7 +37,15 @@ public class UbiJudgmentsProcessor implements BaseJudgmentsProcessor {
     }
 
     @Override
-    public void generateJudgmentScore(Map<String, Object> metadata, ActionListener<Map<String, Map<String, String>>> listener) {
+    public void generateJudgmentScore(
+        Map<String, Object> metadata,
+        SearchRelevanceTask task,
+        ActionListener<Map<String, Map<String, String>>> listener
+    ) {
+        if (task.isCancelled()) {
+            listener.onFailure(task.newCancellationException());
+            return;
+        }
         String clickModel = (String) metadata.get("clickModel");
         int maxRank = (int) metadata.get("maxRank");
 
@@ -0,0 +1,238 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.search.aggregations.metrics.TDigestState;
+
+/**
+ * Streaming aggregates of the evaluation metrics of an experiment, per search configuration and metric.
+ * Every completed queryText adds its metrics, slices are merged by the coordinating node into the experiment summary,
+ * so that the summary does not need to read the evaluation results again.
+ * Mean and variance are maintained with Welford's algorithm, percentiles with a t-digest sketch.
+ */
+public class EvaluationSummary implements Writeable {
+    public static final String SEARCH_CONFIGURATION_ID = "searchConfigurationId";
+    public static final String METRICS = "metrics";
+    public static final String METRIC = "metric";
+    public static final String COUNT = "count";
+    public static final String MEAN = "mean";
+    public static final String VARIANCE = "variance";
+    public static final String MIN = "min";
+    public static final String MAX = "max";
+    public static final String P50 = "p50";
+    public static final String P90 = "p90";
+    public static final String P99 = "p99";
+
+    private static final double COMPRESSION = 100.0;
+
+    /**
+     * metric statistics keyed by search configuration id and metric name
+     */
+    private final Map<String, Map<String, MetricStats>> searchConfigurations = new LinkedHashMap<>();
+
+    public EvaluationSummary() {}
+
+    public EvaluationSummary(StreamInput in) throws IOException {
+        int searchConfigurationCount = in.readVInt();
+        for (int i = 0; i < searchConfigurationCount; i++) {
+            String searchConfigurationId = in.readString();
+            Map<String, MetricStats> metrics = new LinkedHashMap<>();
+            int metricCount = in.readVInt();
+            for (int j = 0; j < metricCount; j++) {
+                metrics.put(in.readString(), new MetricStats(in));
+            }
+            searchConfigurations.put(searchConfigurationId, metrics);
+        }
+    }
+
+    @Override
+    public synchronized void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(searchConfigurations.size());
+        for (Map.Entry<String, Map<String, MetricStats>> entry : searchConfigurations.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeVInt(entry.getValue().size());
+            for (Map.Entry<String, MetricStats> metric : entry.getValue().entrySet()) {
+                out.writeString(metric.getKey());
+                metric.getValue().writeTo(out);
+            }
+        }
+    }
+
+    /**
+     * Add the evaluation metrics of a queryText for a search configuration, metrics that are not numeric are skipped
+     * @param searchConfigurationId - evaluated search configuration
+     * @param metrics - metric name to value, as stored in the evaluation result
+     */
+    public synchronized void add(String searchConfigurationId, Map<String, String> metrics) {
+        Map<String, MetricStats> searchConfigurationMetrics = searchConfigurations.computeIfAbsent(
+            searchConfigurationId,
+            k -> new LinkedHashMap<>()
+        );
+        for (Map.Entry<String, String> metric : metrics.entrySet()) {
+            double value;
+            try {
+                value = Double.parseDouble(metric.getValue());
+            } catch (NullPointerException | NumberFormatException e) {
+                continue;
+            }
+            if (Double.isFinite(value)) {
+                searchConfigurationMetrics.computeIfAbsent(metric.getKey(), k -> new MetricStats()).add(value);
+            }
+        }
+    }
+
+    /**
+     * Merge the aggregates of another slice
+     */
+    public void merge(EvaluationSummary other) {
+        Map<String, Map<String, MetricStats>> otherSearchConfigurations = new LinkedHashMap<>();
+        synchronized (other) {
+            other.searchConfigurations.forEach((id, metrics) -> otherSearchConfigurations.put(id, new LinkedHashMap<>(metrics)));
+        }
+        synchronized (this) {
+            for (Map.Entry<String, Map<String, MetricStats>> entry : otherSearchConfigurations.entrySet()) {
+                Map<String, MetricStats> metrics = searchConfigurations.computeIfAbsent(entry.getKey(), k -> new LinkedHashMap<>());
+                entry.getValue().forEach((metric, stats) -> metrics.computeIfAbsent(metric, k -> new MetricStats()).merge(stats));
+            }
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return searchConfigurations.isEmpty();
+    }
+
+    /**
+     * Aggregates per search configuration, as stored in the experiment summary
+     * [
+     *     {
+     *         "searchConfigurationId": "${searchConfigId}",
+     *         "metrics": [
+     *             {
+     *                 "metric": "NDCG",
+     *                 "count": 100,
+     *                 "mean": 0.71,
+     *                 "variance": 0.04,
+     *                 "min": 0.12,
+     *                 "max": 1.0,
+     *                 "p50": 0.74,
+     *                 "p90": 0.95,
+     *                 "p99": 1.0
+     *             }
+     *         ]
+     *     }
+     * ]
+     * @param searchConfigurationOrder - search configurations come first in this order, the others follow in the order they were added
+     */
+    public synchronized List<Map<String, Object>> toList(List<String> searchConfigurationOrder) {
+        Map<String, Map<String, MetricStats>> ordered = new LinkedHashMap<>();
+        for (String searchConfigurationId : searchConfigurationOrder) {
+            if (searchConfigurations.containsKey(searchConfigurationId)) {
+                ordered.put(searchConfigurationId, searchConfigurations.get(searchConfigurationId));
+            }
+        }
+        searchConfigurations.forEach(ordered::putIfAbsent);
+
+        List<Map<String, Object>> summary = new ArrayList<>(ordered.size());
+        for (Map.Entry<String, Map<String, MetricStats>> entry : ordered.entrySet()) {
+            List<Map<String, Object>> metrics = new ArrayList<>(entry.getValue().size());
+            entry.getValue().forEach((metric, stats) -> metrics.add(stats.toMap(metric)));
+            Map<String, Object> searchConfigurationSummary = new LinkedHashMap<>();
+            searchConfigurationSummary.put(SEARCH_CONFIGURATION_ID, entry.getKey());
+            searchConfigurationSummary.put(METRICS, metrics);
+            summary.add(searchConfigurationSummary);
+        }
+        return summary;
+    }
+
+    /**
+     * Running statistics of a single metric
+     */
+    private static final class MetricStats {
+        private long count;
+        private double mean;
+        // sum of squared differences from the mean
+        private double m2;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+        private final TDigestState digest;
+
+        private MetricStats() {
+            this.digest = new TDigestState(COMPRESSION);
+        }
+
+        private MetricStats(StreamInput in) throws IOException {
+            this.count = in.readVLong();
+            this.mean = in.readDouble();
+            this.m2 = in.readDouble();
+            this.min = in.readDouble();
+            this.max = in.readDouble();
+            this.digest = TDigestState.read(in);
+        }
+
+        private void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeDouble(mean);
+            out.writeDouble(m2);
+            out.writeDouble(min);
+            out.writeDouble(max);
+            TDigestState.write(digest, out);
+        }
+
+        private void add(double value) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            digest.add(value);
+        }
+
+        private void merge(MetricStats other) {
+            if (other.count == 0) {
+                return;
+            }
+            long mergedCount = count + other.count;
+            double delta = other.mean - mean;
+            mean += delta * other.count / mergedCount;
+            m2 += other.m2 + delta * delta * count * other.count / mergedCount;
+            count = mergedCount;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            digest.add(other.digest);
+        }
+
+        private Map<String, Object> toMap(String metric) {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put(METRIC, metric);
+            stats.put(COUNT, count);
+            stats.put(MEAN, round(mean));
+            // population variance over the evaluated queryTexts
+            stats.put(VARIANCE, round(count > 0 ? m2 / count : 0.0));
+            stats.put(MIN, round(min));
+            stats.put(MAX, round(max));
+            stats.put(P50, round(digest.quantile(0.5)));
+            stats.put(P90, round(digest.quantile(0.9)));
+            stats.put(P99, round(digest.quantile(0.99)));
+            return stats;
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 10000.0) / 10000.0;
+        }
+    }
+}
@@ -7,37 +7,60 @@
  */
 package org.opensearch.searchrelevance.metrics;
 
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISONS_FIELD_NAME;
 import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISON_FIELD_NAME;
-import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_A;
-import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_FIELD_NAME_B;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
 import static org.opensearch.searchrelevance.metrics.EvaluationMetrics.calculateEvaluationMetrics;
 import static org.opensearch.searchrelevance.metrics.PairwiseComparisonMetrics.calculatePairwiseMetrics;
-import static org.opensearch.searchrelevance.model.builder.SearchRequestBuilder.buildSearchRequest;
+import static org.opensearch.searchrelevance.model.QueryWithReference.DELIMITER;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.hash.MessageDigests;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.search.SearchHit;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
-import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentSearchQueue;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.MetricsTaskScheduler;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.indices.SystemIndexBulkWriter;
+import org.opensearch.searchrelevance.metrics.calculator.EvaluationBatch;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.EvaluationReference;
 import org.opensearch.searchrelevance.model.EvaluationResult;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.model.JudgmentRatingTable;
+import org.opensearch.searchrelevance.model.builder.SearchConfigurationTemplate;
 import org.opensearch.searchrelevance.utils.TimeUtils;
-import org.opensearch.transport.client.Client;
 
 import reactor.util.annotation.NonNull;
 
@@ -47,62 +70,177 @@ import reactor.util.annotation.NonNull;
 public class MetricsHelper {
     private static final Logger LOGGER = LogManager.getLogger(MetricsHelper.class);
     private final ClusterService clusterService;
-    private final Client client;
-    private final JudgmentDao judgmentDao;
     private final EvaluationResultDao evaluationResultDao;
+    private final ExperimentSearchScheduler experimentSearchScheduler;
+    private final SearchResultCache searchResultCache;
+    private final MetricsTaskScheduler metricsTaskScheduler;
 
     @Inject
     public MetricsHelper(
         @NonNull ClusterService clusterService,
-        @NonNull Client client,
-        @NonNull JudgmentDao judgmentDao,
-        @NonNull EvaluationResultDao evaluationResultDao
+        @NonNull EvaluationResultDao evaluationResultDao,
+        @NonNull ExperimentSearchScheduler experimentSearchScheduler,
+        @NonNull SearchResultCache searchResultCache,
+        @NonNull MetricsTaskScheduler metricsTaskScheduler
     ) {
         this.clusterService = clusterService;
-        this.client = client;
-        this.judgmentDao = judgmentDao;
         this.evaluationResultDao = evaluationResultDao;
+        this.experimentSearchScheduler = experimentSearchScheduler;
+        this.searchResultCache = searchResultCache;
+        this.metricsTaskScheduler = metricsTaskScheduler;
     }
 
     /**
-     * Create a pairwise comparison metrics in experiment results
-     * Pairwise comparison will not read any judgment but directly comparing two docIds
+     * Create pairwise comparison metrics in experiment results for a batch of query texts
+     * Pairwise comparison will not read any judgment but directly comparing the docIds of every pair of search configurations
      * Pairwise comparison will not create evaluation results
+     * All (queryText, searchConfiguration) searches of the batch that miss the search result cache are sent as one multi-search request
+     * @param queryTexts - batch of queryTexts to be compared
+     * @param searchTemplates - compiled search configurations keyed by searchConfigId, pairs follow their order
+     * @param searchQueue - experiment search queue the searches are scheduled on
+     * @param listener - receives pairwise results per queryText, "pairwiseComparison" keeps the metrics of the first pair of
+     *                 search configurations as before, "pairwiseComparisons" holds the metrics of every pair
+     *  "results" {
+     *     "${queryText}": {
+     *         "${searchConfigId}": ["${docId}"],
+     *         "pairwiseComparison": {
+     *             "jaccard": 0.33,
+     *             ...
+     *         },
+     *         "pairwiseComparisons": [
+     *             {
+     *                 "searchConfigurationA": "${searchConfigIdA}",
+     *                 "searchConfigurationB": "${searchConfigIdB}",
+     *                 "jaccard": 0.33,
+     *                 ...
+     *             }
+     *         ]
+     *     }
+     *  }
      */
     public void processPairwiseMetrics(
-        String queryText,
-        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        Map<String, SearchConfigurationTemplate> searchTemplates,
         int size,
-        ActionListener<Map<String, Object>> listener
+        ExperimentSearchQueue searchQueue,
+        ActionListener<Map<String, Map<String, Object>>> listener
     ) {
-        Map<String, List<String>> searchConfigToDocIds = Collections.synchronizedMap(new HashMap<>());
-        AtomicBoolean hasFailure = new AtomicBoolean(false);
-        AtomicInteger pendingSearches = new AtomicInteger(indexAndQueries.size());
-
-        for (Map.Entry<String, List<String>> entry : indexAndQueries.entrySet()) {
-            String searchConfigId = entry.getKey();
-            String index = entry.getValue().get(0);
-            String query = entry.getValue().get(1);
+        List<SearchTarget> targets = buildSearchTargets(queryTexts, searchTemplates);
+        List<SearchRequest> searchRequests = targets.stream()
+            .map(target -> withSearchTimeout(target.template.buildSearchRequest(target.searchText, size, true), searchQueue))
+            .collect(Collectors.toList());
+
+        Set<String> indices = targets.stream().map(target -> target.template.index()).collect(Collectors.toSet());
+        StepListener<List<List<String>>> searchStep = new StepListener<>();
+        searchResultCache.resolveGenerations(
+            indices,
+            ActionListener.wrap(
+                generations -> searchDocIds(
+                    targets,
+                    searchRequests,
+                    Collections.emptyMap(),
+                    generations,
+                    searchQueue,
+                    new BitSet(),
+                    searchStep
+                ),
+                listener::onFailure
+            )
+        );
+        searchStep.whenComplete(targetDocIds -> {
+            // every ranked list is deduplicated once and shared by all pairs it takes part in
+            Map<String, Map<String, List<String>>> queryToSearchConfigDocIds = new HashMap<>();
+            for (int i = 0; i < targetDocIds.size(); i++) {
+                SearchTarget target = targets.get(i);
+                List<String> docIds = targetDocIds.get(i).stream().distinct().collect(Collectors.toList());
+                queryToSearchConfigDocIds.computeIfAbsent(target.queryText, k -> new LinkedHashMap<>())
+                    .put(target.searchConfigurationId, docIds);
+            }
+            comparePairs(
+                queryTexts,
+                new ArrayList<>(searchTemplates.keySet()),
+                queryToSearchConfigDocIds,
+                searchQueue.getPriority(),
+                listener
+            );
+        }, listener::onFailure);
+    }
 
-            SearchRequest searchRequest = buildSearchRequest(index, query, queryText, null, size);
+    /**
+     * Compare every pair of search configurations on the metrics thread pool, one task per pair covers all queryTexts of the batch,
+     * the tasks are scheduled with the priority of the experiment
+     */
+    private void comparePairs(
+        List<String> queryTexts,
+        List<String> searchConfigIds,
+        Map<String, Map<String, List<String>>> queryToSearchConfigDocIds,
+        ExperimentPriority priority,
+        ActionListener<Map<String, Map<String, Object>>> listener
+    ) {
+        List<String[]> pairs = new ArrayList<>();
+        for (int a = 0; a < searchConfigIds.size(); a++) {
+            for (int b = a + 1; b < searchConfigIds.size(); b++) {
+                pairs.add(new String[] { searchConfigIds.get(a), searchConfigIds.get(b) });
+            }
+        }
+        // metrics of pair p and queryText q at p * queryTexts.size() + q
+        AtomicReferenceArray<Map<String, Double>> pairMetrics = new AtomicReferenceArray<>(pairs.size() * queryTexts.size());
+        Runnable onPairsCompared = () -> {
+            Map<String, Map<String, Object>> results = new HashMap<>();
+            for (int q = 0; q < queryTexts.size(); q++) {
+                Map<String, List<String>> searchConfigToDocIds = queryToSearchConfigDocIds.getOrDefault(
+                    queryTexts.get(q),
+                    Collections.emptyMap()
+                );
+                Map<String, Object> queryResults = new LinkedHashMap<>(searchConfigToDocIds);
+                List<Map<String, Object>> pairwiseResults = new ArrayList<>(pairs.size());
+                for (int p = 0; p < pairs.size(); p++) {
+                    Map<String, Double> metrics = pairMetrics.get(p * queryTexts.size() + q);
+                    if (metrics != null) {
+                        Map<String, Object> pairResult = new LinkedHashMap<>();
+                        pairResult.put(PAIRWISE_SEARCH_CONFIGURATION_A, pairs.get(p)[0]);
+                        pairResult.put(PAIRWISE_SEARCH_CONFIGURATION_B, pairs.get(p)[1]);
+                        pairResult.putAll(metrics);
+                        pairwiseResults.add(pairResult);
+                    }
+                }
+                // the metrics of the first pair keep the shape of experiments that only compared two search configurations
+                Map<String, Double> firstPairMetrics = pairs.isEmpty() ? null : pairMetrics.get(q);
+                queryResults.put(
+                    METRICS_PAIRWISE_COMPARISON_FIELD_NAME,
+                    firstPairMetrics == null ? Collections.emptyMap() : new LinkedHashMap<>(firstPairMetrics)
+                );
+                queryResults.put(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME, pairwiseResults);
+                results.put(queryTexts.get(q), queryResults);
+            }
+            listener.onResponse(results);
+        };
+        if (pairs.isEmpty()) {
+            onPairsCompared.run();
+            return;
+        }
 
-            client.search(searchRequest, new ActionListener<SearchResponse>() {
+        AtomicInteger pendingPairs = new AtomicInteger(pairs.size());
+        AtomicBoolean hasFailure = new AtomicBoolean(false);
+        for (int p = 0; p < pairs.size(); p++) {
+            final int pairPosition = p;
+            metricsTaskScheduler.execute(priority, new AbstractRunnable() {
                 @Override
-                public void onResponse(SearchResponse response) {
-                    if (hasFailure.get()) return;
-
-                    try {
-                        List<String> docIds = Arrays.stream(response.getHits().getHits())
-                            .map(SearchHit::getId)
-                            .distinct()
-                            .collect(Collectors.toList());
-
-                        searchConfigToDocIds.put(searchConfigId, docIds);
-                        if (pendingSearches.decrementAndGet() == 0) {
-                            createPairwiseResults(searchConfigToDocIds, listener);
+                protected void doRun() {
+                    String[] pair = pairs.get(pairPosition);
+                    for (int q = 0; q < queryTexts.size(); q++) {
+                        Map<String, List<String>> searchConfigToDocIds = queryToSearchConfigDocIds.getOrDefault(
+                            queryTexts.get(q),
+                            Collections.emptyMap()
+                        );
+                        List<String> docIdsA = searchConfigToDocIds.get(pair[0]);
+                        List<String> docIdsB = searchConfigToDocIds.get(pair[1]);
+                        if (docIdsA != null && docIdsB != null) {
+                            pairMetrics.set(pairPosition * queryTexts.size() + q, calculatePairwiseMetrics(docIdsA, docIdsB));
                         }
-                    } catch (Exception e) {
-                        handleFailure(e, hasFailure, listener);
+                    }
+                    if (pendingPairs.decrementAndGet() == 0 && !hasFailure.get()) {
+                        onPairsCompared.run();
                     }
                 }
 
@@ -114,227 +252,329 @@ public class MetricsHelper {
         }
     }
 
-    private void createPairwiseResults(Map<String, List<String>> searchConfigToDocIds, ActionListener<Map<String, Object>> listener) {
-        try {
-            Map<String, Object> results = new HashMap<>();
-
-            if (searchConfigToDocIds == null || searchConfigToDocIds.isEmpty()) {
-                results.put(METRICS_PAIRWISE_COMPARISON_FIELD_NAME, Collections.emptyMap());
-                listener.onResponse(results);
-                return;
-            }
-            // Add doc IDs for each search configuration
-            searchConfigToDocIds.forEach((configId, docIds) -> results.put(configId, docIds != null ? docIds : Collections.emptyList()));
-
-            // Prepare input for pairwise calculation
-            Map<String, List<String>> pairwiseInput = new HashMap<>();
-            List<String> configIds = new ArrayList<>(searchConfigToDocIds.keySet());
-
-            if (configIds.size() >= 2) {
-                pairwiseInput.put(PAIRWISE_FIELD_NAME_A, searchConfigToDocIds.get(configIds.get(0)));
-                pairwiseInput.put(PAIRWISE_FIELD_NAME_B, searchConfigToDocIds.get(configIds.get(1)));
-            }
-
-            // Calculate and add pairwise metrics
-            results.put(METRICS_PAIRWISE_COMPARISON_FIELD_NAME, calculatePairwiseMetrics(pairwiseInput));
-
-            listener.onResponse(results);
-        } catch (Exception e) {
-            listener.onFailure(e);
-        }
-    }
-
-    private void handleFailure(Exception error, AtomicBoolean hasFailure, ActionListener<?> listener) {
-        if (hasFailure.compareAndSet(false, true)) {
-            listener.onFailure(error);
-        }
-    }
-
     /**
-     * Create evaluation results for provided queryText
-     * @param queryText - queryText to be evaluated against
-     * @param indexAndQueries - "${searchConfigId}" to ["$index", "$queryPattern"] map
-     * And will add evaluationId back to experiment results
+     * Create evaluation results for a batch of queryTexts
+     * All (queryText, searchConfiguration) searches of the batch that miss the search result cache are sent as one multi-search request
+     * Every evaluation is fingerprinted with the search configuration version, the evaluated metrics, the judgment ids, the
+     * judgment ratings of the queryText and the generation of the searched index, evaluations of a previous run with the same
+     * fingerprint are carried over without searching
+     * @param queryTexts - batch of queryTexts to be evaluated against
+     * @param searchTemplates - compiled search configurations keyed by searchConfigId
+     * @param metricSpecs - metrics and cutoffs to evaluate, the built-in metrics are computed in one pass over every ranked list,
+     *                    registered metrics evaluate the ranked lists of all searched targets as one batch
+     * @param judgmentIds - judgment ids the rating table is loaded from
+     * @param ratingTable - experiment level judgment ratings preloaded from all judgmentIds
+     * @param searchQueue - experiment search queue the searches are scheduled on
+     * @param evaluationResultWriter - experiment writer the evaluation results are buffered in
+     * @param rankedDocIds - ranked docIds per queryText and searchConfigId of searches that already ran, e.g. the searches of
+     *                     the llm judgment, only the missing searches are executed
+     * @param previousEvaluations - evaluation references per queryText and searchConfigId of a previous run
+     * @param listener - receives the evaluation references per queryText, to be added back to experiment results
      *  "results" {
      *     "${queryText}": {
-     *         "${searchConfigId}": "${evaluationId}"
+     *         "${searchConfigId}": {"evaluationId", "fingerprint", "metrics"}
      *     }
      *  }
      */
     public void processEvaluationMetrics(
-        String queryText,
-        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        Map<String, SearchConfigurationTemplate> searchTemplates,
         int size,
+        List<MetricSpec> metricSpecs,
         List<String> judgmentIds,
-        ActionListener<Map<String, String>> listener
+        JudgmentRatingTable ratingTable,
+        ExperimentSearchQueue searchQueue,
+        SystemIndexBulkWriter evaluationResultWriter,
+        Map<String, Map<String, List<String>>> rankedDocIds,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        ActionListener<Map<String, Map<String, EvaluationReference>>> listener
     ) {
-        if (indexAndQueries.isEmpty() || judgmentIds.isEmpty()) {
+        if (searchTemplates.isEmpty() || judgmentIds.isEmpty()) {
             listener.onFailure(new IllegalArgumentException("Missing required parameters"));
             return;
         }
 
-        try {
-            Map<String, String> configToEvalIds = new HashMap<>();
-            Map<String, String> docIdToScores = new HashMap<>();
-            AtomicInteger completedJudgments = new AtomicInteger(0);
+        Map<String, Map<String, EvaluationReference>> queryToConfigEvaluations = new HashMap<>();
+        for (String queryText : queryTexts) {
+            queryToConfigEvaluations.put(queryText, Collections.synchronizedMap(new HashMap<>()));
+            if (ratingTable.getRatings(queryText).isEmpty()) {
+                LOGGER.warn("No scores found for query: {} in any judgments", queryText);
+            }
+        }
 
-            for (String judgmentId : judgmentIds) {
-                judgmentDao.getJudgment(judgmentId, new ActionListener<SearchResponse>() {
-                    @Override
-                    public void onResponse(SearchResponse judgmentResponse) {
-                        try {
-                            if (judgmentResponse.getHits().getTotalHits().value() == 0) {
-                                LOGGER.warn("No judgment found for ID: {}", judgmentId);
-                            } else {
-                                Map<String, Object> sourceAsMap = judgmentResponse.getHits().getHits()[0].getSourceAsMap();
-                                Map<String, Object> judgmentScores = (Map<String, Object>) sourceAsMap.getOrDefault(
-                                    "judgmentScores",
-                                    Collections.emptyMap()
-                                );
-                                List<Map<String, Object>> queryScores = (List<Map<String, Object>>) judgmentScores.getOrDefault(
-                                    queryText,
-                                    Collections.emptyList()
-                                );
+        List<SearchTarget> targets = buildSearchTargets(queryTexts, searchTemplates);
+        Set<String> indices = targets.stream().map(target -> target.template.index()).collect(Collectors.toSet());
+        searchResultCache.resolveIndexGenerations(indices, ActionListener.wrap(generations -> {
+            List<SearchTarget> evaluatedTargets = new ArrayList<>(targets.size());
+            List<String> fingerprints = new ArrayList<>(targets.size());
+            List<SearchRequest> searchRequests = new ArrayList<>(targets.size());
+            for (SearchTarget target : targets) {
+                String fingerprint = evaluationFingerprint(
+                    target,
+                    size,
+                    metricSpecs,
+                    judgmentIds,
+                    generations.get(target.template.index()),
+                    ratingTable.getRatings(target.queryText)
+                );
+                EvaluationReference previousEvaluation = previousEvaluations.getOrDefault(target.queryText, Collections.emptyMap())
+                    .get(target.searchConfigurationId);
+                if (fingerprint != null && previousEvaluation != null && fingerprint.equals(previousEvaluation.fingerprint())) {
+                    // unchanged evaluations are carried over by reference
+                    queryToConfigEvaluations.get(target.queryText).put(target.searchConfigurationId, previousEvaluation);
+                    continue;
+                }
+                LOGGER.debug(
+                    "Configuration {}: index: {}, searchPipeline: {}, queryText: {}",
+                    target.searchConfigurationId,
+                    target.template.index(),
+                    target.template.searchPipeline(),
+                    target.queryText
+                );
+                evaluatedTargets.add(target);
+                fingerprints.add(fingerprint);
+                searchRequests.add(withSearchTimeout(target.template.buildSearchRequest(target.searchText, size, true), searchQueue));
+            }
+            if (evaluatedTargets.isEmpty()) {
+                listener.onResponse(queryToConfigEvaluations);
+                return;
+            }
 
-                                queryScores.forEach(
-                                    docScore -> docIdToScores.put((String) docScore.get("docId"), (String) docScore.get("score"))
-                                );
+            // evaluations of timed out searches are not fingerprinted, a re-run evaluates them again
+            BitSet timedOutTargets = new BitSet();
+            StepListener<List<List<String>>> searchStep = new StepListener<>();
+            searchDocIds(evaluatedTargets, searchRequests, rankedDocIds, generations, searchQueue, timedOutTargets, searchStep);
+            searchStep.whenComplete(targetDocIds -> {
+                // the ranked lists of all searched targets are evaluated as one batch
+                List<List<String>> batchDocIds = new ArrayList<>(targetDocIds.size());
+                List<Map<String, Double>> batchJudgments = new ArrayList<>(targetDocIds.size());
+                for (int i = 0; i < targetDocIds.size(); i++) {
+                    if (!targetDocIds.get(i).isEmpty()) {
+                        batchDocIds.add(targetDocIds.get(i));
+                        batchJudgments.add(ratingTable.getRatings(evaluatedTargets.get(i).queryText));
+                    }
+                }
+                Iterator<Map<String, String>> batchMetrics = calculateEvaluationMetrics(
+                    new EvaluationBatch(batchDocIds, batchJudgments),
+                    metricSpecs
+                ).iterator();
+
+                AtomicInteger pendingResults = new AtomicInteger(targetDocIds.size());
+                AtomicBoolean hasFailure = new AtomicBoolean(false);
+                for (int i = 0; i < targetDocIds.size() && !hasFailure.get(); i++) {
+                    SearchTarget target = evaluatedTargets.get(i);
+                    processSearchResponse(
+                        target,
+                        targetDocIds.get(i),
+                        timedOutTargets.get(i) ? null : fingerprints.get(i),
+                        targetDocIds.get(i).isEmpty() ? null : batchMetrics.next(),
+                        judgmentIds,
+                        queryToConfigEvaluations.get(target.queryText),
+                        evaluationResultWriter,
+                        ActionListener.wrap(v -> {
+                            if (pendingResults.decrementAndGet() == 0 && !hasFailure.get()) {
+                                listener.onResponse(queryToConfigEvaluations);
                             }
+                        }, e -> handleFailure(e, hasFailure, listener))
+                    );
+                }
+            }, listener::onFailure);
+        }, listener::onFailure));
+    }
 
-                            // Check if all judgments have been processed
-                            if (completedJudgments.incrementAndGet() == judgmentIds.size()) {
-                                if (docIdToScores.isEmpty()) {
-                                    LOGGER.warn("No scores found for query: {} in any judgments", queryText);
-                                }
+    private void processSearchResponse(
+        SearchTarget target,
+        List<String> docIds,
+        String fingerprint,
+        Map<String, String> metrics,
+        List<String> judgmentIds,
+        Map<String, EvaluationReference> configToEvaluations,
+        SystemIndexBulkWriter evaluationResultWriter,
+        ActionListener<Void> listener
+    ) {
+        try {
+            if (docIds.isEmpty()) {
+                LOGGER.warn("No hits found for search config: {} and query: {}", target.searchConfigurationId, target.queryText);
+                listener.onResponse(null);
+                return;
+            }
 
-                                processSearchConfigurations(
-                                    queryText,
-                                    indexAndQueries,
-                                    size,
-                                    judgmentIds,
-                                    docIdToScores,
-                                    configToEvalIds,
-                                    listener
-                                );
-                            }
-                        } catch (Exception e) {
-                            listener.onFailure(e);
-                        }
-                    }
+            final String evaluationId = UUID.randomUUID().toString();
+            EvaluationResult evaluationResult = new EvaluationResult(
+                evaluationId,
+                TimeUtils.getTimestamp(),
+                target.searchConfigurationId,
+                target.queryText,
+                judgmentIds,
+                docIds,
+                metrics,
+                fingerprint
+            );
 
-                    @Override
-                    public void onFailure(Exception e) {
-                        LOGGER.error("Failed to fetch judgment {}: {}", judgmentId, e);
-                        if (completedJudgments.incrementAndGet() == judgmentIds.size()) {
-                            if (docIdToScores.isEmpty()) {
-                                listener.onFailure(new IllegalStateException("Failed to fetch any valid judgments"));
-                            } else {
-                                // Proceed with the judgments we were able to fetch
-                                processSearchConfigurations(
-                                    queryText,
-                                    indexAndQueries,
-                                    size,
-                                    judgmentIds,
-                                    docIdToScores,
-                                    configToEvalIds,
-                                    listener
-                                );
-                            }
-                        }
-                    }
-                });
-            }
+            evaluationResultWriter.add(evaluationId, evaluationResult, ActionListener.wrap(success -> {
+                configToEvaluations.put(target.searchConfigurationId, new EvaluationReference(evaluationId, fingerprint, metrics));
+                listener.onResponse(null);
+            }, listener::onFailure));
         } catch (Exception e) {
-            LOGGER.error("Unexpected error in evaluateQueryTextAsync: {}", e.getMessage());
             listener.onFailure(e);
         }
     }
 
-    private void processSearchConfigurations(
-        String queryText,
-        Map<String, List<String>> indexAndQueries,
+    /**
+     * Fingerprint of the evaluation of a search target, null if the generation of the searched index is unknown.
+     * The judgment ids are part of the fingerprint, so that a carried over evaluation result always names the judgments it
+     * was evaluated against.
+     */
+    private static String evaluationFingerprint(
+        SearchTarget target,
         int size,
+        List<MetricSpec> metricSpecs,
         List<String> judgmentIds,
-        Map<String, String> docIdToScores,
-        Map<String, String> configToEvalIds,
-        ActionListener<Map<String, String>> listener
+        String generation,
+        Map<String, Double> ratings
     ) {
-        AtomicInteger pendingConfigurations = new AtomicInteger(indexAndQueries.size());
-        AtomicBoolean hasFailure = new AtomicBoolean(false);
+        if (generation == null) {
+            return null;
+        }
+        StringBuilder definition = new StringBuilder().append(target.template.version())
+            .append('\n')
+            .append(size)
+            .append('\n')
+            .append(generation);
+        // the default metrics are left out, so that evaluations fingerprinted before metrics were configurable still match
+        if (!MetricSpec.DEFAULT_METRICS.equals(metricSpecs)) {
+            definition.append('\n').append(MetricSpec.toStrings(metricSpecs));
+        }
+        definition.append('\n').append(new TreeSet<>(judgmentIds));
+        new TreeMap<>(ratings).forEach((docId, score) -> definition.append('\n').append(docId).append('=').append(score));
+        return MessageDigests.toHexString(MessageDigests.sha256().digest(definition.toString().getBytes(StandardCharsets.UTF_8)));
+    }
 
-        if (indexAndQueries.isEmpty()) {
-            listener.onResponse(configToEvalIds);
+    /**
+     * Ranked doc ids of every search target, in the order of the targets.
+     * Targets whose ranked doc ids are handed in are not searched again.
+     * Searches of unchanged indices are served from the node search result cache,
+     * only the remaining searches are scheduled on the experiment search queue and their results are cached.
+     * @param generations - generation per index expression, searches of indices without generation bypass the cache
+     * @param timedOutTargets - receives the positions of the targets whose search timed out, their partial hits are not cached
+     */
+    private void searchDocIds(
+        List<SearchTarget> targets,
+        List<SearchRequest> searchRequests,
+        Map<String, Map<String, List<String>>> rankedDocIds,
+        Map<String, String> generations,
+        ExperimentSearchQueue searchQueue,
+        BitSet timedOutTargets,
+        ActionListener<List<List<String>>> listener
+    ) {
+        List<List<String>> targetDocIds = new ArrayList<>(Collections.nCopies(targets.size(), null));
+        List<Integer> searchPositions = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            SearchTarget target = targets.get(i);
+            List<String> handedDocIds = rankedDocIds.getOrDefault(target.queryText, Collections.emptyMap())
+                .get(target.searchConfigurationId);
+            if (handedDocIds == null) {
+                searchPositions.add(i);
+            } else {
+                targetDocIds.set(i, handedDocIds);
+            }
+        }
+        if (searchPositions.isEmpty()) {
+            listener.onResponse(targetDocIds);
             return;
         }
 
-        for (String searchConfigurationId : indexAndQueries.keySet()) {
-            if (hasFailure.get()) {
-                return;
+        String[] cacheKeys = new String[targets.size()];
+        List<Integer> missedPositions = new ArrayList<>();
+        for (int i : searchPositions) {
+            cacheKeys[i] = searchResultCache.key(searchRequests.get(i), generations.get(targets.get(i).template.index()));
+            List<String> cachedDocIds = searchResultCache.get(cacheKeys[i]);
+            if (cachedDocIds == null) {
+                missedPositions.add(i);
+            } else {
+                targetDocIds.set(i, cachedDocIds);
             }
+        }
 
-            final String evaluationId = UUID.randomUUID().toString();
-            String index = indexAndQueries.get(searchConfigurationId).get(0);
-            String query = indexAndQueries.get(searchConfigurationId).get(1);
-            String searchPipeline = indexAndQueries.get(searchConfigurationId).get(2);
-            LOGGER.debug(
-                "Configuration {}: index: {}, query: {}, searchPipeline: {}, evaluationId: {}",
-                searchConfigurationId,
-                index,
-                query,
-                searchPipeline,
-                evaluationId
-            );
-
-            SearchRequest searchRequest = buildSearchRequest(index, query, queryText, searchPipeline, size);
-            client.search(searchRequest, new ActionListener<SearchResponse>() {
-                @Override
-                public void onResponse(SearchResponse response) {
-                    if (hasFailure.get()) return;
+        List<SearchRequest> missedRequests = missedPositions.stream().map(searchRequests::get).collect(Collectors.toList());
+        experimentSearchScheduler.multiSearch(searchQueue, missedRequests, ActionListener.wrap(items -> {
+            for (int i = 0; i < items.length; i++) {
+                int position = missedPositions.get(i);
+                if (items[i].isFailure()) {
+                    listener.onFailure(searchFailure(targets.get(position), items[i].getFailure()));
+                    return;
+                }
+                SearchResponse response = items[i].getResponse();
+                List<String> docIds = Arrays.stream(response.getHits().getHits()).map(SearchHit::getId).collect(Collectors.toList());
+                if (response.isTimedOut()) {
+                    // partial hits are used for this evaluation only
+                    timedOutTargets.set(position);
+                } else {
+                    searchResultCache.put(cacheKeys[position], response, docIds);
+                }
+                targetDocIds.set(position, docIds);
+            }
+            listener.onResponse(targetDocIds);
+        }, listener::onFailure));
+    }
 
-                    try {
-                        if (response.getHits().getTotalHits().value() == 0) {
-                            LOGGER.warn("No hits found for search config: {}", searchConfigurationId);
-                            if (pendingConfigurations.decrementAndGet() == 0) {
-                                listener.onResponse(configToEvalIds);
-                            }
-                            return;
-                        }
+    /**
+     * Searches of an experiment with a search timeout return the hits collected until the timeout expired
+     */
+    private static SearchRequest withSearchTimeout(SearchRequest searchRequest, ExperimentSearchQueue searchQueue) {
+        if (searchQueue.getSearchTimeout() != null) {
+            searchRequest.source().timeout(searchQueue.getSearchTimeout());
+        }
+        return searchRequest;
+    }
 
-                        SearchHit[] hits = response.getHits().getHits();
-                        List<String> docIds = Arrays.stream(hits).map(SearchHit::getId).collect(Collectors.toList());
+    private void handleFailure(Exception error, AtomicBoolean hasFailure, ActionListener<?> listener) {
+        if (hasFailure.compareAndSet(false, true)) {
+            listener.onFailure(error);
+        }
+    }
 
-                        Map<String, String> metrics = calculateEvaluationMetrics(docIds, docIdToScores);
-                        EvaluationResult evaluationResult = new EvaluationResult(
-                            evaluationId,
-                            TimeUtils.getTimestamp(),
-                            searchConfigurationId,
-                            queryText,
-                            judgmentIds,
-                            docIds,
-                            metrics
-                        );
+    /**
+     * Build one search target per (queryText, searchConfiguration) pair, in the order of the multi-search items
+     */
+    private List<SearchTarget> buildSearchTargets(List<String> queryTexts, Map<String, SearchConfigurationTemplate> searchTemplates) {
+        List<SearchTarget> targets = new ArrayList<>(queryTexts.size() * searchTemplates.size());
+        for (String queryText : queryTexts) {
+            for (Map.Entry<String, SearchConfigurationTemplate> entry : searchTemplates.entrySet()) {
+                targets.add(new SearchTarget(queryText, entry.getKey(), entry.getValue()));
+            }
+        }
+        return targets;
+    }
 
-                        evaluationResultDao.putEvaluationResult(evaluationResult, ActionListener.wrap(success -> {
-                            configToEvalIds.put(searchConfigurationId, evaluationId);
-                            if (pendingConfigurations.decrementAndGet() == 0) {
-                                listener.onResponse(configToEvalIds);
-                            }
-                        }, error -> {
-                            hasFailure.set(true);
-                            listener.onFailure(error);
-                        }));
-                    } catch (Exception e) {
-                        hasFailure.set(true);
-                        listener.onFailure(e);
-                    }
-                }
+    private SearchRelevanceException searchFailure(SearchTarget target, Exception cause) {
+        return new SearchRelevanceException(
+            "Search failed for query [" + target.queryText + "] and search configuration [" + target.searchConfigurationId + "]",
+            cause,
+            ExceptionsHelper.status(cause)
+        );
+    }
 
-                @Override
-                public void onFailure(Exception e) {
-                    hasFailure.set(true);
-                    listener.onFailure(e);
-                }
-            });
+    /**
+     * A single (queryText, searchConfiguration) search of a batch
+     */
+    private static final class SearchTarget {
+        /**
+         * query set entry, {queryText}#{referenceAnswer} for query sets with reference answers, results are keyed by it
+         */
+        private final String queryText;
+        /**
+         * query text without its reference answer, as searched
+         */
+        private final String searchText;
+        private final String searchConfigurationId;
+        private final SearchConfigurationTemplate template;
+
+        private SearchTarget(String queryText, String searchConfigurationId, SearchConfigurationTemplate template) {
+            this.queryText = queryText;
+            this.searchText = queryText.split(DELIMITER, 2)[0];
+            this.searchConfigurationId = searchConfigurationId;
+            this.template = template;
         }
     }
 }
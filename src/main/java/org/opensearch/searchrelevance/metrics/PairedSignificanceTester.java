@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_QUERY_COUNT;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.executors.MetricsTaskScheduler;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+
+/**
+ * Paired significance tests of the evaluation metrics of every pair of search configurations of an experiment.
+ * For every pair and metric the per queryText differences B - A are tested with a paired bootstrap, which also gives the
+ * confidence interval of the mean difference, and with a randomization test that flips the sign of the differences.
+ * The resamples of every comparison are split into chunks that are forked on the metrics thread pool with the priority of the
+ * experiment and joined once all chunks completed, every chunk works on primitive arrays with its own deterministic random generator.
+ */
+public class PairedSignificanceTester {
+    public static final String METRIC = "metric";
+    public static final String MEAN_DIFFERENCE = "meanDifference";
+    public static final String CONFIDENCE_INTERVAL_LOWER = "confidenceIntervalLower";
+    public static final String CONFIDENCE_INTERVAL_UPPER = "confidenceIntervalUpper";
+    public static final String BOOTSTRAP_P_VALUE = "bootstrapPValue";
+    public static final String PERMUTATION_P_VALUE = "permutationPValue";
+
+    static final double CONFIDENCE_LEVEL = 0.95;
+    private static final int MIN_RESAMPLES_PER_CHUNK = 1000;
+
+    private final MetricsTaskScheduler metricsTaskScheduler;
+
+    public PairedSignificanceTester(MetricsTaskScheduler metricsTaskScheduler) {
+        this.metricsTaskScheduler = metricsTaskScheduler;
+    }
+
+    /**
+     * Test every pair of search configurations on every metric they share
+     * @param evaluations - evaluation references per queryText and searchConfigId, only their metrics are read
+     * @param searchConfigurationIds - search configurations in the order of the experiment, A always precedes B
+     * @param resamples - number of bootstrap resamples and of random sign flips
+     * @param seed - seed of the random generators, the same seed gives the same results
+     * @param priority - priority class of the experiment, the chunks are scheduled with it
+     * @param listener - receives one entry per pair and metric
+     * [
+     *     {
+     *         "searchConfigurationA": "${searchConfigIdA}",
+     *         "searchConfigurationB": "${searchConfigIdB}",
+     *         "metric": "NDCG",
+     *         "queryCount": 100,
+     *         "meanDifference": 0.04,
+     *         "confidenceIntervalLower": 0.01,
+     *         "confidenceIntervalUpper": 0.07,
+     *         "bootstrapPValue": 0.012,
+     *         "permutationPValue": 0.015
+     *     }
+     * ]
+     */
+    public void test(
+        Map<String, Map<String, EvaluationReference>> evaluations,
+        List<String> searchConfigurationIds,
+        int resamples,
+        long seed,
+        ExperimentPriority priority,
+        ActionListener<List<Map<String, Object>>> listener
+    ) {
+        List<Comparison> comparisons = pairedDifferences(evaluations, searchConfigurationIds);
+        if (comparisons.isEmpty() || resamples <= 0) {
+            listener.onResponse(List.of());
+            return;
+        }
+
+        int chunksPerComparison = Math.max(
+            1,
+            Math.min(metricsTaskScheduler.getConcurrency(), resamples / MIN_RESAMPLES_PER_CHUNK)
+        );
+        AtomicInteger pendingChunks = new AtomicInteger(comparisons.size() * chunksPerComparison);
+        AtomicBoolean hasFailure = new AtomicBoolean(false);
+        for (int c = 0; c < comparisons.size(); c++) {
+            Comparison comparison = comparisons.get(c);
+            comparison.resample(resamples, chunksPerComparison);
+            for (int chunk = 0; chunk < chunksPerComparison; chunk++) {
+                int from = (int) ((long) resamples * chunk / chunksPerComparison);
+                int to = (int) ((long) resamples * (chunk + 1) / chunksPerComparison);
+                SplittableRandom random = new SplittableRandom(mix(seed, c, chunk));
+                int chunkPosition = chunk;
+                metricsTaskScheduler.execute(priority, new AbstractRunnable() {
+                    @Override
+                    protected void doRun() {
+                        comparison.bootstrap(from, to, random);
+                        comparison.permute(chunkPosition, to - from, random);
+                        // the last chunk joins all comparisons, the atomic decrement publishes the results of the other chunks
+                        if (pendingChunks.decrementAndGet() == 0 && !hasFailure.get()) {
+                            List<Map<String, Object>> results = new ArrayList<>(comparisons.size());
+                            for (Comparison completed : comparisons) {
+                                results.add(completed.toMap());
+                            }
+                            listener.onResponse(results);
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        if (hasFailure.compareAndSet(false, true)) {
+                            listener.onFailure(e);
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Per queryText differences of every pair and metric, queryTexts without a finite value for both search configurations
+     * are left out of the comparison
+     */
+    static List<Comparison> pairedDifferences(
+        Map<String, Map<String, EvaluationReference>> evaluations,
+        List<String> searchConfigurationIds
+    ) {
+        // sorted so that the resamples do not depend on the order the evaluations were loaded in
+        Map<String, Map<String, EvaluationReference>> sortedEvaluations = new TreeMap<>(evaluations);
+        List<Comparison> comparisons = new ArrayList<>();
+        for (int a = 0; a < searchConfigurationIds.size(); a++) {
+            for (int b = a + 1; b < searchConfigurationIds.size(); b++) {
+                String searchConfigurationA = searchConfigurationIds.get(a);
+                String searchConfigurationB = searchConfigurationIds.get(b);
+                Set<String> metrics = new LinkedHashSet<>();
+                for (Map<String, EvaluationReference> queryEvaluations : sortedEvaluations.values()) {
+                    if (queryEvaluations.containsKey(searchConfigurationA) && queryEvaluations.containsKey(searchConfigurationB)) {
+                        metrics.addAll(queryEvaluations.get(searchConfigurationA).metrics().keySet());
+                    }
+                }
+                for (String metric : metrics) {
+                    double[] differences = new double[sortedEvaluations.size()];
+                    int queryCount = 0;
+                    for (Map<String, EvaluationReference> queryEvaluations : sortedEvaluations.values()) {
+                        double valueA = metricValue(queryEvaluations.get(searchConfigurationA), metric);
+                        double valueB = metricValue(queryEvaluations.get(searchConfigurationB), metric);
+                        if (Double.isFinite(valueA) && Double.isFinite(valueB)) {
+                            differences[queryCount++] = valueB - valueA;
+                        }
+                    }
+                    // a single difference has no sampling distribution
+                    if (queryCount > 1) {
+                        comparisons.add(
+                            new Comparison(searchConfigurationA, searchConfigurationB, metric, Arrays.copyOf(differences, queryCount))
+                        );
+                    }
+                }
+            }
+        }
+        return comparisons;
+    }
+
+    private static double metricValue(EvaluationReference evaluation, String metric) {
+        if (evaluation == null || evaluation.metrics().get(metric) == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(evaluation.metrics().get(metric));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static long mix(long seed, int comparison, int chunk) {
+        return seed * 31L * 31L + comparison * 31L + chunk;
+    }
+
+    /**
+     * Resampling state of a single pair and metric
+     */
+    static final class Comparison {
+        private final String searchConfigurationA;
+        private final String searchConfigurationB;
+        private final String metric;
+        private final double[] differences;
+        private final double observedSum;
+        /**
+         * mean difference of every bootstrap resample, every chunk fills its own range
+         */
+        private double[] bootstrapMeans;
+        /**
+         * number of sign flips per chunk whose absolute sum is at least the observed one
+         */
+        private long[] permutationExtremes;
+
+        Comparison(String searchConfigurationA, String searchConfigurationB, String metric, double[] differences) {
+            this.searchConfigurationA = searchConfigurationA;
+            this.searchConfigurationB = searchConfigurationB;
+            this.metric = metric;
+            this.differences = differences;
+            double sum = 0.0;
+            for (double difference : differences) {
+                sum += difference;
+            }
+            this.observedSum = sum;
+        }
+
+        void resample(int resamples, int chunks) {
+            this.bootstrapMeans = new double[resamples];
+            this.permutationExtremes = new long[chunks];
+        }
+
+        void bootstrap(int from, int to, SplittableRandom random) {
+            int n = differences.length;
+            for (int r = from; r < to; r++) {
+                double sum = 0.0;
+                for (int i = 0; i < n; i++) {
+                    sum += differences[random.nextInt(n)];
+                }
+                bootstrapMeans[r] = sum / n;
+            }
+        }
+
+        void permute(int chunk, int resamples, SplittableRandom random) {
+            int n = differences.length;
+            // rounding errors must not turn the identity flip into a less extreme one
+            double threshold = Math.abs(observedSum) * (1.0 - 1e-12);
+            long extremes = 0;
+            for (int r = 0; r < resamples; r++) {
+                double sum = 0.0;
+                long signs = 0;
+                for (int i = 0; i < n; i++) {
+                    // one random long supplies the signs of 64 differences
+                    if ((i & 63) == 0) {
+                        signs = random.nextLong();
+                    }
+                    sum += ((signs >>> (i & 63)) & 1L) == 0 ? differences[i] : -differences[i];
+                }
+                if (Math.abs(sum) >= threshold) {
+                    extremes++;
+                }
+            }
+            permutationExtremes[chunk] = extremes;
+        }
+
+        Map<String, Object> toMap() {
+            int n = differences.length;
+            int resamples = bootstrapMeans.length;
+            double observedMean = observedSum / n;
+
+            // two-sided bootstrap p-value of the resamples shifted to the null hypothesis of no difference
+            long bootstrapExtremes = 0;
+            for (double bootstrapMean : bootstrapMeans) {
+                if (Math.abs(bootstrapMean - observedMean) >= Math.abs(observedMean)) {
+                    bootstrapExtremes++;
+                }
+            }
+            long permutationExtremeCount = 0;
+            for (long extremes : permutationExtremes) {
+                permutationExtremeCount += extremes;
+            }
+
+            double[] sortedMeans = bootstrapMeans.clone();
+            Arrays.sort(sortedMeans);
+            double alpha = (1.0 - CONFIDENCE_LEVEL) / 2.0;
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put(PAIRWISE_SEARCH_CONFIGURATION_A, searchConfigurationA);
+            result.put(PAIRWISE_SEARCH_CONFIGURATION_B, searchConfigurationB);
+            result.put(METRIC, metric);
+            result.put(PAIRWISE_QUERY_COUNT, n);
+            result.put(MEAN_DIFFERENCE, round(observedMean));
+            result.put(CONFIDENCE_INTERVAL_LOWER, round(percentile(sortedMeans, alpha)));
+            result.put(CONFIDENCE_INTERVAL_UPPER, round(percentile(sortedMeans, 1.0 - alpha)));
+            result.put(BOOTSTRAP_P_VALUE, round((bootstrapExtremes + 1.0) / (resamples + 1.0)));
+            result.put(PERMUTATION_P_VALUE, round((permutationExtremeCount + 1.0) / (resamples + 1.0)));
+            return result;
+        }
+
+        private static double percentile(double[] sorted, double quantile) {
+            int index = (int) Math.round(quantile * (sorted.length - 1));
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 10000.0) / 10000.0;
+        }
+    }
+}
@@ -13,14 +13,18 @@ import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.F
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.JACCARD_SIMILARITY_FIELD_NAME;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.RBO_50_SIMILARITY_FIELD_NAME;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.RBO_90_SIMILARITY_FIELD_NAME;
+import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.RBO_EXT_50_SIMILARITY_FIELD_NAME;
+import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.RBO_EXT_90_SIMILARITY_FIELD_NAME;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.calculateFrequencyWeightedSimilarity;
 import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.calculateJaccardSimilarity;
-import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.calculateRBOSimilarity;
+import static org.opensearch.searchrelevance.metrics.calculator.PairComparison.calculateRankBiasedOverlap;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.searchrelevance.metrics.calculator.PairComparison.RankBiasedOverlap;
+
 /**
  * Pairwise Comparison Metrics.
  */
@@ -34,17 +38,29 @@ public class PairwiseComparisonMetrics {
      *     "jaccard":0.33,
      *     "rbo90":0.1,
      *     "frequencyWeighted":0.67,
-     *     "rbo50":0.05
+     *     "rbo50":0.05,
+     *     "rboExt90":0.12,
+     *     "rboExt50":0.06
      * }
      */
     public static Map<String, Double> calculatePairwiseMetrics(Map<String, List<String>> indexToDocIdMap) {
-        Map<String, Double> pairwiseMetrics = new HashMap<>();
-        List<String> docIdListA = indexToDocIdMap.get(PAIRWISE_FIELD_NAME_A);
-        List<String> docIdListB = indexToDocIdMap.get(PAIRWISE_FIELD_NAME_B);
+        return calculatePairwiseMetrics(indexToDocIdMap.get(PAIRWISE_FIELD_NAME_A), indexToDocIdMap.get(PAIRWISE_FIELD_NAME_B));
+    }
 
+    /**
+     * calculate pairwise metrics of two ranked lists
+     * @param docIdListA - ranked docIds of the first search configuration
+     * @param docIdListB - ranked docIds of the second search configuration
+     */
+    public static Map<String, Double> calculatePairwiseMetrics(List<String> docIdListA, List<String> docIdListB) {
+        Map<String, Double> pairwiseMetrics = new HashMap<>();
         pairwiseMetrics.put(JACCARD_SIMILARITY_FIELD_NAME, calculateJaccardSimilarity(docIdListA, docIdListB));
-        pairwiseMetrics.put(RBO_50_SIMILARITY_FIELD_NAME, calculateRBOSimilarity(docIdListA, docIdListB, 0.5));
-        pairwiseMetrics.put(RBO_90_SIMILARITY_FIELD_NAME, calculateRBOSimilarity(docIdListA, docIdListB, 0.9));
+        // both persistence values come from a single pass over the lists
+        RankBiasedOverlap rbo = calculateRankBiasedOverlap(docIdListA, docIdListB, 0.5, 0.9);
+        pairwiseMetrics.put(RBO_50_SIMILARITY_FIELD_NAME, rbo.rbo(0));
+        pairwiseMetrics.put(RBO_90_SIMILARITY_FIELD_NAME, rbo.rbo(1));
+        pairwiseMetrics.put(RBO_EXT_50_SIMILARITY_FIELD_NAME, rbo.rboExt(0));
+        pairwiseMetrics.put(RBO_EXT_90_SIMILARITY_FIELD_NAME, rbo.rboExt(1));
         pairwiseMetrics.put(FREQUENCY_WEIGHTED_SIMILARITY_FIELD_NAME, calculateFrequencyWeightedSimilarity(docIdListA, docIdListB));
 
         return pairwiseMetrics;
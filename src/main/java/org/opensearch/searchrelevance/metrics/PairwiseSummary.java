@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_QUERY_COUNT;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Per pair means of the pairwise comparison metrics of an experiment.
+ * Every slice sums the metrics of its queryTexts, the coordinating node merges the slices into the experiment summary.
+ */
+public class PairwiseSummary implements Writeable {
+    /**
+     * metric sums keyed by [searchConfigurationA, searchConfigurationB], in the order the pairs are first seen
+     */
+    private final Map<List<String>, PairSums> pairs = new LinkedHashMap<>();
+
+    public PairwiseSummary() {}
+
+    public PairwiseSummary(StreamInput in) throws IOException {
+        int pairCount = in.readVInt();
+        for (int i = 0; i < pairCount; i++) {
+            List<String> pair = List.of(in.readString(), in.readString());
+            PairSums sums = new PairSums();
+            sums.queryCount = in.readVLong();
+            sums.metricSums.putAll(in.readMap(StreamInput::readString, StreamInput::readDouble));
+            pairs.put(pair, sums);
+        }
+    }
+
+    @Override
+    public synchronized void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(pairs.size());
+        for (Map.Entry<List<String>, PairSums> entry : pairs.entrySet()) {
+            out.writeString(entry.getKey().get(0));
+            out.writeString(entry.getKey().get(1));
+            out.writeVLong(entry.getValue().queryCount);
+            out.writeMap(entry.getValue().metricSums, StreamOutput::writeString, StreamOutput::writeDouble);
+        }
+    }
+
+    /**
+     * Add the pairwise comparison of a queryText
+     * @param pairwiseResults - one entry per pair of search configurations, with the metrics of the pair
+     */
+    public synchronized void add(List<Map<String, Object>> pairwiseResults) {
+        for (Map<String, Object> pairResult : pairwiseResults) {
+            List<String> pair = List.of(
+                (String) pairResult.get(PAIRWISE_SEARCH_CONFIGURATION_A),
+                (String) pairResult.get(PAIRWISE_SEARCH_CONFIGURATION_B)
+            );
+            PairSums sums = pairs.computeIfAbsent(pair, k -> new PairSums());
+            sums.queryCount++;
+            for (Map.Entry<String, Object> metric : pairResult.entrySet()) {
+                if (metric.getValue() instanceof Number value) {
+                    sums.metricSums.merge(metric.getKey(), value.doubleValue(), Double::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merge the sums of another slice
+     */
+    public void merge(PairwiseSummary other) {
+        Map<List<String>, PairSums> otherPairs;
+        synchronized (other) {
+            otherPairs = new LinkedHashMap<>(other.pairs);
+        }
+        synchronized (this) {
+            for (Map.Entry<List<String>, PairSums> entry : otherPairs.entrySet()) {
+                PairSums sums = pairs.computeIfAbsent(entry.getKey(), k -> new PairSums());
+                sums.queryCount += entry.getValue().queryCount;
+                entry.getValue().metricSums.forEach((metric, sum) -> sums.metricSums.merge(metric, sum, Double::sum));
+            }
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return pairs.isEmpty();
+    }
+
+    /**
+     * Mean metrics per pair, as stored in the experiment summary
+     * [
+     *     {
+     *         "searchConfigurationA": "${searchConfigIdA}",
+     *         "searchConfigurationB": "${searchConfigIdB}",
+     *         "queryCount": 100,
+     *         "jaccard": 0.33,
+     *         "rbo50": 0.05,
+     *         "rbo90": 0.1,
+     *         "frequencyWeighted": 0.67
+     *     }
+     * ]
+     */
+    public synchronized List<Map<String, Object>> toList() {
+        List<Map<String, Object>> summary = new ArrayList<>(pairs.size());
+        for (Map.Entry<List<String>, PairSums> entry : pairs.entrySet()) {
+            PairSums sums = entry.getValue();
+            Map<String, Object> pairSummary = new LinkedHashMap<>();
+            pairSummary.put(PAIRWISE_SEARCH_CONFIGURATION_A, entry.getKey().get(0));
+            pairSummary.put(PAIRWISE_SEARCH_CONFIGURATION_B, entry.getKey().get(1));
+            pairSummary.put(PAIRWISE_QUERY_COUNT, sums.queryCount);
+            sums.metricSums.forEach((metric, sum) -> pairSummary.put(metric, Math.round(sum / sums.queryCount * 100.0) / 100.0));
+            summary.add(pairSummary);
+        }
+        return summary;
+    }
+
+    private static final class PairSums {
+        private long queryCount;
+        private final Map<String, Double> metricSums = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluation metric that receives the ranked lists of many queryTexts at once, e.g. to evaluate them with vectorized loops
+ * or in parallel. All ranked lists an experiment evaluates together are handed in as one {@link EvaluationBatch}.
+ */
+public interface BatchEvaluationMetric extends EvaluationMetric {
+
+    /**
+     * Values of the metric for every ranked list of the batch
+     * @param batch - ranked lists, their judgment scores and the judgments of their queryTexts
+     * @param cutoff - rank cutoff, 0 evaluates the whole ranked lists
+     * @return one value per ranked list, in the order of the batch
+     */
+    double[] evaluate(EvaluationBatch batch, int cutoff);
+
+    @Override
+    default double evaluate(List<String> docIds, double[] scores, Map<String, Double> judgments, int cutoff) {
+        return evaluate(new EvaluationBatch(List.of(docIds), List.of(judgments)), cutoff)[0];
+    }
+}
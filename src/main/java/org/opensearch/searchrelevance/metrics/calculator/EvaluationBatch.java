@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ranked lists of many queryTexts that are evaluated together.
+ * The judgment scores of every ranked list are resolved once into a primitive array, NaN for docIds without judgment.
+ */
+public final class EvaluationBatch {
+    private final List<List<String>> docIds;
+    private final List<Map<String, Double>> judgments;
+    private final double[][] scores;
+
+    /**
+     * @param docIds - ranked docIds of every search
+     * @param judgments - docId to judgment score of the queryText of every search, in the order of the ranked lists
+     */
+    public EvaluationBatch(List<List<String>> docIds, List<Map<String, Double>> judgments) {
+        if (docIds.size() != judgments.size()) {
+            throw new IllegalArgumentException("Every ranked list of an evaluation batch needs the judgments of its queryText");
+        }
+        this.docIds = docIds;
+        this.judgments = judgments;
+        this.scores = new double[docIds.size()][];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = EvaluationKernel.resolveScores(docIds.get(i), judgments.get(i));
+        }
+    }
+
+    /**
+     * Number of ranked lists in the batch
+     */
+    public int size() {
+        return scores.length;
+    }
+
+    public List<String> docIds(int index) {
+        return docIds.get(index);
+    }
+
+    /**
+     * Judgment scores of a ranked list, NaN for docIds without judgment. The array is shared and must not be modified.
+     */
+    public double[] scores(int index) {
+        return scores[index];
+    }
+
+    /**
+     * Exponential gains 2^score - 1 of a ranked list, 0 for docIds without judgment
+     */
+    public double[] gains(int index) {
+        double[] gains = new double[scores[index].length];
+        for (int i = 0; i < gains.length; i++) {
+            double score = scores[index][i];
+            gains[i] = Double.isNaN(score) ? 0.0 : EvaluationKernel.gain(score);
+        }
+        return gains;
+    }
+
+    /**
+     * Judgments of the queryText of a ranked list, including the docs that were not retrieved
+     */
+    public Map<String, Double> judgments(int index) {
+        return judgments.get(index);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single pass evaluation of a ranked list.
+ * The judgment scores of the ranked docIds are resolved once into a primitive array, all requested metrics and cutoffs
+ * are then computed in one traversal of that array with a precomputed table of log2 rank discounts: the running sums of
+ * every metric are recorded whenever the traversal passes a requested cutoff. The ideal DCG sorts the judged scores as
+ * primitives. The default metrics are the same as the separate calculators of {@link Evaluation}.
+ * Metrics of the {@link MetricRegistry} are resolved by {@link MetricSpec} when the experiment request is parsed on the node
+ * and evaluated by their own implementation, once per batch of ranked lists.
+ */
+public final class EvaluationKernel {
+    public static final String METRICS_COVERAGE = "coverage";
+
+    private static final int DISCOUNT_TABLE_SIZE = 1024;
+    /**
+     * log2(position + 2), the DCG discount of the doc at a zero based position
+     */
+    private static final double[] LOG2_DISCOUNTS = new double[DISCOUNT_TABLE_SIZE];
+
+    static {
+        for (int i = 0; i < DISCOUNT_TABLE_SIZE; i++) {
+            LOG2_DISCOUNTS[i] = computeLog2Discount(i);
+        }
+    }
+
+    private EvaluationKernel() {}
+
+    /**
+     * Judgment scores of the ranked docIds, NaN for docIds without judgment
+     * @param docIds - ranked docIds of a search
+     * @param judgments - docId to judgment score of the queryText
+     */
+    public static double[] resolveScores(List<String> docIds, Map<String, Double> judgments) {
+        double[] scores = new double[docIds.size()];
+        for (int i = 0; i < scores.length; i++) {
+            Double score = judgments.get(docIds.get(i));
+            scores[i] = score == null ? Double.NaN : score;
+        }
+        return scores;
+    }
+
+    /**
+     * Coverage and the default metrics of a ranked list in a single pass
+     * @param scores - judgment scores of the ranked docIds, as resolved by {@link #resolveScores}
+     * @return metric name to value, rounded to two decimals
+     */
+    public static Map<String, String> evaluate(double[] scores) {
+        return evaluate(scores, Map.of(), MetricSpec.DEFAULT_METRICS);
+    }
+
+    /**
+     * Coverage and the requested metrics of every ranked list of a batch.
+     * The built-in metrics of every ranked list are computed in a single pass, every registered metric evaluates the
+     * whole batch, at once if it is a {@link BatchEvaluationMetric} and ranked list by ranked list otherwise.
+     * @param batch - ranked lists to evaluate
+     * @param metrics - built-in and registered metrics to compute
+     * @return metric name to value per ranked list in the order of the batch, rounded to two decimals
+     */
+    public static List<Map<String, String>> evaluate(EvaluationBatch batch, List<MetricSpec> metrics) {
+        List<MetricSpec> builtInMetrics = new ArrayList<>(metrics.size());
+        List<MetricSpec> registeredMetrics = new ArrayList<>();
+        for (MetricSpec metric : metrics) {
+            (metric.isBuiltIn() ? builtInMetrics : registeredMetrics).add(metric);
+        }
+
+        List<Map<String, String>> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(evaluate(batch.scores(i), batch.judgments(i), builtInMetrics));
+        }
+        for (MetricSpec metric : registeredMetrics) {
+            double[] values;
+            if (metric.metric() instanceof BatchEvaluationMetric batchMetric) {
+                values = batchMetric.evaluate(batch, metric.cutoff());
+            } else {
+                values = new double[batch.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = metric.metric().evaluate(batch.docIds(i), batch.scores(i), batch.judgments(i), metric.cutoff());
+                }
+            }
+            if (values.length != batch.size()) {
+                throw new IllegalStateException(
+                    "Metric [" + metric + "] returned " + values.length + " values for " + batch.size() + " ranked lists"
+                );
+            }
+            for (int i = 0; i < values.length; i++) {
+                results.get(i).put(metric.toString(), String.valueOf(round(values[i])));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Coverage and the requested built-in metrics of a ranked list in a single pass.
+     * Precision and MAP count docs with a positive score as relevant, recall divides by the relevant docs of all judgments
+     * of the queryText, NDCG is normalized by the ideal order of the judged docs of the ranked list and ERR scales the
+     * scores by the highest judgment score of the queryText.
+     * @param scores - judgment scores of the ranked docIds, as resolved by {@link #resolveScores}
+     * @param judgments - docId to judgment score of the queryText, only read by recall and ERR
+     * @param metrics - built-in metrics to compute
+     * @return metric name to value, rounded to two decimals
+     * @throws IllegalArgumentException if a metric is not built-in, see {@link #evaluate(EvaluationBatch, List)}
+     */
+    public static Map<String, String> evaluate(double[] scores, Map<String, Double> judgments, List<MetricSpec> metrics) {
+        int n = scores.length;
+        // distinct effective cutoffs in ascending order, a cutoff beyond the ranked list evaluates the whole list
+        int[] cutoffs = new int[metrics.size()];
+        boolean needsJudgmentStats = false;
+        for (int m = 0; m < cutoffs.length; m++) {
+            MetricSpec metric = metrics.get(m);
+            if (!metric.isBuiltIn()) {
+                throw new IllegalArgumentException("Metric [" + metric + "] is not a built-in metric");
+            }
+            cutoffs[m] = metric.cutoff() == 0 ? n : Math.min(metric.cutoff(), n);
+            needsJudgmentStats |= metric.type() == MetricSpec.Type.RECALL || metric.type() == MetricSpec.Type.ERR;
+        }
+        Arrays.sort(cutoffs);
+        int cutoffCount = 0;
+        for (int m = 0; m < cutoffs.length; m++) {
+            if (m == 0 || cutoffs[m] != cutoffs[m - 1]) {
+                cutoffs[cutoffCount++] = cutoffs[m];
+            }
+        }
+
+        int relevantJudgments = 0;
+        double maxJudgment = 0.0;
+        if (needsJudgmentStats) {
+            for (Double judgment : judgments.values()) {
+                if (judgment != null && judgment > 0) {
+                    relevantJudgments++;
+                    maxJudgment = Math.max(maxJudgment, judgment);
+                }
+            }
+        }
+        double errNormalizer = Math.pow(2, maxJudgment);
+
+        // running sums recorded at every cutoff
+        int[] relevantAt = new int[cutoffCount];
+        double[] precisionSumAt = new double[cutoffCount];
+        double[] dcgAt = new double[cutoffCount];
+        double[] reciprocalRankAt = new double[cutoffCount];
+        double[] errAt = new double[cutoffCount];
+
+        double[] judgedScores = new double[n];
+        int judgedCount = 0;
+        int relevantCount = 0;
+        double precisionSum = 0.0;
+        double dcg = 0.0;
+        double reciprocalRank = 0.0;
+        double err = 0.0;
+        // probability that the user reaches the current rank
+        double continuation = 1.0;
+
+        int nextCutoff = 0;
+        while (nextCutoff < cutoffCount && cutoffs[nextCutoff] == 0) {
+            nextCutoff++;
+        }
+        for (int i = 0; i < n; i++) {
+            double score = scores[i];
+            if (!Double.isNaN(score)) {
+                judgedScores[judgedCount++] = score;
+                dcg += gain(score) / log2Discount(i);
+                if (score > 0) {
+                    relevantCount++;
+                    precisionSum += (double) relevantCount / (i + 1);
+                    if (reciprocalRank == 0.0) {
+                        reciprocalRank = 1.0 / (i + 1);
+                    }
+                    if (maxJudgment > 0) {
+                        double stopProbability = Math.min(1.0, gain(score) / errNormalizer);
+                        err += continuation * stopProbability / (i + 1);
+                        continuation *= 1.0 - stopProbability;
+                    }
+                }
+            }
+            while (nextCutoff < cutoffCount && cutoffs[nextCutoff] == i + 1) {
+                relevantAt[nextCutoff] = relevantCount;
+                precisionSumAt[nextCutoff] = precisionSum;
+                dcgAt[nextCutoff] = dcg;
+                reciprocalRankAt[nextCutoff] = reciprocalRank;
+                errAt[nextCutoff] = err;
+                nextCutoff++;
+            }
+        }
+
+        // the ideal DCG of every cutoff from the judged scores in descending order
+        double[] idcgAt = new double[cutoffCount];
+        Arrays.sort(judgedScores, 0, judgedCount);
+        double idcg = 0.0;
+        int idealCutoff = 0;
+        for (int i = 0; i <= judgedCount; i++) {
+            while (idealCutoff < cutoffCount && (cutoffs[idealCutoff] <= i || i == judgedCount)) {
+                idcgAt[idealCutoff++] = idcg;
+            }
+            if (i < judgedCount) {
+                idcg += gain(judgedScores[judgedCount - 1 - i]) / log2Discount(i);
+            }
+        }
+
+        Map<String, String> results = new HashMap<>();
+        results.put(METRICS_COVERAGE, String.valueOf(n > 0 ? round((double) judgedCount / n) : 0.0));
+        for (MetricSpec metric : metrics) {
+            int cutoff = metric.cutoff() == 0 ? n : Math.min(metric.cutoff(), n);
+            int c = Arrays.binarySearch(cutoffs, 0, cutoffCount, cutoff);
+            double value = switch (metric.type()) {
+                // a cutoff beyond the ranked list divides by the length of the list
+                case PRECISION -> (double) relevantAt[c] / Math.min(metric.cutoff() == 0 ? n : metric.cutoff(), n);
+                case RECALL -> relevantJudgments > 0 ? (double) relevantAt[c] / relevantJudgments : 0.0;
+                case MAP -> relevantAt[c] > 0 ? precisionSumAt[c] / relevantAt[c] : 0.0;
+                case NDCG -> idcgAt[c] > 0 ? dcgAt[c] / idcgAt[c] : 0.0;
+                case DCG -> dcgAt[c];
+                case MRR -> reciprocalRankAt[c];
+                case ERR -> errAt[c];
+            };
+            results.put(metric.toString(), String.valueOf(round(value)));
+        }
+        return results;
+    }
+
+    /**
+     * Exponential gain of a judgment score
+     */
+    static double gain(double score) {
+        return Math.pow(2, score) - 1;
+    }
+
+    /**
+     * log2(position + 2), from the table for the usual depths of a ranked list
+     */
+    static double log2Discount(int position) {
+        return position < DISCOUNT_TABLE_SIZE ? LOG2_DISCOUNTS[position] : computeLog2Discount(position);
+    }
+
+    private static double computeLog2Discount(int position) {
+        return Math.log(position + 2) / Math.log(2);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluation metric contributed by a plugin that extends search-relevance, registered in the {@link MetricRegistry}.
+ * Extending plugins list their implementations in
+ * META-INF/services/org.opensearch.searchrelevance.metrics.calculator.EvaluationMetric, experiments request them by name
+ * with an optional rank cutoff like the built-in metrics, e.g. "@10".
+ * Metrics that evaluate many ranked lists more efficiently at once implement {@link BatchEvaluationMetric}.
+ */
+public interface EvaluationMetric {
+
+    /**
+     * Name of the metric in experiment requests and evaluation results, matched case insensitively
+     */
+    String name();
+
+    /**
+     * Value of the metric for the ranked list of a single queryText
+     * @param docIds - ranked docIds of the search
+     * @param scores - judgment scores of the ranked docIds, NaN for docIds without judgment
+     * @param judgments - docId to judgment score of the queryText, including the docs that were not retrieved
+     * @param cutoff - rank cutoff, 0 evaluates the whole ranked list
+     */
+    double evaluate(List<String> docIds, double[] scores, Map<String, Double> judgments, int cutoff);
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the evaluation metrics contributed by extending plugins, held by the plugin instance of a node and filled
+ * when the plugin loads its extensions, so that every node of a test cluster sharing the JVM has a registry of its own.
+ * Experiment requests resolve metric names against the built-in metrics of {@link MetricSpec.Type} first and against
+ * the registered metrics second, so every node evaluating an experiment must have the same extensions installed.
+ */
+public final class MetricRegistry {
+    private final Map<String, EvaluationMetric> metrics = new ConcurrentHashMap<>();
+
+    /**
+     * Register a metric under its name
+     * @throws IllegalArgumentException if the name is invalid, is a built-in metric or is already registered
+     */
+    public void register(EvaluationMetric metric) {
+        String name = metric.name();
+        if (name == null || name.isBlank() || name.indexOf('@') >= 0) {
+            throw new IllegalArgumentException("Invalid name [" + name + "] of metric " + metric.getClass().getName());
+        }
+        for (MetricSpec.Type type : MetricSpec.Type.values()) {
+            if (type.metricName().equalsIgnoreCase(name)) {
+                throw new IllegalArgumentException("Metric [" + name + "] is a built-in metric");
+            }
+        }
+        EvaluationMetric registered = metrics.putIfAbsent(key(name), metric);
+        if (registered != null) {
+            throw new IllegalArgumentException(
+                "Metric [" + name + "] of " + metric.getClass().getName() + " is already registered by " + registered.getClass().getName()
+            );
+        }
+    }
+
+    /**
+     * Registered metric of a name, null if there is none
+     */
+    public EvaluationMetric get(String name) {
+        return metrics.get(key(name));
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
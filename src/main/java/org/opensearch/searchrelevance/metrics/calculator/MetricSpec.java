@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Evaluation metric requested by an experiment, a built-in metric type or a metric of the {@link MetricRegistry} with an
+ * optional rank cutoff, e.g. "ndcg@10" or "MAP". The string form is the name of the metric in the evaluation results.
+ */
+public final class MetricSpec {
+    /**
+     * Metrics of experiments that do not request any, the metrics evaluated before metrics were configurable
+     */
+    public static final List<MetricSpec> DEFAULT_METRICS = List.of(
+        new MetricSpec(Type.PRECISION, 5),
+        new MetricSpec(Type.PRECISION, 10),
+        new MetricSpec(Type.MAP, 0),
+        new MetricSpec(Type.NDCG, 0)
+    );
+
+    public enum Type {
+        PRECISION("precision"),
+        RECALL("recall"),
+        MAP("MAP"),
+        NDCG("ndcg"),
+        DCG("dcg"),
+        MRR("mrr"),
+        ERR("err");
+
+        private final String metricName;
+
+        Type(String metricName) {
+            this.metricName = metricName;
+        }
+
+        public String metricName() {
+            return metricName;
+        }
+    }
+
+    /**
+     * Built-in metric type, null for a registered metric
+     */
+    private final Type type;
+    /**
+     * Registered metric, null for a built-in metric type
+     */
+    private final EvaluationMetric metric;
+    /**
+     * Rank cutoff, 0 evaluates the whole ranked list
+     */
+    private final int cutoff;
+
+    public MetricSpec(Type type, int cutoff) {
+        this(Objects.requireNonNull(type), null, cutoff);
+    }
+
+    public MetricSpec(EvaluationMetric metric, int cutoff) {
+        this(null, Objects.requireNonNull(metric), cutoff);
+    }
+
+    private MetricSpec(Type type, EvaluationMetric metric, int cutoff) {
+        if (cutoff < 0) {
+            throw new IllegalArgumentException("Metric cutoff must not be negative: " + cutoff);
+        }
+        this.type = type;
+        this.metric = metric;
+        this.cutoff = cutoff;
+    }
+
+    /**
+     * Parse a metric like "ndcg@10", "recall@5" or "mrr", names are case insensitive and resolved against the built-in
+     * metric types first and the {@link MetricRegistry} second
+     * @param metric - metric with optional cutoff
+     * @param metricRegistry - metrics registered by the plugins that extend search-relevance on this node
+     * @throws IllegalArgumentException if the metric is unknown or its cutoff is not a positive integer
+     */
+    public static MetricSpec parse(String metric, MetricRegistry metricRegistry) {
+        if (metric == null || metric.isBlank()) {
+            throw new IllegalArgumentException("Metric must not be empty");
+        }
+        int separator = metric.indexOf('@');
+        String name = (separator < 0 ? metric : metric.substring(0, separator)).trim();
+        Type type = null;
+        for (Type candidate : Type.values()) {
+            if (candidate.metricName.equalsIgnoreCase(name)) {
+                type = candidate;
+            }
+        }
+        EvaluationMetric registered = type == null ? metricRegistry.get(name) : null;
+        if (type == null && registered == null) {
+            throw new IllegalArgumentException("Unknown metric [" + metric + "]");
+        }
+        if (separator < 0) {
+            return new MetricSpec(type, registered, 0);
+        }
+        int cutoff;
+        try {
+            cutoff = Integer.parseInt(metric.substring(separator + 1).trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cutoff of metric [" + metric + "]", e);
+        }
+        if (cutoff <= 0) {
+            throw new IllegalArgumentException("Cutoff of metric [" + metric + "] must be positive");
+        }
+        return new MetricSpec(type, registered, cutoff);
+    }
+
+    /**
+     * Parse a list of metrics, see {@link #parse(String, MetricRegistry)}
+     */
+    public static List<MetricSpec> parseAll(List<String> metrics, MetricRegistry metricRegistry) {
+        List<MetricSpec> metricSpecs = new ArrayList<>(metrics.size());
+        for (String metric : metrics) {
+            metricSpecs.add(parse(metric, metricRegistry));
+        }
+        return metricSpecs;
+    }
+
+    /**
+     * Metrics stored in an experiment, the default metrics for experiments stored before metrics were configurable
+     */
+    public static List<MetricSpec> parseStored(List<String> metrics, MetricRegistry metricRegistry) {
+        return metrics == null ? DEFAULT_METRICS : parseAll(metrics, metricRegistry);
+    }
+
+    /**
+     * String forms of a list of metrics, as stored in the experiment
+     */
+    public static List<String> toStrings(List<MetricSpec> metricSpecs) {
+        List<String> metrics = new ArrayList<>(metricSpecs.size());
+        for (MetricSpec metricSpec : metricSpecs) {
+            metrics.add(metricSpec.toString());
+        }
+        return metrics;
+    }
+
+    /**
+     * Built-in metric type, null for a registered metric
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Registered metric, null for a built-in metric type
+     */
+    public EvaluationMetric metric() {
+        return metric;
+    }
+
+    public boolean isBuiltIn() {
+        return type != null;
+    }
+
+    /**
+     * Name of the metric without cutoff
+     */
+    public String name() {
+        return type != null ? type.metricName : metric.name();
+    }
+
+    public int cutoff() {
+        return cutoff;
+    }
+
+    @Override
+    public String toString() {
+        return cutoff > 0 ? name() + "@" + cutoff : name();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MetricSpec that = (MetricSpec) o;
+        return cutoff == that.cutoff && type == that.type && name().equals(that.name());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name(), cutoff);
+    }
+}
@@ -7,6 +7,7 @@
  */
 package org.opensearch.searchrelevance.metrics.calculator;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +25,8 @@ public class PairComparison {
     public static final String JACCARD_SIMILARITY_FIELD_NAME = "jaccard";
     public static final String RBO_50_SIMILARITY_FIELD_NAME = "rbo50";
     public static final String RBO_90_SIMILARITY_FIELD_NAME = "rbo90";
+    public static final String RBO_EXT_50_SIMILARITY_FIELD_NAME = "rboExt50";
+    public static final String RBO_EXT_90_SIMILARITY_FIELD_NAME = "rboExt90";
     public static final String FREQUENCY_WEIGHTED_SIMILARITY_FIELD_NAME = "frequencyWeighted";
 
     /**
@@ -51,34 +54,76 @@ public class PairComparison {
      * RankBiasedOverlap
      */
     public static double calculateRBOSimilarity(List<String> listA, List<String> listB, double p) {
-        if (p <= 0 || p >= 1) {
-            throw new SearchRelevanceException("p must be between 0 and 1", RestStatus.INTERNAL_SERVER_ERROR);
+        return calculateRankBiasedOverlap(listA, listB, p).rbo(0);
+    }
+
+    /**
+     * RankBiasedOverlap of several persistence values in a single pass over both lists.
+     * The overlap of the prefixes is maintained incrementally: every doc is looked up once when it enters the prefix of
+     * its list, so the pass is linear in the depth instead of building the prefix sets at every depth.
+     * Besides RBO normalized over the evaluated depth, the extrapolated RBO_ext of Webber et al. is computed, which assumes
+     * that the agreement seen at the end of the lists continues and handles lists of uneven length.
+     * @param listA - ranked docIds of the first search configuration
+     * @param listB - ranked docIds of the second search configuration
+     * @param persistences - persistence values p, each between 0 and 1 exclusive
+     */
+    public static RankBiasedOverlap calculateRankBiasedOverlap(List<String> listA, List<String> listB, double... persistences) {
+        for (double p : persistences) {
+            if (p <= 0 || p >= 1) {
+                throw new SearchRelevanceException("p must be between 0 and 1", RestStatus.INTERNAL_SERVER_ERROR);
+            }
         }
 
         int maxDepth = Math.max(listA.size(), listB.size());
-        double sum = 0;
-        double weight = 1;
-        double sumWeight = 0;
+        int minDepth = Math.min(listA.size(), listB.size());
+        Set<String> prefixA = new HashSet<>();
+        Set<String> prefixB = new HashSet<>();
+        // number of docs in both prefixes, at the current depth and at the depth of the shorter list
+        int overlap = 0;
+        int overlapAtMinDepth = 0;
+
+        int n = persistences.length;
+        double[] sums = new double[n];
+        double[] extSums = new double[n];
+        // p^d of every persistence value, the weight of depth d + 1
+        double[] weights = new double[n];
+        Arrays.fill(weights, 1.0);
 
-        // Calculate overlap at each depth
         for (int d = 0; d < maxDepth; d++) {
-            Set<String> setA = new HashSet<>(listA.subList(0, Math.min(d + 1, listA.size())));
-            Set<String> setB = new HashSet<>(listB.subList(0, Math.min(d + 1, listB.size())));
-
-            // Calculate overlap at current depth
-            Set<String> intersection = new HashSet<>(setA);
-            intersection.retainAll(setB);
-            double overlap = intersection.size() / (double) Math.max(setA.size(), setB.size());
-
-            // Add weighted overlap to sum
-            sum += weight * overlap;
-            sumWeight += weight;
-            weight *= p;
+            if (d < listA.size() && prefixA.add(listA.get(d)) && prefixB.contains(listA.get(d))) {
+                overlap++;
+            }
+            if (d < listB.size() && prefixB.add(listB.get(d)) && prefixA.contains(listB.get(d))) {
+                overlap++;
+            }
+            int depth = d + 1;
+            if (depth == minDepth) {
+                overlapAtMinDepth = overlap;
+            }
+            double agreement = overlap / (double) Math.max(prefixA.size(), prefixB.size());
+            // agreement of RBO_ext, the shorter list does not grow beyond its end
+            double extAgreement = (double) overlap / depth;
+            if (depth > minDepth && minDepth > 0) {
+                extAgreement += (double) overlapAtMinDepth * (depth - minDepth) / ((double) minDepth * depth);
+            }
+            for (int k = 0; k < n; k++) {
+                sums[k] += weights[k] * agreement;
+                weights[k] *= persistences[k];
+                extSums[k] += weights[k] * extAgreement;
+            }
         }
 
-        // Calculate final RBO score
-        double rboSimilarity = sum * (1 - p) / (1 - Math.pow(p, maxDepth));
-        return Math.round(rboSimilarity * 100.0) / 100.0;
+        double[] rbo = new double[n];
+        double[] rboExt = new double[n];
+        for (int k = 0; k < n; k++) {
+            double p = persistences[k];
+            rbo[k] = round(sums[k] * (1 - p) / (1 - Math.pow(p, maxDepth)));
+            if (minDepth > 0) {
+                double residual = ((double) (overlap - overlapAtMinDepth) / maxDepth + (double) overlapAtMinDepth / minDepth) * weights[k];
+                rboExt[k] = round((1 - p) / p * extSums[k] + residual);
+            }
+        }
+        return new RankBiasedOverlap(rbo, rboExt);
     }
 
     /**
@@ -143,6 +188,37 @@ public class PairComparison {
         return new FrequencyStats(weights, frequencies, totalFrequency);
     }
 
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    /**
+     * RankBiasedOverlap of a pair of ranked lists, per persistence value in the order they were requested
+     */
+    public static final class RankBiasedOverlap {
+        private final double[] rbo;
+        private final double[] rboExt;
+
+        private RankBiasedOverlap(double[] rbo, double[] rboExt) {
+            this.rbo = rbo;
+            this.rboExt = rboExt;
+        }
+
+        /**
+         * RBO normalized over the depth of the longer list
+         */
+        public double rbo(int persistence) {
+            return rbo[persistence];
+        }
+
+        /**
+         * Extrapolated RBO_ext, 0 if a list is empty
+         */
+        public double rboExt(int persistence) {
+            return rboExt[persistence];
+        }
+    }
+
     private static class FrequencyStats {
         public final Map<String, Double> weights;
         public final Map<String, Integer> frequencies;
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+
+/**
+ * Reference of an experiment result to the evaluation result of a single queryText and search configuration.
+ * It keeps the fingerprint and the metrics of the evaluation, so that the evaluation can be carried over or summarized
+ * without reading the evaluation result again.
+ */
+public class EvaluationReference implements Writeable {
+    private final String evaluationId;
+    /**
+     * null if the generation of the searched index was unknown
+     */
+    private final String fingerprint;
+    private final Map<String, String> metrics;
+
+    public EvaluationReference(String evaluationId, String fingerprint, Map<String, String> metrics) {
+        this.evaluationId = evaluationId;
+        this.fingerprint = fingerprint;
+        this.metrics = metrics;
+    }
+
+    public EvaluationReference(StreamInput in) throws IOException {
+        this.evaluationId = in.readString();
+        this.fingerprint = in.readOptionalString();
+        this.metrics = in.readMap(StreamInput::readString, StreamInput::readString);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(evaluationId);
+        out.writeOptionalString(fingerprint);
+        out.writeMap(metrics, StreamOutput::writeString, StreamOutput::writeString);
+    }
+
+    public String evaluationId() {
+        return evaluationId;
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    public Map<String, String> metrics() {
+        return metrics;
+    }
+}
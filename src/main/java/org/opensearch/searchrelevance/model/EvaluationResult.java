@@ -26,6 +26,7 @@ public class EvaluationResult implements ToXContentObject {
     public static final String JUDGMENT_IDS = "judgmentIds";
     public static final String DOCUMENT_IDS = "documentIds";
     public static final String METRICS = "metrics";
+    public static final String FINGERPRINT = "fingerprint";
 
     /**
      * Identifier of the system index
@@ -37,6 +38,11 @@ public class EvaluationResult implements ToXContentObject {
     private final List<String> judgmentIds;
     private final List<String> documentIds;
     private final Map<String, String> metrics;
+    /**
+     * Digest of the search configuration version, the judgment ratings of the searchText and the generation of the searched index,
+     * an evaluation with the same fingerprint yields the same result
+     */
+    private final String fingerprint;
 
     public EvaluationResult(
         String id,
@@ -46,6 +52,19 @@ public class EvaluationResult implements ToXContentObject {
         List<String> judgmentIds,
         List<String> documentIds,
         Map<String, String> metrics
+    ) {
+        this(id, timestamp, searchConfigurationId, searchText, judgmentIds, documentIds, metrics, null);
+    }
+
+    public EvaluationResult(
+        String id,
+        String timestamp,
+        String searchConfigurationId,
+        String searchText,
+        List<String> judgmentIds,
+        List<String> documentIds,
+        Map<String, String> metrics,
+        String fingerprint
     ) {
         this.id = id;
         this.timestamp = timestamp;
@@ -54,6 +73,7 @@ public class EvaluationResult implements ToXContentObject {
         this.judgmentIds = judgmentIds;
         this.documentIds = documentIds;
         this.metrics = metrics;
+        this.fingerprint = fingerprint;
     }
 
     @Override
@@ -66,6 +86,9 @@ public class EvaluationResult implements ToXContentObject {
         xContentBuilder.field(JUDGMENT_IDS, this.judgmentIds == null ? new ArrayList<>() : this.judgmentIds);
         xContentBuilder.field(DOCUMENT_IDS, this.documentIds == null ? new ArrayList<>() : this.documentIds);
         xContentBuilder.field(METRICS, this.metrics);
+        if (this.fingerprint != null) {
+            xContentBuilder.field(FINGERPRINT, this.fingerprint);
+        }
         return xContentBuilder.endObject();
     }
 
@@ -96,4 +119,8 @@ public class EvaluationResult implements ToXContentObject {
     public Map<String, String> metrics() {
         return metrics;
     }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
 }
@@ -11,13 +11,16 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 /**
- * Experiment is a system index object that store experiment results.
+ * Experiment is a system index object that store experiment status and the summary of its results.
+ * The results of every queryText are stored separately as {@link ExperimentResult}.
  */
 public class Experiment implements ToXContentObject {
     public static final String ID = "id";
@@ -28,7 +31,21 @@ public class Experiment implements ToXContentObject {
     public static final String SEARCH_CONFIGURATION_LIST = "searchConfigurationList";
     public static final String JUDGMENT_LIST = "judgmentList";
     public static final String SIZE = "size";
+    /** Evaluation metrics of the experiment, e.g. "ndcg@10", absent for experiments with the default metrics */
+    public static final String METRICS = "metrics";
     public static final String RESULTS = "results";
+    /** Number of evaluated queryTexts, part of the results summary */
+    public static final String QUERY_COUNT = "queryCount";
+    /** Counters of the experiment run, written periodically while the experiment runs */
+    public static final String PROGRESS = "progress";
+    /** Id of the node running the experiment, only present while the experiment is PROCESSING */
+    public static final String OWNER_NODE = "ownerNode";
+    /** Timestamp at which the owner node started or resumed the experiment, only present while the experiment is PROCESSING */
+    public static final String STARTED_AT = "startedAt";
+    /** Run settings of the experiment, so that a resumed or re-run experiment runs with the settings it was created with */
+    public static final String PRIORITY = "priority";
+    public static final String TIME_BUDGET = "timeBudget";
+    public static final String SEARCH_TIMEOUT = "searchTimeout";
     private static final int DEFAULTED_SIZE = 10;
 
     /**
@@ -42,7 +59,13 @@ public class Experiment implements ToXContentObject {
     private final List<String> searchConfigurationList;
     private final List<String> judgmentList;
     private final int size;
+    private final List<String> metrics;
     private final Map<String, Object> results;
+    private final String ownerNode;
+    private final String startedAt;
+    private final ExperimentPriority priority;
+    private final TimeValue timeBudget;
+    private final TimeValue searchTimeout;
 
     public Experiment(
         String id,
@@ -53,7 +76,61 @@ public class Experiment implements ToXContentObject {
         List<String> searchConfigurationList,
         List<String> judgmentList,
         int size,
+        List<String> metrics,
         Map<String, Object> results
+    ) {
+        this(id, timestamp, type, status, querySetId, searchConfigurationList, judgmentList, size, metrics, results, null, null);
+    }
+
+    public Experiment(
+        String id,
+        String timestamp,
+        ExperimentType type,
+        AsyncStatus status,
+        String querySetId,
+        List<String> searchConfigurationList,
+        List<String> judgmentList,
+        int size,
+        List<String> metrics,
+        Map<String, Object> results,
+        String ownerNode,
+        String startedAt
+    ) {
+        this(
+            id,
+            timestamp,
+            type,
+            status,
+            querySetId,
+            searchConfigurationList,
+            judgmentList,
+            size,
+            metrics,
+            results,
+            ownerNode,
+            startedAt,
+            null,
+            null,
+            null
+        );
+    }
+
+    public Experiment(
+        String id,
+        String timestamp,
+        ExperimentType type,
+        AsyncStatus status,
+        String querySetId,
+        List<String> searchConfigurationList,
+        List<String> judgmentList,
+        int size,
+        List<String> metrics,
+        Map<String, Object> results,
+        String ownerNode,
+        String startedAt,
+        ExperimentPriority priority,
+        TimeValue timeBudget,
+        TimeValue searchTimeout
     ) {
         this.id = id;
         this.timestamp = timestamp;
@@ -63,7 +140,32 @@ public class Experiment implements ToXContentObject {
         this.searchConfigurationList = searchConfigurationList;
         this.judgmentList = judgmentList;
         this.size = size;
+        this.metrics = metrics;
         this.results = results;
+        this.ownerNode = ownerNode;
+        this.startedAt = startedAt;
+        this.priority = priority;
+        this.timeBudget = timeBudget;
+        this.searchTimeout = searchTimeout;
+    }
+
+    /**
+     * Priority of a stored experiment, experiments stored before the priority was recorded run as BATCH
+     * @param source - source of the experiment document
+     */
+    public static ExperimentPriority parsePriority(Map<String, Object> source) {
+        Object priority = source.get(PRIORITY);
+        return priority == null ? ExperimentPriority.BATCH : ExperimentPriority.valueOf(priority.toString());
+    }
+
+    /**
+     * Time value setting of a stored experiment
+     * @param source - source of the experiment document
+     * @param field - TIME_BUDGET or SEARCH_TIMEOUT
+     * @return the setting, null if the experiment was stored without it
+     */
+    public static TimeValue parseTimeValue(Map<String, Object> source, String field) {
+        return TimeValue.parseTimeValue(Objects.toString(source.get(field), null), null, field);
     }
 
     @Override
@@ -80,7 +182,23 @@ public class Experiment implements ToXContentObject {
         );
         xContentBuilder.field(JUDGMENT_LIST, this.judgmentList == null ? new ArrayList<>() : this.judgmentList);
         xContentBuilder.field(SIZE, Optional.of(this.size).orElse(DEFAULTED_SIZE));
+        if (this.metrics != null) {
+            xContentBuilder.field(METRICS, this.metrics);
+        }
         xContentBuilder.field(RESULTS, this.results);
+        if (this.ownerNode != null) {
+            xContentBuilder.field(OWNER_NODE, this.ownerNode);
+            xContentBuilder.field(STARTED_AT, this.startedAt);
+        }
+        if (this.priority != null) {
+            xContentBuilder.field(PRIORITY, this.priority.name());
+        }
+        if (this.timeBudget != null) {
+            xContentBuilder.field(TIME_BUDGET, this.timeBudget.getStringRep());
+        }
+        if (this.searchTimeout != null) {
+            xContentBuilder.field(SEARCH_TIMEOUT, this.searchTimeout.getStringRep());
+        }
         return xContentBuilder.endObject();
     }
 
@@ -116,8 +234,32 @@ public class Experiment implements ToXContentObject {
         return size;
     }
 
+    public List<String> metrics() {
+        return metrics;
+    }
+
     public Map<String, Object> results() {
         return results;
     }
 
+    public String ownerNode() {
+        return ownerNode;
+    }
+
+    public String startedAt() {
+        return startedAt;
+    }
+
+    public ExperimentPriority priority() {
+        return priority;
+    }
+
+    public TimeValue timeBudget() {
+        return timeBudget;
+    }
+
+    public TimeValue searchTimeout() {
+        return searchTimeout;
+    }
+
 }
@@ -0,0 +1,23 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+/**
+ * Priority class of an experiment, experiment searches and metric tasks of every class are queued in their own lane
+ * and the lanes share the node's search capacity and metrics thread pool by weight.
+ */
+public enum ExperimentPriority {
+    /**
+     * Small ad-hoc experiments a user waits for
+     */
+    INTERACTIVE,
+    /**
+     * Large experiments run in the background, the default
+     */
+    BATCH
+}
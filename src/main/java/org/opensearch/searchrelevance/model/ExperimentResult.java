@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * ExperimentResult is a system index object that store the results of a single queryText of an experiment.
+ * It is written as soon as the queryText completes, so it also serves as checkpoint to resume the experiment.
+ */
+public class ExperimentResult implements ToXContentObject {
+    public static final String ID = "id";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String EXPERIMENT_ID = "experimentId";
+    public static final String QUERY_TEXT = "queryText";
+    public static final String RESULTS = "results";
+    public static final String FINGERPRINTS = "fingerprints";
+    public static final String METRICS = "metrics";
+
+    /**
+     * Identifier of the system index
+     */
+    private final String id;
+    private final String timestamp;
+    private final String experimentId;
+    private final String queryText;
+    private final Map<String, Object> results;
+    /**
+     * Fingerprint of the evaluation result of every search configuration, so that a re-run can carry over unchanged evaluations
+     */
+    private final Map<String, String> fingerprints;
+    /**
+     * Metrics of the evaluation result of every search configuration, so that a resumed experiment can summarize them
+     */
+    private final Map<String, Map<String, String>> metrics;
+
+    public ExperimentResult(String timestamp, String experimentId, String queryText, Map<String, Object> results) {
+        this(timestamp, experimentId, queryText, results, null);
+    }
+
+    public ExperimentResult(
+        String timestamp,
+        String experimentId,
+        String queryText,
+        Map<String, Object> results,
+        Map<String, String> fingerprints
+    ) {
+        this(timestamp, experimentId, queryText, results, fingerprints, null);
+    }
+
+    public ExperimentResult(
+        String timestamp,
+        String experimentId,
+        String queryText,
+        Map<String, Object> results,
+        Map<String, String> fingerprints,
+        Map<String, Map<String, String>> metrics
+    ) {
+        this.id = resultId(experimentId, queryText);
+        this.timestamp = timestamp;
+        this.experimentId = experimentId;
+        this.queryText = queryText;
+        this.results = results;
+        this.fingerprints = fingerprints;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Deterministic id of the results of a queryText, so that re-running a queryText overwrites its previous results
+     */
+    public static String resultId(String experimentId, String queryText) {
+        return UUID.nameUUIDFromBytes((experimentId + "\n" + queryText).getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        XContentBuilder xContentBuilder = builder.startObject();
+        xContentBuilder.field(ID, this.id);
+        xContentBuilder.field(TIMESTAMP, this.timestamp.trim());
+        xContentBuilder.field(EXPERIMENT_ID, this.experimentId.trim());
+        xContentBuilder.field(QUERY_TEXT, this.queryText);
+        xContentBuilder.field(RESULTS, this.results);
+        if (this.fingerprints != null && !this.fingerprints.isEmpty()) {
+            xContentBuilder.field(FINGERPRINTS, this.fingerprints);
+        }
+        if (this.metrics != null && !this.metrics.isEmpty()) {
+            xContentBuilder.field(METRICS, this.metrics);
+        }
+        return xContentBuilder.endObject();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String timestamp() {
+        return timestamp;
+    }
+
+    public String experimentId() {
+        return experimentId;
+    }
+
+    public String queryText() {
+        return queryText;
+    }
+
+    public Map<String, Object> results() {
+        return results;
+    }
+
+    public Map<String, String> fingerprints() {
+        return fingerprints;
+    }
+
+    public Map<String, Map<String, String>> metrics() {
+        return metrics;
+    }
+}
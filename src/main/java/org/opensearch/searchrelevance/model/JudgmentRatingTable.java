@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import static org.opensearch.searchrelevance.model.Judgment.JUDGMENT_SCORES;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * In-memory rating table of an experiment, queryText to docId to numeric score.
+ * It is loaded once per experiment from all judgments and shared by every query evaluation.
+ * Judgments generated while the experiment runs are added per queryText, before the queryText is evaluated.
+ */
+public class JudgmentRatingTable {
+    private static final Logger LOGGER = LogManager.getLogger(JudgmentRatingTable.class);
+    private static final String DOC_ID_FIELD_NAME = "docId";
+    private static final String SCORE_FIELD_NAME = "score";
+
+    private final Map<String, Map<String, Double>> ratings = new ConcurrentHashMap<>();
+
+    /**
+     * Merge judgmentScores of a judgment document source into the rating table.
+     * Scores of later judgments override scores of earlier judgments for the same queryText and docId.
+     * @param judgmentSource - source map of a judgment document
+     */
+    public void addJudgment(Map<String, Object> judgmentSource) {
+        Map<String, Object> judgmentScores = (Map<String, Object>) judgmentSource.getOrDefault(JUDGMENT_SCORES, Collections.emptyMap());
+        for (Map.Entry<String, Object> queryEntry : judgmentScores.entrySet()) {
+            if (!(queryEntry.getValue() instanceof List<?> docScores)) {
+                continue;
+            }
+            Map<String, Double> docIdToScore = ratings.computeIfAbsent(queryEntry.getKey(), k -> new HashMap<>());
+            for (Object docScore : docScores) {
+                Map<String, Object> docScoreMap = (Map<String, Object>) docScore;
+                String docId = (String) docScoreMap.get(DOC_ID_FIELD_NAME);
+                Double score = parseScore(docScoreMap.get(SCORE_FIELD_NAME));
+                if (docId == null || score == null) {
+                    LOGGER.warn("Skipping invalid judgment score [{}] for query: {}", docScoreMap, queryEntry.getKey());
+                    continue;
+                }
+                docIdToScore.put(docId, score);
+            }
+        }
+    }
+
+    /**
+     * Merge the judgment scores of a single queryText, they override the scores already loaded for the same docId.
+     * The queryText must not be evaluated concurrently.
+     * @param queryText - judged queryText
+     * @param docIdToScore - judgment scores of the queryText
+     */
+    public void addRatings(String queryText, Map<String, String> docIdToScore) {
+        Map<String, Double> docIdToRating = new HashMap<>(ratings.getOrDefault(queryText, Collections.emptyMap()));
+        for (Map.Entry<String, String> docScore : docIdToScore.entrySet()) {
+            Double score = parseScore(docScore.getValue());
+            if (docScore.getKey() == null || score == null) {
+                LOGGER.warn("Skipping invalid judgment score [{}] for query: {}", docScore, queryText);
+                continue;
+            }
+            docIdToRating.put(docScore.getKey(), score);
+        }
+        ratings.put(queryText, docIdToRating);
+    }
+
+    /**
+     * Get docId to score map for a queryText, empty map if the queryText has no judgment.
+     */
+    public Map<String, Double> getRatings(String queryText) {
+        return ratings.getOrDefault(queryText, Collections.emptyMap());
+    }
+
+    public boolean isEmpty() {
+        return ratings.isEmpty();
+    }
+
+    private static Double parseScore(Object score) {
+        if (score instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (score instanceof String scoreString) {
+            try {
+                return Double.parseDouble(scoreString);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model.builder;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.hash.MessageDigests;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.builder.SearchSourceBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Search configuration compiled once into a reusable search request template.
+ * The query body is split around the queryText placeholder, the search pipeline and the excluded source fields are extracted
+ * upfront, so that building a search request for a queryText does not parse the stored query again.
+ */
+public final class SearchConfigurationTemplate {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(WILDCARD_QUERY_TEXT));
+
+    private static final String SEARCH_PIPELINE_FIELD_NAME = "search_pipeline";
+    private static final String QUERY_BODY_FIELD_NAME = "query";
+    private static final String SOURCE_FIELD_NAME = "_source";
+    private static final String EXCLUDE_FIELD_NAME = "exclude";
+
+    private final String index;
+    private final String searchPipeline;
+    /**
+     * query body split around every placeholder, the queryText goes between two consecutive segments
+     */
+    private final String[] queryBodySegments;
+    private final String pipelineBody;
+    private final String[] excludedFields;
+    /**
+     * digest of index, query and search pipeline, changes whenever the search configuration changes
+     */
+    private final String version;
+
+    private SearchConfigurationTemplate(
+        String index,
+        String searchPipeline,
+        String[] queryBodySegments,
+        String pipelineBody,
+        String[] excludedFields,
+        String version
+    ) {
+        this.index = index;
+        this.searchPipeline = searchPipeline;
+        this.queryBodySegments = queryBodySegments;
+        this.pipelineBody = pipelineBody;
+        this.excludedFields = excludedFields;
+        this.version = version;
+    }
+
+    /**
+     * Compile a search configuration, its query is parsed once
+     * @param index - target index to be searched against
+     * @param query - DSL query that includes queryBody and optional searchPipelineBody and excluding fields from source
+     * @param searchPipeline - searchPipeline if it is provided
+     * @return compiled template
+     */
+    public static SearchConfigurationTemplate compile(String index, String query, String searchPipeline) {
+        JsonNode rootNode = readQuery(query);
+        String queryBody = queryBody(rootNode);
+        if (queryBody == null) {
+            throw new IllegalArgumentException("Search configuration query must contain a query body");
+        }
+        return new SearchConfigurationTemplate(
+            index,
+            searchPipeline,
+            PLACEHOLDER_PATTERN.split(queryBody, -1),
+            pipelineBody(rootNode),
+            excludedFields(rootNode),
+            version(index, query, searchPipeline)
+        );
+    }
+
+    /**
+     * Compile every search configuration of an experiment
+     * @param indexAndQueries - "${searchConfigId}" to ["$index", "$queryPattern", "$searchPipeline"] map
+     * @return templates keyed by search configuration id, in the order of indexAndQueries
+     */
+    public static Map<String, SearchConfigurationTemplate> compileAll(Map<String, List<String>> indexAndQueries) {
+        Map<String, SearchConfigurationTemplate> templates = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : indexAndQueries.entrySet()) {
+            List<String> indexAndQuery = entry.getValue();
+            String searchPipeline = indexAndQuery.size() > 2 ? indexAndQuery.get(2) : null;
+            templates.put(entry.getKey(), compile(indexAndQuery.get(0), indexAndQuery.get(1), searchPipeline));
+        }
+        return Collections.unmodifiableMap(templates);
+    }
+
+    /**
+     * Build the search request of a queryText, searched through the search pipeline of the search configuration.
+     * Hits keep their source when a search pipeline is involved, since its response processors may read it.
+     * @param queryText - queryText to be substituted for the placeholder, escaped as JSON string content
+     * @param size - number of returned hits from the search
+     * @param idsOnly - whether neither source nor stored fields are fetched, for searches that only rank doc ids
+     * @return SearchRequest
+     */
+    public SearchRequest buildSearchRequest(String queryText, int size, boolean idsOnly) {
+        SearchRequest searchRequest = new SearchRequest(index);
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
+        searchSourceBuilder.query(QueryBuilders.wrapperQuery(substituteQueryText(queryText)));
+        searchSourceBuilder.size(size);
+
+        // set search pipeline from query if it's provided
+        if (pipelineBody != null) {
+            searchSourceBuilder.pipeline(pipelineBody);
+        }
+
+        boolean hasSearchPipeline = pipelineBody != null || (searchPipeline != null && !searchPipeline.isEmpty());
+        if (idsOnly && !hasSearchPipeline) {
+            // an empty stored fields list still returns the _id of every hit
+            searchSourceBuilder.fetchSource(false);
+            searchSourceBuilder.storedFields(Collections.emptyList());
+        } else if (excludedFields != null && excludedFields.length > 0) {
+            searchSourceBuilder.fetchSource(null, excludedFields);
+        }
+
+        // set search pipeline if searchPipeline is provided
+        if (searchPipeline != null && !searchPipeline.isEmpty()) {
+            searchRequest.pipeline(searchPipeline);
+        }
+
+        searchRequest.source(searchSourceBuilder);
+        return searchRequest;
+    }
+
+    public String index() {
+        return index;
+    }
+
+    public String searchPipeline() {
+        return searchPipeline;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /**
+     * Query body with the placeholders substituted by the queryText
+     */
+    String substituteQueryText(String queryText) {
+        if (queryBodySegments.length == 1) {
+            return queryBodySegments[0];
+        }
+        char[] escapedQueryText = JsonStringEncoder.getInstance().quoteAsString(queryText);
+        StringBuilder queryBody = new StringBuilder(queryBodySegments[0]);
+        for (int i = 1; i < queryBodySegments.length; i++) {
+            queryBody.append(escapedQueryText).append(queryBodySegments[i]);
+        }
+        return queryBody.toString();
+    }
+
+    static String version(String index, String query, String searchPipeline) {
+        String definition = String.join("\n", Objects.toString(index, ""), query, Objects.toString(searchPipeline, ""));
+        return MessageDigests.toHexString(MessageDigests.sha256().digest(definition.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    static JsonNode readQuery(String query) {
+        try {
+            return OBJECT_MAPPER.readTree(query);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to parse search configuration query", e);
+        }
+    }
+
+    static String pipelineBody(JsonNode rootNode) {
+        try {
+            JsonNode pipelineNode = rootNode.get(SEARCH_PIPELINE_FIELD_NAME);
+            return pipelineNode != null ? OBJECT_MAPPER.writeValueAsString(pipelineNode) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to parse pipeline body from query", e);
+        }
+    }
+
+    static String[] excludedFields(JsonNode rootNode) {
+        JsonNode sourceNode = rootNode.get(SOURCE_FIELD_NAME);
+        if (sourceNode != null && sourceNode.has(EXCLUDE_FIELD_NAME)) {
+            return OBJECT_MAPPER.convertValue(sourceNode.get(EXCLUDE_FIELD_NAME), String[].class);
+        }
+        return null;
+    }
+
+    static String queryBody(JsonNode rootNode) {
+        try {
+            JsonNode queryNode = rootNode.get(QUERY_BODY_FIELD_NAME);
+            return queryNode != null ? OBJECT_MAPPER.writeValueAsString(queryNode) : null;
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Failed to parse query body from query", e);
+        }
+    }
+}
@@ -7,28 +7,14 @@
  */
 package org.opensearch.searchrelevance.model.builder;
 
-import static org.opensearch.searchrelevance.common.PluginConstants.WILDCARD_QUERY_TEXT;
-
 import org.opensearch.action.search.SearchRequest;
-import org.opensearch.index.query.QueryBuilders;
-import org.opensearch.search.builder.SearchSourceBuilder;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
  * Common Search Request Builder for Search Configuration with placeholder with QueryText filled.
+ * Every call compiles the search configuration again, callers building many requests should reuse a {@link SearchConfigurationTemplate}.
  */
 public class SearchRequestBuilder {
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
-    private static final String SEARCH_PIPELINE_FIELD_NAME = "search_pipeline";
-    private static final String QUERY_BODY_FIELD_NAME = "query";
-    private static final String SOURCE_FIELD_NAME = "_source";
-    private static final String EXCLUDE_FIELD_NAME = "exclude";
-
     /**
      * Builds a search request with the given parameters.
      * @param index - target index to be searched against
@@ -39,63 +25,41 @@ public class SearchRequestBuilder {
      * @return SearchRequest
      */
     public static SearchRequest buildSearchRequest(String index, String query, String queryText, String searchPipeline, int size) {
-        SearchRequest searchRequest = new SearchRequest(index);
-        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder();
-
-        String processedQueryBody = fetchQueryBody(query).replace(WILDCARD_QUERY_TEXT, queryText);
-        searchSourceBuilder.query(QueryBuilders.wrapperQuery(processedQueryBody));
-        searchSourceBuilder.size(size);
-
-        String[] excludedFields = fetchExcludingFields(query);
-        if (excludedFields != null && excludedFields.length > 0) {
-            searchSourceBuilder.fetchSource(null, excludedFields);
-        }
-
-        // set search pipeline from query if it's provided
-        String pipelineBody = fetchPipelineBody(query);
-        if (pipelineBody != null) {
-            searchSourceBuilder.pipeline(pipelineBody);
-        }
-
-        // set search pipeline if searchPipeline is provided
-        if (searchPipeline != null && !searchPipeline.isEmpty()) {
-            searchRequest.pipeline(searchPipeline);
-        }
+        return buildSearchRequest(index, query, queryText, searchPipeline, size, false);
+    }
 
-        searchRequest.source(searchSourceBuilder);
-        return searchRequest;
+    /**
+     * Builds a search request with the given parameters, optionally fetching only the ids of the hits.
+     * Hits keep their source when a search pipeline is involved, since its response processors may read it.
+     * @param index - target index to be searched against
+     * @param query - DSL query that includes queryBody and optional searchPipelineBody and excluding fields from source
+     * @param queryText - queryText need to be replaced with placeholder
+     * @param searchPipeline - searchPipeline if it is provided
+     * @param size - number of returned hits from the search
+     * @param idsOnly - whether neither source nor stored fields are fetched, for searches that only rank doc ids
+     * @return SearchRequest
+     */
+    public static SearchRequest buildSearchRequest(
+        String index,
+        String query,
+        String queryText,
+        String searchPipeline,
+        int size,
+        boolean idsOnly
+    ) {
+        SearchConfigurationTemplate template = SearchConfigurationTemplate.compile(index, query, searchPipeline);
+        return template.buildSearchRequest(queryText, size, idsOnly);
     }
 
     public static String fetchPipelineBody(String query) {
-        try {
-            JsonNode rootNode = OBJECT_MAPPER.readTree(query);
-            JsonNode pipelineNode = rootNode.get(SEARCH_PIPELINE_FIELD_NAME);
-            return pipelineNode != null ? OBJECT_MAPPER.writeValueAsString(pipelineNode) : null;
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Failed to parse pipeline body from query", e);
-        }
+        return SearchConfigurationTemplate.pipelineBody(SearchConfigurationTemplate.readQuery(query));
     }
 
     public static String[] fetchExcludingFields(String query) {
-        try {
-            JsonNode rootNode = OBJECT_MAPPER.readTree(query);
-            JsonNode sourceNode = rootNode.get(SOURCE_FIELD_NAME);
-            if (sourceNode != null && sourceNode.has(EXCLUDE_FIELD_NAME)) {
-                return OBJECT_MAPPER.convertValue(sourceNode.get(EXCLUDE_FIELD_NAME), String[].class);
-            }
-            return null;
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Failed to parse excluded fields from query", e);
-        }
+        return SearchConfigurationTemplate.excludedFields(SearchConfigurationTemplate.readQuery(query));
     }
 
     public static String fetchQueryBody(String query) {
-        try {
-            JsonNode rootNode = OBJECT_MAPPER.readTree(query);
-            JsonNode queryNode = rootNode.get(QUERY_BODY_FIELD_NAME);
-            return queryNode != null ? OBJECT_MAPPER.writeValueAsString(queryNode) : null;
-        } catch (JsonProcessingException e) {
-            throw new IllegalArgumentException("Failed to parse query body from query", e);
-        }
+        return SearchConfigurationTemplate.queryBody(SearchConfigurationTemplate.readQuery(query));
     }
 }
@@ -9,8 +9,10 @@ package org.opensearch.searchrelevance.plugin;
 
 import static org.opensearch.searchrelevance.common.PluginConstants.EVALUATION_RESULT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_RESULT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_INDEX;
+import static org.opensearch.searchrelevance.common.PluginConstants.METRICS_THREAD_POOL_NAME;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERY_SET_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_CONFIGURATION_INDEX;
 
@@ -24,8 +26,10 @@ import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.IndexScopedSettings;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.settings.SettingsFilter;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
@@ -35,6 +39,7 @@ import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.ml.client.MachineLearningNodeClient;
 import org.opensearch.plugins.ActionPlugin;
 import org.opensearch.plugins.ClusterPlugin;
+import org.opensearch.plugins.ExtensiblePlugin;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.plugins.SystemIndexPlugin;
 import org.opensearch.repositories.RepositoriesService;
@@ -43,12 +48,21 @@ import org.opensearch.rest.RestHandler;
 import org.opensearch.script.ScriptService;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.MetricsTaskScheduler;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
 import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.metrics.PairedSignificanceTester;
+import org.opensearch.searchrelevance.metrics.calculator.EvaluationMetric;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
 import org.opensearch.searchrelevance.ml.MLAccessor;
 import org.opensearch.searchrelevance.rest.RestCreateQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestDeleteExperimentAction;
@@ -56,6 +70,8 @@ import org.opensearch.searchrelevance.rest.RestDeleteJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestDeleteQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestDeleteSearchConfigurationAction;
 import org.opensearch.searchrelevance.rest.RestGetExperimentAction;
+import org.opensearch.searchrelevance.rest.RestGetExperimentProgressAction;
+import org.opensearch.searchrelevance.rest.RestGetExperimentResultsAction;
 import org.opensearch.searchrelevance.rest.RestGetJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestGetQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestGetSearchConfigurationAction;
@@ -63,12 +79,26 @@ import org.opensearch.searchrelevance.rest.RestPutExperimentAction;
 import org.opensearch.searchrelevance.rest.RestPutJudgmentAction;
 import org.opensearch.searchrelevance.rest.RestPutQuerySetAction;
 import org.opensearch.searchrelevance.rest.RestPutSearchConfigurationAction;
+import org.opensearch.searchrelevance.rest.RestRerunExperimentAction;
+import org.opensearch.searchrelevance.rest.RestResumeExperimentAction;
+import org.opensearch.searchrelevance.rest.RestSearchResultCacheStatsAction;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentProgressAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentProgressTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentTransportAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.RerunExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.RerunExperimentTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentTransportAction;
+import org.opensearch.searchrelevance.transport.experiment.RunExperimentSliceAction;
+import org.opensearch.searchrelevance.transport.experiment.RunExperimentSliceTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.DeleteJudgmentAction;
 import org.opensearch.searchrelevance.transport.judgment.DeleteJudgmentTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.GetJudgmentAction;
@@ -89,11 +119,15 @@ import org.opensearch.searchrelevance.transport.searchConfiguration.GetSearchCon
 import org.opensearch.searchrelevance.transport.searchConfiguration.GetSearchConfigurationTransportAction;
 import org.opensearch.searchrelevance.transport.searchConfiguration.PutSearchConfigurationAction;
 import org.opensearch.searchrelevance.transport.searchConfiguration.PutSearchConfigurationTransportAction;
+import org.opensearch.searchrelevance.transport.stats.SearchResultCacheStatsAction;
+import org.opensearch.searchrelevance.transport.stats.SearchResultCacheStatsTransportAction;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 import org.opensearch.watcher.ResourceWatcherService;
 
-public class SearchRelevancePlugin extends Plugin implements ActionPlugin, SystemIndexPlugin, ClusterPlugin {
+public class SearchRelevancePlugin extends Plugin implements ActionPlugin, SystemIndexPlugin, ClusterPlugin, ExtensiblePlugin {
 
     private Client client;
     private ClusterService clusterService;
@@ -103,9 +137,18 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
     private ExperimentDao experimentDao;
     private JudgmentDao judgmentDao;
     private EvaluationResultDao evaluationResultDao;
+    private ExperimentResultDao experimentResultDao;
     private JudgmentCacheDao judgmentCacheDao;
     private MLAccessor mlAccessor;
+    private ExperimentSearchScheduler experimentSearchScheduler;
+    private SearchResultCache searchResultCache;
     private MetricsHelper metricsHelper;
+    private JudgmentsProcessorFactory judgmentsProcessorFactory;
+    private ExperimentRunner experimentRunner;
+    /**
+     * Metrics of the plugins that extend search-relevance, per plugin instance as every node of a test cluster has its own
+     */
+    private final MetricRegistry metricRegistry = new MetricRegistry();
 
     @Override
     public Collection<SystemIndexDescriptor> getSystemIndexDescriptors(Settings settings) {
@@ -115,7 +158,8 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             new SystemIndexDescriptor(EXPERIMENT_INDEX, "System index used for experiment data"),
             new SystemIndexDescriptor(JUDGMENT_INDEX, "System index used for judgment data"),
             new SystemIndexDescriptor(EVALUATION_RESULT_INDEX, "System index used for evaluation result data"),
-            new SystemIndexDescriptor(JUDGMENT_CACHE_INDEX, "System index used for judgment cache data")
+            new SystemIndexDescriptor(JUDGMENT_CACHE_INDEX, "System index used for judgment cache data"),
+            new SystemIndexDescriptor(EXPERIMENT_RESULT_INDEX, "System index used for experiment result data")
         );
     }
 
@@ -140,11 +184,43 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
         this.querySetDao = new QuerySetDao(searchRelevanceIndicesManager);
         this.searchConfigurationDao = new SearchConfigurationDao(searchRelevanceIndicesManager);
         this.judgmentDao = new JudgmentDao(searchRelevanceIndicesManager);
-        this.evaluationResultDao = new EvaluationResultDao(searchRelevanceIndicesManager);
+        this.evaluationResultDao = new EvaluationResultDao(searchRelevanceIndicesManager, threadPool, clusterService);
         this.judgmentCacheDao = new JudgmentCacheDao(searchRelevanceIndicesManager);
+        this.experimentResultDao = new ExperimentResultDao(searchRelevanceIndicesManager, threadPool, clusterService);
         MachineLearningNodeClient mlClient = new MachineLearningNodeClient(client);
         this.mlAccessor = new MLAccessor(mlClient);
-        this.metricsHelper = new MetricsHelper(clusterService, client, judgmentDao, evaluationResultDao);
+        this.experimentSearchScheduler = new ExperimentSearchScheduler(client, threadPool, clusterService);
+        this.searchResultCache = new SearchResultCache(client, clusterService);
+        // pairwise comparisons and significance tests of all experiments share the metrics thread pool by priority
+        MetricsTaskScheduler metricsTaskScheduler = new MetricsTaskScheduler(threadPool, clusterService);
+        this.metricsHelper = new MetricsHelper(
+            clusterService,
+            evaluationResultDao,
+            experimentSearchScheduler,
+            searchResultCache,
+            metricsTaskScheduler
+        );
+        this.judgmentsProcessorFactory = new JudgmentsProcessorFactory(
+            mlAccessor,
+            querySetDao,
+            searchConfigurationDao,
+            judgmentCacheDao,
+            searchResultCache,
+            client
+        );
+        this.experimentRunner = new ExperimentRunner(
+            experimentDao,
+            experimentResultDao,
+            searchConfigurationDao,
+            judgmentDao,
+            evaluationResultDao,
+            metricsHelper,
+            new PairedSignificanceTester(metricsTaskScheduler),
+            judgmentsProcessorFactory,
+            experimentSearchScheduler,
+            threadPool,
+            clusterService
+        );
         return List.of(
             searchRelevanceIndicesManager,
             querySetDao,
@@ -153,8 +229,14 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             judgmentDao,
             evaluationResultDao,
             judgmentCacheDao,
+            experimentResultDao,
             mlAccessor,
-            metricsHelper
+            experimentSearchScheduler,
+            searchResultCache,
+            metricsHelper,
+            judgmentsProcessorFactory,
+            experimentRunner,
+            metricRegistry
         );
     }
 
@@ -179,9 +261,14 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             new RestPutSearchConfigurationAction(),
             new RestDeleteSearchConfigurationAction(),
             new RestGetSearchConfigurationAction(),
-            new RestPutExperimentAction(),
+            new RestPutExperimentAction(metricRegistry),
             new RestGetExperimentAction(),
-            new RestDeleteExperimentAction()
+            new RestDeleteExperimentAction(),
+            new RestResumeExperimentAction(),
+            new RestRerunExperimentAction(),
+            new RestGetExperimentResultsAction(),
+            new RestGetExperimentProgressAction(),
+            new RestSearchResultCacheStatsAction()
         );
     }
 
@@ -200,7 +287,40 @@ public class SearchRelevancePlugin extends Plugin implements ActionPlugin, Syste
             new ActionHandler<>(GetSearchConfigurationAction.INSTANCE, GetSearchConfigurationTransportAction.class),
             new ActionHandler<>(PutExperimentAction.INSTANCE, PutExperimentTransportAction.class),
             new ActionHandler<>(DeleteExperimentAction.INSTANCE, DeleteExperimentTransportAction.class),
-            new ActionHandler<>(GetExperimentAction.INSTANCE, GetExperimentTransportAction.class)
+            new ActionHandler<>(GetExperimentAction.INSTANCE, GetExperimentTransportAction.class),
+            new ActionHandler<>(ResumeExperimentAction.INSTANCE, ResumeExperimentTransportAction.class),
+            new ActionHandler<>(RerunExperimentAction.INSTANCE, RerunExperimentTransportAction.class),
+            new ActionHandler<>(GetExperimentResultsAction.INSTANCE, GetExperimentResultsTransportAction.class),
+            new ActionHandler<>(GetExperimentProgressAction.INSTANCE, GetExperimentProgressTransportAction.class),
+            new ActionHandler<>(RunExperimentSliceAction.INSTANCE, RunExperimentSliceTransportAction.class),
+            new ActionHandler<>(SearchResultCacheStatsAction.INSTANCE, SearchResultCacheStatsTransportAction.class)
         );
     }
+
+    @Override
+    public List<Setting<?>> getSettings() {
+        return SearchRelevanceSettings.getAllSettings();
+    }
+
+    @Override
+    public List<ExecutorBuilder<?>> getExecutorBuilders(Settings settings) {
+        // metric tasks are bounded by the in-flight query batches of the running experiments, hence the unbounded queue
+        return List.of(
+            new FixedExecutorBuilder(
+                settings,
+                METRICS_THREAD_POOL_NAME,
+                OpenSearchExecutors.allocatedProcessors(settings),
+                -1,
+                "thread_pool." + METRICS_THREAD_POOL_NAME
+            )
+        );
+    }
+
+    @Override
+    public void loadExtensions(ExtensionLoader loader) {
+        // evaluation metrics of plugins that extend search-relevance, requested by name in experiments
+        for (EvaluationMetric metric : loader.loadExtensions(EvaluationMetric.class)) {
+            metricRegistry.register(metric);
+        }
+    }
 }
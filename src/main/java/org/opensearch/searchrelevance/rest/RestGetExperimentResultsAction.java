@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOCUMENT_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
+import static org.opensearch.searchrelevance.common.PluginConstants.QUERY_TEXT;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsAction;
+import org.opensearch.transport.client.node.NodeClient;
+
+/**
+ * Rest Action to page through the per queryText results of an experiment, optionally filtered by query_text.
+ */
+public class RestGetExperimentResultsAction extends BaseRestHandler {
+    private static final Logger LOGGER = LogManager.getLogger(RestGetExperimentResultsAction.class);
+    private static final String GET_EXPERIMENT_RESULTS_ACTION = "get_experiment_results_action";
+    private static final String FROM = "from";
+    private static final String SIZE = "size";
+    private static final int DEFAULT_SIZE = 100;
+    private static final int MAX_SIZE = 1000;
+
+    @Override
+    public String getName() {
+        return GET_EXPERIMENT_RESULTS_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return List.of(new Route(GET, String.format(Locale.ROOT, "%s/{%s}/results", EXPERIMENTS_URI, DOCUMENT_ID)));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        final String experimentId = request.param(DOCUMENT_ID);
+        if (experimentId == null || experimentId.isEmpty()) {
+            throw new SearchRelevanceException("id cannot be null", RestStatus.BAD_REQUEST);
+        }
+        final String queryText = request.param(QUERY_TEXT);
+        final int from = request.paramAsInt(FROM, 0);
+        final int size = request.paramAsInt(SIZE, DEFAULT_SIZE);
+        if (from < 0 || size < 0 || size > MAX_SIZE) {
+            throw new SearchRelevanceException(
+                String.format(Locale.ROOT, "from must be non-negative and size between 0 and %d", MAX_SIZE),
+                RestStatus.BAD_REQUEST
+            );
+        }
+
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().from(from)
+            .size(size)
+            .trackTotalHits(true)
+            .sort(ExperimentResult.QUERY_TEXT, SortOrder.ASC);
+        if (queryText != null) {
+            searchSourceBuilder.query(QueryBuilders.termQuery(ExperimentResult.QUERY_TEXT, queryText));
+        }
+        OpenSearchDocRequest getRequest = new OpenSearchDocRequest(experimentId, searchSourceBuilder);
+
+        return channel -> client.execute(GetExperimentResultsAction.INSTANCE, getRequest, new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(SearchResponse response) {
+                try {
+                    XContentBuilder builder = channel.newBuilder();
+                    response.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                    channel.sendResponse(new BytesRestResponse(response.status(), builder));
+                } catch (IOException e) {
+                    onFailure(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    channel.sendResponse(new BytesRestResponse(channel, e));
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to send error response", ex);
+                }
+            }
+        });
+    }
+}
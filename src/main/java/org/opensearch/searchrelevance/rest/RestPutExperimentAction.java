@@ -12,12 +12,16 @@ import static org.opensearch.rest.RestRequest.Method.PUT;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -25,6 +29,10 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.rest.BaseRestHandler;
 import org.opensearch.rest.BytesRestResponse;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
 import org.opensearch.searchrelevance.model.ExperimentType;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
@@ -38,6 +46,12 @@ public class RestPutExperimentAction extends BaseRestHandler {
     private static final Logger LOGGER = LogManager.getLogger(RestPutExperimentAction.class);
     private static final String PUT_EXPERIMENT_ACTION = "put_experiment_action";
 
+    private final MetricRegistry metricRegistry;
+
+    public RestPutExperimentAction(MetricRegistry metricRegistry) {
+        this.metricRegistry = metricRegistry;
+    }
+
     @Override
     public String getName() {
         return PUT_EXPERIMENT_ACTION;
@@ -59,6 +73,16 @@ public class RestPutExperimentAction extends BaseRestHandler {
         List<String> judgmentList = ParserUtils.convertObjToList(source, "judgmentList");
         // modelId is for runtime llm judgment generation
         String modelId = (String) source.get("modelId");
+        // optional time budget of the whole experiment and timeout of every single search, e.g. "10m" and "500ms",
+        // a value without unit such as 600 fails to parse as a bad request
+        TimeValue timeBudget = TimeValue.parseTimeValue(Objects.toString(source.get("timeBudget"), null), null, "timeBudget");
+        TimeValue searchTimeout = TimeValue.parseTimeValue(Objects.toString(source.get("searchTimeout"), null), null, "searchTimeout");
+        if (timeBudget != null && timeBudget.nanos() <= 0) {
+            throw new SearchRelevanceException("timeBudget must be positive", RestStatus.BAD_REQUEST);
+        }
+        if (searchTimeout != null && searchTimeout.nanos() <= 0) {
+            throw new SearchRelevanceException("searchTimeout must be positive", RestStatus.BAD_REQUEST);
+        }
 
         String typeString = (String) source.get("type");
         ExperimentType type;
@@ -67,6 +91,23 @@ public class RestPutExperimentAction extends BaseRestHandler {
         } catch (IllegalArgumentException | NullPointerException e) {
             throw new IllegalArgumentException("Invalid or missing experiment type", e);
         }
+        // interactive experiments are scheduled ahead of batch experiments, see ExperimentSearchScheduler
+        String priorityString = Objects.toString(source.get("priority"), null);
+        ExperimentPriority priority;
+        try {
+            priority = priorityString == null
+                ? ExperimentPriority.BATCH
+                : ExperimentPriority.valueOf(priorityString.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new SearchRelevanceException(
+                "Invalid experiment priority [" + priorityString + "], allowed values are " + Arrays.toString(ExperimentPriority.values()),
+                RestStatus.BAD_REQUEST
+            );
+        }
+        // evaluation metrics with optional cutoffs, e.g. ["ndcg@10", "recall@20", "mrr"]
+        List<MetricSpec> metrics = source.containsKey("metrics")
+            ? MetricSpec.parseAll(ParserUtils.convertObjToList(source, "metrics"), metricRegistry)
+            : MetricSpec.DEFAULT_METRICS;
 
         PutExperimentRequest createRequest = new PutExperimentRequest(
             type,
@@ -74,7 +115,11 @@ public class RestPutExperimentAction extends BaseRestHandler {
             searchConfigurationList,
             judgmentList,
             modelId,
-            size
+            size,
+            timeBudget,
+            searchTimeout,
+            priority,
+            metrics
         );
 
         return channel -> client.execute(PutExperimentAction.INSTANCE, createRequest, new ActionListener<IndexResponse>() {
@@ -0,0 +1,99 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.searchrelevance.common.PluginConstants.DOCUMENT_ID;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENTS_URI;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.transport.experiment.RerunExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.RerunExperimentRequest;
+import org.opensearch.searchrelevance.utils.ParserUtils;
+import org.opensearch.transport.client.node.NodeClient;
+
+/**
+ * Rest Action to re-run a previous experiment, only the evaluations affected by changes since the previous run are recomputed.
+ * The optional body overrides the searchConfigurationList and the judgmentList of the previous experiment.
+ */
+public class RestRerunExperimentAction extends BaseRestHandler {
+    private static final Logger LOGGER = LogManager.getLogger(RestRerunExperimentAction.class);
+    private static final String RERUN_EXPERIMENT_ACTION = "rerun_experiment_action";
+
+    @Override
+    public String getName() {
+        return RERUN_EXPERIMENT_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(POST, String.format(Locale.ROOT, "%s/{%s}/_rerun", EXPERIMENTS_URI, DOCUMENT_ID)));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        final String experimentId = request.param(DOCUMENT_ID);
+        if (experimentId == null) {
+            throw new SearchRelevanceException("id cannot be null", RestStatus.BAD_REQUEST);
+        }
+        List<String> searchConfigurationList = null;
+        List<String> judgmentList = null;
+        if (request.hasContent()) {
+            XContentParser parser = request.contentParser();
+            Map<String, Object> source = parser.map();
+            if (source.containsKey(Experiment.SEARCH_CONFIGURATION_LIST)) {
+                searchConfigurationList = ParserUtils.convertObjToList(source, Experiment.SEARCH_CONFIGURATION_LIST);
+            }
+            if (source.containsKey(Experiment.JUDGMENT_LIST)) {
+                judgmentList = ParserUtils.convertObjToList(source, Experiment.JUDGMENT_LIST);
+            }
+        }
+        RerunExperimentRequest rerunRequest = new RerunExperimentRequest(experimentId, searchConfigurationList, judgmentList);
+        return channel -> client.execute(RerunExperimentAction.INSTANCE, rerunRequest, new ActionListener<IndexResponse>() {
+            @Override
+            public void onResponse(IndexResponse response) {
+                try {
+                    XContentBuilder builder = channel.newBuilder();
+                    builder.startObject();
+                    builder.field("experiment_id", response.getId());
+                    builder.field("experiment_result", response.getResult());
+                    builder.endObject();
+                    channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+                } catch (IOException e) {
+                    onFailure(e);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                try {
+                    channel.sendResponse(new BytesRestResponse(channel, e));
+                } catch (IOException ex) {
+                    LOGGER.error("Failed to send error response", ex);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.rest;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.searchrelevance.common.PluginConstants.SEARCH_RESULT_CACHE_URI;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.searchrelevance.transport.stats.SearchResultCacheStatsAction;
+import org.opensearch.searchrelevance.transport.stats.SearchResultCacheStatsRequest;
+import org.opensearch.searchrelevance.transport.stats.SearchResultCacheStatsResponse;
+import org.opensearch.transport.client.node.NodeClient;
+
+/**
+ * Rest Action to get the hit and miss stats of the search result cache of every node.
+ */
+public class RestSearchResultCacheStatsAction extends BaseRestHandler {
+    private static final Logger LOGGER = LogManager.getLogger(RestSearchResultCacheStatsAction.class);
+    private static final String SEARCH_RESULT_CACHE_STATS_ACTION = "search_result_cache_stats_action";
+    private static final String NODES = "nodes";
+
+    @Override
+    public String getName() {
+        return SEARCH_RESULT_CACHE_STATS_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(GET, SEARCH_RESULT_CACHE_URI + "/_stats"));
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        SearchResultCacheStatsRequest statsRequest = new SearchResultCacheStatsRequest(
+            Strings.splitStringByCommaToArray(request.param(NODES))
+        );
+        return channel -> client.execute(
+            SearchResultCacheStatsAction.INSTANCE,
+            statsRequest,
+            new ActionListener<SearchResultCacheStatsResponse>() {
+                @Override
+                public void onResponse(SearchResultCacheStatsResponse response) {
+                    try {
+                        XContentBuilder builder = channel.newBuilder();
+                        response.toXContent(builder, ToXContent.EMPTY_PARAMS);
+                        channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+                    } catch (IOException e) {
+                        onFailure(e);
+                    }
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    try {
+                        channel.sendResponse(new BytesRestResponse(channel, e));
+                    } catch (IOException ex) {
+                        LOGGER.error("Failed to send error response", ex);
+                    }
+                }
+            }
+        );
+    }
+}
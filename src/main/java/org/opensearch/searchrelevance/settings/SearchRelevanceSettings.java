@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.settings;
+
+import java.util.List;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
+
+/**
+ * Settings of the search relevance plugin.
+ */
+public final class SearchRelevanceSettings {
+    private SearchRelevanceSettings() {}
+
+    public static final String SETTING_PREFIX = "plugins.search_relevance.";
+
+    /**
+     * Max number of in-flight searches of a single experiment.
+     */
+    public static final Setting<Integer> EXPERIMENT_MAX_CONCURRENT_SEARCHES = Setting.intSetting(
+        SETTING_PREFIX + "experiment.max_concurrent_searches",
+        10,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max number of in-flight experiment searches on a node, shared by all running experiments.
+     */
+    public static final Setting<Integer> NODE_MAX_CONCURRENT_SEARCHES = Setting.intSetting(
+        SETTING_PREFIX + "node.max_concurrent_searches",
+        50,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Initial delay before a rejected experiment search is retried, doubled on each further rejection.
+     */
+    public static final Setting<TimeValue> SEARCH_REJECTION_BACKOFF = Setting.positiveTimeSetting(
+        SETTING_PREFIX + "experiment.search_rejection_backoff",
+        TimeValue.timeValueMillis(100),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max number of retries of a rejected experiment search before it fails.
+     */
+    public static final Setting<Integer> SEARCH_REJECTION_MAX_RETRIES = Setting.intSetting(
+        SETTING_PREFIX + "experiment.search_rejection_max_retries",
+        8,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max number of searches sent to the cluster in a single multi-search request of an experiment.
+     */
+    public static final Setting<Integer> EXPERIMENT_MULTI_SEARCH_BATCH_SIZE = Setting.intSetting(
+        SETTING_PREFIX + "experiment.multi_search_batch_size",
+        10,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max number of evaluation results buffered by an experiment before they are written in one bulk request.
+     */
+    public static final Setting<Integer> EVALUATION_RESULT_BULK_SIZE = Setting.intSetting(
+        SETTING_PREFIX + "experiment.evaluation_result_bulk_size",
+        500,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max time an evaluation result stays buffered before the buffer is written, even when not full.
+     */
+    public static final Setting<TimeValue> EVALUATION_RESULT_FLUSH_INTERVAL = Setting.positiveTimeSetting(
+        SETTING_PREFIX + "experiment.evaluation_result_flush_interval",
+        TimeValue.timeValueSeconds(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max number of completed query texts buffered by an experiment before they are checkpointed in one bulk request.
+     */
+    public static final Setting<Integer> EXPERIMENT_CHECKPOINT_BATCH_SIZE = Setting.intSetting(
+        SETTING_PREFIX + "experiment.checkpoint_batch_size",
+        100,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max time a completed query text stays buffered before it is checkpointed, even when the batch is not full.
+     */
+    public static final Setting<TimeValue> EXPERIMENT_CHECKPOINT_INTERVAL = Setting.positiveTimeSetting(
+        SETTING_PREFIX + "experiment.checkpoint_interval",
+        TimeValue.timeValueSeconds(10),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Interval at which the progress of a running experiment is written to the experiment document.
+     */
+    public static final Setting<TimeValue> EXPERIMENT_PROGRESS_FLUSH_INTERVAL = Setting.positiveTimeSetting(
+        SETTING_PREFIX + "experiment.progress_flush_interval",
+        TimeValue.timeValueSeconds(10),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Time without progress after which a PROCESSING experiment is considered abandoned and can be resumed,
+     * even if its owner node is still in the cluster. Should be well above the progress flush interval.
+     */
+    public static final Setting<TimeValue> EXPERIMENT_RESUME_STALE_TIMEOUT = Setting.positiveTimeSetting(
+        SETTING_PREFIX + "experiment.resume_stale_timeout",
+        TimeValue.timeValueMinutes(10),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Minimum number of queryTexts per node when the queryTexts of an experiment are distributed across the cluster,
+     * experiments with fewer queryTexts run on the node that receives them.
+     */
+    public static final Setting<Integer> EXPERIMENT_MIN_QUERIES_PER_NODE = Setting.intSetting(
+        SETTING_PREFIX + "experiment.distribution.min_queries_per_node",
+        100,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max time the coordinating node waits for a slice evaluated on another node when the experiment has no time budget.
+     * Slices of an experiment with a time budget time out once the budget left is spent, plus a short grace period.
+     */
+    public static final Setting<TimeValue> EXPERIMENT_SLICE_TIMEOUT = Setting.positiveTimeSetting(
+        SETTING_PREFIX + "experiment.distribution.slice_timeout",
+        TimeValue.timeValueHours(1),
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Max number of doc ids held by the node level search result cache, 0 disables the cache.
+     */
+    public static final Setting<Long> SEARCH_RESULT_CACHE_MAX_DOC_IDS = Setting.longSetting(
+        SETTING_PREFIX + "search_result_cache.max_doc_ids",
+        500_000L,
+        0L,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Number of resamples of the paired bootstrap and randomization tests between the search configurations of an experiment,
+     * 0 disables the significance tests.
+     */
+    public static final Setting<Integer> EXPERIMENT_SIGNIFICANCE_RESAMPLES = Setting.intSetting(
+        SETTING_PREFIX + "experiment.significance.resamples",
+        10000,
+        0,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    /**
+     * Share of the node's experiment searches given to INTERACTIVE experiments relative to BATCH experiments
+     * while both have searches waiting, e.g. 4 serves four INTERACTIVE searches for every BATCH search.
+     * The metric tasks of experiments share the metrics thread pool with the same weight.
+     */
+    public static final Setting<Integer> EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT = Setting.intSetting(
+        SETTING_PREFIX + "experiment.interactive_priority_weight",
+        4,
+        1,
+        Setting.Property.NodeScope,
+        Setting.Property.Dynamic
+    );
+
+    public static List<Setting<?>> getAllSettings() {
+        return List.of(
+            EXPERIMENT_MAX_CONCURRENT_SEARCHES,
+            NODE_MAX_CONCURRENT_SEARCHES,
+            SEARCH_REJECTION_BACKOFF,
+            SEARCH_REJECTION_MAX_RETRIES,
+            EXPERIMENT_MULTI_SEARCH_BATCH_SIZE,
+            EVALUATION_RESULT_BULK_SIZE,
+            EVALUATION_RESULT_FLUSH_INTERVAL,
+            EXPERIMENT_CHECKPOINT_BATCH_SIZE,
+            EXPERIMENT_CHECKPOINT_INTERVAL,
+            EXPERIMENT_PROGRESS_FLUSH_INTERVAL,
+            EXPERIMENT_RESUME_STALE_TIMEOUT,
+            EXPERIMENT_MIN_QUERIES_PER_NODE,
+            EXPERIMENT_SLICE_TIMEOUT,
+            SEARCH_RESULT_CACHE_MAX_DOC_IDS,
+            EXPERIMENT_SIGNIFICANCE_RESAMPLES,
+            EXPERIMENT_INTERACTIVE_PRIORITY_WEIGHT
+        );
+    }
+}
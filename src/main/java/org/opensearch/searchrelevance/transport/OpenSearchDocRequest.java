@@ -32,6 +32,11 @@ public class OpenSearchDocRequest extends ActionRequest {
         this.searchSourceBuilder = searchSourceBuilder;
     }
 
+    public OpenSearchDocRequest(String id, SearchSourceBuilder searchSourceBuilder) {
+        this.id = id;
+        this.searchSourceBuilder = searchSourceBuilder;
+    }
+
     public OpenSearchDocRequest(StreamInput in) throws IOException {
         super(in);
         this.id = in.readString();
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Transport Response with the progress of an experiment.
+ * The progress is live when the experiment runs on the node that served the request,
+ * otherwise it is the progress last written to the experiment document.
+ */
+public class ExperimentProgressResponse extends ActionResponse implements ToXContentObject {
+    private static final String EXPERIMENT_ID = "experiment_id";
+    private static final String STATUS = "status";
+    private static final String LIVE = "live";
+    private static final String PROGRESS = "progress";
+
+    private final String experimentId;
+    private final String status;
+    private final boolean live;
+    private final Map<String, Object> progress;
+
+    public ExperimentProgressResponse(String experimentId, String status, boolean live, Map<String, Object> progress) {
+        this.experimentId = experimentId;
+        this.status = status;
+        this.live = live;
+        this.progress = progress;
+    }
+
+    public ExperimentProgressResponse(StreamInput in) throws IOException {
+        super(in);
+        this.experimentId = in.readString();
+        this.status = in.readString();
+        this.live = in.readBoolean();
+        this.progress = in.readMap();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(experimentId);
+        out.writeString(status);
+        out.writeBoolean(live);
+        out.writeMap(progress);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(EXPERIMENT_ID, experimentId);
+        builder.field(STATUS, status);
+        builder.field(LIVE, live);
+        builder.field(PROGRESS, progress);
+        return builder.endObject();
+    }
+
+    public String getExperimentId() {
+        return experimentId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public boolean isLive() {
+        return live;
+    }
+
+    public Map<String, Object> getProgress() {
+        return progress;
+    }
+}
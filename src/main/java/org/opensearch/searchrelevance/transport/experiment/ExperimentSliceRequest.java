@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.tasks.TaskId;
+import org.opensearch.searchrelevance.executors.SearchRelevanceTask;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.tasks.Task;
+
+/**
+ * Transport Request to evaluate a slice of the queryTexts of an experiment.
+ * The search configurations are resolved once by the coordinating node and sent with every slice.
+ */
+public class ExperimentSliceRequest extends ActionRequest {
+    private final String experimentId;
+    private final PutExperimentRequest experimentRequest;
+    /**
+     * index, query and optional search pipeline keyed by search configuration id
+     */
+    private final Map<String, List<String>> indexAndQueries;
+    private final List<String> queryTexts;
+    /**
+     * evaluation references per queryText and search configuration id of the experiment being re-run, for the slice queryTexts
+     */
+    private final Map<String, Map<String, EvaluationReference>> previousEvaluations;
+    /**
+     * time budget left when the slice was sent, null if the experiment has no time budget
+     */
+    private final TimeValue timeBudget;
+
+    public ExperimentSliceRequest(
+        String experimentId,
+        PutExperimentRequest experimentRequest,
+        Map<String, List<String>> indexAndQueries,
+        List<String> queryTexts,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations,
+        TimeValue timeBudget
+    ) {
+        this.experimentId = experimentId;
+        this.experimentRequest = experimentRequest;
+        this.indexAndQueries = indexAndQueries;
+        this.queryTexts = queryTexts;
+        this.previousEvaluations = previousEvaluations;
+        this.timeBudget = timeBudget;
+    }
+
+    /**
+     * @param in - stream to read the request from
+     * @param metricRegistry - metrics registered on the node evaluating the slice, to resolve the experiment metrics against
+     */
+    public ExperimentSliceRequest(StreamInput in, MetricRegistry metricRegistry) throws IOException {
+        super(in);
+        this.experimentId = in.readString();
+        this.experimentRequest = new PutExperimentRequest(in, metricRegistry);
+        this.indexAndQueries = in.readMap(StreamInput::readString, input -> input.readList(StreamInput::readOptionalString));
+        this.queryTexts = in.readStringList();
+        this.previousEvaluations = in.readMap(
+            StreamInput::readString,
+            input -> input.readMap(StreamInput::readString, EvaluationReference::new)
+        );
+        this.timeBudget = in.readOptionalTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(experimentId);
+        experimentRequest.writeTo(out);
+        out.writeMap(
+            indexAndQueries,
+            StreamOutput::writeString,
+            (output, values) -> output.writeCollection(values, StreamOutput::writeOptionalString)
+        );
+        out.writeStringCollection(queryTexts);
+        out.writeMap(
+            previousEvaluations,
+            StreamOutput::writeString,
+            (output, evaluations) -> output.writeMap(evaluations, StreamOutput::writeString, (o, evaluation) -> evaluation.writeTo(o))
+        );
+        out.writeOptionalTimeValue(timeBudget);
+    }
+
+    public String getExperimentId() {
+        return experimentId;
+    }
+
+    public PutExperimentRequest getExperimentRequest() {
+        return experimentRequest;
+    }
+
+    public Map<String, List<String>> getIndexAndQueries() {
+        return indexAndQueries;
+    }
+
+    public List<String> getQueryTexts() {
+        return queryTexts;
+    }
+
+    public Map<String, Map<String, EvaluationReference>> getPreviousEvaluations() {
+        return previousEvaluations;
+    }
+
+    public TimeValue getTimeBudget() {
+        return timeBudget;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+
+    @Override
+    public String getDescription() {
+        return "experiment[" + experimentId + "] slice of " + queryTexts.size() + " queryTexts";
+    }
+
+    /**
+     * Slices are cancelled together with the experiment task of the coordinating node
+     */
+    @Override
+    public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+        return new SearchRelevanceTask(id, type, action, getDescription(), parentTaskId, headers);
+    }
+}
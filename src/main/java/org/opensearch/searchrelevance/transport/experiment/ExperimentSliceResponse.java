@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+
+import org.opensearch.core.action.ActionResponse;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.metrics.EvaluationSummary;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+
+/**
+ * Transport Response of an evaluated experiment slice.
+ * The results of the slice are already stored by the node that evaluated it, only the counters and the
+ * metric aggregates are returned.
+ */
+public class ExperimentSliceResponse extends ActionResponse {
+    private final int completedQueries;
+    private final int skippedQueries;
+    private final long searchesIssued;
+    private final long searchFailures;
+    private final long searchTimeouts;
+    private final PairwiseSummary pairwiseSummary;
+    private final EvaluationSummary evaluationSummary;
+
+    public ExperimentSliceResponse(
+        int completedQueries,
+        int skippedQueries,
+        long searchesIssued,
+        long searchFailures,
+        long searchTimeouts,
+        PairwiseSummary pairwiseSummary,
+        EvaluationSummary evaluationSummary
+    ) {
+        this.completedQueries = completedQueries;
+        this.skippedQueries = skippedQueries;
+        this.searchesIssued = searchesIssued;
+        this.searchFailures = searchFailures;
+        this.searchTimeouts = searchTimeouts;
+        this.pairwiseSummary = pairwiseSummary;
+        this.evaluationSummary = evaluationSummary;
+    }
+
+    public ExperimentSliceResponse(StreamInput in) throws IOException {
+        super(in);
+        this.completedQueries = in.readVInt();
+        this.skippedQueries = in.readVInt();
+        this.searchesIssued = in.readVLong();
+        this.searchFailures = in.readVLong();
+        this.searchTimeouts = in.readVLong();
+        this.pairwiseSummary = new PairwiseSummary(in);
+        this.evaluationSummary = new EvaluationSummary(in);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(completedQueries);
+        out.writeVInt(skippedQueries);
+        out.writeVLong(searchesIssued);
+        out.writeVLong(searchFailures);
+        out.writeVLong(searchTimeouts);
+        pairwiseSummary.writeTo(out);
+        evaluationSummary.writeTo(out);
+    }
+
+    public int getCompletedQueries() {
+        return completedQueries;
+    }
+
+    /**
+     * QueryTexts of the slice skipped because the time budget of the experiment expired before they were evaluated
+     */
+    public int getSkippedQueries() {
+        return skippedQueries;
+    }
+
+    public long getSearchesIssued() {
+        return searchesIssued;
+    }
+
+    public long getSearchFailures() {
+        return searchFailures;
+    }
+
+    public long getSearchTimeouts() {
+        return searchTimeouts;
+    }
+
+    public PairwiseSummary getPairwiseSummary() {
+        return pairwiseSummary;
+    }
+
+    public EvaluationSummary getEvaluationSummary() {
+        return evaluationSummary;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * External Action for public facing RestGetExperimentProgressAction
+ */
+public class GetExperimentProgressAction extends ActionType<ExperimentProgressResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "experiment/progress/get";
+
+    /** An instance of this action */
+    public static final GetExperimentProgressAction INSTANCE = new GetExperimentProgressAction();
+
+    private GetExperimentProgressAction() {
+        super(NAME, ExperimentProgressResponse::new);
+    }
+}
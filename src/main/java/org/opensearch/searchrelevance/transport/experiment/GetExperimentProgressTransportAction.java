@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.util.Map;
+
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentProgress;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Handles transport actions for getting the progress of an experiment.
+ * Experiments running on the local node report live counters, experiments running on another node of the cluster are asked
+ * to their owner node, others report the progress stored in the experiment.
+ */
+public class GetExperimentProgressTransportAction extends HandledTransportAction<OpenSearchDocRequest, ExperimentProgressResponse> {
+    private final ClusterService clusterService;
+    private final TransportService transportService;
+    private final ExperimentDao experimentDao;
+    private final ExperimentRunner experimentRunner;
+
+    @Inject
+    public GetExperimentProgressTransportAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentDao experimentDao,
+        ExperimentRunner experimentRunner
+    ) {
+        super(GetExperimentProgressAction.NAME, transportService, actionFilters, OpenSearchDocRequest::new);
+        this.clusterService = clusterService;
+        this.transportService = transportService;
+        this.experimentDao = experimentDao;
+        this.experimentRunner = experimentRunner;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenSearchDocRequest request, ActionListener<ExperimentProgressResponse> listener) {
+        String experimentId = request.getId();
+        if (experimentId == null || experimentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("experimentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+
+        ExperimentProgress progress = experimentRunner.getProgress(experimentId);
+        if (progress != null) {
+            listener.onResponse(new ExperimentProgressResponse(experimentId, AsyncStatus.PROCESSING.name(), true, progress.toMap()));
+            return;
+        }
+
+        experimentDao.getExperimentSource(experimentId, ActionListener.wrap(source -> {
+            Map<String, Object> storedProgress = (Map<String, Object>) source.get(Experiment.PROGRESS);
+            ExperimentProgressResponse storedResponse = new ExperimentProgressResponse(
+                experimentId,
+                (String) source.get(Experiment.STATUS),
+                false,
+                storedProgress == null ? Map.of() : storedProgress
+            );
+            DiscoveryNode ownerNode = remoteOwnerNode(source);
+            if (ownerNode == null) {
+                listener.onResponse(storedResponse);
+                return;
+            }
+            // the owner node has the live counters, the stored progress is the fallback when it cannot be reached
+            transportService.sendRequest(
+                ownerNode,
+                GetExperimentProgressAction.NAME,
+                request,
+                new ActionListenerResponseHandler<>(
+                    ActionListener.wrap(listener::onResponse, e -> listener.onResponse(storedResponse)),
+                    ExperimentProgressResponse::new
+                )
+            );
+        }, listener::onFailure));
+    }
+
+    /**
+     * Owner node of a running experiment when it is another node of the cluster, null otherwise
+     */
+    private DiscoveryNode remoteOwnerNode(Map<String, Object> source) {
+        if (AsyncStatus.PROCESSING.name().equals(source.get(Experiment.STATUS)) == false) {
+            return null;
+        }
+        String ownerNodeId = (String) source.get(Experiment.OWNER_NODE);
+        if (ownerNodeId == null || ownerNodeId.equals(clusterService.localNode().getId())) {
+            return null;
+        }
+        return clusterService.state().nodes().get(ownerNodeId);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EXPERIMENT_RESULT;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Handles transport actions for listing a page of the per queryText results of an experiment.
+ */
+public class GetExperimentResultsTransportAction extends HandledTransportAction<OpenSearchDocRequest, SearchResponse> {
+    private final ClusterService clusterService;
+    private final ExperimentDao experimentDao;
+    private final ExperimentResultDao experimentResultDao;
+
+    @Inject
+    public GetExperimentResultsTransportAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentDao experimentDao,
+        ExperimentResultDao experimentResultDao
+    ) {
+        super(GetExperimentResultsAction.NAME, transportService, actionFilters, OpenSearchDocRequest::new);
+        this.clusterService = clusterService;
+        this.experimentDao = experimentDao;
+        this.experimentResultDao = experimentResultDao;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenSearchDocRequest request, ActionListener<SearchResponse> listener) {
+        if (request.getId() == null || request.getId().isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("experimentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        // an unknown experiment is not found, rather than an empty page
+        experimentDao.getExperimentSource(request.getId(), ActionListener.wrap(source -> {
+            if (!clusterService.state().routingTable().hasIndex(EXPERIMENT_RESULT.getIndexName())) {
+                listener.onFailure(new ResourceNotFoundException("Index [" + EXPERIMENT_RESULT.getIndexName() + "] not found"));
+                return;
+            }
+            try {
+                experimentResultDao.listExperimentResults(request.getId(), request.getSearchSourceBuilder(), listener);
+            } catch (Exception e) {
+                listener.onFailure(new SearchRelevanceException("Failed to list experiment results", e, RestStatus.INTERNAL_SERVER_ERROR));
+            }
+        }, listener::onFailure));
+    }
+}
@@ -7,13 +7,19 @@
  */
 package org.opensearch.searchrelevance.transport.experiment;
 
+import static org.opensearch.action.ValidateActions.addValidationError;
+
 import java.io.IOException;
 import java.util.List;
 
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
 import org.opensearch.searchrelevance.model.ExperimentType;
 
 import reactor.util.annotation.NonNull;
@@ -31,6 +37,23 @@ public class PutExperimentRequest extends ActionRequest {
      */
     private final String modelId;
     private int size;
+    /**
+     * Optional wall clock budget of the experiment, once it expires no more searches are scheduled
+     * and the experiment completes with the queryTexts evaluated so far
+     */
+    private final TimeValue timeBudget;
+    /**
+     * Optional timeout of every search of the experiment, a timed out search contributes the hits collected so far
+     */
+    private final TimeValue searchTimeout;
+    /**
+     * Priority class of the experiment, BATCH unless requested otherwise
+     */
+    private final ExperimentPriority priority;
+    /**
+     * Evaluation metrics with their cutoffs, the default metrics unless requested otherwise
+     */
+    private final List<MetricSpec> metrics;
 
     public PutExperimentRequest(
         @NonNull ExperimentType type,
@@ -39,6 +62,32 @@ public class PutExperimentRequest extends ActionRequest {
         @NonNull List<String> judgmentList,
         @NonNull String modelId,
         int size
+    ) {
+        this(
+            type,
+            querySetId,
+            searchConfigurationList,
+            judgmentList,
+            modelId,
+            size,
+            null,
+            null,
+            ExperimentPriority.BATCH,
+            MetricSpec.DEFAULT_METRICS
+        );
+    }
+
+    public PutExperimentRequest(
+        @NonNull ExperimentType type,
+        @NonNull String querySetId,
+        @NonNull List<String> searchConfigurationList,
+        @NonNull List<String> judgmentList,
+        @NonNull String modelId,
+        int size,
+        TimeValue timeBudget,
+        TimeValue searchTimeout,
+        @NonNull ExperimentPriority priority,
+        @NonNull List<MetricSpec> metrics
     ) {
         this.type = type;
         this.querySetId = querySetId;
@@ -46,9 +95,17 @@ public class PutExperimentRequest extends ActionRequest {
         this.judgmentList = judgmentList;
         this.modelId = modelId;
         this.size = size;
+        this.timeBudget = timeBudget;
+        this.searchTimeout = searchTimeout;
+        this.priority = priority;
+        this.metrics = metrics;
     }
 
-    public PutExperimentRequest(StreamInput in) throws IOException {
+    /**
+     * @param in - stream to read the request from
+     * @param metricRegistry - metrics registered on the receiving node, to resolve the requested metrics against
+     */
+    public PutExperimentRequest(StreamInput in, MetricRegistry metricRegistry) throws IOException {
         super(in);
         this.type = in.readEnum(ExperimentType.class);
         ;
@@ -57,6 +114,10 @@ public class PutExperimentRequest extends ActionRequest {
         this.judgmentList = in.readStringList();
         this.modelId = in.readOptionalString();
         this.size = in.readInt();
+        this.timeBudget = in.readOptionalTimeValue();
+        this.searchTimeout = in.readOptionalTimeValue();
+        this.priority = in.readEnum(ExperimentPriority.class);
+        this.metrics = MetricSpec.parseAll(in.readStringList(), metricRegistry);
     }
 
     @Override
@@ -68,6 +129,10 @@ public class PutExperimentRequest extends ActionRequest {
         out.writeStringArray(judgmentList.toArray(new String[0]));
         out.writeOptionalString(modelId);
         out.writeInt(size);
+        out.writeOptionalTimeValue(timeBudget);
+        out.writeOptionalTimeValue(searchTimeout);
+        out.writeEnum(priority);
+        out.writeStringCollection(MetricSpec.toStrings(metrics));
     }
 
     public ExperimentType getType() {
@@ -94,8 +159,32 @@ public class PutExperimentRequest extends ActionRequest {
         return modelId;
     }
 
+    public TimeValue getTimeBudget() {
+        return timeBudget;
+    }
+
+    public TimeValue getSearchTimeout() {
+        return searchTimeout;
+    }
+
+    public ExperimentPriority getPriority() {
+        return priority;
+    }
+
+    public List<MetricSpec> getMetrics() {
+        return metrics;
+    }
+
     @Override
     public ActionRequestValidationException validate() {
-        return null;
+        ActionRequestValidationException validationException = null;
+        // a budget that is not positive expires at once, a timeout that is not positive would be forwarded to every search
+        if (timeBudget != null && timeBudget.nanos() <= 0) {
+            validationException = addValidationError("timeBudget must be positive", validationException);
+        }
+        if (searchTimeout != null && searchTimeout.nanos() <= 0) {
+            validationException = addValidationError("searchTimeout must be positive", validationException);
+        }
+        return validationException;
     }
 }
@@ -7,18 +7,13 @@
  */
 package org.opensearch.searchrelevance.transport.experiment;
 
-import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_INDEX_AND_QUERIES_FIELD_NAME;
 import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,18 +26,13 @@ import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
-import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
-import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
-import org.opensearch.searchrelevance.judgments.BaseJudgmentsProcessor;
-import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
-import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
 import org.opensearch.searchrelevance.model.AsyncStatus;
 import org.opensearch.searchrelevance.model.Experiment;
-import org.opensearch.searchrelevance.model.ExperimentType;
-import org.opensearch.searchrelevance.model.Judgment;
-import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.searchrelevance.utils.TimeUtils;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -55,11 +45,8 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
     private final ClusterService clusterService;
     private final ExperimentDao experimentDao;
     private final QuerySetDao querySetDao;
-    private final SearchConfigurationDao searchConfigurationDao;
-    private final JudgmentDao judgmentDao;
-
-    private final MetricsHelper metricsHelper;
-    private final JudgmentsProcessorFactory judgmentsProcessorFactory;
+    private final ExperimentRunner experimentRunner;
+    private final TransportService transportService;
 
     private static final Logger LOGGER = LogManager.getLogger(PutExperimentTransportAction.class);
 
@@ -70,19 +57,15 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
         ActionFilters actionFilters,
         ExperimentDao experimentDao,
         QuerySetDao querySetDao,
-        SearchConfigurationDao searchConfigurationDao,
-        JudgmentDao judgmentDao,
-        MetricsHelper metricsHelper,
-        JudgmentsProcessorFactory judgmentsProcessorFactory
+        ExperimentRunner experimentRunner,
+        MetricRegistry metricRegistry
     ) {
-        super(PutExperimentAction.NAME, transportService, actionFilters, PutExperimentRequest::new);
+        super(PutExperimentAction.NAME, transportService, actionFilters, in -> new PutExperimentRequest(in, metricRegistry));
         this.clusterService = clusterService;
         this.experimentDao = experimentDao;
         this.querySetDao = querySetDao;
-        this.searchConfigurationDao = searchConfigurationDao;
-        this.judgmentDao = judgmentDao;
-        this.metricsHelper = metricsHelper;
-        this.judgmentsProcessorFactory = judgmentsProcessorFactory;
+        this.experimentRunner = experimentRunner;
+        this.transportService = transportService;
     }
 
     @Override
@@ -91,6 +74,10 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
             listener.onFailure(new SearchRelevanceException("Request cannot be null", RestStatus.BAD_REQUEST));
             return;
         }
+        if (request.getMetrics().isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("metrics must not be empty", RestStatus.BAD_REQUEST));
+            return;
+        }
 
         String id = UUID.randomUUID().toString();
         String timestamp = TimeUtils.getTimestamp();
@@ -118,257 +105,25 @@ public class PutExperimentTransportAction extends HandledTransportAction<PutExpe
                 request.getSearchConfigurationList(),
                 request.getJudgmentList(),
                 request.getSize(),
-                new HashMap<>()
+                MetricSpec.toStrings(request.getMetrics()),
+                new HashMap<>(),
+                clusterService.localNode().getId(),
+                timestamp,
+                request.getPriority(),
+                request.getTimeBudget(),
+                request.getSearchTimeout()
             );
             experimentDao.putExperiment(initialExperiment, ActionListener.wrap(response -> {
-                triggerAsyncProcessing(id, request, results);
+                experimentRunner.run(
+                    transportService,
+                    id,
+                    request,
+                    (List<String>) results.get(METRICS_QUERY_TEXT_FIELD_NAME),
+                    Set.of(),
+                    Map.of()
+                );
                 listener.onResponse((IndexResponse) response);
             }, e -> { listener.onFailure(e); }));
         }, listener::onFailure);
     }
-
-    private void triggerAsyncProcessing(String experimentId, PutExperimentRequest request, Map<String, Object> results) {
-        searchConfigurationDao.getSearchConfigsWithStepListener(
-            request.getSearchConfigurationList(),
-            results,
-            ActionListener.wrap(searchConfigResults -> {
-                calculateMetricsAsync(experimentId, request, searchConfigResults);
-            }, error -> { handleAsyncFailure(experimentId, request, "Failed at async step 1: Get Search Configurations", error); })
-        );
-    }
-
-    private void calculateMetricsAsync(String experimentId, PutExperimentRequest request, Map<String, Object> results) {
-        Map<String, List<String>> indexAndQueries = (Map<String, List<String>>) results.get(METRICS_INDEX_AND_QUERIES_FIELD_NAME);
-        List<String> queryTexts = (List<String>) results.get(METRICS_QUERY_TEXT_FIELD_NAME);
-
-        if (queryTexts == null || indexAndQueries == null) {
-            handleAsyncFailure(
-                experimentId,
-                request,
-                "Failed to calculate metrics: Missing required data",
-                new IllegalStateException("Missing required data for metrics calculation")
-            );
-            return;
-        }
-
-        processQueryTextMetrics(experimentId, request, indexAndQueries, queryTexts);
-    }
-
-    private void processQueryTextMetrics(
-        String experimentId,
-        PutExperimentRequest request,
-        Map<String, List<String>> indexAndQueries,
-        List<String> queryTexts
-    ) {
-        Map<String, Object> finalResults = Collections.synchronizedMap(new HashMap<>());
-        AtomicInteger pendingQueries = new AtomicInteger(queryTexts.size());
-        AtomicBoolean hasFailure = new AtomicBoolean(false);
-
-        if (request.getType() == ExperimentType.LLM_EVALUATION && request.getModelId() != null) {
-            Map<String, Object> metadata = new HashMap<>();
-            metadata.put("modelId", request.getModelId());
-            metadata.put("querySetId", request.getQuerySetId());
-            metadata.put("searchConfigurationList", request.getSearchConfigurationList());
-            metadata.put("size", request.getSize());
-
-            // Step 1: Generate Judgment Scores
-            StepListener<Map<String, Map<String, String>>> processJudgmentScoresStep = new StepListener<>();
-            BaseJudgmentsProcessor llmJudgmentsProcessor = judgmentsProcessorFactory.getProcessor(JudgmentType.LLM_JUDGMENT);
-            llmJudgmentsProcessor.generateJudgmentScore(metadata, processJudgmentScoresStep);
-
-            // Step 2: Store Judgment
-            StepListener<String> storeJudgmentStep = new StepListener<>();
-            processJudgmentScoresStep.whenComplete(
-                llmJudgments -> { createAndStoreLlmJudgment(metadata, llmJudgments, storeJudgmentStep); },
-                error -> {
-                    handleFailure(error, hasFailure, experimentId, request);
-                }
-            );
-
-            // Step 3: Execute Experiment Evaluation
-            storeJudgmentStep.whenComplete(llmJudgmentId -> {
-                List<String> updatedJudgmentList = new ArrayList<>(request.getJudgmentList());
-                updatedJudgmentList.add(llmJudgmentId);
-
-                executeExperimentEvaluation(
-                    experimentId,
-                    request,
-                    indexAndQueries,
-                    queryTexts,
-                    finalResults,
-                    pendingQueries,
-                    hasFailure,
-                    updatedJudgmentList
-                );
-            }, error -> { handleFailure(error, hasFailure, experimentId, request); });
-        } else {
-            executeExperimentEvaluation(
-                experimentId,
-                request,
-                indexAndQueries,
-                queryTexts,
-                finalResults,
-                pendingQueries,
-                hasFailure,
-                request.getJudgmentList()
-            );
-        }
-    }
-
-    private void executeExperimentEvaluation(
-        String experimentId,
-        PutExperimentRequest request,
-        Map<String, List<String>> indexAndQueries,
-        List<String> queryTexts,
-        Map<String, Object> finalResults,
-        AtomicInteger pendingQueries,
-        AtomicBoolean hasFailure,
-        List<String> judgmentList
-    ) {
-        for (String queryText : queryTexts) {
-            if (request.getType() == ExperimentType.PAIRWISE_COMPARISON) {
-                metricsHelper.processPairwiseMetrics(
-                    queryText,
-                    indexAndQueries,
-                    request.getSize(),
-                    ActionListener.wrap(
-                        queryResults -> handleQueryResults(
-                            queryText,
-                            queryResults,
-                            finalResults,
-                            pendingQueries,
-                            experimentId,
-                            request,
-                            hasFailure,
-                            judgmentList
-                        ),
-                        error -> handleFailure(error, hasFailure, experimentId, request)
-                    )
-                );
-            } else {
-                metricsHelper.processEvaluationMetrics(
-                    queryText,
-                    indexAndQueries,
-                    request.getSize(),
-                    judgmentList,
-                    ActionListener.wrap(queryResults -> {
-                        Map<String, Object> convertedResults = new HashMap<>(queryResults);
-                        handleQueryResults(
-                            queryText,
-                            convertedResults,
-                            finalResults,
-                            pendingQueries,
-                            experimentId,
-                            request,
-                            hasFailure,
-                            judgmentList
-                        );
-                    }, error -> handleFailure(error, hasFailure, experimentId, request))
-                );
-            }
-        }
-    }
-
-    private void handleQueryResults(
-        String queryText,
-        Map<String, Object> queryResults,
-        Map<String, Object> finalResults,
-        AtomicInteger pendingQueries,
-        String experimentId,
-        PutExperimentRequest request,
-        AtomicBoolean hasFailure,
-        List<String> judgmentList
-    ) {
-        if (hasFailure.get()) return;
-
-        try {
-            synchronized (finalResults) {
-                finalResults.put(queryText, queryResults);
-                if (pendingQueries.decrementAndGet() == 0) {
-                    updateFinalExperiment(experimentId, request, finalResults, judgmentList);
-                }
-            }
-        } catch (Exception e) {
-            handleFailure(e, hasFailure, experimentId, request);
-        }
-    }
-
-    private void handleFailure(Exception error, AtomicBoolean hasFailure, String experimentId, PutExperimentRequest request) {
-        if (hasFailure.compareAndSet(false, true)) {
-            handleAsyncFailure(experimentId, request, "Failed to process metrics", error);
-        }
-    }
-
-    private void updateFinalExperiment(
-        String experimentId,
-        PutExperimentRequest request,
-        Map<String, Object> finalResults,
-        List<String> judgmentList
-    ) {
-        Experiment finalExperiment = new Experiment(
-            experimentId,
-            TimeUtils.getTimestamp(),
-            request.getType(),
-            AsyncStatus.COMPLETED,
-            request.getQuerySetId(),
-            request.getSearchConfigurationList(),
-            judgmentList,
-            request.getSize(),
-            finalResults
-        );
-
-        experimentDao.updateExperiment(
-            finalExperiment,
-            ActionListener.wrap(
-                response -> LOGGER.debug("Updated final experiment: {}", experimentId),
-                error -> handleAsyncFailure(experimentId, request, "Failed to update final experiment", error)
-            )
-        );
-    }
-
-    private void handleAsyncFailure(String experimentId, PutExperimentRequest request, String message, Exception error) {
-        LOGGER.error(message + " for experiment: " + experimentId, error);
-
-        Experiment errorExperiment = new Experiment(
-            experimentId,
-            TimeUtils.getTimestamp(),
-            request.getType(),
-            AsyncStatus.ERROR,
-            request.getQuerySetId(),
-            request.getSearchConfigurationList(),
-            request.getJudgmentList(),
-            request.getSize(),
-            Map.of("error", error.getMessage())
-        );
-
-        experimentDao.updateExperiment(
-            errorExperiment,
-            ActionListener.wrap(
-                response -> LOGGER.info("Updated experiment {} status to ERROR", experimentId),
-                e -> LOGGER.error("Failed to update error status for experiment: " + experimentId, e)
-            )
-        );
-    }
-
-    private void createAndStoreLlmJudgment(
-        Map<String, Object> metadata,
-        Map<String, Map<String, String>> llmJudgments,
-        ActionListener<String> listener
-    ) {
-        String judgmentId = UUID.randomUUID().toString();
-
-        Judgment llmJudgment = new Judgment(
-            judgmentId,
-            TimeUtils.getTimestamp(),
-            "LLM Generated Judgment" + new Date(),
-            AsyncStatus.COMPLETED,
-            JudgmentType.LLM_JUDGMENT,
-            metadata,
-            llmJudgments
-        );
-
-        judgmentDao.putJudgement(llmJudgment, ActionListener.wrap(response -> { listener.onResponse(judgmentId); }, error -> {
-            listener.onFailure(error);
-        }));
-    }
 }
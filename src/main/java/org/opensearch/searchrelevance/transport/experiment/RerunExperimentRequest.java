@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+/**
+ * Transport Request to re-run a previous experiment as a new experiment.
+ * The search configurations and judgments of the previous experiment are used unless they are overridden.
+ */
+public class RerunExperimentRequest extends ActionRequest {
+    private final String experimentId;
+    /**
+     * Optional search configurations replacing the ones of the previous experiment
+     */
+    private final List<String> searchConfigurationList;
+    /**
+     * Optional judgments replacing the ones of the previous experiment
+     */
+    private final List<String> judgmentList;
+
+    public RerunExperimentRequest(String experimentId, List<String> searchConfigurationList, List<String> judgmentList) {
+        this.experimentId = experimentId;
+        this.searchConfigurationList = searchConfigurationList;
+        this.judgmentList = judgmentList;
+    }
+
+    public RerunExperimentRequest(StreamInput in) throws IOException {
+        super(in);
+        this.experimentId = in.readString();
+        this.searchConfigurationList = in.readOptionalStringList();
+        this.judgmentList = in.readOptionalStringList();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(experimentId);
+        out.writeOptionalStringCollection(searchConfigurationList);
+        out.writeOptionalStringCollection(judgmentList);
+    }
+
+    public String getExperimentId() {
+        return experimentId;
+    }
+
+    public List<String> getSearchConfigurationList() {
+        return searchConfigurationList;
+    }
+
+    public List<String> getJudgmentList() {
+        return judgmentList;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        return null;
+    }
+}
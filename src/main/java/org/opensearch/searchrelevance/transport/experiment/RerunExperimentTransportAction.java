@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Handles transport actions for re-running a previous experiment incrementally.
+ * The re-run is a new experiment, only the (queryText, searchConfiguration) pairs whose search configuration version,
+ * judgment ratings or index generation changed are evaluated again, the other evaluation results are carried over by reference.
+ */
+public class RerunExperimentTransportAction extends HandledTransportAction<RerunExperimentRequest, IndexResponse> {
+    private static final Logger LOGGER = LogManager.getLogger(RerunExperimentTransportAction.class);
+
+    private final ExperimentDao experimentDao;
+    private final ExperimentResultDao experimentResultDao;
+    private final QuerySetDao querySetDao;
+    private final ExperimentRunner experimentRunner;
+    private final MetricRegistry metricRegistry;
+    private final TransportService transportService;
+
+    @Inject
+    public RerunExperimentTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentDao experimentDao,
+        ExperimentResultDao experimentResultDao,
+        QuerySetDao querySetDao,
+        ExperimentRunner experimentRunner,
+        MetricRegistry metricRegistry
+    ) {
+        super(RerunExperimentAction.NAME, transportService, actionFilters, RerunExperimentRequest::new);
+        this.experimentDao = experimentDao;
+        this.experimentResultDao = experimentResultDao;
+        this.querySetDao = querySetDao;
+        this.experimentRunner = experimentRunner;
+        this.metricRegistry = metricRegistry;
+        this.transportService = transportService;
+    }
+
+    @Override
+    protected void doExecute(Task task, RerunExperimentRequest request, ActionListener<IndexResponse> listener) {
+        String previousExperimentId = request.getExperimentId();
+        if (previousExperimentId == null || previousExperimentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("experimentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        if (experimentRunner.isRunning(previousExperimentId)) {
+            listener.onFailure(
+                new SearchRelevanceException("Experiment is still running: " + previousExperimentId, RestStatus.CONFLICT)
+            );
+            return;
+        }
+
+        // Step 1: Get the previous experiment
+        StepListener<Map<String, Object>> getExperimentStep = new StepListener<>();
+        experimentDao.getExperimentSource(previousExperimentId, getExperimentStep);
+
+        // Step 2: Get QuerySet
+        StepListener<Map<String, Object>> getQuerySetStep = new StepListener<>();
+        Map<String, Object> results = new HashMap<>();
+        getExperimentStep.whenComplete(source -> {
+            if (AsyncStatus.valueOf((String) source.get(Experiment.STATUS)) == AsyncStatus.PROCESSING) {
+                listener.onFailure(
+                    new SearchRelevanceException("Experiment is still running: " + previousExperimentId, RestStatus.CONFLICT)
+                );
+                return;
+            }
+            if (ExperimentType.valueOf((String) source.get(Experiment.TYPE)) == ExperimentType.PAIRWISE_COMPARISON) {
+                listener.onFailure(
+                    new SearchRelevanceException(
+                        "PAIRWISE_COMPARISON experiment has no evaluation results to carry over, create a new experiment instead",
+                        RestStatus.BAD_REQUEST
+                    )
+                );
+                return;
+            }
+            querySetDao.getQuerySetWithStepListener((String) source.get(Experiment.QUERY_SET_ID), results, getQuerySetStep);
+        }, listener::onFailure);
+
+        // Step 3: Load the evaluation references of the previous experiment
+        StepListener<Map<String, Map<String, EvaluationReference>>> loadEvaluationsStep = new StepListener<>();
+        getQuerySetStep.whenComplete(
+            v -> experimentResultDao.loadEvaluationReferences(previousExperimentId, loadEvaluationsStep),
+            listener::onFailure
+        );
+
+        // Step 4: Create the re-run experiment with status "PROCESSING" and run it
+        loadEvaluationsStep.whenComplete(previousEvaluations -> {
+            Map<String, Object> source = getExperimentStep.result();
+            // the judgments of an LLM_EVALUATION experiment already include its llm judgment, it is not generated again
+            PutExperimentRequest rerunRequest = new PutExperimentRequest(
+                ExperimentType.valueOf((String) source.get(Experiment.TYPE)),
+                (String) source.get(Experiment.QUERY_SET_ID),
+                request.getSearchConfigurationList() != null
+                    ? request.getSearchConfigurationList()
+                    : (List<String>) source.get(Experiment.SEARCH_CONFIGURATION_LIST),
+                request.getJudgmentList() != null ? request.getJudgmentList() : (List<String>) source.get(Experiment.JUDGMENT_LIST),
+                null,
+                ((Number) source.get(Experiment.SIZE)).intValue(),
+                // the re-run runs with the settings of the previous experiment
+                Experiment.parseTimeValue(source, Experiment.TIME_BUDGET),
+                Experiment.parseTimeValue(source, Experiment.SEARCH_TIMEOUT),
+                Experiment.parsePriority(source),
+                // the same metrics keep the fingerprints of the previous evaluations comparable
+                MetricSpec.parseStored((List<String>) source.get(Experiment.METRICS), metricRegistry)
+            );
+
+            String id = UUID.randomUUID().toString();
+            String timestamp = TimeUtils.getTimestamp();
+            Experiment rerunExperiment = new Experiment(
+                id,
+                timestamp,
+                rerunRequest.getType(),
+                AsyncStatus.PROCESSING,
+                rerunRequest.getQuerySetId(),
+                rerunRequest.getSearchConfigurationList(),
+                rerunRequest.getJudgmentList(),
+                rerunRequest.getSize(),
+                MetricSpec.toStrings(rerunRequest.getMetrics()),
+                new HashMap<>(),
+                transportService.getLocalNode().getId(),
+                timestamp,
+                rerunRequest.getPriority(),
+                rerunRequest.getTimeBudget(),
+                rerunRequest.getSearchTimeout()
+            );
+            experimentDao.putExperiment(rerunExperiment, ActionListener.wrap(response -> {
+                LOGGER.info(
+                    "Re-running experiment [{}] as [{}] with evaluation references of {} queryTexts",
+                    previousExperimentId,
+                    id,
+                    previousEvaluations.size()
+                );
+                experimentRunner.run(
+                    transportService,
+                    id,
+                    rerunRequest,
+                    (List<String>) results.get(METRICS_QUERY_TEXT_FIELD_NAME),
+                    Set.of(),
+                    previousEvaluations
+                );
+                listener.onResponse((IndexResponse) response);
+            }, listener::onFailure));
+        }, listener::onFailure);
+    }
+}
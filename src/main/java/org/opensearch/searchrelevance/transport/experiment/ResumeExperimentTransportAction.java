@@ -0,0 +1,291 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
+import static org.opensearch.searchrelevance.settings.SearchRelevanceSettings.EXPERIMENT_RESUME_STALE_TIMEOUT;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentProgress;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.utils.TimeUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Handles transport actions for resuming an interrupted experiment from its checkpointed experiment results.
+ * Only the queryTexts without checkpoint are evaluated again, on the node that receives the request.
+ * A PROCESSING experiment is only resumed once it is abandoned by its owner node, see {@link #isAbandoned}.
+ */
+public class ResumeExperimentTransportAction extends HandledTransportAction<OpenSearchDocRequest, IndexResponse> {
+    private static final Logger LOGGER = LogManager.getLogger(ResumeExperimentTransportAction.class);
+
+    private final ExperimentDao experimentDao;
+    private final ExperimentResultDao experimentResultDao;
+    private final JudgmentDao judgmentDao;
+    private final QuerySetDao querySetDao;
+    private final ExperimentRunner experimentRunner;
+    private final MetricRegistry metricRegistry;
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+
+    @Inject
+    public ResumeExperimentTransportAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentDao experimentDao,
+        ExperimentResultDao experimentResultDao,
+        JudgmentDao judgmentDao,
+        QuerySetDao querySetDao,
+        ExperimentRunner experimentRunner,
+        MetricRegistry metricRegistry
+    ) {
+        super(ResumeExperimentAction.NAME, transportService, actionFilters, OpenSearchDocRequest::new);
+        this.experimentDao = experimentDao;
+        this.experimentResultDao = experimentResultDao;
+        this.judgmentDao = judgmentDao;
+        this.querySetDao = querySetDao;
+        this.experimentRunner = experimentRunner;
+        this.metricRegistry = metricRegistry;
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenSearchDocRequest request, ActionListener<IndexResponse> listener) {
+        String experimentId = request.getId();
+        if (experimentId == null || experimentId.isEmpty()) {
+            listener.onFailure(new SearchRelevanceException("experimentId must not be null or empty", RestStatus.BAD_REQUEST));
+            return;
+        }
+        if (experimentRunner.isRunning(experimentId)) {
+            listener.onFailure(new SearchRelevanceException("Experiment is already running: " + experimentId, RestStatus.CONFLICT));
+            return;
+        }
+
+        // Step 1: Get Experiment
+        StepListener<Map<String, Object>> getExperimentStep = new StepListener<>();
+        experimentDao.getExperimentSource(experimentId, getExperimentStep);
+
+        // Step 2: Get QuerySet
+        StepListener<Map<String, Object>> getQuerySetStep = new StepListener<>();
+        Map<String, Object> results = new HashMap<>();
+        getExperimentStep.whenComplete(source -> {
+            AsyncStatus status = AsyncStatus.valueOf((String) source.get(Experiment.STATUS));
+            if (status == AsyncStatus.COMPLETED) {
+                listener.onFailure(
+                    new SearchRelevanceException("Experiment is already completed: " + experimentId, RestStatus.BAD_REQUEST)
+                );
+                return;
+            }
+            // the experiment is not running on this node, an experiment owned by this node was lost when it restarted
+            boolean ownedByLocalNode = clusterService.localNode().getId().equals(source.get(Experiment.OWNER_NODE));
+            if (status == AsyncStatus.PROCESSING
+                && ownedByLocalNode == false
+                && isAbandoned(
+                    source,
+                    clusterService.state().nodes(),
+                    Instant.now(),
+                    clusterService.getClusterSettings().get(EXPERIMENT_RESUME_STALE_TIMEOUT)
+                ) == false) {
+                listener.onFailure(
+                    new SearchRelevanceException("Experiment is still running on its owner node: " + experimentId, RestStatus.CONFLICT)
+                );
+                return;
+            }
+            querySetDao.getQuerySetWithStepListener((String) source.get(Experiment.QUERY_SET_ID), results, getQuerySetStep);
+        }, listener::onFailure);
+
+        // Step 3: Load checkpointed experiment results
+        StepListener<Set<String>> loadCheckpointsStep = new StepListener<>();
+        getQuerySetStep.whenComplete(
+            v -> experimentResultDao.loadCheckpointedQueryTexts(experimentId, loadCheckpointsStep),
+            listener::onFailure
+        );
+
+        // Step 4: Check that the llm judgment of an LLM_EVALUATION experiment is complete
+        StepListener<Void> checkJudgmentStep = new StepListener<>();
+        loadCheckpointsStep.whenComplete(checkpointedQueryTexts -> {
+            Map<String, Object> source = getExperimentStep.result();
+            if (ExperimentType.valueOf((String) source.get(Experiment.TYPE)) != ExperimentType.LLM_EVALUATION) {
+                checkJudgmentStep.onResponse(null);
+                return;
+            }
+            // llm judgments are recorded in the experiment right before the first queryText is evaluated,
+            // without checkpoint there is no guarantee the stored judgment list already contains them
+            List<String> judgmentList = (List<String>) source.get(Experiment.JUDGMENT_LIST);
+            if (checkpointedQueryTexts.isEmpty() || judgmentList.isEmpty()) {
+                listener.onFailure(
+                    new SearchRelevanceException(
+                        "LLM_EVALUATION experiment without checkpoint cannot be resumed, create a new experiment instead",
+                        RestStatus.BAD_REQUEST
+                    )
+                );
+                return;
+            }
+            // queryTexts are evaluated while they are judged, the remaining ones can only be evaluated against a complete judgment
+            String llmJudgmentId = judgmentList.get(judgmentList.size() - 1);
+            judgmentDao.getJudgment(llmJudgmentId, ActionListener.wrap(response -> {
+                if (response.getHits().getHits().length == 0) {
+                    listener.onFailure(
+                        new SearchRelevanceException(
+                            "LLM judgment " + llmJudgmentId + " of the experiment is not found, the experiment cannot be resumed",
+                            RestStatus.NOT_FOUND
+                        )
+                    );
+                    return;
+                }
+                Map<String, Object> judgmentSource = response.getHits().getHits()[0].getSourceAsMap();
+                if (AsyncStatus.valueOf((String) judgmentSource.get(Judgment.STATUS)) != AsyncStatus.COMPLETED) {
+                    listener.onFailure(
+                        new SearchRelevanceException(
+                            "LLM_EVALUATION experiment with incomplete judgment " + llmJudgmentId + " cannot be resumed",
+                            RestStatus.BAD_REQUEST
+                        )
+                    );
+                    return;
+                }
+                checkJudgmentStep.onResponse(null);
+            }, checkJudgmentStep::onFailure));
+        }, listener::onFailure);
+
+        // Step 5: Load the metrics of the checkpointed evaluations, so that the summary covers every queryText
+        StepListener<Map<String, Map<String, EvaluationReference>>> loadEvaluationsStep = new StepListener<>();
+        checkJudgmentStep.whenComplete(v -> {
+            Map<String, Object> source = getExperimentStep.result();
+            if (ExperimentType.valueOf((String) source.get(Experiment.TYPE)) == ExperimentType.PAIRWISE_COMPARISON) {
+                loadEvaluationsStep.onResponse(Map.of());
+                return;
+            }
+            experimentResultDao.loadEvaluationReferences(experimentId, loadEvaluationsStep);
+        }, listener::onFailure);
+
+        // Step 6: Load the pairwise comparisons of the checkpointed queryTexts, so that the pairwise summary covers every queryText
+        StepListener<PairwiseSummary> loadPairwiseStep = new StepListener<>();
+        loadEvaluationsStep.whenComplete(v -> {
+            Map<String, Object> source = getExperimentStep.result();
+            if (ExperimentType.valueOf((String) source.get(Experiment.TYPE)) != ExperimentType.PAIRWISE_COMPARISON) {
+                loadPairwiseStep.onResponse(new PairwiseSummary());
+                return;
+            }
+            experimentResultDao.loadPairwiseSummary(experimentId, loadPairwiseStep);
+        }, listener::onFailure);
+
+        // Step 7: Mark the experiment as "PROCESSING" and resume it
+        loadPairwiseStep.whenComplete(checkpointedPairwiseSummary -> {
+            Map<String, Object> source = getExperimentStep.result();
+            Set<String> checkpointedQueryTexts = loadCheckpointsStep.result();
+            Map<String, Map<String, EvaluationReference>> previousEvaluations = loadEvaluationsStep.result();
+            PutExperimentRequest resumeRequest = new PutExperimentRequest(
+                ExperimentType.valueOf((String) source.get(Experiment.TYPE)),
+                (String) source.get(Experiment.QUERY_SET_ID),
+                (List<String>) source.get(Experiment.SEARCH_CONFIGURATION_LIST),
+                (List<String>) source.get(Experiment.JUDGMENT_LIST),
+                null,
+                ((Number) source.get(Experiment.SIZE)).intValue(),
+                Experiment.parseTimeValue(source, Experiment.TIME_BUDGET),
+                Experiment.parseTimeValue(source, Experiment.SEARCH_TIMEOUT),
+                Experiment.parsePriority(source),
+                MetricSpec.parseStored((List<String>) source.get(Experiment.METRICS), metricRegistry)
+            );
+
+            String startedAt = TimeUtils.getTimestamp();
+            Experiment resumedExperiment = new Experiment(
+                experimentId,
+                (String) source.get(Experiment.TIME_STAMP),
+                resumeRequest.getType(),
+                AsyncStatus.PROCESSING,
+                resumeRequest.getQuerySetId(),
+                resumeRequest.getSearchConfigurationList(),
+                resumeRequest.getJudgmentList(),
+                resumeRequest.getSize(),
+                MetricSpec.toStrings(resumeRequest.getMetrics()),
+                new HashMap<>(),
+                clusterService.localNode().getId(),
+                startedAt,
+                resumeRequest.getPriority(),
+                resumeRequest.getTimeBudget(),
+                resumeRequest.getSearchTimeout()
+            );
+            experimentDao.updateExperiment(resumedExperiment, ActionListener.wrap(response -> {
+                LOGGER.info("Resuming experiment [{}] from {} checkpointed queryTexts", experimentId, checkpointedQueryTexts.size());
+                experimentRunner.run(
+                    transportService,
+                    experimentId,
+                    resumeRequest,
+                    (List<String>) results.get(METRICS_QUERY_TEXT_FIELD_NAME),
+                    checkpointedQueryTexts,
+                    previousEvaluations,
+                    checkpointedPairwiseSummary
+                );
+                listener.onResponse((IndexResponse) response);
+            }, listener::onFailure));
+        }, listener::onFailure);
+    }
+
+    /**
+     * Whether a PROCESSING experiment is no longer run by its owner node. The owner left the cluster, or it shows no sign of life,
+     * i.e. neither started nor flushed progress, within the stale timeout, e.g. because it restarted and lost its running experiments.
+     * Experiments stored before the owner was recorded only become stale.
+     * @param source - source of the experiment document
+     * @param nodes - nodes of the cluster
+     * @param now - current time
+     * @param staleTimeout - time without sign of life after which the experiment is abandoned
+     */
+    public static boolean isAbandoned(Map<String, Object> source, DiscoveryNodes nodes, Instant now, TimeValue staleTimeout) {
+        String ownerNode = (String) source.get(Experiment.OWNER_NODE);
+        if (ownerNode != null && nodes.nodeExists(ownerNode) == false) {
+            return true;
+        }
+        Instant lastSeen = parseTimestamp(ownerNode != null ? source.get(Experiment.STARTED_AT) : source.get(Experiment.TIME_STAMP));
+        Map<String, Object> progress = (Map<String, Object>) source.get(Experiment.PROGRESS);
+        if (progress != null) {
+            Instant progressUpdatedAt = parseTimestamp(progress.get(ExperimentProgress.UPDATED_AT));
+            if (lastSeen == null || (progressUpdatedAt != null && progressUpdatedAt.isAfter(lastSeen))) {
+                lastSeen = progressUpdatedAt;
+            }
+        }
+        return lastSeen == null || lastSeen.plusMillis(staleTimeout.millis()).isBefore(now);
+    }
+
+    private static Instant parseTimestamp(Object timestamp) {
+        return timestamp == null ? null : Instant.parse((String) timestamp);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Internal Action sent by the node coordinating an experiment to evaluate a slice of its queryTexts on another node
+ */
+public class RunExperimentSliceAction extends ActionType<ExperimentSliceResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "experiment/slice/run";
+
+    /** An instance of this action */
+    public static final RunExperimentSliceAction INSTANCE = new RunExperimentSliceAction();
+
+    private RunExperimentSliceAction() {
+        super(NAME, ExperimentSliceResponse::new);
+    }
+}
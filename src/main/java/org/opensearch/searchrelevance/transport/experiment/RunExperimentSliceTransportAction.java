@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.experiment;
+
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.executors.SearchRelevanceTask;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Handles transport actions for evaluating a slice of an experiment on the local node.
+ */
+public class RunExperimentSliceTransportAction extends HandledTransportAction<ExperimentSliceRequest, ExperimentSliceResponse> {
+    private final ExperimentRunner experimentRunner;
+
+    @Inject
+    public RunExperimentSliceTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ExperimentRunner experimentRunner,
+        MetricRegistry metricRegistry
+    ) {
+        super(RunExperimentSliceAction.NAME, transportService, actionFilters, in -> new ExperimentSliceRequest(in, metricRegistry));
+        this.experimentRunner = experimentRunner;
+    }
+
+    @Override
+    protected void doExecute(Task task, ExperimentSliceRequest request, ActionListener<ExperimentSliceResponse> listener) {
+        experimentRunner.runSlice((SearchRelevanceTask) task, request, listener);
+    }
+}
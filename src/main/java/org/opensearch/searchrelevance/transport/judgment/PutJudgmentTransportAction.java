@@ -22,10 +22,12 @@ import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.SearchRelevanceTask;
 import org.opensearch.searchrelevance.judgments.BaseJudgmentsProcessor;
 import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
 import org.opensearch.searchrelevance.model.AsyncStatus;
@@ -105,21 +107,34 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
 
     private void triggerAsyncProcessing(String judgmentId, PutJudgmentRequest request, Map<String, Object> metadata) {
         BaseJudgmentsProcessor processor = judgmentsProcessorFactory.getProcessor(request.getType());
+        // the task is listed by _tasks until the final judgment is stored, cancelling it stops new searches and predict calls
+        SearchRelevanceTask judgmentTask = SearchRelevanceTask.register(
+            taskManager,
+            SearchRelevanceTask.JUDGMENT_TASK_ACTION,
+            "judgment[" + judgmentId + "]"
+        );
+
+        Releasable taskRegistration = () -> taskManager.unregister(judgmentTask);
 
         processor.generateJudgmentScore(
             metadata,
+            judgmentTask,
             ActionListener.wrap(
-                judgmentScores -> updateFinalJudgment(judgmentId, request, metadata, judgmentScores),
-                error -> handleAsyncFailure(judgmentId, request, "Failed to generate judgment scores", error)
+                judgmentScores -> updateFinalJudgment(judgmentId, request, metadata, judgmentScores, taskRegistration),
+                error -> handleAsyncFailure(judgmentId, request, "Failed to generate judgment scores", error, taskRegistration)
             )
         );
     }
 
+    /**
+     * Store the completed judgment, the judgment task is unregistered once the judgment is stored
+     */
     private void updateFinalJudgment(
         String judgmentId,
         PutJudgmentRequest request,
         Map<String, Object> metadata,
-        Map<String, Map<String, String>> judgmentScores
+        Map<String, Map<String, String>> judgmentScores,
+        Releasable taskRegistration
     ) {
         Judgment finalJudgment = new Judgment(
             judgmentId,
@@ -131,23 +146,34 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
             judgmentScores
         );
 
-        judgmentDao.updateJudgment(
-            finalJudgment,
-            ActionListener.wrap(
-                response -> LOGGER.debug("Updated final judgment: {}", judgmentId),
-                error -> handleAsyncFailure(judgmentId, request, "Failed to update final judgment", error)
-            )
-        );
+        judgmentDao.updateJudgment(finalJudgment, ActionListener.wrap(response -> {
+            LOGGER.debug("Updated final judgment: {}", judgmentId);
+            taskRegistration.close();
+        }, error -> handleAsyncFailure(judgmentId, request, "Failed to update final judgment", error, taskRegistration)));
     }
 
-    private void handleAsyncFailure(String judgmentId, PutJudgmentRequest request, String message, Exception error) {
-        LOGGER.error(message + " for judgment: " + judgmentId, error);
+    /**
+     * Store the failed or cancelled judgment, the judgment task is unregistered once the judgment is stored
+     */
+    private void handleAsyncFailure(
+        String judgmentId,
+        PutJudgmentRequest request,
+        String message,
+        Exception error,
+        Releasable taskRegistration
+    ) {
+        AsyncStatus status = SearchRelevanceTask.isCancellation(error) ? AsyncStatus.CANCELLED : AsyncStatus.ERROR;
+        if (status == AsyncStatus.CANCELLED) {
+            LOGGER.info("Cancelled judgment: {}", judgmentId);
+        } else {
+            LOGGER.error(message + " for judgment: " + judgmentId, error);
+        }
 
         Judgment errorJudgment = new Judgment(
             judgmentId,
             TimeUtils.getTimestamp(),
             request.getName(),
-            AsyncStatus.ERROR,
+            status,
             request.getType(),
             Map.of("error", error.getMessage()),
             new HashMap<>()
@@ -155,9 +181,12 @@ public class PutJudgmentTransportAction extends HandledTransportAction<PutJudgme
 
         judgmentDao.updateJudgment(
             errorJudgment,
-            ActionListener.wrap(
-                response -> LOGGER.info("Updated judgment {} status to ERROR", judgmentId),
-                e -> LOGGER.error("Failed to update error status for judgment: " + judgmentId, e)
+            ActionListener.runAfter(
+                ActionListener.wrap(
+                    response -> LOGGER.info("Updated judgment {} status to {}", judgmentId, status),
+                    e -> LOGGER.error("Failed to update error status for judgment: " + judgmentId, e)
+                ),
+                taskRegistration::close
             )
         );
     }
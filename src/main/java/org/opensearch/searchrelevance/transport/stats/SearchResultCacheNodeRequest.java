@@ -0,0 +1,25 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.stats;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.transport.TransportRequest;
+
+/**
+ * Transport Request for the search result cache stats of a single node
+ */
+public class SearchResultCacheNodeRequest extends TransportRequest {
+
+    public SearchResultCacheNodeRequest() {}
+
+    public SearchResultCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.stats;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Search result cache stats of a single node
+ */
+public class SearchResultCacheNodeStats extends BaseNodeResponse implements ToXContentFragment {
+    private static final String HITS = "hits";
+    private static final String MISSES = "misses";
+    private static final String EVICTIONS = "evictions";
+    private static final String ENTRIES = "entries";
+    private static final String DOC_IDS = "doc_ids";
+
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long entries;
+    private final long docIds;
+
+    public SearchResultCacheNodeStats(DiscoveryNode node, long hits, long misses, long evictions, long entries, long docIds) {
+        super(node);
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.docIds = docIds;
+    }
+
+    public SearchResultCacheNodeStats(StreamInput in) throws IOException {
+        super(in);
+        this.hits = in.readVLong();
+        this.misses = in.readVLong();
+        this.evictions = in.readVLong();
+        this.entries = in.readVLong();
+        this.docIds = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVLong(hits);
+        out.writeVLong(misses);
+        out.writeVLong(evictions);
+        out.writeVLong(entries);
+        out.writeVLong(docIds);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field(HITS, hits);
+        builder.field(MISSES, misses);
+        builder.field(EVICTIONS, evictions);
+        builder.field(ENTRIES, entries);
+        builder.field(DOC_IDS, docIds);
+        return builder;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getEntries() {
+        return entries;
+    }
+
+    public long getDocIds() {
+        return docIds;
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.stats;
+
+import static org.opensearch.searchrelevance.common.PluginConstants.TRANSPORT_ACTION_NAME_PREFIX;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * External Action for public facing RestSearchResultCacheStatsAction
+ */
+public class SearchResultCacheStatsAction extends ActionType<SearchResultCacheStatsResponse> {
+    /** The name of this action */
+    public static final String NAME = TRANSPORT_ACTION_NAME_PREFIX + "search_result_cache/stats";
+
+    /** An instance of this action */
+    public static final SearchResultCacheStatsAction INSTANCE = new SearchResultCacheStatsAction();
+
+    private SearchResultCacheStatsAction() {
+        super(NAME, SearchResultCacheStatsResponse::new);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.stats;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/**
+ * Transport Request for the search result cache stats of the selected nodes
+ */
+public class SearchResultCacheStatsRequest extends BaseNodesRequest<SearchResultCacheStatsRequest> {
+
+    /**
+     * @param nodeIds - ids of the nodes to be reported, all nodes if empty
+     */
+    public SearchResultCacheStatsRequest(String... nodeIds) {
+        super(nodeIds);
+    }
+
+    public SearchResultCacheStatsRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+}
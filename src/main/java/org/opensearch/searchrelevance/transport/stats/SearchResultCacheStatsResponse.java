@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.stats;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/**
+ * Transport Response with the search result cache stats per node
+ */
+public class SearchResultCacheStatsResponse extends BaseNodesResponse<SearchResultCacheNodeStats> implements ToXContentObject {
+    private static final String NODES = "nodes";
+    private static final String FAILED_NODES = "failed_nodes";
+
+    public SearchResultCacheStatsResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public SearchResultCacheStatsResponse(
+        ClusterName clusterName,
+        List<SearchResultCacheNodeStats> nodes,
+        List<FailedNodeException> failures
+    ) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<SearchResultCacheNodeStats> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(SearchResultCacheNodeStats::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<SearchResultCacheNodeStats> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.startObject(NODES);
+        for (SearchResultCacheNodeStats nodeStats : getNodes()) {
+            builder.startObject(nodeStats.getNode().getId());
+            nodeStats.toXContent(builder, params);
+            builder.endObject();
+        }
+        builder.endObject();
+        builder.field(FAILED_NODES, failures().size());
+        return builder.endObject();
+    }
+}
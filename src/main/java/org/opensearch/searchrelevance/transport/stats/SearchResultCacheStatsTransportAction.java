@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.transport.stats;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Handles transport actions for collecting the search result cache stats of every node.
+ */
+public class SearchResultCacheStatsTransportAction extends TransportNodesAction<
+    SearchResultCacheStatsRequest,
+    SearchResultCacheStatsResponse,
+    SearchResultCacheNodeRequest,
+    SearchResultCacheNodeStats> {
+
+    private final SearchResultCache searchResultCache;
+
+    @Inject
+    public SearchResultCacheStatsTransportAction(
+        ThreadPool threadPool,
+        ClusterService clusterService,
+        TransportService transportService,
+        ActionFilters actionFilters,
+        SearchResultCache searchResultCache
+    ) {
+        super(
+            SearchResultCacheStatsAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            SearchResultCacheStatsRequest::new,
+            SearchResultCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            SearchResultCacheNodeStats.class
+        );
+        this.searchResultCache = searchResultCache;
+    }
+
+    @Override
+    protected SearchResultCacheStatsResponse newResponse(
+        SearchResultCacheStatsRequest request,
+        List<SearchResultCacheNodeStats> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new SearchResultCacheStatsResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected SearchResultCacheNodeRequest newNodeRequest(SearchResultCacheStatsRequest request) {
+        return new SearchResultCacheNodeRequest();
+    }
+
+    @Override
+    protected SearchResultCacheNodeStats newNodeResponse(StreamInput in) throws IOException {
+        return new SearchResultCacheNodeStats(in);
+    }
+
+    @Override
+    protected SearchResultCacheNodeStats nodeOperation(SearchResultCacheNodeRequest request) {
+        Cache.CacheStats stats = searchResultCache.stats();
+        return new SearchResultCacheNodeStats(
+            clusterService.localNode(),
+            stats.getHits(),
+            stats.getMisses(),
+            stats.getEvictions(),
+            searchResultCache.count(),
+            searchResultCache.weight() - searchResultCache.count()
+        );
+    }
+}
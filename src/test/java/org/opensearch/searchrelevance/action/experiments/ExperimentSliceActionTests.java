@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.action.experiments;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.metrics.EvaluationSummary;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceRequest;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentSliceResponse;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentSliceActionTests extends OpenSearchTestCase {
+
+    public void testRequestStreams() throws IOException {
+        PutExperimentRequest experimentRequest = new PutExperimentRequest(
+            ExperimentType.UBI_EVALUATION,
+            "querySet",
+            List.of("a", "b"),
+            List.of("judgment"),
+            "model",
+            10,
+            TimeValue.timeValueMinutes(5),
+            TimeValue.timeValueSeconds(2),
+            ExperimentPriority.INTERACTIVE,
+            MetricSpec.parseAll(List.of("ndcg@10", "mrr"), new MetricRegistry())
+        );
+        Map<String, List<String>> indexAndQueries = Map.of(
+            "a",
+            Arrays.asList("index", "{\"match_all\":{}}", null),
+            "b",
+            List.of("index", "{\"match_all\":{}}", "pipeline")
+        );
+        ExperimentSliceRequest request = new ExperimentSliceRequest(
+            "experiment",
+            experimentRequest,
+            indexAndQueries,
+            List.of("q1", "q2"),
+            Map.of("q1", Map.of("a", new EvaluationReference("evaluation", "fingerprint", Map.of("ndcg@10", "0.5")))),
+            TimeValue.timeValueMinutes(3)
+        );
+
+        ExperimentSliceRequest serialized;
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            request.writeTo(output);
+            try (StreamInput in = output.bytes().streamInput()) {
+                serialized = new ExperimentSliceRequest(in, new MetricRegistry());
+            }
+        }
+
+        assertEquals("experiment", serialized.getExperimentId());
+        assertEquals(List.of("a", "b"), serialized.getExperimentRequest().getSearchConfigurationList());
+        assertEquals(ExperimentPriority.INTERACTIVE, serialized.getExperimentRequest().getPriority());
+        assertEquals(List.of("ndcg@10", "mrr"), MetricSpec.toStrings(serialized.getExperimentRequest().getMetrics()));
+        assertEquals(indexAndQueries, serialized.getIndexAndQueries());
+        assertEquals(List.of("q1", "q2"), serialized.getQueryTexts());
+        EvaluationReference reference = serialized.getPreviousEvaluations().get("q1").get("a");
+        assertEquals("evaluation", reference.evaluationId());
+        assertEquals("fingerprint", reference.fingerprint());
+        assertEquals(Map.of("ndcg@10", "0.5"), reference.metrics());
+        assertEquals(TimeValue.timeValueMinutes(3), serialized.getTimeBudget());
+        assertNull(serialized.validate());
+    }
+
+    public void testRequestStreamsWithoutTimeBudget() throws IOException {
+        ExperimentSliceRequest request = new ExperimentSliceRequest(
+            "experiment",
+            new PutExperimentRequest(ExperimentType.PAIRWISE_COMPARISON, "querySet", List.of("a", "b"), List.of(), "model", 10),
+            Map.of(),
+            List.of("q1"),
+            Map.of(),
+            null
+        );
+
+        ExperimentSliceRequest serialized;
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            request.writeTo(output);
+            try (StreamInput in = output.bytes().streamInput()) {
+                serialized = new ExperimentSliceRequest(in, new MetricRegistry());
+            }
+        }
+
+        assertEquals(List.of("q1"), serialized.getQueryTexts());
+        assertTrue(serialized.getPreviousEvaluations().isEmpty());
+        assertNull(serialized.getTimeBudget());
+    }
+
+    public void testResponseStreams() throws IOException {
+        PairwiseSummary pairwiseSummary = new PairwiseSummary();
+        pairwiseSummary.add(List.of(Map.of("searchConfigurationA", "a", "searchConfigurationB", "b", "jaccard", 0.5)));
+        EvaluationSummary evaluationSummary = new EvaluationSummary();
+        evaluationSummary.add("a", Map.of("ndcg@10", "0.5"));
+        ExperimentSliceResponse response = new ExperimentSliceResponse(2, 3, 4, 1, 1, pairwiseSummary, evaluationSummary);
+
+        ExperimentSliceResponse serialized;
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            response.writeTo(output);
+            try (StreamInput in = output.bytes().streamInput()) {
+                serialized = new ExperimentSliceResponse(in);
+            }
+        }
+
+        assertEquals(2, serialized.getCompletedQueries());
+        assertEquals(3, serialized.getSkippedQueries());
+        assertEquals(4, serialized.getSearchesIssued());
+        assertEquals(1, serialized.getSearchFailures());
+        assertEquals(1, serialized.getSearchTimeouts());
+        assertEquals(pairwiseSummary.toList(), serialized.getPairwiseSummary().toList());
+        assertEquals(evaluationSummary.toList(List.of("a")), serialized.getEvaluationSummary().toList(List.of("a")));
+    }
+}
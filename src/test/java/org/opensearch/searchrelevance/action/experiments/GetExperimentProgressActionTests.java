@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.action.experiments;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentProgress;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndices;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.transport.experiment.ExperimentProgressResponse;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentProgressAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentProgressTransportAction;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.NodeDisconnectedException;
+import org.opensearch.transport.TransportResponseHandler;
+import org.opensearch.transport.TransportService;
+
+public class GetExperimentProgressActionTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "experiment";
+    private static final Map<String, Object> STORED_PROGRESS = Map.of(ExperimentProgress.UPDATED_AT, "2025-01-01T00:00:00.000Z");
+
+    private DiscoveryNode localNode;
+    private DiscoveryNode otherNode;
+    private SearchRelevanceIndicesManager indicesManager;
+    private TransportService transportService;
+    private ExperimentRunner experimentRunner;
+    private GetExperimentProgressTransportAction action;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+        otherNode = new DiscoveryNode("other", buildNewFakeTransportAddress(), Version.CURRENT);
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.state()).thenReturn(
+            ClusterState.builder(new ClusterName("test"))
+                .nodes(DiscoveryNodes.builder().add(localNode).add(otherNode).localNodeId(localNode.getId()).build())
+                .build()
+        );
+        indicesManager = mock(SearchRelevanceIndicesManager.class);
+        transportService = mock(TransportService.class);
+        experimentRunner = mock(ExperimentRunner.class);
+        action = new GetExperimentProgressTransportAction(
+            clusterService,
+            transportService,
+            new ActionFilters(Set.of()),
+            new ExperimentDao(indicesManager),
+            experimentRunner
+        );
+    }
+
+    public void testExperimentRunningOnLocalNodeReportsLiveProgress() {
+        ExperimentProgress progress = new ExperimentProgress();
+        when(experimentRunner.getProgress(EXPERIMENT_ID)).thenReturn(progress);
+
+        ExperimentProgressResponse response = getProgress();
+
+        assertTrue(response.isLive());
+        assertEquals(AsyncStatus.PROCESSING.name(), response.getStatus());
+        verify(indicesManager, never()).getDocByDocId(any(), any(), any());
+    }
+
+    public void testUnknownExperimentIsNotFound() {
+        mockExperimentSearch(null);
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        action.execute(null, new OpenSearchDocRequest(EXPERIMENT_ID), ActionListener.wrap(r -> fail("expected failure"), failure::set));
+
+        assertTrue(failure.get() instanceof SearchRelevanceException);
+        assertEquals(RestStatus.NOT_FOUND, ((SearchRelevanceException) failure.get()).status());
+    }
+
+    public void testFinishedExperimentReportsStoredProgress() {
+        mockExperimentSearch(experiment(AsyncStatus.COMPLETED, null));
+
+        ExperimentProgressResponse response = getProgress();
+
+        assertFalse(response.isLive());
+        assertEquals(AsyncStatus.COMPLETED.name(), response.getStatus());
+        assertEquals(STORED_PROGRESS, response.getProgress());
+        verify(transportService, never()).sendRequest(any(DiscoveryNode.class), any(), any(), any(TransportResponseHandler.class));
+    }
+
+    public void testExperimentRunningOnAnotherNodeIsAskedToItsOwner() {
+        mockExperimentSearch(experiment(AsyncStatus.PROCESSING, otherNode.getId()));
+        ExperimentProgressResponse live = new ExperimentProgressResponse(EXPERIMENT_ID, AsyncStatus.PROCESSING.name(), true, Map.of());
+        doAnswer(invocation -> {
+            TransportResponseHandler<ExperimentProgressResponse> handler = invocation.getArgument(3);
+            handler.handleResponse(live);
+            return null;
+        }).when(transportService)
+            .sendRequest(eq(otherNode), eq(GetExperimentProgressAction.NAME), any(), any(TransportResponseHandler.class));
+
+        assertSame(live, getProgress());
+    }
+
+    public void testUnreachableOwnerFallsBackToStoredProgress() {
+        mockExperimentSearch(experiment(AsyncStatus.PROCESSING, otherNode.getId()));
+        doAnswer(invocation -> {
+            TransportResponseHandler<ExperimentProgressResponse> handler = invocation.getArgument(3);
+            handler.handleException(new NodeDisconnectedException(otherNode, GetExperimentProgressAction.NAME));
+            return null;
+        }).when(transportService)
+            .sendRequest(eq(otherNode), eq(GetExperimentProgressAction.NAME), any(), any(TransportResponseHandler.class));
+
+        ExperimentProgressResponse response = getProgress();
+
+        assertFalse(response.isLive());
+        assertEquals(STORED_PROGRESS, response.getProgress());
+    }
+
+    public void testOwnerThatLeftTheClusterIsNotAsked() {
+        mockExperimentSearch(experiment(AsyncStatus.PROCESSING, "departed"));
+
+        ExperimentProgressResponse response = getProgress();
+
+        assertFalse(response.isLive());
+        assertEquals(STORED_PROGRESS, response.getProgress());
+        verify(transportService, never()).sendRequest(any(DiscoveryNode.class), any(), any(), any(TransportResponseHandler.class));
+    }
+
+    private ExperimentProgressResponse getProgress() {
+        AtomicReference<ExperimentProgressResponse> response = new AtomicReference<>();
+        action.execute(null, new OpenSearchDocRequest(EXPERIMENT_ID), ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+        assertNotNull(response.get());
+        return response.get();
+    }
+
+    /**
+     * Answer the experiment lookup with the given source, or without hits if the source is null
+     */
+    private void mockExperimentSearch(Map<String, Object> source) {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            SearchHit[] hits = new SearchHit[0];
+            if (source != null) {
+                SearchHit hit = new SearchHit(0, EXPERIMENT_ID, Map.of(), Map.of());
+                hit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+                hits = new SearchHit[] { hit };
+            }
+            SearchResponse response = mock(SearchResponse.class);
+            when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+            listener.onResponse(response);
+            return null;
+        }).when(indicesManager).getDocByDocId(eq(EXPERIMENT_ID), eq(SearchRelevanceIndices.EXPERIMENT), any());
+    }
+
+    private Map<String, Object> experiment(AsyncStatus status, String ownerNode) {
+        Map<String, Object> source = new HashMap<>();
+        source.put(Experiment.ID, EXPERIMENT_ID);
+        source.put(Experiment.STATUS, status.name());
+        source.put(Experiment.PROGRESS, STORED_PROGRESS);
+        if (ownerNode != null) {
+            source.put(Experiment.OWNER_NODE, ownerNode);
+        }
+        return source;
+    }
+}
@@ -10,8 +10,13 @@ package org.opensearch.searchrelevance.action.experiments;
 import java.io.IOException;
 import java.util.List;
 
+import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
 import org.opensearch.searchrelevance.model.ExperimentType;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
 import org.opensearch.test.OpenSearchTestCase;
@@ -30,10 +35,37 @@ public class PutExperimentActionTests extends OpenSearchTestCase {
         BytesStreamOutput output = new BytesStreamOutput();
         request.writeTo(output);
         StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
-        PutExperimentRequest serialized = new PutExperimentRequest(in);
+        PutExperimentRequest serialized = new PutExperimentRequest(in, new MetricRegistry());
         assertEquals("1234", serialized.getQuerySetId());
         assertEquals(2, serialized.getSearchConfigurationList().size());
         assertEquals(10, serialized.getSize());
+        assertNull(serialized.getTimeBudget());
+        assertNull(serialized.getSearchTimeout());
+        assertEquals(ExperimentPriority.BATCH, serialized.getPriority());
+        assertEquals(MetricSpec.DEFAULT_METRICS, serialized.getMetrics());
+    }
+
+    public void testStreamsWithTimeBudget() throws IOException {
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.LLM_EVALUATION,
+            "1234",
+            List.of("5678"),
+            List.of(),
+            "modelId_123",
+            10,
+            TimeValue.timeValueMinutes(5),
+            TimeValue.timeValueSeconds(2),
+            ExperimentPriority.INTERACTIVE,
+            MetricSpec.parseAll(List.of("ndcg@10", "recall@20", "mrr"), new MetricRegistry())
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+        StreamInput in = StreamInput.wrap(output.bytes().toBytesRef().bytes);
+        PutExperimentRequest serialized = new PutExperimentRequest(in, new MetricRegistry());
+        assertEquals(TimeValue.timeValueMinutes(5), serialized.getTimeBudget());
+        assertEquals(TimeValue.timeValueSeconds(2), serialized.getSearchTimeout());
+        assertEquals(ExperimentPriority.INTERACTIVE, serialized.getPriority());
+        assertEquals(List.of("ndcg@10", "recall@20", "mrr"), MetricSpec.toStrings(serialized.getMetrics()));
     }
 
     public void testRequestValidation() {
@@ -48,4 +80,22 @@ public class PutExperimentActionTests extends OpenSearchTestCase {
         assertNull(request.validate());
     }
 
+    public void testNonPositiveTimeBudgetAndSearchTimeoutAreInvalid() {
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.PAIRWISE_COMPARISON,
+            "1234",
+            List.of("5678", "0000"),
+            List.of(),
+            "modelId_123",
+            10,
+            TimeValue.MINUS_ONE,
+            TimeValue.ZERO,
+            ExperimentPriority.BATCH,
+            MetricSpec.DEFAULT_METRICS
+        );
+        ActionRequestValidationException validationException = request.validate();
+        assertNotNull(validationException);
+        assertEquals(List.of("timeBudget must be positive", "searchTimeout must be positive"), validationException.validationErrors());
+    }
+
 }
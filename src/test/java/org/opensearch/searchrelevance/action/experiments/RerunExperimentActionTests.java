@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.action.experiments;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndices;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
+import org.opensearch.searchrelevance.transport.experiment.RerunExperimentRequest;
+import org.opensearch.searchrelevance.transport.experiment.RerunExperimentTransportAction;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class RerunExperimentActionTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "experiment";
+
+    private SearchRelevanceIndicesManager indicesManager;
+    private ExperimentResultDao experimentResultDao;
+    private ExperimentRunner experimentRunner;
+    private RerunExperimentTransportAction action;
+
+    private Map<String, Map<String, EvaluationReference>> previousEvaluations;
+    private AtomicReference<String> storedExperiment;
+    private AtomicReference<PutExperimentRequest> rerunRequest;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        DiscoveryNode localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+        TransportService transportService = mock(TransportService.class);
+        when(transportService.getLocalNode()).thenReturn(localNode);
+
+        indicesManager = mock(SearchRelevanceIndicesManager.class);
+        storedExperiment = new AtomicReference<>();
+        doAnswer(invocation -> {
+            XContentBuilder builder = invocation.getArgument(1);
+            storedExperiment.set(BytesReference.bytes(builder).utf8ToString());
+            ActionListener<IndexResponse> listener = invocation.getArgument(3);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(indicesManager).putDoc(anyString(), any(), eq(SearchRelevanceIndices.EXPERIMENT), any());
+
+        previousEvaluations = Map.of("q1", Map.of("searchConfiguration", new EvaluationReference("evaluation", "fingerprint", Map.of())));
+        experimentResultDao = mock(ExperimentResultDao.class);
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Map<String, EvaluationReference>>> listener = invocation.getArgument(1);
+            listener.onResponse(previousEvaluations);
+            return null;
+        }).when(experimentResultDao).loadEvaluationReferences(eq(EXPERIMENT_ID), any());
+
+        QuerySetDao querySetDao = mock(QuerySetDao.class);
+        doAnswer(invocation -> {
+            Map<String, Object> results = invocation.getArgument(1);
+            StepListener<Map<String, Object>> listener = invocation.getArgument(2);
+            results.put(METRICS_QUERY_TEXT_FIELD_NAME, List.of("q1", "q2"));
+            listener.onResponse(results);
+            return null;
+        }).when(querySetDao).getQuerySetWithStepListener(anyString(), anyMap(), any());
+
+        experimentRunner = mock(ExperimentRunner.class);
+        rerunRequest = new AtomicReference<>();
+        doAnswer(invocation -> {
+            rerunRequest.set(invocation.getArgument(2));
+            return null;
+        }).when(experimentRunner).run(any(), anyString(), any(), any(), any(), any());
+
+        action = new RerunExperimentTransportAction(
+            transportService,
+            new ActionFilters(Set.of()),
+            new ExperimentDao(indicesManager),
+            experimentResultDao,
+            querySetDao,
+            experimentRunner,
+            new MetricRegistry()
+        );
+    }
+
+    public void testUnknownExperimentIsNotFound() {
+        mockExperimentSearch(null);
+
+        SearchRelevanceException failure = rerunFailure(new RerunExperimentRequest(EXPERIMENT_ID, null, null));
+        assertEquals(RestStatus.NOT_FOUND, failure.status());
+        verify(experimentRunner, never()).run(any(), anyString(), any(), any(), any(), any());
+    }
+
+    public void testProcessingExperimentIsConflict() {
+        Map<String, Object> source = completedExperiment();
+        source.put(Experiment.STATUS, AsyncStatus.PROCESSING.name());
+        mockExperimentSearch(source);
+
+        SearchRelevanceException failure = rerunFailure(new RerunExperimentRequest(EXPERIMENT_ID, null, null));
+        assertEquals(RestStatus.CONFLICT, failure.status());
+    }
+
+    public void testPairwiseComparisonIsBadRequest() {
+        Map<String, Object> source = completedExperiment();
+        source.put(Experiment.TYPE, ExperimentType.PAIRWISE_COMPARISON.name());
+        mockExperimentSearch(source);
+
+        SearchRelevanceException failure = rerunFailure(new RerunExperimentRequest(EXPERIMENT_ID, null, null));
+        assertEquals(RestStatus.BAD_REQUEST, failure.status());
+    }
+
+    public void testRerunKeepsTheSettingsOfThePreviousExperiment() {
+        Map<String, Object> source = completedExperiment();
+        source.put(Experiment.PRIORITY, ExperimentPriority.INTERACTIVE.name());
+        source.put(Experiment.TIME_BUDGET, "10m");
+        source.put(Experiment.SEARCH_TIMEOUT, "5s");
+        mockExperimentSearch(source);
+
+        AtomicReference<IndexResponse> response = new AtomicReference<>();
+        action.execute(
+            null,
+            new RerunExperimentRequest(EXPERIMENT_ID, null, List.of("judgment2")),
+            ActionListener.wrap(response::set, e -> fail(e.getMessage()))
+        );
+
+        assertNotNull(response.get());
+        PutExperimentRequest request = rerunRequest.get();
+        assertEquals(ExperimentPriority.INTERACTIVE, request.getPriority());
+        assertEquals(TimeValue.timeValueMinutes(10), request.getTimeBudget());
+        assertEquals(TimeValue.timeValueSeconds(5), request.getSearchTimeout());
+        assertEquals(List.of("searchConfiguration"), request.getSearchConfigurationList());
+        assertEquals(List.of("judgment2"), request.getJudgmentList());
+        verify(experimentRunner).run(any(), anyString(), any(), eq(List.of("q1", "q2")), eq(Set.of()), eq(previousEvaluations));
+        // the re-run stores the settings as well, so that it can be resumed or re-run again with them
+        assertTrue(storedExperiment.get().contains("\"priority\":\"INTERACTIVE\""));
+        assertTrue(storedExperiment.get().contains("\"timeBudget\":\"10m\""));
+        assertTrue(storedExperiment.get().contains("\"searchTimeout\":\"5s\""));
+    }
+
+    public void testExperimentStoredWithoutSettingsIsRerunAsBatch() {
+        mockExperimentSearch(completedExperiment());
+
+        action.execute(null, new RerunExperimentRequest(EXPERIMENT_ID, null, null), ActionListener.wrap(r -> {}, e -> fail()));
+
+        PutExperimentRequest request = rerunRequest.get();
+        assertEquals(ExperimentPriority.BATCH, request.getPriority());
+        assertNull(request.getTimeBudget());
+        assertNull(request.getSearchTimeout());
+        assertEquals(List.of("judgment"), request.getJudgmentList());
+    }
+
+    private SearchRelevanceException rerunFailure(RerunExperimentRequest request) {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        action.execute(null, request, ActionListener.wrap(r -> fail("expected failure"), failure::set));
+        assertTrue(failure.get() instanceof SearchRelevanceException);
+        return (SearchRelevanceException) failure.get();
+    }
+
+    /**
+     * Answer the experiment lookup with the given source, or without hits if the source is null
+     */
+    private void mockExperimentSearch(Map<String, Object> source) {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            SearchHit[] hits = new SearchHit[0];
+            if (source != null) {
+                SearchHit hit = new SearchHit(0, EXPERIMENT_ID, Map.of(), Map.of());
+                hit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+                hits = new SearchHit[] { hit };
+            }
+            SearchResponse response = mock(SearchResponse.class);
+            when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+            listener.onResponse(response);
+            return null;
+        }).when(indicesManager).getDocByDocId(eq(EXPERIMENT_ID), eq(SearchRelevanceIndices.EXPERIMENT), any());
+    }
+
+    private static Map<String, Object> completedExperiment() {
+        Map<String, Object> source = new HashMap<>();
+        source.put(Experiment.ID, EXPERIMENT_ID);
+        source.put(Experiment.TIME_STAMP, "2025-01-01T00:00:00.000Z");
+        source.put(Experiment.TYPE, ExperimentType.UBI_EVALUATION.name());
+        source.put(Experiment.STATUS, AsyncStatus.COMPLETED.name());
+        source.put(Experiment.QUERY_SET_ID, "querySet");
+        source.put(Experiment.SEARCH_CONFIGURATION_LIST, List.of("searchConfiguration"));
+        source.put(Experiment.JUDGMENT_LIST, List.of("judgment"));
+        source.put(Experiment.SIZE, 10);
+        return source;
+    }
+}
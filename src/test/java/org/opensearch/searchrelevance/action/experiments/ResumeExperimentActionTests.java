@@ -0,0 +1,319 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.action.experiments;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_QUERY_TEXT_FIELD_NAME;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.action.StepListener;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.dao.QuerySetDao;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.executors.ExperimentProgress;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndices;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.searchrelevance.transport.OpenSearchDocRequest;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentTransportAction;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.TransportService;
+
+public class ResumeExperimentActionTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "experiment";
+    private static final TimeValue STALE_TIMEOUT = TimeValue.timeValueMinutes(10);
+
+    private DiscoveryNode localNode;
+    private DiscoveryNode otherNode;
+    private DiscoveryNodes nodes;
+    private SearchRelevanceIndicesManager indicesManager;
+    private ExperimentResultDao experimentResultDao;
+    private QuerySetDao querySetDao;
+    private JudgmentDao judgmentDao;
+    private ExperimentRunner experimentRunner;
+    private ResumeExperimentTransportAction action;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+        otherNode = new DiscoveryNode("other", buildNewFakeTransportAddress(), Version.CURRENT);
+        nodes = DiscoveryNodes.builder().add(localNode).add(otherNode).localNodeId(localNode.getId()).build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).nodes(nodes).build());
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(Settings.EMPTY, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+
+        indicesManager = mock(SearchRelevanceIndicesManager.class);
+        ExperimentDao experimentDao = new ExperimentDao(indicesManager);
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> listener = invocation.getArgument(3);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(indicesManager).updateDoc(eq(EXPERIMENT_ID), any(), eq(SearchRelevanceIndices.EXPERIMENT), any());
+
+        experimentResultDao = mock(ExperimentResultDao.class);
+        doAnswer(invocation -> {
+            ActionListener<Set<String>> listener = invocation.getArgument(1);
+            listener.onResponse(Set.of("q1"));
+            return null;
+        }).when(experimentResultDao).loadCheckpointedQueryTexts(eq(EXPERIMENT_ID), any());
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Map<String, EvaluationReference>>> listener = invocation.getArgument(1);
+            listener.onResponse(Map.of());
+            return null;
+        }).when(experimentResultDao).loadEvaluationReferences(eq(EXPERIMENT_ID), any());
+
+        querySetDao = mock(QuerySetDao.class);
+        doAnswer(invocation -> {
+            Map<String, Object> results = invocation.getArgument(1);
+            StepListener<Map<String, Object>> listener = invocation.getArgument(2);
+            results.put(METRICS_QUERY_TEXT_FIELD_NAME, List.of("q1", "q2"));
+            listener.onResponse(results);
+            return null;
+        }).when(querySetDao).getQuerySetWithStepListener(anyString(), anyMap(), any());
+
+        judgmentDao = mock(JudgmentDao.class);
+        experimentRunner = mock(ExperimentRunner.class);
+        action = new ResumeExperimentTransportAction(
+            clusterService,
+            mock(TransportService.class),
+            new ActionFilters(Set.of()),
+            experimentDao,
+            experimentResultDao,
+            judgmentDao,
+            querySetDao,
+            experimentRunner,
+            new MetricRegistry()
+        );
+    }
+
+    public void testOwnerLeftTheClusterIsAbandoned() {
+        Instant now = Instant.now();
+        Map<String, Object> source = processingExperiment("departed", now, null);
+        assertTrue(ResumeExperimentTransportAction.isAbandoned(source, nodes, now, STALE_TIMEOUT));
+    }
+
+    public void testRecentlyStartedExperimentOfLiveOwnerIsNotAbandoned() {
+        Instant now = Instant.now();
+        Map<String, Object> source = processingExperiment(otherNode.getId(), now.minus(1, ChronoUnit.MINUTES), null);
+        assertFalse(ResumeExperimentTransportAction.isAbandoned(source, nodes, now, STALE_TIMEOUT));
+    }
+
+    public void testProgressKeepsExperimentOfLiveOwnerAlive() {
+        Instant now = Instant.now();
+        Map<String, Object> source = processingExperiment(
+            otherNode.getId(),
+            now.minus(1, ChronoUnit.HOURS),
+            now.minus(1, ChronoUnit.MINUTES)
+        );
+        assertFalse(ResumeExperimentTransportAction.isAbandoned(source, nodes, now, STALE_TIMEOUT));
+    }
+
+    public void testExperimentWithoutRecentProgressIsAbandoned() {
+        Instant now = Instant.now();
+        Map<String, Object> source = processingExperiment(
+            otherNode.getId(),
+            now.minus(1, ChronoUnit.HOURS),
+            now.minus(30, ChronoUnit.MINUTES)
+        );
+        assertTrue(ResumeExperimentTransportAction.isAbandoned(source, nodes, now, STALE_TIMEOUT));
+    }
+
+    public void testExperimentWithoutOwnerIsAbandonedOnceStale() {
+        Instant now = Instant.now();
+        Map<String, Object> source = processingExperiment(null, null, null);
+        source.put(Experiment.TIME_STAMP, now.minus(1, ChronoUnit.MINUTES).toString());
+        assertFalse(ResumeExperimentTransportAction.isAbandoned(source, nodes, now, STALE_TIMEOUT));
+        source.put(Experiment.TIME_STAMP, now.minus(1, ChronoUnit.HOURS).toString());
+        assertTrue(ResumeExperimentTransportAction.isAbandoned(source, nodes, now, STALE_TIMEOUT));
+    }
+
+    public void testUnknownExperimentIsNotFound() {
+        mockExperimentSearch(null);
+
+        SearchRelevanceException failure = resumeFailure();
+        assertEquals(RestStatus.NOT_FOUND, failure.status());
+        verify(experimentRunner, never()).run(any(), anyString(), any(), any(), any(), any(), any());
+    }
+
+    public void testExperimentRunningOnLiveOwnerIsConflict() {
+        mockExperimentSearch(processingExperiment(otherNode.getId(), Instant.now(), null));
+
+        SearchRelevanceException failure = resumeFailure();
+        assertEquals(RestStatus.CONFLICT, failure.status());
+        verify(experimentRunner, never()).run(any(), anyString(), any(), any(), any(), any(), any());
+    }
+
+    public void testExperimentOfLocalNodeThatIsNotRunningIsResumed() {
+        mockExperimentSearch(processingExperiment(localNode.getId(), Instant.now(), null));
+
+        AtomicReference<IndexResponse> response = new AtomicReference<>();
+        action.execute(null, new OpenSearchDocRequest(EXPERIMENT_ID), ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+
+        assertNotNull(response.get());
+        verify(experimentRunner).run(any(), eq(EXPERIMENT_ID), any(), eq(List.of("q1", "q2")), eq(Set.of("q1")), eq(Map.of()), any());
+    }
+
+    public void testFailedExperimentIsResumedFromCheckpoints() {
+        Map<String, Object> source = processingExperiment(null, null, null);
+        source.put(Experiment.STATUS, AsyncStatus.ERROR.name());
+        mockExperimentSearch(source);
+
+        AtomicReference<IndexResponse> response = new AtomicReference<>();
+        action.execute(null, new OpenSearchDocRequest(EXPERIMENT_ID), ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+
+        assertNotNull(response.get());
+        verify(indicesManager).updateDoc(eq(EXPERIMENT_ID), any(), eq(SearchRelevanceIndices.EXPERIMENT), any());
+        verify(experimentRunner).run(any(), eq(EXPERIMENT_ID), any(), eq(List.of("q1", "q2")), eq(Set.of("q1")), eq(Map.of()), any());
+    }
+
+    public void testLlmEvaluationWithDeletedJudgmentIsNotFound() {
+        Map<String, Object> source = processingExperiment(null, null, null);
+        source.put(Experiment.STATUS, AsyncStatus.ERROR.name());
+        source.put(Experiment.TYPE, ExperimentType.LLM_EVALUATION.name());
+        source.put(Experiment.JUDGMENT_LIST, List.of("judgment", "llmJudgment"));
+        mockExperimentSearch(source);
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            SearchResponse response = mock(SearchResponse.class);
+            when(response.getHits()).thenReturn(new SearchHits(new SearchHit[0], new TotalHits(0, TotalHits.Relation.EQUAL_TO), 1.0f));
+            listener.onResponse(response);
+            return null;
+        }).when(judgmentDao).getJudgment(eq("llmJudgment"), any());
+
+        SearchRelevanceException failure = resumeFailure();
+        assertEquals(RestStatus.NOT_FOUND, failure.status());
+        assertTrue(failure.getMessage().contains("llmJudgment"));
+        verify(experimentRunner, never()).run(any(), anyString(), any(), any(), any(), any(), any());
+    }
+
+    public void testPairwiseComparisonIsResumedWithCheckpointedPairwiseSummary() {
+        Map<String, Object> source = processingExperiment(null, null, null);
+        source.put(Experiment.STATUS, AsyncStatus.ERROR.name());
+        source.put(Experiment.TYPE, ExperimentType.PAIRWISE_COMPARISON.name());
+        source.put(Experiment.SEARCH_CONFIGURATION_LIST, List.of("a", "b"));
+        source.put(Experiment.JUDGMENT_LIST, List.of());
+        mockExperimentSearch(source);
+        PairwiseSummary checkpointedPairwiseSummary = new PairwiseSummary();
+        doAnswer(invocation -> {
+            ActionListener<PairwiseSummary> listener = invocation.getArgument(1);
+            listener.onResponse(checkpointedPairwiseSummary);
+            return null;
+        }).when(experimentResultDao).loadPairwiseSummary(eq(EXPERIMENT_ID), any());
+
+        AtomicReference<IndexResponse> response = new AtomicReference<>();
+        action.execute(null, new OpenSearchDocRequest(EXPERIMENT_ID), ActionListener.wrap(response::set, e -> fail(e.getMessage())));
+
+        assertNotNull(response.get());
+        verify(experimentResultDao, never()).loadEvaluationReferences(any(), any());
+        verify(experimentRunner).run(
+            any(),
+            eq(EXPERIMENT_ID),
+            any(),
+            eq(List.of("q1", "q2")),
+            eq(Set.of("q1")),
+            eq(Map.of()),
+            same(checkpointedPairwiseSummary)
+        );
+    }
+
+    private SearchRelevanceException resumeFailure() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        action.execute(null, new OpenSearchDocRequest(EXPERIMENT_ID), ActionListener.wrap(r -> fail("expected failure"), failure::set));
+        assertTrue(failure.get() instanceof SearchRelevanceException);
+        return (SearchRelevanceException) failure.get();
+    }
+
+    /**
+     * Answer the experiment lookup with the given source, or without hits if the source is null
+     */
+    private void mockExperimentSearch(Map<String, Object> source) {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            SearchHit[] hits = new SearchHit[0];
+            if (source != null) {
+                SearchHit hit = new SearchHit(0, EXPERIMENT_ID, Map.of(), Map.of());
+                hit.sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+                hits = new SearchHit[] { hit };
+            }
+            SearchResponse response = mock(SearchResponse.class);
+            when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+            listener.onResponse(response);
+            return null;
+        }).when(indicesManager).getDocByDocId(eq(EXPERIMENT_ID), eq(SearchRelevanceIndices.EXPERIMENT), any());
+    }
+
+    private Map<String, Object> processingExperiment(String ownerNode, Instant startedAt, Instant progressUpdatedAt) {
+        Map<String, Object> source = new HashMap<>();
+        source.put(Experiment.ID, EXPERIMENT_ID);
+        source.put(Experiment.TIME_STAMP, Instant.now().minus(2, ChronoUnit.HOURS).toString());
+        source.put(Experiment.TYPE, ExperimentType.UBI_EVALUATION.name());
+        source.put(Experiment.STATUS, AsyncStatus.PROCESSING.name());
+        source.put(Experiment.QUERY_SET_ID, "querySet");
+        source.put(Experiment.SEARCH_CONFIGURATION_LIST, List.of("searchConfiguration"));
+        source.put(Experiment.JUDGMENT_LIST, List.of("judgment"));
+        source.put(Experiment.SIZE, 10);
+        if (ownerNode != null) {
+            source.put(Experiment.OWNER_NODE, ownerNode);
+            source.put(Experiment.STARTED_AT, startedAt.toString());
+        }
+        if (progressUpdatedAt != null) {
+            source.put(Experiment.PROGRESS, Map.of(ExperimentProgress.UPDATED_AT, progressUpdatedAt.toString()));
+        }
+        return source;
+    }
+}
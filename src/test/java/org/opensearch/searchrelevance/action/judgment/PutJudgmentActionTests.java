@@ -7,17 +7,101 @@
  */
 package org.opensearch.searchrelevance.action.judgment;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.opensearch.action.StepListener;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.executors.SearchRelevanceTask;
+import org.opensearch.searchrelevance.judgments.BaseJudgmentsProcessor;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.Judgment;
 import org.opensearch.searchrelevance.model.JudgmentType;
 import org.opensearch.searchrelevance.transport.judgment.PutJudgmentRequest;
+import org.opensearch.searchrelevance.transport.judgment.PutJudgmentTransportAction;
 import org.opensearch.searchrelevance.transport.judgment.PutUbiJudgmentRequest;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
 
 public class PutJudgmentActionTests extends OpenSearchTestCase {
 
+    private TaskManager taskManager;
+    private PutJudgmentTransportAction action;
+    private AtomicReference<SearchRelevanceTask> judgmentTask;
+    private AtomicReference<ActionListener<Map<String, Map<String, String>>>> judgmentListener;
+    private List<Judgment> updatedJudgments;
+    private List<ActionListener<Object>> updateListeners;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+        TransportService transportService = mock(TransportService.class);
+        when(transportService.getTaskManager()).thenReturn(taskManager);
+
+        JudgmentDao judgmentDao = mock(JudgmentDao.class);
+        doAnswer(invocation -> {
+            StepListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(judgmentDao).createIndexIfAbsent(any());
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(mock(IndexResponse.class));
+            return null;
+        }).when(judgmentDao).putJudgement(any(), any());
+        updatedJudgments = new ArrayList<>();
+        updateListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            updatedJudgments.add(invocation.getArgument(0));
+            updateListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(judgmentDao).updateJudgment(any(), any());
+
+        judgmentTask = new AtomicReference<>();
+        judgmentListener = new AtomicReference<>();
+        BaseJudgmentsProcessor processor = mock(BaseJudgmentsProcessor.class);
+        doAnswer(invocation -> {
+            judgmentTask.set(invocation.getArgument(1));
+            judgmentListener.set(invocation.getArgument(2));
+            return null;
+        }).when(processor).generateJudgmentScore(anyMap(), any(), any());
+        JudgmentsProcessorFactory judgmentsProcessorFactory = mock(JudgmentsProcessorFactory.class);
+        when(judgmentsProcessorFactory.getProcessor(JudgmentType.UBI_JUDGMENT)).thenReturn(processor);
+
+        action = new PutJudgmentTransportAction(
+            mock(ClusterService.class),
+            transportService,
+            new ActionFilters(Set.of()),
+            judgmentDao,
+            judgmentsProcessorFactory
+        );
+    }
+
     public void testStreams() throws IOException {
         PutJudgmentRequest request = new PutUbiJudgmentRequest(JudgmentType.UBI_JUDGMENT, "name", "description", "coec", 20);
         BytesStreamOutput output = new BytesStreamOutput();
@@ -34,4 +118,57 @@ public class PutJudgmentActionTests extends OpenSearchTestCase {
         PutJudgmentRequest request = new PutUbiJudgmentRequest(JudgmentType.UBI_JUDGMENT, "name", "description", "coec", 20);
         assertNull(request.validate());
     }
+
+    public void testTaskIsListedUntilTheFinalJudgmentIsStored() {
+        putJudgment();
+        SearchRelevanceTask task = judgmentTask.get();
+        assertSame(task, taskManager.getTask(task.getId()));
+
+        judgmentListener.get().onResponse(Map.of("query", Map.of("doc1", "1.0")));
+        assertEquals(AsyncStatus.COMPLETED, updatedJudgments.get(0).status());
+        // the judgment is not stored yet
+        assertSame(task, taskManager.getTask(task.getId()));
+
+        updateListeners.get(0).onResponse(null);
+        assertNull(taskManager.getTask(task.getId()));
+    }
+
+    public void testCancelledJudgmentIsStoredAsCancelled() {
+        putJudgment();
+        SearchRelevanceTask task = judgmentTask.get();
+
+        taskManager.cancel(task, "by user", () -> {});
+        judgmentListener.get().onFailure(task.newCancellationException());
+
+        assertEquals(1, updatedJudgments.size());
+        assertEquals(AsyncStatus.CANCELLED, updatedJudgments.get(0).status());
+        assertSame(task, taskManager.getTask(task.getId()));
+
+        updateListeners.get(0).onResponse(null);
+        assertNull(taskManager.getTask(task.getId()));
+    }
+
+    public void testFailedFinalJudgmentIsStoredAsErrorBeforeTaskIsUnregistered() {
+        putJudgment();
+        SearchRelevanceTask task = judgmentTask.get();
+
+        judgmentListener.get().onResponse(Map.of());
+        updateListeners.get(0).onFailure(new IllegalStateException("index failed"));
+        assertEquals(AsyncStatus.ERROR, updatedJudgments.get(1).status());
+        assertSame(task, taskManager.getTask(task.getId()));
+
+        updateListeners.get(1).onFailure(new IllegalStateException("index failed"));
+        assertNull(taskManager.getTask(task.getId()));
+    }
+
+    private void putJudgment() {
+        AtomicReference<IndexResponse> response = new AtomicReference<>();
+        action.execute(
+            null,
+            new PutUbiJudgmentRequest(JudgmentType.UBI_JUDGMENT, "name", "description", "coec", 20),
+            ActionListener.wrap(response::set, e -> fail(e.getMessage()))
+        );
+        assertNotNull(response.get());
+        assertNotNull(judgmentTask.get());
+    }
 }
@@ -0,0 +1,290 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISONS_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_QUERY_COUNT;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndices;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class ExperimentResultDaoTests extends OpenSearchTestCase {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private SearchRelevanceIndicesManager indicesManager;
+    private ClusterService clusterService;
+    private ExperimentResultDao experimentResultDao;
+    private List<SearchSourceBuilder> searches;
+    private List<SearchResponse> pages;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        indicesManager = mock(SearchRelevanceIndicesManager.class);
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(Settings.EMPTY, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+        when(clusterService.state()).thenReturn(clusterStateWithExperimentResultIndex());
+        searches = new ArrayList<>();
+        pages = new ArrayList<>();
+        doAnswer(invocation -> {
+            searches.add(invocation.getArgument(0));
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            listener.onResponse(pages.get(searches.size() - 1));
+            return null;
+        }).when(indicesManager).listDocsBySearchRequest(any(), eq(SearchRelevanceIndices.EXPERIMENT_RESULT), any());
+        experimentResultDao = new ExperimentResultDao(indicesManager, mock(ThreadPool.class), clusterService);
+    }
+
+    public void testLoadCheckpointedQueryTextsPagesWithSearchAfter() throws IOException {
+        List<Map<String, Object>> firstPage = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            firstPage.add(Map.of(ExperimentResult.QUERY_TEXT, String.format(Locale.ROOT, "q%04d", i)));
+        }
+        pages.add(searchResponse(firstPage));
+        pages.add(searchResponse(List.of(Map.of(ExperimentResult.QUERY_TEXT, "q1000"), Map.of(ExperimentResult.QUERY_TEXT, "q1001"))));
+
+        AtomicReference<Set<String>> loaded = new AtomicReference<>();
+        experimentResultDao.loadCheckpointedQueryTexts("experiment", ActionListener.wrap(loaded::set, e -> fail(e.getMessage())));
+
+        assertEquals(PAGE_SIZE + 2, loaded.get().size());
+        assertTrue(loaded.get().contains("q0000"));
+        assertTrue(loaded.get().contains("q1001"));
+        assertEquals(2, searches.size());
+        assertNull(searches.get(0).searchAfter());
+        assertArrayEquals(new Object[] { "q0999" }, searches.get(1).searchAfter());
+    }
+
+    public void testLoadCheckpointedQueryTextsStopsAtPartialPage() throws IOException {
+        pages.add(searchResponse(List.of(Map.of(ExperimentResult.QUERY_TEXT, "q1"))));
+
+        AtomicReference<Set<String>> loaded = new AtomicReference<>();
+        experimentResultDao.loadCheckpointedQueryTexts("experiment", ActionListener.wrap(loaded::set, e -> fail(e.getMessage())));
+
+        assertEquals(Set.of("q1"), loaded.get());
+        assertEquals(1, searches.size());
+    }
+
+    public void testLoadCheckpointedQueryTextsWithoutIndex() {
+        when(clusterService.state()).thenReturn(ClusterState.builder(new ClusterName("test")).build());
+
+        AtomicReference<Set<String>> loaded = new AtomicReference<>();
+        experimentResultDao.loadCheckpointedQueryTexts("experiment", ActionListener.wrap(loaded::set, e -> fail(e.getMessage())));
+
+        assertEquals(Set.of(), loaded.get());
+        verify(indicesManager, never()).listDocsBySearchRequest(any(), any(), any());
+    }
+
+    public void testLoadCheckpointedQueryTextsFailure() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new IllegalStateException("search failed"));
+            return null;
+        }).when(indicesManager).listDocsBySearchRequest(any(), any(), any());
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        experimentResultDao.loadCheckpointedQueryTexts("experiment", ActionListener.wrap(r -> fail("expected failure"), failure::set));
+
+        assertEquals("search failed", failure.get().getMessage());
+    }
+
+    public void testLoadEvaluationReferencesPagesWithSearchAfter() throws IOException {
+        List<Map<String, Object>> firstPage = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            firstPage.add(evaluationResult(String.format(Locale.ROOT, "q%04d", i)));
+        }
+        pages.add(searchResponse(firstPage));
+        pages.add(
+            searchResponse(
+                List.of(
+                    evaluationResult("q1000"),
+                    // results without fingerprint and metrics, e.g. timed out searches, are evaluated again
+                    Map.of(ExperimentResult.QUERY_TEXT, "q1001", ExperimentResult.RESULTS, Map.of("config", "evaluation-q1001"))
+                )
+            )
+        );
+
+        AtomicReference<Map<String, Map<String, EvaluationReference>>> loaded = new AtomicReference<>();
+        experimentResultDao.loadEvaluationReferences("experiment", ActionListener.wrap(loaded::set, e -> fail(e.getMessage())));
+
+        assertEquals(PAGE_SIZE + 1, loaded.get().size());
+        EvaluationReference reference = loaded.get().get("q1000").get("config");
+        assertEquals("evaluation-q1000", reference.evaluationId());
+        assertEquals("fingerprint-q1000", reference.fingerprint());
+        assertEquals(Map.of("ndcg@10", "0.5"), reference.metrics());
+        assertFalse(loaded.get().containsKey("q1001"));
+        assertEquals(2, searches.size());
+        assertNull(searches.get(0).searchAfter());
+        assertArrayEquals(new Object[] { "q0999" }, searches.get(1).searchAfter());
+    }
+
+    public void testLoadPairwiseSummaryAddsTheComparisonsOfEveryQueryText() throws IOException {
+        pages.add(
+            searchResponse(
+                List.of(
+                    pairwiseResult("q1", 0.2),
+                    pairwiseResult("q2", 0.4),
+                    Map.of(ExperimentResult.QUERY_TEXT, "q3", ExperimentResult.RESULTS, Map.of("a", List.of("doc1")))
+                )
+            )
+        );
+
+        AtomicReference<PairwiseSummary> loaded = new AtomicReference<>();
+        experimentResultDao.loadPairwiseSummary("experiment", ActionListener.wrap(loaded::set, e -> fail(e.getMessage())));
+
+        List<Map<String, Object>> summary = loaded.get().toList();
+        assertEquals(1, summary.size());
+        assertEquals(2L, summary.get(0).get(PAIRWISE_QUERY_COUNT));
+        assertEquals(0.3, (Double) summary.get(0).get("jaccard"), 0.0001);
+        assertArrayEquals(
+            new String[] { ExperimentResult.QUERY_TEXT, ExperimentResult.RESULTS + "." + METRICS_PAIRWISE_COMPARISONS_FIELD_NAME },
+            searches.get(0).fetchSource().includes()
+        );
+    }
+
+    public void testListExperimentResultsKeepsPageAndRestrictsToExperiment() throws IOException {
+        SearchResponse page = searchResponse(List.of(Map.of(ExperimentResult.QUERY_TEXT, "q1")));
+        pages.add(page);
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder().from(100)
+            .size(50)
+            .query(QueryBuilders.termQuery(ExperimentResult.QUERY_TEXT, "q1"));
+
+        AtomicReference<SearchResponse> response = new AtomicReference<>();
+        experimentResultDao.listExperimentResults(
+            "experiment",
+            sourceBuilder,
+            ActionListener.wrap(response::set, e -> fail(e.getMessage()))
+        );
+
+        assertSame(page, response.get());
+        SearchSourceBuilder search = searches.get(0);
+        assertEquals(100, search.from());
+        assertEquals(50, search.size());
+        BoolQueryBuilder query = (BoolQueryBuilder) search.query();
+        assertEquals(
+            List.of(
+                QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, "experiment"),
+                QueryBuilders.termQuery(ExperimentResult.QUERY_TEXT, "q1")
+            ),
+            query.filter()
+        );
+    }
+
+    public void testListExperimentResultsWithoutQuery() throws IOException {
+        pages.add(searchResponse(List.of()));
+
+        experimentResultDao.listExperimentResults(
+            "experiment",
+            new SearchSourceBuilder().from(0).size(10),
+            ActionListener.wrap(r -> {}, e -> fail(e.getMessage()))
+        );
+
+        BoolQueryBuilder query = (BoolQueryBuilder) searches.get(0).query();
+        assertEquals(List.of(QueryBuilders.termQuery(ExperimentResult.EXPERIMENT_ID, "experiment")), query.filter());
+    }
+
+    private static Map<String, Object> evaluationResult(String queryText) {
+        return Map.of(
+            ExperimentResult.QUERY_TEXT,
+            queryText,
+            ExperimentResult.RESULTS,
+            Map.of("config", "evaluation-" + queryText),
+            ExperimentResult.FINGERPRINTS,
+            Map.of("config", "fingerprint-" + queryText),
+            ExperimentResult.METRICS,
+            Map.of("config", Map.of("ndcg@10", 0.5))
+        );
+    }
+
+    private static Map<String, Object> pairwiseResult(String queryText, double jaccard) {
+        Map<String, Object> pairResult = Map.of(
+            PAIRWISE_SEARCH_CONFIGURATION_A,
+            "a",
+            PAIRWISE_SEARCH_CONFIGURATION_B,
+            "b",
+            "jaccard",
+            jaccard
+        );
+        return Map.of(
+            ExperimentResult.QUERY_TEXT,
+            queryText,
+            ExperimentResult.RESULTS,
+            Map.of(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME, List.of(pairResult))
+        );
+    }
+
+    private static ClusterState clusterStateWithExperimentResultIndex() {
+        IndexMetadata indexMetadata = IndexMetadata.builder(SearchRelevanceIndices.EXPERIMENT_RESULT.getIndexName())
+            .settings(settings(Version.CURRENT))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+        return ClusterState.builder(new ClusterName("test")).metadata(Metadata.builder().put(indexMetadata, false)).build();
+    }
+
+    /**
+     * Search response of a page of experiment results sorted by queryText, like the searches of the dao
+     */
+    static SearchResponse searchResponse(List<Map<String, Object>> sources) throws IOException {
+        SearchHit[] hits = new SearchHit[sources.size()];
+        for (int i = 0; i < sources.size(); i++) {
+            Map<String, Object> source = sources.get(i);
+            hits[i] = new SearchHit(i, "result" + i, Map.of(), Map.of());
+            hits[i].sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(source)));
+            hits[i].sortValues(new Object[] { source.get(ExperimentResult.QUERY_TEXT) }, new DocValueFormat[] { DocValueFormat.RAW });
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return response;
+    }
+}
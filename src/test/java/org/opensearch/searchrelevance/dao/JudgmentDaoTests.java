@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.dao;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.model.Judgment.JUDGMENT_SCORES;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndices;
+import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.model.JudgmentRatingTable;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentDaoTests extends OpenSearchTestCase {
+
+    private JudgmentDao judgmentDao;
+    /**
+     * search response of every judgment id, a judgment id without response fails to fetch
+     */
+    private Map<String, SearchResponse> judgmentResponses;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        judgmentResponses = new HashMap<>();
+        SearchRelevanceIndicesManager indicesManager = mock(SearchRelevanceIndicesManager.class);
+        doAnswer(invocation -> {
+            SearchResponse response = judgmentResponses.get(invocation.<String>getArgument(0));
+            ActionListener<SearchResponse> listener = invocation.getArgument(2);
+            if (response == null) {
+                listener.onFailure(new IllegalStateException("judgment index is unavailable"));
+            } else {
+                listener.onResponse(response);
+            }
+            return null;
+        }).when(indicesManager).getDocByDocId(anyString(), eq(SearchRelevanceIndices.JUDGMENT), any());
+        judgmentDao = new JudgmentDao(indicesManager);
+    }
+
+    public void testJudgmentNotFoundIsSkipped() throws IOException {
+        judgmentResponses.put("judgment1", searchResponse(Map.of("q1", List.of(Map.of("docId", "d1", "score", "2.0")))));
+        judgmentResponses.put("deleted", searchResponse());
+
+        JudgmentRatingTable ratingTable = loadRatingTable(List.of("judgment1", "deleted"));
+        assertEquals(Map.of("d1", 2.0), ratingTable.getRatings("q1"));
+    }
+
+    public void testNoJudgmentFoundLoadsAnEmptyRatingTable() throws IOException {
+        judgmentResponses.put("deleted", searchResponse());
+        judgmentResponses.put("unknown", searchResponse());
+
+        JudgmentRatingTable ratingTable = loadRatingTable(List.of("deleted", "unknown"));
+        assertTrue(ratingTable.isEmpty());
+    }
+
+    public void testNoJudgmentFetchedFails() {
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        judgmentDao.loadJudgmentRatingTable(
+            List.of("judgment1", "judgment2"),
+            ActionListener.wrap(ratingTable -> fail("the rating table must not load"), failure::set)
+        );
+        assertEquals("Failed to fetch any valid judgments", failure.get().getMessage());
+    }
+
+    private JudgmentRatingTable loadRatingTable(List<String> judgmentIds) {
+        AtomicReference<JudgmentRatingTable> ratingTable = new AtomicReference<>();
+        judgmentDao.loadJudgmentRatingTable(judgmentIds, ActionListener.wrap(ratingTable::set, e -> fail("unexpected failure: " + e)));
+        assertNotNull(ratingTable.get());
+        return ratingTable.get();
+    }
+
+    /**
+     * Search response of a judgment lookup by id, without hit if no judgment scores are given
+     */
+    @SafeVarargs
+    private static SearchResponse searchResponse(Map<String, Object>... judgmentScores) throws IOException {
+        SearchHit[] hits = new SearchHit[judgmentScores.length];
+        for (int i = 0; i < judgmentScores.length; i++) {
+            hits[i] = new SearchHit(i, "judgment" + i, Map.of(), Map.of());
+            hits[i].sourceRef(BytesReference.bytes(XContentFactory.jsonBuilder().map(Map.of(JUDGMENT_SCORES, judgmentScores[i]))));
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return response;
+    }
+}
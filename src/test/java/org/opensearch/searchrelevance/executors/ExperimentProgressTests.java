@@ -0,0 +1,85 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ExperimentProgressTests extends OpenSearchTestCase {
+
+    public void testCountersThroughputAndEta() {
+        AtomicLong nanoTime = new AtomicLong();
+        ExperimentProgress progress = new ExperimentProgress(nanoTime::get);
+        progress.onQueriesPlanned(10, 4);
+        ExperimentSearchQueue queue = new ExperimentSearchQueue("experiment", 2);
+        progress.onSearchQueueCreated(queue);
+
+        Map<String, Object> initial = progress.toMap();
+        assertEquals(4, initial.get(ExperimentProgress.COMPLETED_QUERIES));
+        assertEquals(6, initial.get(ExperimentProgress.PENDING_QUERIES));
+        assertEquals(-1L, initial.get(ExperimentProgress.ETA_MILLIS));
+
+        queue.onSearchesIssued(20);
+        queue.onSearchFailures(1);
+        progress.onQueryCompleted();
+        progress.onQueryCompleted();
+        nanoTime.set(TimeUnit.SECONDS.toNanos(2));
+
+        Map<String, Object> snapshot = progress.toMap();
+        assertEquals(10, snapshot.get(ExperimentProgress.TOTAL_QUERIES));
+        assertEquals(6, snapshot.get(ExperimentProgress.COMPLETED_QUERIES));
+        assertEquals(4, snapshot.get(ExperimentProgress.PENDING_QUERIES));
+        assertEquals(20L, snapshot.get(ExperimentProgress.SEARCHES_ISSUED));
+        assertEquals(1L, snapshot.get(ExperimentProgress.SEARCH_FAILURES));
+        assertEquals(10.0, (double) snapshot.get(ExperimentProgress.SEARCHES_PER_SECOND), 0.0001);
+        // 2 queryTexts completed by this run in 2s, 4 remaining
+        assertEquals(4000L, snapshot.get(ExperimentProgress.ETA_MILLIS));
+    }
+
+    public void testRemoteSlicesAreCounted() {
+        AtomicLong nanoTime = new AtomicLong();
+        ExperimentProgress progress = new ExperimentProgress(nanoTime::get);
+        progress.onQueriesPlanned(10, 0);
+        ExperimentSearchQueue queue = new ExperimentSearchQueue("experiment", 2);
+        progress.onSearchQueueCreated(queue);
+
+        queue.onSearchesIssued(5);
+        progress.onQueryCompleted();
+        progress.onRemoteSliceCompleted(4, 12, 2, 1);
+        nanoTime.set(TimeUnit.SECONDS.toNanos(1));
+
+        Map<String, Object> snapshot = progress.toMap();
+        assertEquals(5, snapshot.get(ExperimentProgress.COMPLETED_QUERIES));
+        assertEquals(5, snapshot.get(ExperimentProgress.PENDING_QUERIES));
+        assertEquals(17L, snapshot.get(ExperimentProgress.SEARCHES_ISSUED));
+        assertEquals(2L, snapshot.get(ExperimentProgress.SEARCH_FAILURES));
+        assertEquals(1L, snapshot.get(ExperimentProgress.SEARCH_TIMEOUTS));
+    }
+
+    public void testCoverageOfExpiredTimeBudget() {
+        ExperimentProgress progress = new ExperimentProgress();
+        progress.onQueriesPlanned(10, 2);
+        ExperimentSearchQueue queue = new ExperimentSearchQueue("experiment", 2);
+        progress.onSearchQueueCreated(queue);
+
+        queue.onSearchTimeouts(3);
+        progress.onQueryCompleted();
+        progress.onRemoteSliceCompleted(3, 8, 0, 1);
+
+        Map<String, Object> coverage = progress.toCoverageMap(true);
+        assertEquals(10, coverage.get(ExperimentProgress.TOTAL_QUERIES));
+        assertEquals(6, coverage.get(ExperimentProgress.EVALUATED_QUERIES));
+        assertEquals(4, coverage.get(ExperimentProgress.SKIPPED_QUERIES));
+        assertEquals(0.6, (double) coverage.get(ExperimentProgress.EVALUATED_RATIO), 0.0001);
+        assertEquals(4L, coverage.get(ExperimentProgress.SEARCH_TIMEOUTS));
+        assertEquals(true, coverage.get(ExperimentProgress.TIME_BUDGET_EXPIRED));
+    }
+}
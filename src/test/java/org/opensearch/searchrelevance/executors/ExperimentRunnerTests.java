@@ -0,0 +1,713 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_COVERAGE_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_EVALUATION_SUMMARY_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_INDEX_AND_QUERIES_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISONS_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_SIGNIFICANCE_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_QUERY_COUNT;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.opensearch.Version;
+import org.opensearch.action.StepListener;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
+import org.opensearch.searchrelevance.dao.JudgmentDao;
+import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.indices.SystemIndexBulkWriter;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
+import org.opensearch.searchrelevance.judgments.LlmJudgmentsProcessor;
+import org.opensearch.searchrelevance.metrics.EvaluationSummary;
+import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.metrics.PairedSignificanceTester;
+import org.opensearch.searchrelevance.metrics.PairwiseSummary;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.AsyncStatus;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.Experiment;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.model.ExperimentResult;
+import org.opensearch.searchrelevance.model.ExperimentType;
+import org.opensearch.searchrelevance.model.Judgment;
+import org.opensearch.searchrelevance.model.JudgmentRatingTable;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.searchrelevance.transport.experiment.PutExperimentRequest;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class ExperimentRunnerTests extends OpenSearchTestCase {
+
+    private static final String EXPERIMENT_ID = "experiment";
+    private static final String SEARCH_CONFIGURATION_ID = "searchConfiguration";
+
+    private ExperimentDao experimentDao;
+    private ExperimentResultDao experimentResultDao;
+    private SearchConfigurationDao searchConfigurationDao;
+    private JudgmentDao judgmentDao;
+    private EvaluationResultDao evaluationResultDao;
+    private MetricsHelper metricsHelper;
+    private PairedSignificanceTester significanceTester;
+    private JudgmentsProcessorFactory judgmentsProcessorFactory;
+    private LlmJudgmentsProcessor llmJudgmentsProcessor;
+    private ExperimentSearchScheduler experimentSearchScheduler;
+    private ThreadPool threadPool;
+    private ClusterService clusterService;
+    private TransportService transportService;
+    private DiscoveryNode localNode;
+    private ExperimentRunner experimentRunner;
+
+    private List<Experiment> storedExperiments;
+    private List<ExperimentResult> checkpoints;
+    private List<List<String>> evaluatedBatches;
+    private List<Map<String, Map<String, List<String>>>> handedRankedDocIds;
+    private List<Judgment> storedJudgments;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        experimentDao = mock(ExperimentDao.class);
+        experimentResultDao = mock(ExperimentResultDao.class);
+        searchConfigurationDao = mock(SearchConfigurationDao.class);
+        judgmentDao = mock(JudgmentDao.class);
+        evaluationResultDao = mock(EvaluationResultDao.class);
+        metricsHelper = mock(MetricsHelper.class);
+        significanceTester = mock(PairedSignificanceTester.class);
+        experimentSearchScheduler = mock(ExperimentSearchScheduler.class);
+        storedExperiments = new CopyOnWriteArrayList<>();
+        checkpoints = new CopyOnWriteArrayList<>();
+        evaluatedBatches = new CopyOnWriteArrayList<>();
+        handedRankedDocIds = new CopyOnWriteArrayList<>();
+        storedJudgments = new CopyOnWriteArrayList<>();
+        llmJudgmentsProcessor = mock(LlmJudgmentsProcessor.class);
+        judgmentsProcessorFactory = mock(JudgmentsProcessorFactory.class);
+        when(judgmentsProcessorFactory.getLlmJudgmentsProcessor()).thenReturn(llmJudgmentsProcessor);
+
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.scheduleWithFixedDelay(any(), any(), anyString())).thenReturn(mock(Scheduler.Cancellable.class));
+        when(threadPool.schedule(any(), any(), anyString())).thenReturn(mock(Scheduler.ScheduledCancellable.class));
+
+        localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(Settings.EMPTY, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.state()).thenReturn(
+            ClusterState.builder(new ClusterName("test"))
+                .nodes(DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId()).build())
+                .build()
+        );
+        transportService = mock(TransportService.class);
+        // a failed slice cancels the experiment task, which needs the task cancellation service of a running node
+        TaskManager taskManager = spy(new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet()));
+        doAnswer(invocation -> null).when(taskManager).cancelTaskAndDescendants(any(), anyString(), anyBoolean(), any());
+        when(transportService.getTaskManager()).thenReturn(taskManager);
+
+        doAnswer(invocation -> {
+            StepListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentResultDao).createIndexIfAbsent(any());
+        SystemIndexBulkWriter checkpointWriter = mockWriter(checkpoints);
+        when(experimentResultDao.createCheckpointWriter()).thenReturn(checkpointWriter);
+        SystemIndexBulkWriter evaluationResultWriter = mockWriter(new ArrayList<>());
+        when(evaluationResultDao.createBulkWriter()).thenReturn(evaluationResultWriter);
+        when(experimentSearchScheduler.getMultiSearchBatchSize()).thenReturn(100);
+        when(experimentSearchScheduler.createQueue(anyString(), any(), any())).thenReturn(new ExperimentSearchQueue(EXPERIMENT_ID, 1));
+
+        doAnswer(invocation -> {
+            Map<String, Object> results = invocation.getArgument(1);
+            ActionListener<Map<String, Object>> listener = invocation.getArgument(2);
+            results.put(
+                METRICS_INDEX_AND_QUERIES_FIELD_NAME,
+                Map.of(SEARCH_CONFIGURATION_ID, List.of("index", "{\"query\":{\"match\":{\"title\":\"%SearchText%\"}}}"))
+            );
+            listener.onResponse(results);
+            return null;
+        }).when(searchConfigurationDao).getSearchConfigsWithStepListener(anyList(), anyMap(), any());
+        doAnswer(invocation -> {
+            ActionListener<JudgmentRatingTable> listener = invocation.getArgument(1);
+            listener.onResponse(new JudgmentRatingTable());
+            return null;
+        }).when(judgmentDao).loadJudgmentRatingTable(anyList(), any());
+        doAnswer(invocation -> {
+            storedJudgments.add(invocation.getArgument(0));
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(judgmentDao).putJudgement(any(), any());
+        doAnswer(invocation -> {
+            storedJudgments.add(invocation.getArgument(0));
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(judgmentDao).updateJudgment(any(), any());
+        doAnswer(invocation -> {
+            storedExperiments.add(invocation.getArgument(0));
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentDao).updateExperiment(any(), any());
+        doAnswer(invocation -> {
+            List<String> queryTexts = invocation.getArgument(0);
+            ActionListener<Map<String, Map<String, EvaluationReference>>> listener = invocation.getArgument(10);
+            evaluatedBatches.add(new ArrayList<>(queryTexts));
+            handedRankedDocIds.add(invocation.getArgument(8));
+            Map<String, Map<String, EvaluationReference>> results = new HashMap<>();
+            for (String queryText : queryTexts) {
+                results.put(
+                    queryText,
+                    Map.of(SEARCH_CONFIGURATION_ID, new EvaluationReference("evaluation-" + queryText, null, Map.of("ndcg@10", "0.5")))
+                );
+            }
+            listener.onResponse(results);
+            return null;
+        }).when(metricsHelper)
+            .processEvaluationMetrics(anyList(), anyMap(), anyInt(), anyList(), anyList(), any(), any(), any(), anyMap(), anyMap(), any());
+
+        experimentRunner = new ExperimentRunner(
+            experimentDao,
+            experimentResultDao,
+            searchConfigurationDao,
+            judgmentDao,
+            evaluationResultDao,
+            metricsHelper,
+            significanceTester,
+            judgmentsProcessorFactory,
+            experimentSearchScheduler,
+            threadPool,
+            clusterService
+        );
+    }
+
+    public void testCheckpointsEveryEvaluatedQueryText() {
+        experimentRunner.run(transportService, EXPERIMENT_ID, evaluationRequest(), List.of("q1", "q2", "q3"), Set.of(), Map.of());
+
+        assertEquals(List.of(List.of("q1", "q2", "q3")), evaluatedBatches);
+        assertEquals(Set.of("q1", "q2", "q3"), checkpointedQueryTexts());
+        for (ExperimentResult checkpoint : checkpoints) {
+            assertEquals(EXPERIMENT_ID, checkpoint.experimentId());
+            assertEquals("evaluation-" + checkpoint.queryText(), checkpoint.results().get(SEARCH_CONFIGURATION_ID));
+            assertEquals(Map.of("ndcg@10", "0.5"), checkpoint.metrics().get(SEARCH_CONFIGURATION_ID));
+        }
+        Experiment completed = finalExperiment();
+        assertEquals(AsyncStatus.COMPLETED, completed.status());
+        assertEquals(3, completed.results().get(Experiment.QUERY_COUNT));
+        assertNull(completed.ownerNode());
+        assertFalse(experimentRunner.isRunning(EXPERIMENT_ID));
+    }
+
+    public void testSignificanceIsAddedAfterTheExperimentCompleted() {
+        doAnswer(invocation -> {
+            ActionListener<Map<String, Map<String, EvaluationReference>>> listener = invocation.getArgument(1);
+            listener.onResponse(Map.of());
+            return null;
+        }).when(experimentResultDao).loadEvaluationReferences(eq(EXPERIMENT_ID), any());
+        List<Map<String, Object>> significance = List.of(Map.of("metric", "ndcg@10"));
+        doAnswer(invocation -> {
+            // the experiment is completed before the resampling starts
+            assertEquals(AsyncStatus.COMPLETED, finalExperiment().status());
+            ActionListener<List<Map<String, Object>>> listener = invocation.getArgument(5);
+            listener.onResponse(significance);
+            return null;
+        }).when(significanceTester).test(anyMap(), anyList(), anyInt(), anyLong(), any(), any());
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.UBI_EVALUATION,
+            "querySet",
+            List.of(SEARCH_CONFIGURATION_ID, "other"),
+            List.of("judgment"),
+            null,
+            10
+        );
+
+        experimentRunner.run(transportService, EXPERIMENT_ID, request, List.of("q1"), Set.of(), Map.of());
+
+        assertFalse(finalExperiment().results().containsKey(METRICS_SIGNIFICANCE_FIELD_NAME));
+        verify(significanceTester).test(
+            anyMap(),
+            eq(List.of(SEARCH_CONFIGURATION_ID, "other")),
+            anyInt(),
+            anyLong(),
+            eq(ExperimentPriority.BATCH),
+            any()
+        );
+        verify(experimentDao).updateExperimentSignificance(eq(EXPERIMENT_ID), eq(significance), any());
+    }
+
+    public void testTimeBudgetSkipsTheQueryTextsLeftWhenItExpires() {
+        Map<String, ActionListener<Map<String, Map<String, EvaluationReference>>>> pendingBatches = deferEvaluations("q1");
+        List<Runnable> deadlines = captureDeadlines();
+        List<Exception> cancellations = new ArrayList<>();
+        doAnswer(invocation -> cancellations.add(invocation.getArgument(1))).when(experimentSearchScheduler).cancel(any(), any());
+
+        experimentRunner.run(transportService, EXPERIMENT_ID, timeBudgetRequest(), List.of("q1", "q2", "q3"), Set.of(), Map.of());
+        assertTrue(storedExperiments.isEmpty());
+        assertEquals(1, deadlines.size());
+
+        deadlines.get(0).run();
+        assertEquals(1, cancellations.size());
+        // the queued searches fail with the exception they were cancelled with
+        pendingBatches.values().forEach(listener -> listener.onFailure(cancellations.get(0)));
+
+        Experiment completed = finalExperiment();
+        assertEquals(AsyncStatus.COMPLETED, completed.status());
+        assertEquals(1, completed.results().get(Experiment.QUERY_COUNT));
+        assertEquals(Set.of("q1"), checkpointedQueryTexts());
+        Map<String, Object> coverage = (Map<String, Object>) completed.results().get(METRICS_COVERAGE_FIELD_NAME);
+        assertEquals(3, coverage.get(ExperimentProgress.TOTAL_QUERIES));
+        assertEquals(1, coverage.get(ExperimentProgress.EVALUATED_QUERIES));
+        assertEquals(2, coverage.get(ExperimentProgress.SKIPPED_QUERIES));
+        assertEquals(true, coverage.get(ExperimentProgress.TIME_BUDGET_EXPIRED));
+    }
+
+    public void testOtherFailureAfterTheTimeBudgetExpiredFailsTheExperiment() {
+        Map<String, ActionListener<Map<String, Map<String, EvaluationReference>>>> pendingBatches = deferEvaluations("q1");
+        List<Runnable> deadlines = captureDeadlines();
+
+        experimentRunner.run(transportService, EXPERIMENT_ID, timeBudgetRequest(), List.of("q1", "q2"), Set.of(), Map.of());
+        deadlines.get(0).run();
+        pendingBatches.get("q2").onFailure(new IllegalStateException("search failed"));
+
+        Experiment failed = finalExperiment();
+        assertEquals(AsyncStatus.ERROR, failed.status());
+        assertEquals("search failed", failed.results().get("error"));
+    }
+
+    public void testTimeBudgetLeftWhenEveryQueryTextIsEvaluatedIsNotReportedAsExpired() {
+        experimentRunner.run(transportService, EXPERIMENT_ID, timeBudgetRequest(), List.of("q1", "q2"), Set.of(), Map.of());
+
+        Map<String, Object> coverage = (Map<String, Object>) finalExperiment().results().get(METRICS_COVERAGE_FIELD_NAME);
+        assertEquals(0, coverage.get(ExperimentProgress.SKIPPED_QUERIES));
+        assertEquals(false, coverage.get(ExperimentProgress.TIME_BUDGET_EXPIRED));
+    }
+
+    public void testResumeOnlyEvaluatesQueryTextsWithoutCheckpoint() {
+        Map<String, Map<String, EvaluationReference>> previousEvaluations = Map.of(
+            "q1",
+            Map.of(SEARCH_CONFIGURATION_ID, new EvaluationReference("evaluation-q1", null, Map.of("ndcg@10", "1.0")))
+        );
+
+        experimentRunner.run(
+            transportService,
+            EXPERIMENT_ID,
+            evaluationRequest(),
+            List.of("q1", "q2", "q3"),
+            Set.of("q1"),
+            previousEvaluations
+        );
+
+        assertEquals(List.of(List.of("q2", "q3")), evaluatedBatches);
+        assertEquals(Set.of("q2", "q3"), checkpointedQueryTexts());
+        Experiment completed = finalExperiment();
+        assertEquals(AsyncStatus.COMPLETED, completed.status());
+        assertEquals(3, completed.results().get(Experiment.QUERY_COUNT));
+        // the checkpointed metrics count towards the summary
+        Map<String, Object> ndcg = summaryMetric(completed, "ndcg@10");
+        assertEquals(3L, ((Number) ndcg.get(EvaluationSummary.COUNT)).longValue());
+        assertEquals(0.6667, ((Number) ndcg.get(EvaluationSummary.MEAN)).doubleValue(), 1e-9);
+    }
+
+    public void testResumeWithEveryQueryTextCheckpointedCompletesWithoutSearches() {
+        experimentRunner.run(transportService, EXPERIMENT_ID, evaluationRequest(), List.of("q1", "q2"), Set.of("q1", "q2"), Map.of());
+
+        verify(metricsHelper, never()).processEvaluationMetrics(
+            anyList(),
+            anyMap(),
+            anyInt(),
+            anyList(),
+            anyList(),
+            any(),
+            any(),
+            any(),
+            anyMap(),
+            anyMap(),
+            any()
+        );
+        assertTrue(checkpoints.isEmpty());
+        Experiment completed = finalExperiment();
+        assertEquals(AsyncStatus.COMPLETED, completed.status());
+        assertEquals(2, completed.results().get(Experiment.QUERY_COUNT));
+    }
+
+    public void testRepeatedRunOfARunningExperimentIsIgnored() {
+        doAnswer(invocation -> null).when(experimentResultDao).createIndexIfAbsent(any());
+        experimentRunner.run(transportService, EXPERIMENT_ID, evaluationRequest(), List.of("q1"), Set.of(), Map.of());
+        assertTrue(experimentRunner.isRunning(EXPERIMENT_ID));
+
+        experimentRunner.run(transportService, EXPERIMENT_ID, evaluationRequest(), List.of("q1"), Set.of(), Map.of());
+        verify(experimentResultDao).createIndexIfAbsent(any());
+    }
+
+    public void testFinalUpdateWaitsForInFlightProgressFlush() {
+        List<Runnable> scheduledFlushes = new ArrayList<>();
+        when(threadPool.scheduleWithFixedDelay(any(), any(), anyString())).thenAnswer(invocation -> {
+            scheduledFlushes.add(invocation.getArgument(0));
+            return mock(Scheduler.Cancellable.class);
+        });
+        List<ActionListener<Void>> pendingIndexCreation = new ArrayList<>();
+        doAnswer(invocation -> pendingIndexCreation.add(invocation.getArgument(0))).when(experimentResultDao).createIndexIfAbsent(any());
+        List<String> writes = new CopyOnWriteArrayList<>();
+        List<ActionListener<Object>> pendingProgressWrites = new ArrayList<>();
+        doAnswer(invocation -> {
+            writes.add("progress");
+            pendingProgressWrites.add(invocation.getArgument(2));
+            return null;
+        }).when(experimentDao).updateExperimentProgress(anyString(), anyMap(), any());
+        doAnswer(invocation -> {
+            writes.add(((Experiment) invocation.getArgument(0)).status().name());
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(experimentDao).updateExperiment(any(), any());
+
+        experimentRunner.run(transportService, EXPERIMENT_ID, evaluationRequest(), List.of("q1"), Set.of(), Map.of());
+        Runnable flush = scheduledFlushes.get(0);
+        flush.run();
+        // a flush is skipped while the previous one is in flight
+        flush.run();
+        assertEquals(List.of("progress"), writes);
+
+        pendingIndexCreation.get(0).onResponse(null);
+        assertFalse(experimentRunner.isRunning(EXPERIMENT_ID));
+        assertEquals("the final update must wait for the in-flight flush", List.of("progress"), writes);
+
+        pendingProgressWrites.get(0).onResponse(null);
+        assertEquals(List.of("progress", AsyncStatus.COMPLETED.name(), "progress"), writes);
+
+        // no periodic flush once the experiment is finished
+        flush.run();
+        assertEquals(3, writes.size());
+    }
+
+    public void testLlmEvaluationEvaluatesEveryQueryTextAsSoonAsItIsJudged() {
+        useCheckpointBatchSize(2);
+        doAnswer(invocation -> {
+            LlmJudgmentsProcessor.QueryJudgmentListener queryJudgmentListener = invocation.getArgument(2);
+            ActionListener<Map<String, Map<String, String>>> listener = invocation.getArgument(3);
+            Map<String, Map<String, String>> allJudgments = new HashMap<>();
+            for (String queryText : List.of("q1", "q2", "q3")) {
+                // evaluation of the judged queryText runs before the next one is judged
+                assertEquals(allJudgments.size(), evaluatedBatches.size());
+                Map<String, String> scores = Map.of("doc-" + queryText, "1.0");
+                allJudgments.put(queryText, scores);
+                queryJudgmentListener.onQueryJudged(queryText, Map.of(SEARCH_CONFIGURATION_ID, List.of("doc-" + queryText)), scores);
+            }
+            listener.onResponse(allJudgments);
+            return null;
+        }).when(llmJudgmentsProcessor).generateJudgmentScore(anyMap(), any(), any(), any());
+
+        experimentRunner.run(transportService, EXPERIMENT_ID, llmEvaluationRequest(), List.of("q1", "q2", "q3"), Set.of(), Map.of());
+
+        assertEquals(List.of(List.of("q1"), List.of("q2"), List.of("q3")), evaluatedBatches);
+        // evaluation reuses the ranked docIds of the judgment searches
+        assertEquals(Map.of("q2", Map.of(SEARCH_CONFIGURATION_ID, List.of("doc-q2"))), handedRankedDocIds.get(1));
+        assertEquals(Set.of("q1", "q2", "q3"), checkpointedQueryTexts());
+
+        // the judgment is created empty, stored after every batch of two judged queryTexts and completed with all of them
+        assertEquals(3, storedJudgments.size());
+        String llmJudgmentId = storedJudgments.get(0).id();
+        assertEquals(AsyncStatus.PROCESSING, storedJudgments.get(0).status());
+        assertTrue(storedJudgments.get(0).judgmentScores().isEmpty());
+        assertEquals(AsyncStatus.PROCESSING, storedJudgments.get(1).status());
+        assertEquals(Set.of("q1", "q2"), storedJudgments.get(1).judgmentScores().keySet());
+        assertEquals(AsyncStatus.COMPLETED, storedJudgments.get(2).status());
+        assertEquals(Set.of("q1", "q2", "q3"), storedJudgments.get(2).judgmentScores().keySet());
+        for (Judgment judgment : storedJudgments) {
+            assertEquals(llmJudgmentId, judgment.id());
+        }
+
+        Experiment completed = finalExperiment();
+        assertEquals(AsyncStatus.COMPLETED, completed.status());
+        assertEquals(List.of("judgment", llmJudgmentId), completed.judgmentList());
+        assertEquals(3, completed.results().get(Experiment.QUERY_COUNT));
+    }
+
+    public void testFailedLlmJudgmentKeepsTheJudgedQueryTexts() {
+        useCheckpointBatchSize(100);
+        doAnswer(invocation -> {
+            LlmJudgmentsProcessor.QueryJudgmentListener queryJudgmentListener = invocation.getArgument(2);
+            ActionListener<Map<String, Map<String, String>>> listener = invocation.getArgument(3);
+            queryJudgmentListener.onQueryJudged("q1", Map.of(SEARCH_CONFIGURATION_ID, List.of("doc-q1")), Map.of("doc-q1", "1.0"));
+            listener.onFailure(new IllegalStateException("model unavailable"));
+            return null;
+        }).when(llmJudgmentsProcessor).generateJudgmentScore(anyMap(), any(), any(), any());
+
+        experimentRunner.run(transportService, EXPERIMENT_ID, llmEvaluationRequest(), List.of("q1", "q2"), Set.of(), Map.of());
+
+        assertEquals(List.of(List.of("q1")), evaluatedBatches);
+        assertEquals(Set.of("q1"), checkpointedQueryTexts());
+        Judgment failedJudgment = storedJudgments.get(storedJudgments.size() - 1);
+        assertEquals(AsyncStatus.ERROR, failedJudgment.status());
+        assertEquals(Set.of("q1"), failedJudgment.judgmentScores().keySet());
+        assertEquals(AsyncStatus.ERROR, finalExperiment().status());
+        assertFalse(experimentRunner.isRunning(EXPERIMENT_ID));
+    }
+
+    public void testResumedPairwiseSummaryCoversCheckpointedQueryTexts() {
+        doAnswer(invocation -> {
+            List<String> queryTexts = invocation.getArgument(0);
+            ActionListener<Map<String, Map<String, Object>>> listener = invocation.getArgument(4);
+            Map<String, Map<String, Object>> results = new HashMap<>();
+            for (String queryText : queryTexts) {
+                results.put(queryText, Map.of(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME, List.of(pairResult(0.4))));
+            }
+            listener.onResponse(results);
+            return null;
+        }).when(metricsHelper).processPairwiseMetrics(anyList(), anyMap(), anyInt(), any(), any());
+        PairwiseSummary checkpointedPairwiseSummary = new PairwiseSummary();
+        checkpointedPairwiseSummary.add(List.of(pairResult(0.2)));
+        PutExperimentRequest request = new PutExperimentRequest(
+            ExperimentType.PAIRWISE_COMPARISON,
+            "querySet",
+            List.of(SEARCH_CONFIGURATION_ID),
+            List.of(),
+            null,
+            10
+        );
+
+        experimentRunner.run(
+            transportService,
+            EXPERIMENT_ID,
+            request,
+            List.of("q1", "q2"),
+            Set.of("q1"),
+            Map.of(),
+            checkpointedPairwiseSummary
+        );
+
+        Experiment completed = finalExperiment();
+        assertEquals(AsyncStatus.COMPLETED, completed.status());
+        List<Map<String, Object>> pairwiseSummary = (List<Map<String, Object>>) completed.results()
+            .get(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME);
+        assertEquals(1, pairwiseSummary.size());
+        assertEquals(2L, pairwiseSummary.get(0).get(PAIRWISE_QUERY_COUNT));
+        assertEquals(0.3, (Double) pairwiseSummary.get(0).get("jaccard"), 0.0001);
+    }
+
+    public void testPartitionKeepsOrderAndBalancesSlices() {
+        List<String> queryTexts = List.of("q1", "q2", "q3", "q4", "q5", "q6", "q7");
+
+        List<List<String>> slices = ExperimentRunner.partition(queryTexts, 3);
+
+        assertEquals(List.of(List.of("q1", "q2", "q3"), List.of("q4", "q5"), List.of("q6", "q7")), slices);
+        assertEquals(List.of(queryTexts), ExperimentRunner.partition(queryTexts, 1));
+    }
+
+    public void testPartitionWithMoreSlicesThanQueryTexts() {
+        List<List<String>> slices = ExperimentRunner.partition(List.of("q1", "q2"), 3);
+
+        assertEquals(List.of(List.of("q1"), List.of("q2"), List.of()), slices);
+    }
+
+    public void testSelectSliceNodesOnlyAddsDataNodes() {
+        DiscoveryNode dataNode = node("data", DiscoveryNodeRole.DATA_ROLE);
+        DiscoveryNode clusterManagerNode = node("clusterManager", DiscoveryNodeRole.CLUSTER_MANAGER_ROLE);
+        DiscoveryNode ingestNode = node("ingest", DiscoveryNodeRole.INGEST_ROLE);
+        DiscoveryNodes clusterNodes = DiscoveryNodes.builder()
+            .add(localNode)
+            .add(dataNode)
+            .add(clusterManagerNode)
+            .add(ingestNode)
+            .localNodeId(localNode.getId())
+            .build();
+
+        List<DiscoveryNode> nodes = ExperimentRunner.selectSliceNodes(localNode, clusterNodes, 1000, 100);
+
+        assertEquals(List.of(localNode, dataNode), nodes);
+    }
+
+    public void testSelectSliceNodesKeepsMinQueriesPerNode() {
+        DiscoveryNodes.Builder builder = DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId());
+        for (int i = 0; i < 5; i++) {
+            builder.add(node("data" + i, DiscoveryNodeRole.DATA_ROLE));
+        }
+        DiscoveryNodes clusterNodes = builder.build();
+
+        assertEquals(List.of(localNode), ExperimentRunner.selectSliceNodes(localNode, clusterNodes, 99, 100));
+        assertEquals(3, ExperimentRunner.selectSliceNodes(localNode, clusterNodes, 201, 100).size());
+        assertEquals(6, ExperimentRunner.selectSliceNodes(localNode, clusterNodes, 10_000, 100).size());
+        assertEquals(localNode, ExperimentRunner.selectSliceNodes(localNode, clusterNodes, 10_000, 100).get(0));
+    }
+
+    public void testSliceRequestTimeout() {
+        TimeValue sliceTimeout = TimeValue.timeValueHours(1);
+
+        assertEquals(sliceTimeout, ExperimentRunner.sliceRequestTimeout(null, sliceTimeout));
+        assertEquals(
+            TimeValue.timeValueMinutes(6).nanos(),
+            ExperimentRunner.sliceRequestTimeout(TimeValue.timeValueMinutes(5), sliceTimeout).nanos()
+        );
+    }
+
+    static SystemIndexBulkWriter mockWriter(List<? super ExperimentResult> docs) {
+        SystemIndexBulkWriter writer = mock(SystemIndexBulkWriter.class);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(1) instanceof ExperimentResult experimentResult) {
+                docs.add(experimentResult);
+            }
+            ActionListener<Void> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(writer).add(anyString(), any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Void> listener = invocation.getArgument(0);
+            listener.onResponse(null);
+            return null;
+        }).when(writer).close(any());
+        return writer;
+    }
+
+    private static Map<String, Object> pairResult(double jaccard) {
+        return Map.of(PAIRWISE_SEARCH_CONFIGURATION_A, "a", PAIRWISE_SEARCH_CONFIGURATION_B, "b", "jaccard", jaccard);
+    }
+
+    private PutExperimentRequest timeBudgetRequest() {
+        return new PutExperimentRequest(
+            ExperimentType.UBI_EVALUATION,
+            "querySet",
+            List.of(SEARCH_CONFIGURATION_ID),
+            List.of("judgment"),
+            "model",
+            10,
+            TimeValue.timeValueMinutes(1),
+            null,
+            ExperimentPriority.BATCH,
+            MetricSpec.DEFAULT_METRICS
+        );
+    }
+
+    /**
+     * Evaluate every queryText in its own batch, the given queryTexts right away and the others once their listener is completed
+     * @return listeners of the deferred batches, keyed by queryText
+     */
+    private Map<String, ActionListener<Map<String, Map<String, EvaluationReference>>>> deferEvaluations(String... evaluatedQueryTexts) {
+        when(experimentSearchScheduler.getMultiSearchBatchSize()).thenReturn(1);
+        Map<String, ActionListener<Map<String, Map<String, EvaluationReference>>>> pendingBatches = new HashMap<>();
+        doAnswer(invocation -> {
+            String queryText = ((List<String>) invocation.getArgument(0)).get(0);
+            ActionListener<Map<String, Map<String, EvaluationReference>>> listener = invocation.getArgument(10);
+            if (List.of(evaluatedQueryTexts).contains(queryText)) {
+                EvaluationReference evaluation = new EvaluationReference("evaluation-" + queryText, null, Map.of("ndcg@10", "0.5"));
+                listener.onResponse(Map.of(queryText, Map.of(SEARCH_CONFIGURATION_ID, evaluation)));
+            } else {
+                pendingBatches.put(queryText, listener);
+            }
+            return null;
+        }).when(metricsHelper)
+            .processEvaluationMetrics(anyList(), anyMap(), anyInt(), anyList(), anyList(), any(), any(), any(), anyMap(), anyMap(), any());
+        return pendingBatches;
+    }
+
+    /**
+     * Deadlines of the time budget, run by the test instead of the thread pool
+     */
+    private List<Runnable> captureDeadlines() {
+        List<Runnable> deadlines = new ArrayList<>();
+        when(threadPool.schedule(any(), any(), anyString())).thenAnswer(invocation -> {
+            deadlines.add(invocation.getArgument(0));
+            return mock(Scheduler.ScheduledCancellable.class);
+        });
+        return deadlines;
+    }
+
+    private PutExperimentRequest evaluationRequest() {
+        return new PutExperimentRequest(
+            ExperimentType.UBI_EVALUATION,
+            "querySet",
+            List.of(SEARCH_CONFIGURATION_ID),
+            List.of("judgment"),
+            "model",
+            10
+        );
+    }
+
+    private static DiscoveryNode node(String id, DiscoveryNodeRole role) {
+        return new DiscoveryNode(id, buildNewFakeTransportAddress(), Map.of(), Set.of(role), Version.CURRENT);
+    }
+
+    private PutExperimentRequest llmEvaluationRequest() {
+        return new PutExperimentRequest(
+            ExperimentType.LLM_EVALUATION,
+            "querySet",
+            List.of(SEARCH_CONFIGURATION_ID),
+            List.of("judgment"),
+            "model",
+            10
+        );
+    }
+
+    private void useCheckpointBatchSize(int batchSize) {
+        Settings settings = Settings.builder().put(SearchRelevanceSettings.EXPERIMENT_CHECKPOINT_BATCH_SIZE.getKey(), batchSize).build();
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(settings, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+    }
+
+    private Set<String> checkpointedQueryTexts() {
+        Set<String> queryTexts = new HashSet<>();
+        checkpoints.forEach(checkpoint -> queryTexts.add(checkpoint.queryText()));
+        return queryTexts;
+    }
+
+    private Experiment finalExperiment() {
+        assertFalse(storedExperiments.isEmpty());
+        return storedExperiments.get(storedExperiments.size() - 1);
+    }
+
+    private Map<String, Object> summaryMetric(Experiment experiment, String metric) {
+        List<Map<String, Object>> summary = (List<Map<String, Object>>) experiment.results().get(METRICS_EVALUATION_SUMMARY_FIELD_NAME);
+        for (Map<String, Object> metricSummary : (List<Map<String, Object>>) summary.get(0).get(EvaluationSummary.METRICS)) {
+            if (metric.equals(metricSummary.get(EvaluationSummary.METRIC))) {
+                return metricSummary;
+            }
+        }
+        throw new AssertionError("metric " + metric + " is not summarized");
+    }
+}
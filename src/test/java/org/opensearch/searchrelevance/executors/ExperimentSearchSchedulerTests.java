@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.action.search.MultiSearchRequest;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class ExperimentSearchSchedulerTests extends OpenSearchTestCase {
+
+    private Client client;
+    private ThreadPool threadPool;
+    private List<MultiSearchRequest> inFlightRequests;
+    private List<ActionListener<MultiSearchResponse>> inFlightListeners;
+    private ExperimentSearchScheduler scheduler;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        client = mock(Client.class);
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        inFlightRequests = new ArrayList<>();
+        inFlightListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            inFlightRequests.add(invocation.getArgument(0));
+            inFlightListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(client).multiSearch(any(MultiSearchRequest.class), any());
+
+        Settings settings = Settings.builder()
+            .put(SearchRelevanceSettings.EXPERIMENT_MAX_CONCURRENT_SEARCHES.getKey(), 2)
+            .put(SearchRelevanceSettings.NODE_MAX_CONCURRENT_SEARCHES.getKey(), 3)
+            .build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(settings);
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(settings, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+        scheduler = new ExperimentSearchScheduler(client, threadPool, clusterService);
+    }
+
+    public void testCapsInFlightSearchesPerExperimentAndNode() {
+        ExperimentSearchQueue queueA = scheduler.createQueue("experimentA");
+        ExperimentSearchQueue queueB = scheduler.createQueue("experimentB");
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 5; i++) {
+            scheduler.multiSearch(queueA, List.of(new SearchRequest("index")), countingListener(completed));
+            scheduler.multiSearch(queueB, List.of(new SearchRequest("index")), countingListener(completed));
+        }
+
+        // node window is 3 while each experiment is capped at 2
+        assertEquals(3, inFlightListeners.size());
+
+        inFlightListeners.get(0).onResponse(multiSearchResponse(new MultiSearchResponse.Item(emptyResponse(), null)));
+        assertEquals(4, inFlightListeners.size());
+        assertEquals(1, completed.get());
+    }
+
+    public void testBatchIsSentAsSingleMultiSearch() {
+        ExperimentSearchQueue queue = scheduler.createQueue("experiment");
+        AtomicReference<MultiSearchResponse.Item[]> result = new AtomicReference<>();
+        scheduler.multiSearch(
+            queue,
+            List.of(new SearchRequest("index"), new SearchRequest("index")),
+            ActionListener.wrap(result::set, e -> fail("unexpected failure: " + e))
+        );
+
+        assertEquals(1, inFlightRequests.size());
+        assertEquals(2, inFlightRequests.get(0).requests().size());
+
+        Exception failure = new IllegalArgumentException("bad query");
+        inFlightListeners.get(0)
+            .onResponse(
+                multiSearchResponse(new MultiSearchResponse.Item(emptyResponse(), null), new MultiSearchResponse.Item(null, failure))
+            );
+        assertEquals(2, result.get().length);
+        assertFalse(result.get()[0].isFailure());
+        assertSame(failure, result.get()[1].getFailure());
+    }
+
+    public void testRejectedSearchIsRetriedWithBackoff() {
+        ExperimentSearchQueue queue = scheduler.createQueue("experiment");
+        AtomicInteger completed = new AtomicInteger();
+        scheduler.multiSearch(queue, List.of(new SearchRequest("index")), countingListener(completed));
+        assertEquals(1, inFlightListeners.size());
+
+        inFlightListeners.get(0).onFailure(new OpenSearchRejectedExecutionException("rejected"));
+
+        verify(threadPool).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+        assertEquals(0, completed.get());
+        assertEquals(1, queue.window(2));
+    }
+
+    public void testOnlyRejectedItemsAreRetried() {
+        ExperimentSearchQueue queue = scheduler.createQueue("experiment");
+        AtomicInteger completed = new AtomicInteger();
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(threadPool).schedule(any(Runnable.class), any(TimeValue.class), anyString());
+        scheduler.multiSearch(queue, List.of(new SearchRequest("first"), new SearchRequest("second")), countingListener(completed));
+
+        inFlightListeners.get(0)
+            .onResponse(
+                multiSearchResponse(
+                    new MultiSearchResponse.Item(emptyResponse(), null),
+                    new MultiSearchResponse.Item(null, new OpenSearchRejectedExecutionException("rejected"))
+                )
+            );
+
+        assertEquals(2, inFlightRequests.size());
+        assertEquals(1, inFlightRequests.get(1).requests().size());
+        assertEquals("second", inFlightRequests.get(1).requests().get(0).indices()[0]);
+        assertEquals(0, completed.get());
+
+        inFlightListeners.get(1).onResponse(multiSearchResponse(new MultiSearchResponse.Item(emptyResponse(), null)));
+        assertEquals(1, completed.get());
+    }
+
+    public void testCancelFailsQueuedBatchesAndRejectsNewOnes() {
+        ExperimentSearchQueue queue = scheduler.createQueue("experiment");
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger cancelled = new AtomicInteger();
+        Exception cancellation = new TaskCancelledException("cancelled");
+        ActionListener<MultiSearchResponse.Item[]> listener = ActionListener.wrap(response -> completed.incrementAndGet(), e -> {
+            assertSame(cancellation, e);
+            cancelled.incrementAndGet();
+        });
+        for (int i = 0; i < 4; i++) {
+            scheduler.multiSearch(queue, List.of(new SearchRequest("index")), listener);
+        }
+        assertEquals(2, inFlightListeners.size());
+
+        scheduler.cancel(queue, cancellation);
+        assertEquals(2, cancelled.get());
+
+        scheduler.multiSearch(queue, List.of(new SearchRequest("index")), listener);
+        assertEquals(3, cancelled.get());
+        assertEquals(2, inFlightListeners.size());
+
+        // in-flight searches still complete
+        inFlightListeners.get(0).onResponse(multiSearchResponse(new MultiSearchResponse.Item(emptyResponse(), null)));
+        assertEquals(1, completed.get());
+        assertEquals(2, inFlightListeners.size());
+    }
+
+    public void testInteractiveLaneIsServedAheadOfBatchLane() {
+        ExperimentSearchQueue batchA = scheduler.createQueue("batchA");
+        ExperimentSearchQueue batchB = scheduler.createQueue("batchB");
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            scheduler.multiSearch(batchA, List.of(new SearchRequest("batch")), countingListener(completed));
+            scheduler.multiSearch(batchB, List.of(new SearchRequest("batch")), countingListener(completed));
+        }
+        assertEquals(3, inFlightListeners.size());
+
+        ExperimentSearchQueue interactive = scheduler.createQueue("interactive", null, ExperimentPriority.INTERACTIVE);
+        assertEquals(ExperimentPriority.INTERACTIVE, interactive.getPriority());
+        AtomicInteger interactiveCompleted = new AtomicInteger();
+        scheduler.multiSearch(interactive, List.of(new SearchRequest("interactive")), countingListener(interactiveCompleted));
+        // the node is saturated by the batch experiments, the interactive search waits for the next free slot
+        assertEquals(3, inFlightListeners.size());
+
+        inFlightListeners.get(0).onResponse(multiSearchResponse(new MultiSearchResponse.Item(emptyResponse(), null)));
+        assertEquals(4, inFlightRequests.size());
+        assertEquals("interactive", inFlightRequests.get(3).requests().get(0).indices()[0]);
+
+        inFlightListeners.get(3).onResponse(multiSearchResponse(new MultiSearchResponse.Item(emptyResponse(), null)));
+        assertEquals(1, interactiveCompleted.get());
+        // the batch lane takes over the capacity once the interactive lane is idle
+        assertEquals(5, inFlightRequests.size());
+        assertEquals("batch", inFlightRequests.get(4).requests().get(0).indices()[0]);
+    }
+
+    public void testLanesShareTheNodeByWeightOverManyBatches() {
+        Settings settings = Settings.builder().put(SearchRelevanceSettings.NODE_MAX_CONCURRENT_SEARCHES.getKey(), 1).build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(settings);
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(settings, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+        scheduler = new ExperimentSearchScheduler(client, threadPool, clusterService);
+        ExperimentSearchQueue batch = scheduler.createQueue("batch");
+        ExperimentSearchQueue interactive = scheduler.createQueue("interactive", null, ExperimentPriority.INTERACTIVE);
+        AtomicInteger completed = new AtomicInteger();
+        for (int i = 0; i < 500; i++) {
+            scheduler.multiSearch(batch, List.of(new SearchRequest("batch")), countingListener(completed));
+            scheduler.multiSearch(interactive, List.of(new SearchRequest("interactive")), countingListener(completed));
+        }
+
+        // one search at a time on the node, every completed search lets the next one in
+        for (int i = 0; i < 600; i++) {
+            inFlightListeners.get(i).onResponse(multiSearchResponse(new MultiSearchResponse.Item(emptyResponse(), null)));
+        }
+        assertEquals(601, inFlightRequests.size());
+        // both lanes keep searches waiting, the default weight serves four INTERACTIVE searches per BATCH search
+        long interactiveSearches = inFlightRequests.stream()
+            .limit(600)
+            .filter(request -> "interactive".equals(request.requests().get(0).indices()[0]))
+            .count();
+        assertEquals(480, interactiveSearches, 2);
+    }
+
+    private ActionListener<MultiSearchResponse.Item[]> countingListener(AtomicInteger completed) {
+        return ActionListener.wrap(response -> completed.incrementAndGet(), e -> fail("unexpected failure: " + e));
+    }
+
+    private MultiSearchResponse multiSearchResponse(MultiSearchResponse.Item... items) {
+        return new MultiSearchResponse(items, 1L);
+    }
+
+    private SearchResponse emptyResponse() {
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getShardFailures()).thenReturn(ShardSearchFailure.EMPTY_ARRAY);
+        return response;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.PluginConstants.METRICS_THREAD_POOL_NAME;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MetricsTaskSchedulerTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    /**
+     * tasks handed to the metrics thread pool that did not run yet
+     */
+    private List<AbstractRunnable> poolTasks;
+    /**
+     * priority of every task in the order the tasks ran
+     */
+    private List<ExperimentPriority> served;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        poolTasks = new ArrayList<>();
+        served = new ArrayList<>();
+        ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> poolTasks.add(invocation.getArgument(0))).when(executor).execute(any());
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(METRICS_THREAD_POOL_NAME)).thenReturn(executor);
+    }
+
+    public void testCapsRunningTasksAtThePoolSize() {
+        MetricsTaskScheduler scheduler = scheduler(2);
+        assertEquals(2, scheduler.getConcurrency());
+        for (int i = 0; i < 5; i++) {
+            scheduler.execute(ExperimentPriority.BATCH, recordingTask(ExperimentPriority.BATCH));
+        }
+        assertEquals(2, poolTasks.size());
+
+        runNextPoolTask();
+        assertEquals(List.of(ExperimentPriority.BATCH), served);
+        // the finished task frees its thread for the next waiting task
+        assertEquals(2, poolTasks.size());
+    }
+
+    public void testLanesAreServedByWeightOverManyTasks() {
+        MetricsTaskScheduler scheduler = scheduler(1);
+        for (int i = 0; i < 500; i++) {
+            scheduler.execute(ExperimentPriority.BATCH, recordingTask(ExperimentPriority.BATCH));
+            scheduler.execute(ExperimentPriority.INTERACTIVE, recordingTask(ExperimentPriority.INTERACTIVE));
+        }
+
+        // both lanes keep tasks waiting for the first 600 tasks, the default weight serves four INTERACTIVE tasks per BATCH task
+        for (int i = 0; i < 600; i++) {
+            runNextPoolTask();
+        }
+        long interactive = served.stream().filter(priority -> priority == ExperimentPriority.INTERACTIVE).count();
+        assertEquals(480, interactive, 2);
+
+        // the BATCH lane takes over the pool once the INTERACTIVE lane is idle
+        while (!poolTasks.isEmpty()) {
+            runNextPoolTask();
+        }
+        assertEquals(1000, served.size());
+        assertEquals(ExperimentPriority.BATCH, served.get(served.size() - 1));
+    }
+
+    public void testIdleLaneDoesNotBankItsShare() {
+        MetricsTaskScheduler scheduler = scheduler(1);
+        for (int i = 0; i < 100; i++) {
+            scheduler.execute(ExperimentPriority.BATCH, recordingTask(ExperimentPriority.BATCH));
+        }
+        for (int i = 0; i < 50; i++) {
+            runNextPoolTask();
+        }
+        for (int i = 0; i < 100; i++) {
+            scheduler.execute(ExperimentPriority.INTERACTIVE, recordingTask(ExperimentPriority.INTERACTIVE));
+        }
+        served.clear();
+
+        // the INTERACTIVE lane starts level with the BATCH lane instead of taking the pool for the 50 tasks it was idle,
+        // the first task was handed to the pool before the INTERACTIVE tasks arrived
+        for (int i = 0; i < 10; i++) {
+            runNextPoolTask();
+        }
+        assertTrue(served.subList(1, served.size()).contains(ExperimentPriority.BATCH));
+    }
+
+    public void testRejectedTaskIsReportedAndFreesItsThread() {
+        ExecutorService rejectingExecutor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            AbstractRunnable task = invocation.getArgument(0);
+            // as the thread pool does for a rejected task
+            try {
+                task.onRejection(new OpenSearchRejectedExecutionException("metrics thread pool is shut down"));
+            } finally {
+                task.onAfter();
+            }
+            return null;
+        }).when(rejectingExecutor).execute(any());
+        when(threadPool.executor(METRICS_THREAD_POOL_NAME)).thenReturn(rejectingExecutor);
+        MetricsTaskScheduler scheduler = scheduler(1);
+
+        List<Exception> failures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            scheduler.execute(ExperimentPriority.BATCH, new AbstractRunnable() {
+                @Override
+                protected void doRun() {
+                    fail("a rejected task must not run");
+                }
+
+                @Override
+                public void onFailure(Exception e) {
+                    failures.add(e);
+                }
+            });
+        }
+
+        assertEquals(3, failures.size());
+        failures.forEach(failure -> assertTrue(failure instanceof OpenSearchRejectedExecutionException));
+    }
+
+    public void testFailedTaskFreesItsThread() {
+        MetricsTaskScheduler scheduler = scheduler(1);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        scheduler.execute(ExperimentPriority.BATCH, new AbstractRunnable() {
+            @Override
+            protected void doRun() {
+                throw new IllegalStateException("metric failed");
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                failure.set(e);
+            }
+        });
+        scheduler.execute(ExperimentPriority.BATCH, recordingTask(ExperimentPriority.BATCH));
+
+        runNextPoolTask();
+        assertEquals("metric failed", failure.get().getMessage());
+        runNextPoolTask();
+        assertEquals(List.of(ExperimentPriority.BATCH), served);
+    }
+
+    private MetricsTaskScheduler scheduler(int processors) {
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(Settings.builder().put("node.processors", processors).build());
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(Settings.EMPTY, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+        return new MetricsTaskScheduler(threadPool, clusterService);
+    }
+
+    private AbstractRunnable recordingTask(ExperimentPriority priority) {
+        return new AbstractRunnable() {
+            @Override
+            protected void doRun() {
+                served.add(priority);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                fail("unexpected failure: " + e);
+            }
+        };
+    }
+
+    /**
+     * Run the oldest task handed to the metrics thread pool, the way a pool thread would
+     */
+    private void runNextPoolTask() {
+        poolTasks.remove(0).run();
+    }
+}
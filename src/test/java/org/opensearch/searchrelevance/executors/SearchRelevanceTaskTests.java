@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.tasks.TaskCancelledException;
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class SearchRelevanceTaskTests extends OpenSearchTestCase {
+
+    private TaskManager taskManager;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+    }
+
+    public void testRegisteredTaskIsListedUntilUnregistered() {
+        SearchRelevanceTask task = SearchRelevanceTask.register(taskManager, SearchRelevanceTask.JUDGMENT_TASK_ACTION, "judgment[1]");
+
+        assertSame(task, taskManager.getTask(task.getId()));
+        assertEquals(SearchRelevanceTask.JUDGMENT_TASK_ACTION, task.getAction());
+        assertEquals("judgment[1]", task.getDescription());
+        assertTrue(task.shouldCancelChildrenOnCancellation());
+
+        taskManager.unregister(task);
+        assertNull(taskManager.getTask(task.getId()));
+    }
+
+    public void testCancellationRunsEveryListenerOnce() {
+        SearchRelevanceTask task = SearchRelevanceTask.register(taskManager, SearchRelevanceTask.EXPERIMENT_TASK_ACTION, "experiment[1]");
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        task.addCancellationListener(first::incrementAndGet);
+        task.addCancellationListener(second::incrementAndGet);
+        assertEquals(0, first.get());
+
+        taskManager.cancel(task, "test", () -> {});
+        taskManager.cancel(task, "test again", () -> {});
+
+        assertTrue(task.isCancelled());
+        assertEquals(1, first.get());
+        assertEquals(1, second.get());
+    }
+
+    public void testListenerAddedAfterCancellationRunsImmediately() {
+        SearchRelevanceTask task = SearchRelevanceTask.register(taskManager, SearchRelevanceTask.EXPERIMENT_TASK_ACTION, "experiment[1]");
+        taskManager.cancel(task, "test", () -> {});
+
+        AtomicInteger calls = new AtomicInteger();
+        task.addCancellationListener(calls::incrementAndGet);
+
+        assertEquals(1, calls.get());
+    }
+
+    public void testCancellationFailsQueuedSearches() {
+        SearchRelevanceTask task = SearchRelevanceTask.register(taskManager, SearchRelevanceTask.EXPERIMENT_TASK_ACTION, "experiment[1]");
+        ExperimentSearchScheduler scheduler = mock(ExperimentSearchScheduler.class);
+        ExperimentSearchQueue queue = new ExperimentSearchQueue("experiment", 1);
+        AtomicReference<Exception> cancellation = new AtomicReference<>();
+        doAnswer(invocation -> {
+            cancellation.set(invocation.getArgument(1));
+            return null;
+        }).when(scheduler).cancel(eq(queue), any());
+        task.addCancellationListener(() -> scheduler.cancel(queue, task.newCancellationException()));
+
+        taskManager.cancel(task, "by user", () -> {});
+
+        assertTrue(cancellation.get() instanceof TaskCancelledException);
+        assertTrue(cancellation.get().getMessage().contains("by user"));
+        assertTrue(SearchRelevanceTask.isCancellation(cancellation.get()));
+    }
+
+    public void testIsCancellation() {
+        TaskCancelledException cancellation = new TaskCancelledException("cancelled");
+        assertTrue(SearchRelevanceTask.isCancellation(cancellation));
+        assertTrue(
+            SearchRelevanceTask.isCancellation(new SearchRelevanceException("wrapped", cancellation, RestStatus.INTERNAL_SERVER_ERROR))
+        );
+        assertFalse(SearchRelevanceTask.isCancellation(new IllegalStateException("failed")));
+    }
+}
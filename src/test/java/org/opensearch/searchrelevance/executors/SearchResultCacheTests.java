@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.executors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+public class SearchResultCacheTests extends OpenSearchTestCase {
+
+    private Client client;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(client.threadPool()).thenReturn(threadPool);
+    }
+
+    public void testKeysDependOnRequestAndGeneration() {
+        SearchResultCache cache = createCache(100);
+        SearchRequest request = new SearchRequest("index");
+
+        assertEquals(cache.key(request, "generation"), cache.key(new SearchRequest("index"), "generation"));
+        assertNotEquals(cache.key(request, "generation"), cache.key(request, "next generation"));
+        assertNotEquals(cache.key(request, "generation"), cache.key(new SearchRequest("other"), "generation"));
+        assertNull(cache.key(request, null));
+    }
+
+    public void testKeysDependOnRequestingUser() {
+        SearchResultCache cache = createCache(100);
+        SearchRequest request = new SearchRequest("index");
+        ThreadContext threadContext = client.threadPool().getThreadContext();
+        String anonymousKey = cache.key(request, "generation");
+
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "alice||all_access");
+            String userKey = cache.key(request, "generation");
+            assertNotEquals(anonymousKey, userKey);
+            // the stashed context the searches run with no longer knows the user, so the key must be computed before stashing
+            try (ThreadContext.StoredContext stashed = threadContext.stashContext()) {
+                assertEquals(anonymousKey, cache.key(request, "generation"));
+            }
+        }
+    }
+
+    public void testCachesCompleteResponses() {
+        SearchResultCache cache = createCache(100);
+        String key = cache.key(new SearchRequest("index"), "generation");
+
+        assertNull(cache.get(key));
+        cache.put(key, response(false, 0), List.of("doc1", "doc2"));
+        assertEquals(List.of("doc1", "doc2"), cache.get(key));
+        assertEquals(1, cache.stats().getHits());
+        assertEquals(1, cache.stats().getMisses());
+        assertEquals(3, cache.weight());
+    }
+
+    public void testDoesNotCachePartialResponses() {
+        SearchResultCache cache = createCache(100);
+        String timedOutKey = cache.key(new SearchRequest("index"), "generation");
+        String failedShardsKey = cache.key(new SearchRequest("other"), "generation");
+
+        cache.put(timedOutKey, response(true, 0), List.of("doc1"));
+        cache.put(failedShardsKey, response(false, 1), List.of("doc1"));
+        assertEquals(0, cache.count());
+    }
+
+    public void testEvictsLeastRecentlyUsedEntries() {
+        SearchResultCache cache = createCache(4);
+        String first = cache.key(new SearchRequest("first"), "generation");
+        String second = cache.key(new SearchRequest("second"), "generation");
+        String third = cache.key(new SearchRequest("third"), "generation");
+
+        cache.put(first, response(false, 0), List.of("doc1"));
+        cache.put(second, response(false, 0), List.of("doc2"));
+        cache.get(first);
+        cache.put(third, response(false, 0), List.of("doc3"));
+
+        assertNotNull(cache.get(first));
+        assertNull(cache.get(second));
+        assertNotNull(cache.get(third));
+        assertEquals(1, cache.stats().getEvictions());
+    }
+
+    public void testDisabledCacheSkipsGenerations() {
+        SearchResultCache cache = createCache(0);
+        AtomicReference<Map<String, String>> generations = new AtomicReference<>();
+
+        cache.resolveGenerations(List.of("index"), ActionListener.wrap(generations::set, e -> fail()));
+        assertTrue(generations.get().isEmpty());
+        assertNull(cache.key(new SearchRequest("index"), "generation"));
+        verify(client, never()).admin();
+    }
+
+    private SearchResultCache createCache(long maxDocIds) {
+        Settings settings = Settings.builder().put(SearchRelevanceSettings.SEARCH_RESULT_CACHE_MAX_DOC_IDS.getKey(), maxDocIds).build();
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(settings);
+        return new SearchResultCache(client, clusterService);
+    }
+
+    private static SearchResponse response(boolean timedOut, int failedShards) {
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.isTimedOut()).thenReturn(timedOut);
+        when(response.getFailedShards()).thenReturn(failedShards);
+        return response;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.indices;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.indices.SearchRelevanceIndices.EVALUATION_RESULT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.model.EvaluationResult;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+public class SystemIndexBulkWriterTests extends OpenSearchTestCase {
+
+    private SearchRelevanceIndicesManager indicesManager;
+    private ThreadPool threadPool;
+    private List<Map<String, ?>> bulkRequests;
+    private SystemIndexBulkWriter writer;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        indicesManager = mock(SearchRelevanceIndicesManager.class);
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenReturn(
+            mock(Scheduler.ScheduledCancellable.class)
+        );
+        bulkRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            Map<String, ?> docs = invocation.getArgument(0);
+            bulkRequests.add(docs);
+            BulkItemResponse[] items = new BulkItemResponse[docs.size()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = new BulkItemResponse(i, DocWriteRequest.OpType.CREATE, (DocWriteResponse) null);
+            }
+            ActionListener<BulkResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new BulkResponse(items, 1L));
+            return null;
+        }).when(indicesManager).bulkPutDocs(any(), eq(EVALUATION_RESULT), any());
+        doAnswer(invocation -> {
+            ActionListener<Void> listener = invocation.getArgument(1);
+            listener.onResponse(null);
+            return null;
+        }).when(indicesManager).refreshIndex(eq(EVALUATION_RESULT), any());
+        writer = new SystemIndexBulkWriter(indicesManager, threadPool, EVALUATION_RESULT, 2, TimeValue.timeValueSeconds(1));
+    }
+
+    public void testFlushesWhenBulkSizeIsReached() {
+        AtomicInteger stored = new AtomicInteger();
+        writer.add("1", evaluationResult("1"), countingListener(stored));
+        assertTrue(bulkRequests.isEmpty());
+        verify(threadPool).schedule(any(Runnable.class), eq(TimeValue.timeValueSeconds(1)), eq(ThreadPool.Names.GENERIC));
+
+        writer.add("2", evaluationResult("2"), countingListener(stored));
+        assertEquals(1, bulkRequests.size());
+        assertEquals(2, bulkRequests.get(0).size());
+        assertEquals(2, stored.get());
+        verify(indicesManager, never()).refreshIndex(any(), any());
+    }
+
+    public void testCloseFlushesRemainingResultsAndRefreshesOnce() {
+        AtomicInteger stored = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        writer.add("1", evaluationResult("1"), countingListener(stored));
+        writer.close(countingListener(closed));
+
+        assertEquals(1, bulkRequests.size());
+        assertEquals(1, stored.get());
+        assertEquals(1, closed.get());
+        verify(indicesManager).refreshIndex(eq(EVALUATION_RESULT), any());
+
+        writer.add("2", evaluationResult("2"), ActionListener.wrap(v -> fail("closed writer accepted a doc"), e -> stored.set(-1)));
+        assertEquals(-1, stored.get());
+    }
+
+    public void testCloseWithoutResultsSkipsRefresh() {
+        AtomicInteger closed = new AtomicInteger();
+        writer.close(countingListener(closed));
+
+        assertEquals(1, closed.get());
+        assertTrue(bulkRequests.isEmpty());
+        verify(indicesManager, never()).refreshIndex(any(), any());
+    }
+
+    private ActionListener<Void> countingListener(AtomicInteger counter) {
+        return ActionListener.wrap(v -> counter.incrementAndGet(), e -> fail("unexpected failure: " + e));
+    }
+
+    private EvaluationResult evaluationResult(String id) {
+        return new EvaluationResult(id, "2025-01-01T00:00:00Z", "config", "query", List.of("judgment"), List.of("doc"), Map.of());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.COUNT;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.MAX;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.MEAN;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.METRIC;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.METRICS;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.MIN;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.P50;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.P90;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.SEARCH_CONFIGURATION_ID;
+import static org.opensearch.searchrelevance.metrics.EvaluationSummary.VARIANCE;
+
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EvaluationSummaryTests extends OpenSearchTestCase {
+
+    public void testAggregatesPerSearchConfigurationAndMetric() {
+        EvaluationSummary summary = new EvaluationSummary();
+        assertTrue(summary.isEmpty());
+        for (int i = 1; i <= 100; i++) {
+            summary.add("b", Map.of("NDCG", String.valueOf(i / 100.0), "Coverage@5", "NaN"));
+        }
+        summary.add("a", Map.of("NDCG", "0.5"));
+
+        List<Map<String, Object>> aggregates = summary.toList(List.of("a", "b"));
+        assertEquals(2, aggregates.size());
+        assertEquals("a", aggregates.get(0).get(SEARCH_CONFIGURATION_ID));
+        assertEquals("b", aggregates.get(1).get(SEARCH_CONFIGURATION_ID));
+
+        List<Map<String, Object>> metrics = (List<Map<String, Object>>) aggregates.get(1).get(METRICS);
+        // metrics that are not finite are skipped
+        assertEquals(1, metrics.size());
+        Map<String, Object> ndcg = metrics.get(0);
+        assertEquals("NDCG", ndcg.get(METRIC));
+        assertEquals(100L, ndcg.get(COUNT));
+        assertEquals(0.505, (double) ndcg.get(MEAN), 0.0001);
+        assertEquals(0.0833, (double) ndcg.get(VARIANCE), 0.0001);
+        assertEquals(0.01, (double) ndcg.get(MIN), 0.0001);
+        assertEquals(1.0, (double) ndcg.get(MAX), 0.0001);
+        assertEquals(0.5, (double) ndcg.get(P50), 0.02);
+        assertEquals(0.9, (double) ndcg.get(P90), 0.02);
+    }
+
+    public void testMergeMatchesSequentialAddsAfterSerialization() throws Exception {
+        EvaluationSummary sequential = new EvaluationSummary();
+        EvaluationSummary slice = new EvaluationSummary();
+        EvaluationSummary experiment = new EvaluationSummary();
+        for (int i = 0; i < 50; i++) {
+            Map<String, String> metrics = Map.of("Precision@5", String.valueOf(randomDouble()));
+            sequential.add("a", metrics);
+            (i % 3 == 0 ? slice : experiment).add("a", metrics);
+        }
+
+        EvaluationSummary deserialized;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            slice.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                deserialized = new EvaluationSummary(in);
+            }
+        }
+        experiment.merge(deserialized);
+
+        Map<String, Object> expected = ((List<Map<String, Object>>) sequential.toList(List.of()).get(0).get(METRICS)).get(0);
+        Map<String, Object> merged = ((List<Map<String, Object>>) experiment.toList(List.of()).get(0).get(METRICS)).get(0);
+        assertEquals(expected.get(COUNT), merged.get(COUNT));
+        assertEquals((double) expected.get(MEAN), (double) merged.get(MEAN), 0.0001);
+        assertEquals((double) expected.get(VARIANCE), (double) merged.get(VARIANCE), 0.0001);
+        assertEquals(expected.get(MIN), merged.get(MIN));
+        assertEquals(expected.get(MAX), merged.get(MAX));
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISONS_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.METRICS_PAIRWISE_COMPARISON_FIELD_NAME;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
+import static org.opensearch.searchrelevance.common.PluginConstants.METRICS_THREAD_POOL_NAME;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.MultiSearchResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.index.query.WrapperQueryBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.searchrelevance.dao.EvaluationResultDao;
+import org.opensearch.searchrelevance.executors.ExperimentSearchQueue;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.MetricsTaskScheduler;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
+import org.opensearch.searchrelevance.indices.SystemIndexBulkWriter;
+import org.opensearch.searchrelevance.metrics.calculator.MetricSpec;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.EvaluationResult;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.model.JudgmentRatingTable;
+import org.opensearch.searchrelevance.model.builder.SearchConfigurationTemplate;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MetricsHelperTests extends OpenSearchTestCase {
+
+    private static final String QUERY_WITH_REFERENCE = "apple#a red fruit";
+    private static final String QUERY = "{\"query\":{\"match\":{\"title\":\"%SearchText%\"}}}";
+
+    private ExperimentSearchScheduler experimentSearchScheduler;
+    private SearchResultCache searchResultCache;
+    private ThreadPool threadPool;
+    private ExperimentSearchQueue searchQueue;
+    private SystemIndexBulkWriter evaluationResultWriter;
+    private MetricsHelper metricsHelper;
+
+    private List<SearchRequest> searchRequests;
+    private List<EvaluationResult> evaluationResults;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        searchRequests = new CopyOnWriteArrayList<>();
+        evaluationResults = new CopyOnWriteArrayList<>();
+
+        experimentSearchScheduler = mock(ExperimentSearchScheduler.class);
+        doAnswer(invocation -> {
+            List<SearchRequest> requests = invocation.getArgument(1);
+            ActionListener<MultiSearchResponse.Item[]> listener = invocation.getArgument(2);
+            searchRequests.addAll(requests);
+            MultiSearchResponse.Item[] items = new MultiSearchResponse.Item[requests.size()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = new MultiSearchResponse.Item(searchResponse("doc1", "doc2"), null);
+            }
+            listener.onResponse(items);
+            return null;
+        }).when(experimentSearchScheduler).multiSearch(any(), any(), any());
+
+        searchResultCache = mock(SearchResultCache.class);
+        doAnswer(invocation -> {
+            ActionListener<Map<String, String>> listener = invocation.getArgument(1);
+            listener.onResponse(Map.of());
+            return null;
+        }).when(searchResultCache).resolveGenerations(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<Map<String, String>> listener = invocation.getArgument(1);
+            listener.onResponse(Map.of());
+            return null;
+        }).when(searchResultCache).resolveIndexGenerations(any(), any());
+
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(METRICS_THREAD_POOL_NAME)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+
+        searchQueue = mock(ExperimentSearchQueue.class);
+        when(searchQueue.getPriority()).thenReturn(ExperimentPriority.BATCH);
+        evaluationResultWriter = mock(SystemIndexBulkWriter.class);
+        doAnswer(invocation -> {
+            evaluationResults.add(invocation.getArgument(1));
+            ActionListener<Void> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(evaluationResultWriter).add(anyString(), any(), any());
+
+        metricsHelper = new MetricsHelper(
+            mock(ClusterService.class),
+            mock(EvaluationResultDao.class),
+            experimentSearchScheduler,
+            searchResultCache,
+            new MetricsTaskScheduler(threadPool, metricsClusterService())
+        );
+    }
+
+    public void testEvaluationSearchesWithoutReferenceAnswer() {
+        AtomicReference<Map<String, Map<String, EvaluationReference>>> results = new AtomicReference<>();
+        metricsHelper.processEvaluationMetrics(
+            List.of(QUERY_WITH_REFERENCE),
+            templates("a"),
+            10,
+            MetricSpec.DEFAULT_METRICS,
+            List.of("judgment"),
+            new JudgmentRatingTable(),
+            searchQueue,
+            evaluationResultWriter,
+            Map.of(),
+            Map.of(),
+            ActionListener.wrap(results::set, e -> fail(e.getMessage()))
+        );
+
+        assertEquals(1, searchRequests.size());
+        assertEquals("{\"match\":{\"title\":\"apple\"}}", searchedQuery(searchRequests.get(0)));
+        // results and evaluation results keep the full query set entry
+        assertEquals(List.of(QUERY_WITH_REFERENCE), new ArrayList<>(results.get().keySet()));
+        assertNotNull(results.get().get(QUERY_WITH_REFERENCE).get("a"));
+        assertEquals(QUERY_WITH_REFERENCE, evaluationResults.get(0).searchText());
+    }
+
+    public void testUnchangedEvaluationIsCarriedOverByFingerprint() {
+        doAnswer(invocation -> {
+            ActionListener<Map<String, String>> listener = invocation.getArgument(1);
+            listener.onResponse(Map.of("index", "generation"));
+            return null;
+        }).when(searchResultCache).resolveIndexGenerations(any(), any());
+
+        Map<String, Map<String, EvaluationReference>> firstRun = evaluate(List.of("judgment"), Map.of());
+        EvaluationReference evaluation = firstRun.get("apple").get("a");
+        assertNotNull(evaluation.fingerprint());
+        assertEquals(1, searchRequests.size());
+
+        Map<String, Map<String, EvaluationReference>> rerun = evaluate(List.of("judgment"), firstRun);
+        assertSame(evaluation, rerun.get("apple").get("a"));
+        assertEquals(1, searchRequests.size());
+        assertEquals(1, evaluationResults.size());
+
+        // an evaluation against other judgments is evaluated again, so that its result names the judgments
+        Map<String, Map<String, EvaluationReference>> otherJudgments = evaluate(List.of("judgment2"), firstRun);
+        assertNotEquals(evaluation.evaluationId(), otherJudgments.get("apple").get("a").evaluationId());
+        assertNotEquals(evaluation.fingerprint(), otherJudgments.get("apple").get("a").fingerprint());
+        assertEquals(2, searchRequests.size());
+        assertEquals(List.of("judgment2"), evaluationResults.get(1).judgmentIds());
+    }
+
+    public void testEvaluationWithoutIndexGenerationIsNotFingerprinted() {
+        Map<String, Map<String, EvaluationReference>> firstRun = evaluate(List.of("judgment"), Map.of());
+        assertNull(firstRun.get("apple").get("a").fingerprint());
+
+        evaluate(List.of("judgment"), firstRun);
+        assertEquals(2, searchRequests.size());
+    }
+
+    public void testPairwiseSearchesWithoutReferenceAnswer() {
+        AtomicReference<Map<String, Map<String, Object>>> results = new AtomicReference<>();
+        metricsHelper.processPairwiseMetrics(
+            List.of(QUERY_WITH_REFERENCE),
+            templates("a", "b"),
+            10,
+            searchQueue,
+            ActionListener.wrap(results::set, e -> fail(e.getMessage()))
+        );
+
+        assertEquals(2, searchRequests.size());
+        for (SearchRequest searchRequest : searchRequests) {
+            assertEquals("{\"match\":{\"title\":\"apple\"}}", searchedQuery(searchRequest));
+        }
+        Map<String, Object> queryResults = results.get().get(QUERY_WITH_REFERENCE);
+        assertEquals(List.of("doc1", "doc2"), queryResults.get("a"));
+        assertEquals(1, ((List<?>) queryResults.get(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME)).size());
+    }
+
+    public void testEveryPairIsComparedInItsOwnTaskAndKeepsPairOrder() {
+        // tasks of the metrics thread pool complete in any order, run them in reverse
+        List<Runnable> tasks = new ArrayList<>();
+        ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> tasks.add(invocation.getArgument(0))).when(executor).execute(any());
+        when(threadPool.executor(METRICS_THREAD_POOL_NAME)).thenReturn(executor);
+
+        AtomicReference<Map<String, Map<String, Object>>> results = new AtomicReference<>();
+        metricsHelper.processPairwiseMetrics(
+            List.of("q1", "q2"),
+            templates("a", "b", "c"),
+            10,
+            searchQueue,
+            ActionListener.wrap(results::set, e -> fail(e.getMessage()))
+        );
+
+        assertEquals(3, tasks.size());
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            assertNull(results.get());
+            tasks.get(i).run();
+        }
+        for (String queryText : List.of("q1", "q2")) {
+            Map<String, Object> queryResults = results.get().get(queryText);
+            List<Map<String, Object>> pairwiseResults = (List<Map<String, Object>>) queryResults.get(
+                METRICS_PAIRWISE_COMPARISONS_FIELD_NAME
+            );
+            assertEquals(List.of(List.of("a", "b"), List.of("a", "c"), List.of("b", "c")), pairs(pairwiseResults));
+            for (Map<String, Object> pairResult : pairwiseResults) {
+                assertEquals(1.0, (Double) pairResult.get("jaccard"), 0.0001);
+            }
+            // the first pair keeps the shape of experiments that compared two search configurations
+            Map<String, Object> firstPair = (Map<String, Object>) queryResults.get(METRICS_PAIRWISE_COMPARISON_FIELD_NAME);
+            assertEquals(1.0, (Double) firstPair.get("jaccard"), 0.0001);
+            assertFalse(firstPair.containsKey(PAIRWISE_SEARCH_CONFIGURATION_A));
+        }
+    }
+
+    public void testRejectedPairFailsTheBatchOnce() {
+        List<Runnable> tasks = new ArrayList<>();
+        ExecutorService executor = mock(ExecutorService.class);
+        doAnswer(invocation -> {
+            AbstractRunnable task = invocation.getArgument(0);
+            if (tasks.isEmpty()) {
+                tasks.add(task);
+            } else {
+                task.onRejection(new OpenSearchRejectedExecutionException("metrics thread pool is full"));
+            }
+            return null;
+        }).when(executor).execute(any());
+        when(threadPool.executor(METRICS_THREAD_POOL_NAME)).thenReturn(executor);
+
+        AtomicInteger responses = new AtomicInteger();
+        List<Exception> failures = new ArrayList<>();
+        metricsHelper.processPairwiseMetrics(
+            List.of("q1"),
+            templates("a", "b", "c"),
+            10,
+            searchQueue,
+            ActionListener.wrap(r -> responses.incrementAndGet(), failures::add)
+        );
+        // the pair that was accepted completes after the failure
+        tasks.get(0).run();
+
+        assertEquals(0, responses.get());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof OpenSearchRejectedExecutionException);
+    }
+
+    public void testSingleSearchConfigurationHasNoPairs() {
+        AtomicReference<Map<String, Map<String, Object>>> results = new AtomicReference<>();
+        metricsHelper.processPairwiseMetrics(
+            List.of("q1"),
+            templates("a"),
+            10,
+            searchQueue,
+            ActionListener.wrap(results::set, e -> fail(e.getMessage()))
+        );
+
+        Map<String, Object> queryResults = results.get().get("q1");
+        assertEquals(List.of("doc1", "doc2"), queryResults.get("a"));
+        assertEquals(Map.of(), queryResults.get(METRICS_PAIRWISE_COMPARISON_FIELD_NAME));
+        assertEquals(List.of(), queryResults.get(METRICS_PAIRWISE_COMPARISONS_FIELD_NAME));
+    }
+
+    public void testPairwiseSearchesThroughSearchPipelines() {
+        Map<String, SearchConfigurationTemplate> templates = new LinkedHashMap<>();
+        templates.put("a", SearchConfigurationTemplate.compile("index", QUERY, "pipeline_a"));
+        templates.put("b", SearchConfigurationTemplate.compile("index", QUERY, null));
+
+        metricsHelper.processPairwiseMetrics(List.of("apple"), templates, 10, searchQueue, ActionListener.wrap(r -> {}, e -> fail()));
+
+        assertEquals(2, searchRequests.size());
+        assertEquals("pipeline_a", searchRequests.get(0).pipeline());
+        assertNull(searchRequests.get(1).pipeline());
+    }
+
+    private Map<String, Map<String, EvaluationReference>> evaluate(
+        List<String> judgmentIds,
+        Map<String, Map<String, EvaluationReference>> previousEvaluations
+    ) {
+        AtomicReference<Map<String, Map<String, EvaluationReference>>> results = new AtomicReference<>();
+        metricsHelper.processEvaluationMetrics(
+            List.of("apple"),
+            templates("a"),
+            10,
+            MetricSpec.DEFAULT_METRICS,
+            judgmentIds,
+            new JudgmentRatingTable(),
+            searchQueue,
+            evaluationResultWriter,
+            Map.of(),
+            previousEvaluations,
+            ActionListener.wrap(results::set, e -> fail(e.getMessage()))
+        );
+        return results.get();
+    }
+
+    /**
+     * Cluster service of a node with four processors, the metrics thread pool runs four tasks at the same time
+     */
+    private static ClusterService metricsClusterService() {
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(Settings.builder().put("node.processors", 4).build());
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(Settings.EMPTY, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+        return clusterService;
+    }
+
+    private static Map<String, SearchConfigurationTemplate> templates(String... searchConfigurationIds) {
+        Map<String, SearchConfigurationTemplate> templates = new LinkedHashMap<>();
+        for (String searchConfigurationId : searchConfigurationIds) {
+            templates.put(searchConfigurationId, SearchConfigurationTemplate.compile("index", QUERY, null));
+        }
+        return templates;
+    }
+
+    private static List<List<Object>> pairs(List<Map<String, Object>> pairwiseResults) {
+        List<List<Object>> pairs = new ArrayList<>();
+        for (Map<String, Object> pairResult : pairwiseResults) {
+            pairs.add(List.of(pairResult.get(PAIRWISE_SEARCH_CONFIGURATION_A), pairResult.get(PAIRWISE_SEARCH_CONFIGURATION_B)));
+        }
+        return pairs;
+    }
+
+    private static String searchedQuery(SearchRequest searchRequest) {
+        return new String(((WrapperQueryBuilder) searchRequest.source().query()).source(), StandardCharsets.UTF_8);
+    }
+
+    private static SearchResponse searchResponse(String... docIds) {
+        SearchHit[] hits = new SearchHit[docIds.length];
+        for (int i = 0; i < docIds.length; i++) {
+            hits[i] = new SearchHit(i, docIds[i], Map.of(), Map.of());
+        }
+        SearchResponse response = mock(SearchResponse.class);
+        when(response.getHits()).thenReturn(new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f));
+        return response;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_QUERY_COUNT;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
+import static org.opensearch.searchrelevance.metrics.PairedSignificanceTester.BOOTSTRAP_P_VALUE;
+import static org.opensearch.searchrelevance.metrics.PairedSignificanceTester.CONFIDENCE_INTERVAL_LOWER;
+import static org.opensearch.searchrelevance.metrics.PairedSignificanceTester.CONFIDENCE_INTERVAL_UPPER;
+import static org.opensearch.searchrelevance.metrics.PairedSignificanceTester.MEAN_DIFFERENCE;
+import static org.opensearch.searchrelevance.metrics.PairedSignificanceTester.METRIC;
+import static org.opensearch.searchrelevance.metrics.PairedSignificanceTester.PERMUTATION_P_VALUE;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.searchrelevance.executors.MetricsTaskScheduler;
+import org.opensearch.searchrelevance.model.EvaluationReference;
+import org.opensearch.searchrelevance.model.ExperimentPriority;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class PairedSignificanceTesterTests extends OpenSearchTestCase {
+
+    private PairedSignificanceTester tester;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(threadPool.executor(anyString())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(Settings.builder().put("node.processors", 4).build());
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(Settings.EMPTY, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
+        tester = new PairedSignificanceTester(new MetricsTaskScheduler(threadPool, clusterService));
+    }
+
+    public void testConsistentImprovementIsSignificant() {
+        Map<String, Map<String, EvaluationReference>> evaluations = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            double ndcg = (i % 10) / 10.0;
+            evaluations.put("query" + i, Map.of("a", evaluation(ndcg), "b", evaluation(ndcg + 0.1 + (i % 3) * 0.01)));
+        }
+        // a queryText without the metric for both search configurations is left out
+        evaluations.put("unrated", Map.of("a", evaluation(0.5)));
+
+        Map<String, Object> result = test(evaluations, 5000, 42L).get(0);
+        assertEquals("a", result.get(PAIRWISE_SEARCH_CONFIGURATION_A));
+        assertEquals("b", result.get(PAIRWISE_SEARCH_CONFIGURATION_B));
+        assertEquals("NDCG", result.get(METRIC));
+        assertEquals(40, result.get(PAIRWISE_QUERY_COUNT));
+        assertEquals(0.11, (double) result.get(MEAN_DIFFERENCE), 0.001);
+        assertTrue((double) result.get(CONFIDENCE_INTERVAL_LOWER) > 0.1);
+        assertTrue((double) result.get(CONFIDENCE_INTERVAL_UPPER) < 0.12);
+        assertTrue((double) result.get(BOOTSTRAP_P_VALUE) < 0.001);
+        assertTrue((double) result.get(PERMUTATION_P_VALUE) < 0.001);
+    }
+
+    public void testIdenticalMetricsAreNotSignificant() {
+        Map<String, Map<String, EvaluationReference>> evaluations = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            evaluations.put("query" + i, Map.of("a", evaluation(i / 20.0), "b", evaluation(i / 20.0)));
+        }
+
+        Map<String, Object> result = test(evaluations, 2000, 7L).get(0);
+        assertEquals(0.0, (double) result.get(MEAN_DIFFERENCE), 0.0);
+        assertEquals(0.0, (double) result.get(CONFIDENCE_INTERVAL_LOWER), 0.0);
+        assertEquals(0.0, (double) result.get(CONFIDENCE_INTERVAL_UPPER), 0.0);
+        assertEquals(1.0, (double) result.get(BOOTSTRAP_P_VALUE), 0.0);
+        assertEquals(1.0, (double) result.get(PERMUTATION_P_VALUE), 0.0);
+    }
+
+    public void testSameSeedGivesSameResults() {
+        Map<String, Map<String, EvaluationReference>> evaluations = new HashMap<>();
+        for (int i = 0; i < 30; i++) {
+            evaluations.put("query" + i, Map.of("a", evaluation(randomDouble()), "b", evaluation(randomDouble())));
+        }
+        assertEquals(test(evaluations, 3000, 1L), test(evaluations, 3000, 1L));
+    }
+
+    private List<Map<String, Object>> test(Map<String, Map<String, EvaluationReference>> evaluations, int resamples, long seed) {
+        AtomicReference<List<Map<String, Object>>> results = new AtomicReference<>();
+        tester.test(
+            evaluations,
+            List.of("a", "b"),
+            resamples,
+            seed,
+            ExperimentPriority.BATCH,
+            ActionListener.wrap(results::set, e -> fail("significance test failed: " + e.getMessage()))
+        );
+        assertEquals(1, results.get().size());
+        return results.get();
+    }
+
+    private static EvaluationReference evaluation(double ndcg) {
+        return new EvaluationReference("id", null, Map.of("NDCG", String.valueOf(ndcg)));
+    }
+}
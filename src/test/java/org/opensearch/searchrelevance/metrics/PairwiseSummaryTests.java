@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics;
+
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_QUERY_COUNT;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_A;
+import static org.opensearch.searchrelevance.common.MetricsConstants.PAIRWISE_SEARCH_CONFIGURATION_B;
+
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PairwiseSummaryTests extends OpenSearchTestCase {
+
+    public void testMeansPerPairInFirstSeenOrder() {
+        PairwiseSummary summary = new PairwiseSummary();
+        assertTrue(summary.isEmpty());
+        summary.add(List.of(pairResult("a", "b", 0.5), pairResult("a", "c", 1.0)));
+        summary.add(List.of(pairResult("a", "b", 0.25), pairResult("a", "c", 0.0)));
+
+        List<Map<String, Object>> means = summary.toList();
+        assertEquals(2, means.size());
+        assertEquals("a", means.get(0).get(PAIRWISE_SEARCH_CONFIGURATION_A));
+        assertEquals("b", means.get(0).get(PAIRWISE_SEARCH_CONFIGURATION_B));
+        assertEquals(2L, means.get(0).get(PAIRWISE_QUERY_COUNT));
+        assertEquals(0.38, (double) means.get(0).get("jaccard"), 0.0001);
+        assertEquals("c", means.get(1).get(PAIRWISE_SEARCH_CONFIGURATION_B));
+        assertEquals(0.5, (double) means.get(1).get("jaccard"), 0.0001);
+    }
+
+    public void testMergeAndSerialization() throws Exception {
+        PairwiseSummary slice = new PairwiseSummary();
+        slice.add(List.of(pairResult("a", "b", 1.0)));
+
+        PairwiseSummary deserialized;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            slice.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                deserialized = new PairwiseSummary(in);
+            }
+        }
+
+        PairwiseSummary experiment = new PairwiseSummary();
+        experiment.add(List.of(pairResult("a", "b", 0.0)));
+        experiment.merge(deserialized);
+
+        Map<String, Object> mean = experiment.toList().get(0);
+        assertEquals(2L, mean.get(PAIRWISE_QUERY_COUNT));
+        assertEquals(0.5, (double) mean.get("jaccard"), 0.0001);
+    }
+
+    private static Map<String, Object> pairResult(String searchConfigurationA, String searchConfigurationB, double jaccard) {
+        return Map.of(
+            PAIRWISE_SEARCH_CONFIGURATION_A,
+            searchConfigurationA,
+            PAIRWISE_SEARCH_CONFIGURATION_B,
+            searchConfigurationB,
+            "jaccard",
+            jaccard
+        );
+    }
+}
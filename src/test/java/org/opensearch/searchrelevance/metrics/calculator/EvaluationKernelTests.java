@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import static org.opensearch.searchrelevance.metrics.calculator.Evaluation.METRICS_MEAN_AVERAGE_PRECISION;
+import static org.opensearch.searchrelevance.metrics.calculator.Evaluation.METRICS_NORMALIZED_DISCOUNTED_CUMULATIVE_GAIN;
+import static org.opensearch.searchrelevance.metrics.calculator.Evaluation.METRICS_PRECISION_AT_10;
+import static org.opensearch.searchrelevance.metrics.calculator.Evaluation.METRICS_PRECISION_AT_5;
+import static org.opensearch.searchrelevance.metrics.calculator.EvaluationKernel.METRICS_COVERAGE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class EvaluationKernelTests extends OpenSearchTestCase {
+
+    public void testMatchesSeparateCalculators() {
+        for (int iteration = 0; iteration < 100; iteration++) {
+            int size = randomIntBetween(1, 1200);
+            List<String> docIds = new ArrayList<>(size);
+            Map<String, Double> judgments = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                String docId = "doc" + i;
+                docIds.add(docId);
+                if (randomBoolean()) {
+                    judgments.put(docId, (double) randomIntBetween(0, 3));
+                }
+            }
+
+            Map<String, String> metrics = EvaluationKernel.evaluate(EvaluationKernel.resolveScores(docIds, judgments));
+            assertEquals(String.valueOf(Evaluation.calculatePrecisionAtK(docIds, judgments, 5)), metrics.get(METRICS_PRECISION_AT_5));
+            assertEquals(String.valueOf(Evaluation.calculatePrecisionAtK(docIds, judgments, 10)), metrics.get(METRICS_PRECISION_AT_10));
+            assertEquals(String.valueOf(Evaluation.calculateMAP(docIds, judgments)), metrics.get(METRICS_MEAN_AVERAGE_PRECISION));
+            assertEquals(
+                String.valueOf(Evaluation.calculateNDCG(docIds, judgments)),
+                metrics.get(METRICS_NORMALIZED_DISCOUNTED_CUMULATIVE_GAIN)
+            );
+        }
+    }
+
+    public void testUnjudgedDocsCountAgainstCoverageOnly() {
+        Map<String, String> metrics = EvaluationKernel.evaluate(
+            EvaluationKernel.resolveScores(List.of("a", "b", "c", "d"), Map.of("a", 3.0, "c", 0.0))
+        );
+        assertEquals("0.5", metrics.get(METRICS_COVERAGE));
+        assertEquals("0.25", metrics.get(METRICS_PRECISION_AT_5));
+        assertEquals("1.0", metrics.get(METRICS_MEAN_AVERAGE_PRECISION));
+        assertEquals("1.0", metrics.get(METRICS_NORMALIZED_DISCOUNTED_CUMULATIVE_GAIN));
+    }
+
+    public void testMetricsAtCutoffs() {
+        List<String> docIds = List.of("a", "b", "c", "d", "e");
+        Map<String, Double> judgments = Map.of("b", 3.0, "d", 1.0, "e", 0.0, "unretrieved", 2.0);
+        Map<String, String> metrics = EvaluationKernel.evaluate(
+            EvaluationKernel.resolveScores(docIds, judgments),
+            judgments,
+            MetricSpec.parseAll(
+                List.of("precision@2", "recall@2", "recall@10", "mrr", "mrr@1", "dcg@2", "ndcg@2", "err@2", "MAP@4"),
+                new MetricRegistry()
+            )
+        );
+        assertEquals("0.5", metrics.get("precision@2"));
+        // relevant docs of all judgments of the queryText, including the ones that were not retrieved
+        assertEquals("0.33", metrics.get("recall@2"));
+        assertEquals("0.67", metrics.get("recall@10"));
+        assertEquals("0.5", metrics.get("mrr"));
+        assertEquals("0.0", metrics.get("mrr@1"));
+        // gain 7 discounted by log2(3)
+        assertEquals("4.42", metrics.get("dcg@2"));
+        // the ideal order of the judged docs is b, d, e
+        assertEquals("0.58", metrics.get("ndcg@2"));
+        // b stops the user with probability 7/8 at rank 2
+        assertEquals("0.44", metrics.get("err@2"));
+        assertEquals("0.5", metrics.get("MAP@4"));
+        assertEquals("0.6", metrics.get(METRICS_COVERAGE));
+    }
+
+    public void testEmptyRankedList() {
+        Map<String, String> metrics = EvaluationKernel.evaluate(new double[0]);
+        assertEquals("0.0", metrics.get(METRICS_COVERAGE));
+        assertEquals("0.0", metrics.get(METRICS_PRECISION_AT_5));
+        assertEquals("0.0", metrics.get(METRICS_NORMALIZED_DISCOUNTED_CUMULATIVE_GAIN));
+    }
+}
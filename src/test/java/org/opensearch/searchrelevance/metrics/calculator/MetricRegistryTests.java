@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import static org.opensearch.searchrelevance.metrics.calculator.EvaluationKernel.METRICS_COVERAGE;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.opensearch.searchrelevance.metrics.EvaluationMetrics;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MetricRegistryTests extends OpenSearchTestCase {
+
+    /**
+     * Share of judged docs with a score of at least 2 up to the cutoff, counts its batch calls
+     */
+    private static class HighlyRelevantShare implements BatchEvaluationMetric {
+        private final AtomicInteger batchCalls = new AtomicInteger();
+
+        @Override
+        public String name() {
+            return "highlyRelevantShare";
+        }
+
+        @Override
+        public double[] evaluate(EvaluationBatch batch, int cutoff) {
+            batchCalls.incrementAndGet();
+            double[] values = new double[batch.size()];
+            for (int i = 0; i < batch.size(); i++) {
+                double[] scores = batch.scores(i);
+                int n = cutoff == 0 ? scores.length : Math.min(cutoff, scores.length);
+                int highlyRelevant = 0;
+                for (int r = 0; r < n; r++) {
+                    if (scores[r] >= 2) {
+                        highlyRelevant++;
+                    }
+                }
+                values[i] = n > 0 ? (double) highlyRelevant / n : 0.0;
+            }
+            return values;
+        }
+    }
+
+    private static class RankedListLength implements EvaluationMetric {
+        @Override
+        public String name() {
+            return "rankedListLength";
+        }
+
+        @Override
+        public double evaluate(List<String> docIds, double[] scores, Map<String, Double> judgments, int cutoff) {
+            return docIds.size();
+        }
+    }
+
+    private HighlyRelevantShare highlyRelevantShare;
+    private MetricRegistry metricRegistry;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        highlyRelevantShare = new HighlyRelevantShare();
+        metricRegistry = new MetricRegistry();
+        metricRegistry.register(highlyRelevantShare);
+        metricRegistry.register(new RankedListLength());
+    }
+
+    public void testParseRegisteredMetric() {
+        MetricSpec metric = MetricSpec.parse("HighlyRelevantShare@3", metricRegistry);
+        assertFalse(metric.isBuiltIn());
+        assertNull(metric.type());
+        assertSame(highlyRelevantShare, metric.metric());
+        assertEquals("highlyRelevantShare@3", metric.toString());
+        assertEquals(metric, MetricSpec.parse(metric.toString(), metricRegistry));
+        expectThrows(IllegalArgumentException.class, () -> MetricSpec.parse("unregistered@3", metricRegistry));
+    }
+
+    public void testRegistriesOfNodesAreIndependent() {
+        // every node of a test cluster in the same JVM loads its extensions into the registry of its own plugin instance
+        MetricRegistry otherNodeRegistry = new MetricRegistry();
+        otherNodeRegistry.register(new HighlyRelevantShare());
+        assertNotSame(highlyRelevantShare, otherNodeRegistry.get("highlyRelevantShare"));
+        assertSame(highlyRelevantShare, metricRegistry.get("highlyRelevantShare"));
+        assertNull(otherNodeRegistry.get("rankedListLength"));
+        expectThrows(IllegalArgumentException.class, () -> MetricSpec.parse("rankedListLength", otherNodeRegistry));
+    }
+
+    public void testRejectsDuplicateAndBuiltInNames() {
+        expectThrows(IllegalArgumentException.class, () -> metricRegistry.register(new HighlyRelevantShare()));
+        expectThrows(IllegalArgumentException.class, () -> metricRegistry.register(new RankedListLength() {
+            @Override
+            public String name() {
+                return "NDCG";
+            }
+        }));
+        expectThrows(IllegalArgumentException.class, () -> metricRegistry.register(new RankedListLength() {
+            @Override
+            public String name() {
+                return "length@10";
+            }
+        }));
+    }
+
+    public void testEvaluatesBatchInOneCall() {
+        EvaluationBatch batch = new EvaluationBatch(
+            List.of(List.of("a", "b", "c", "d"), List.of("e", "f"), List.of("g")),
+            List.of(Map.of("a", 3.0, "b", 1.0, "c", 2.0), Map.of("e", 0.0), Map.of())
+        );
+        List<Map<String, String>> metrics = EvaluationMetrics.calculateEvaluationMetrics(
+            batch,
+            MetricSpec.parseAll(List.of("precision@2", "highlyRelevantShare@2", "highlyRelevantShare", "rankedListLength"), metricRegistry)
+        );
+        assertEquals(3, metrics.size());
+        assertEquals(2, highlyRelevantShare.batchCalls.get());
+
+        assertEquals("1.0", metrics.get(0).get("precision@2"));
+        assertEquals("0.5", metrics.get(0).get("highlyRelevantShare@2"));
+        assertEquals("0.5", metrics.get(0).get("highlyRelevantShare"));
+        assertEquals("4.0", metrics.get(0).get("rankedListLength"));
+        assertEquals("0.75", metrics.get(0).get(METRICS_COVERAGE));
+
+        assertEquals("0.0", metrics.get(1).get("highlyRelevantShare@2"));
+        assertEquals("2.0", metrics.get(1).get("rankedListLength"));
+        assertEquals("0.0", metrics.get(2).get(METRICS_COVERAGE));
+        assertEquals("1.0", metrics.get(2).get("rankedListLength"));
+    }
+
+    public void testSingleRankedListUsesBatchMetric() {
+        Map<String, String> metrics = EvaluationMetrics.calculateEvaluationMetrics(
+            List.of("a", "b"),
+            Map.of("a", 2.0),
+            MetricSpec.parseAll(List.of("ndcg", "highlyRelevantShare"), metricRegistry)
+        );
+        assertEquals("0.5", metrics.get("highlyRelevantShare"));
+        assertEquals("1.0", metrics.get("ndcg"));
+        assertEquals(1, highlyRelevantShare.batchCalls.get());
+    }
+
+    public void testKernelRejectsRegisteredMetrics() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> EvaluationKernel.evaluate(new double[] { 1.0 }, Map.of(), List.of(MetricSpec.parse("rankedListLength", metricRegistry)))
+        );
+    }
+}
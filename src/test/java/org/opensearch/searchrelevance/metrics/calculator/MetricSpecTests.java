@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.List;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MetricSpecTests extends OpenSearchTestCase {
+
+    public void testParse() {
+        assertEquals(new MetricSpec(MetricSpec.Type.NDCG, 10), MetricSpec.parse("NDCG@10", new MetricRegistry()));
+        assertEquals(new MetricSpec(MetricSpec.Type.MAP, 0), MetricSpec.parse("map", new MetricRegistry()));
+        assertEquals("MAP", MetricSpec.parse("map", new MetricRegistry()).toString());
+        assertEquals("err@20", MetricSpec.parse(" Err @ 20 ", new MetricRegistry()).toString());
+    }
+
+    public void testDefaultMetricNames() {
+        assertEquals(List.of("precision@5", "precision@10", "MAP", "ndcg"), MetricSpec.toStrings(MetricSpec.DEFAULT_METRICS));
+        assertEquals(MetricSpec.DEFAULT_METRICS, MetricSpec.parseStored(null, new MetricRegistry()));
+    }
+
+    public void testInvalidMetrics() {
+        expectThrows(IllegalArgumentException.class, () -> MetricSpec.parse("bpref@10", new MetricRegistry()));
+        expectThrows(IllegalArgumentException.class, () -> MetricSpec.parse("ndcg@0", new MetricRegistry()));
+        expectThrows(IllegalArgumentException.class, () -> MetricSpec.parse("ndcg@ten", new MetricRegistry()));
+        expectThrows(IllegalArgumentException.class, () -> MetricSpec.parse("", new MetricRegistry()));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.metrics.calculator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.opensearch.searchrelevance.exception.SearchRelevanceException;
+import org.opensearch.searchrelevance.metrics.calculator.PairComparison.RankBiasedOverlap;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PairComparisonTests extends OpenSearchTestCase {
+
+    public void testRankBiasedOverlapMatchesPrefixSets() {
+        for (int iteration = 0; iteration < 200; iteration++) {
+            int universe = randomIntBetween(1, 60);
+            List<String> listA = randomDocIds(randomIntBetween(0, 40), universe);
+            List<String> listB = randomDocIds(randomIntBetween(0, 40), universe);
+
+            RankBiasedOverlap rbo = PairComparison.calculateRankBiasedOverlap(listA, listB, 0.5, 0.9);
+            assertEquals(prefixSetRBO(listA, listB, 0.5), rbo.rbo(0), 0.0);
+            assertEquals(prefixSetRBO(listA, listB, 0.9), rbo.rbo(1), 0.0);
+            assertEquals(rbo.rbo(1), PairComparison.calculateRBOSimilarity(listA, listB, 0.9), 0.0);
+        }
+    }
+
+    public void testExtrapolatedRankBiasedOverlap() {
+        List<String> ranking = List.of("a", "b", "c", "d", "e", "f");
+        RankBiasedOverlap identical = PairComparison.calculateRankBiasedOverlap(ranking, ranking, 0.9);
+        assertEquals(1.0, identical.rbo(0), 0.0);
+        assertEquals(1.0, identical.rboExt(0), 0.0);
+
+        // a truncated list that agrees with the prefix of the longer one is extrapolated to full agreement
+        RankBiasedOverlap truncated = PairComparison.calculateRankBiasedOverlap(ranking, List.of("a", "b", "c"), 0.9);
+        assertTrue(truncated.rbo(0) < 1.0);
+        assertEquals(1.0, truncated.rboExt(0), 0.0);
+
+        RankBiasedOverlap disjoint = PairComparison.calculateRankBiasedOverlap(List.of("a", "b"), List.of("c", "d"), 0.9);
+        assertEquals(0.0, disjoint.rboExt(0), 0.0);
+        assertEquals(0.0, PairComparison.calculateRankBiasedOverlap(List.of(), ranking, 0.9).rboExt(0), 0.0);
+    }
+
+    public void testInvalidPersistence() {
+        expectThrows(SearchRelevanceException.class, () -> PairComparison.calculateRankBiasedOverlap(List.of("a"), List.of("a"), 0.5, 1.0));
+    }
+
+    private List<String> randomDocIds(int size, int universe) {
+        List<String> docIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            docIds.add("doc" + randomIntBetween(0, universe - 1));
+        }
+        return docIds;
+    }
+
+    /**
+     * RBO from the prefix sets of both lists at every depth
+     */
+    private static double prefixSetRBO(List<String> listA, List<String> listB, double p) {
+        int maxDepth = Math.max(listA.size(), listB.size());
+        double sum = 0;
+        double weight = 1;
+        for (int d = 0; d < maxDepth; d++) {
+            Set<String> setA = new HashSet<>(listA.subList(0, Math.min(d + 1, listA.size())));
+            Set<String> setB = new HashSet<>(listB.subList(0, Math.min(d + 1, listB.size())));
+            Set<String> intersection = new HashSet<>(setA);
+            intersection.retainAll(setB);
+            double overlap = intersection.size() / (double) Math.max(setA.size(), setB.size());
+            sum += weight * overlap;
+            weight *= p;
+        }
+        double rbo = sum * (1 - p) / (1 - Math.pow(p, maxDepth));
+        return Math.round(rbo * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model;
+
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class JudgmentRatingTableTests extends OpenSearchTestCase {
+
+    public void testAddJudgment() {
+        JudgmentRatingTable ratingTable = new JudgmentRatingTable();
+        ratingTable.addJudgment(
+            Map.of(
+                "judgmentScores",
+                Map.of(
+                    "apple",
+                    List.of(Map.of("docId", "doc1", "score", "0.8"), Map.of("docId", "doc2", "score", "0.1")),
+                    "banana",
+                    List.of(Map.of("docId", "doc3", "score", 2))
+                )
+            )
+        );
+
+        assertFalse(ratingTable.isEmpty());
+        assertEquals(0.8, ratingTable.getRatings("apple").get("doc1"), 0.0);
+        assertEquals(0.1, ratingTable.getRatings("apple").get("doc2"), 0.0);
+        assertEquals(2.0, ratingTable.getRatings("banana").get("doc3"), 0.0);
+        assertTrue(ratingTable.getRatings("cherry").isEmpty());
+    }
+
+    public void testLaterJudgmentOverridesEarlierScores() {
+        JudgmentRatingTable ratingTable = new JudgmentRatingTable();
+        ratingTable.addJudgment(Map.of("judgmentScores", Map.of("apple", List.of(Map.of("docId", "doc1", "score", "0.8")))));
+        ratingTable.addJudgment(
+            Map.of(
+                "judgmentScores",
+                Map.of("apple", List.of(Map.of("docId", "doc1", "score", "0.3"), Map.of("docId", "doc2", "score", "invalid")))
+            )
+        );
+
+        assertEquals(0.3, ratingTable.getRatings("apple").get("doc1"), 0.0);
+        assertFalse(ratingTable.getRatings("apple").containsKey("doc2"));
+    }
+
+    public void testAddRatingsOverridesLoadedScores() {
+        JudgmentRatingTable ratingTable = new JudgmentRatingTable();
+        ratingTable.addJudgment(
+            Map.of(
+                "judgmentScores",
+                Map.of("apple", List.of(Map.of("docId", "doc1", "score", "0.8"), Map.of("docId", "doc2", "score", "0.1")))
+            )
+        );
+        ratingTable.addRatings("apple", Map.of("doc1", "0.5", "doc3", "invalid"));
+        ratingTable.addRatings("banana", Map.of("doc4", "1.0"));
+
+        assertEquals(0.5, ratingTable.getRatings("apple").get("doc1"), 0.0);
+        assertEquals(0.1, ratingTable.getRatings("apple").get("doc2"), 0.0);
+        assertFalse(ratingTable.getRatings("apple").containsKey("doc3"));
+        assertEquals(1.0, ratingTable.getRatings("banana").get("doc4"), 0.0);
+    }
+
+    public void testMissingJudgmentScores() {
+        JudgmentRatingTable ratingTable = new JudgmentRatingTable();
+        ratingTable.addJudgment(Map.of("name", "empty judgment"));
+        assertTrue(ratingTable.isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.searchrelevance.model.builder;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.index.query.WrapperQueryBuilder;
+import org.opensearch.test.OpenSearchTestCase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class SearchConfigurationTemplateTests extends OpenSearchTestCase {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String QUERY = "{\"_source\": {\"exclude\": [\"passage_embedding\"]},"
+        + "\"query\": {\"multi_match\": {\"query\": \"%SearchText%\", \"fields\": [\"title\"]}}}";
+
+    public void testQueryTextIsEscaped() throws Exception {
+        SearchConfigurationTemplate template = SearchConfigurationTemplate.compile("test_index", QUERY, null);
+
+        String queryBody = template.substituteQueryText("16\" \\ monitor");
+
+        JsonNode queryNode = OBJECT_MAPPER.readTree(queryBody);
+        assertEquals("16\" \\ monitor", queryNode.get("multi_match").get("query").asText());
+    }
+
+    public void testEveryPlaceholderIsSubstituted() throws Exception {
+        String query = "{\"query\": {\"bool\": {\"should\": [{\"match\": {\"title\": \"%SearchText%\"}},"
+            + "{\"match\": {\"body\": \"%SearchText%\"}}]}}}";
+        SearchConfigurationTemplate template = SearchConfigurationTemplate.compile("test_index", query, null);
+
+        String queryBody = template.substituteQueryText("apple");
+
+        assertFalse(queryBody.contains("%SearchText%"));
+        JsonNode shouldNode = OBJECT_MAPPER.readTree(queryBody).get("bool").get("should");
+        assertEquals("apple", shouldNode.get(0).get("match").get("title").asText());
+        assertEquals("apple", shouldNode.get(1).get("match").get("body").asText());
+    }
+
+    public void testBuildSearchRequestMatchesSearchRequestBuilder() {
+        SearchConfigurationTemplate template = SearchConfigurationTemplate.compile("test_index", QUERY, "test_pipeline");
+
+        SearchRequest compiled = template.buildSearchRequest("apple", 10, false);
+        SearchRequest built = SearchRequestBuilder.buildSearchRequest("test_index", QUERY, "apple", "test_pipeline", 10);
+
+        assertEquals(built, compiled);
+        assertEquals("test_pipeline", compiled.pipeline());
+        assertArrayEquals(new String[] { "passage_embedding" }, compiled.source().fetchSource().excludes());
+        assertTrue(compiled.source().query() instanceof WrapperQueryBuilder);
+    }
+
+    public void testCompileAllKeepsSearchConfigurationOrder() {
+        Map<String, List<String>> indexAndQueries = new LinkedHashMap<>();
+        indexAndQueries.put("config2", Arrays.asList("index2", QUERY, null));
+        indexAndQueries.put("config1", Arrays.asList("index1", QUERY, "pipeline1"));
+
+        Map<String, SearchConfigurationTemplate> templates = SearchConfigurationTemplate.compileAll(indexAndQueries);
+
+        assertEquals(List.of("config2", "config1"), List.copyOf(templates.keySet()));
+        assertEquals("index2", templates.get("config2").index());
+        assertNull(templates.get("config2").searchPipeline());
+        assertEquals("pipeline1", templates.get("config1").searchPipeline());
+    }
+
+    public void testQueryWithoutQueryBodyIsRejected() {
+        expectThrows(IllegalArgumentException.class, () -> SearchConfigurationTemplate.compile("test_index", "{\"size\": 5}", null));
+    }
+
+    public void testVersionChangesWithSearchConfiguration() {
+        String version = SearchConfigurationTemplate.compile("test_index", QUERY, null).version();
+
+        assertEquals(version, SearchConfigurationTemplate.compile("test_index", QUERY, null).version());
+        assertNotEquals(version, SearchConfigurationTemplate.compile("other_index", QUERY, null).version());
+        assertNotEquals(version, SearchConfigurationTemplate.compile("test_index", QUERY, "pipeline").version());
+        assertNotEquals(version, SearchConfigurationTemplate.compile("test_index", QUERY.replace("title", "text"), null).version());
+    }
+}
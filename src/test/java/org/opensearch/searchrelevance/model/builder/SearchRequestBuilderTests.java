@@ -65,4 +65,24 @@ public class SearchRequestBuilderTests extends OpenSearchTestCase {
         assertEquals(searchPipeline, searchRequest.pipeline());
         assertEquals(size, searchRequest.source().size());
     }
+
+    public void testBuildIdsOnlySearchRequest() {
+        String query = "{\"_source\": {\"exclude\": [\"passage_embedding\"]},\"query\": {\"match\": {\"title\": \"%SearchText%\"}}}";
+
+        SearchRequest searchRequest = SearchRequestBuilder.buildSearchRequest("test_index", query, "test query", null, 10, true);
+
+        assertFalse(searchRequest.source().fetchSource().fetchSource());
+        assertTrue(searchRequest.source().storedFields().fieldNames().isEmpty());
+        assertEquals(10, searchRequest.source().size());
+    }
+
+    public void testIdsOnlySearchRequestKeepsSourceForSearchPipeline() {
+        String query = "{\"_source\": {\"exclude\": [\"passage_embedding\"]},\"query\": {\"match\": {\"title\": \"%SearchText%\"}}}";
+
+        SearchRequest searchRequest = SearchRequestBuilder.buildSearchRequest("test_index", query, "test query", "test_pipeline", 10, true);
+
+        assertTrue(searchRequest.source().fetchSource().fetchSource());
+        assertArrayEquals(new String[] { "passage_embedding" }, searchRequest.source().fetchSource().excludes());
+        assertNull(searchRequest.source().storedFields());
+    }
 }
@@ -7,8 +7,10 @@
  */
 package org.opensearch.searchrelevance.plugin;
 
+import static org.mockito.Mockito.when;
 import static org.opensearch.searchrelevance.common.PluginConstants.EVALUATION_RESULT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_INDEX;
+import static org.opensearch.searchrelevance.common.PluginConstants.EXPERIMENT_RESULT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_CACHE_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.JUDGMENT_INDEX;
 import static org.opensearch.searchrelevance.common.PluginConstants.QUERY_SET_INDEX;
@@ -25,6 +27,7 @@ import org.mockito.MockitoAnnotations;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
@@ -33,21 +36,34 @@ import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.plugins.ActionPlugin;
+import org.opensearch.plugins.ExtensiblePlugin;
 import org.opensearch.plugins.SystemIndexPlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
 import org.opensearch.searchrelevance.dao.EvaluationResultDao;
 import org.opensearch.searchrelevance.dao.ExperimentDao;
+import org.opensearch.searchrelevance.dao.ExperimentResultDao;
 import org.opensearch.searchrelevance.dao.JudgmentCacheDao;
 import org.opensearch.searchrelevance.dao.JudgmentDao;
 import org.opensearch.searchrelevance.dao.QuerySetDao;
 import org.opensearch.searchrelevance.dao.SearchConfigurationDao;
+import org.opensearch.searchrelevance.executors.ExperimentRunner;
+import org.opensearch.searchrelevance.executors.ExperimentSearchScheduler;
+import org.opensearch.searchrelevance.executors.SearchResultCache;
 import org.opensearch.searchrelevance.indices.SearchRelevanceIndicesManager;
+import org.opensearch.searchrelevance.judgments.JudgmentsProcessorFactory;
 import org.opensearch.searchrelevance.metrics.MetricsHelper;
+import org.opensearch.searchrelevance.metrics.calculator.MetricRegistry;
 import org.opensearch.searchrelevance.ml.MLAccessor;
+import org.opensearch.searchrelevance.settings.SearchRelevanceSettings;
 import org.opensearch.searchrelevance.transport.experiment.DeleteExperimentAction;
 import org.opensearch.searchrelevance.transport.experiment.GetExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentProgressAction;
+import org.opensearch.searchrelevance.transport.experiment.GetExperimentResultsAction;
 import org.opensearch.searchrelevance.transport.experiment.PutExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.RerunExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.ResumeExperimentAction;
+import org.opensearch.searchrelevance.transport.experiment.RunExperimentSliceAction;
 import org.opensearch.searchrelevance.transport.queryset.DeleteQuerySetAction;
 import org.opensearch.searchrelevance.transport.queryset.GetQuerySetAction;
 import org.opensearch.searchrelevance.transport.queryset.PostQuerySetAction;
@@ -55,6 +71,7 @@ import org.opensearch.searchrelevance.transport.queryset.PutQuerySetAction;
 import org.opensearch.searchrelevance.transport.searchConfiguration.DeleteSearchConfigurationAction;
 import org.opensearch.searchrelevance.transport.searchConfiguration.GetSearchConfigurationAction;
 import org.opensearch.searchrelevance.transport.searchConfiguration.PutSearchConfigurationAction;
+import org.opensearch.searchrelevance.transport.stats.SearchResultCacheStatsAction;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
@@ -93,7 +110,8 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         SEARCH_CONFIGURATION_INDEX,
         JUDGMENT_INDEX,
         EVALUATION_RESULT_INDEX,
-        JUDGMENT_CACHE_INDEX
+        JUDGMENT_CACHE_INDEX,
+        EXPERIMENT_RESULT_INDEX
     );
 
     private final Set<Class> SUPPORTED_COMPONENTS = Set.of(
@@ -104,8 +122,14 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         JudgmentDao.class,
         EvaluationResultDao.class,
         JudgmentCacheDao.class,
+        ExperimentResultDao.class,
         MLAccessor.class,
-        MetricsHelper.class
+        ExperimentSearchScheduler.class,
+        SearchResultCache.class,
+        MetricsHelper.class,
+        JudgmentsProcessorFactory.class,
+        ExperimentRunner.class,
+        MetricRegistry.class
     );
 
     @Override
@@ -114,6 +138,10 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         openMocks = MockitoAnnotations.openMocks(this);
         nodeEnvironment = null;
         plugin = new SearchRelevancePlugin();
+        when(clusterService.getSettings()).thenReturn(Settings.EMPTY);
+        when(clusterService.getClusterSettings()).thenReturn(
+            new ClusterSettings(Settings.EMPTY, new HashSet<>(SearchRelevanceSettings.getAllSettings()))
+        );
     }
 
     @Override
@@ -151,6 +179,10 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         assertEquals(SUPPORTED_COMPONENTS, registeredComponents);
     }
 
+    public void testGetSettings() {
+        assertEquals(SearchRelevanceSettings.getAllSettings(), plugin.getSettings());
+    }
+
     public void testIsAnActionPlugin() {
         assertTrue(plugin instanceof ActionPlugin);
     }
@@ -159,8 +191,12 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         assertTrue(plugin instanceof SystemIndexPlugin);
     }
 
+    public void testIsAnExtensiblePlugin() {
+        assertTrue(plugin instanceof ExtensiblePlugin);
+    }
+
     public void testTotalRestHandlers() {
-        assertEquals(13, plugin.getRestHandlers(Settings.EMPTY, null, null, null, null, null, null).size());
+        assertEquals(18, plugin.getRestHandlers(Settings.EMPTY, null, null, null, null, null, null).size());
     }
 
     public void testQuerySetTransportIsAdded() {
@@ -184,5 +220,20 @@ public class SearchRelevancePluginTests extends OpenSearchTestCase {
         assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof PutExperimentAction).count());
         assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof GetExperimentAction).count());
         assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof DeleteExperimentAction).count());
+        assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof ResumeExperimentAction).count());
+        assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof RerunExperimentAction).count());
+        assertEquals(
+            1,
+            actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof GetExperimentResultsAction).count()
+        );
+        assertEquals(
+            1,
+            actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof GetExperimentProgressAction).count()
+        );
+        assertEquals(1, actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof RunExperimentSliceAction).count());
+        assertEquals(
+            1,
+            actions.stream().filter(actionHandler -> actionHandler.getAction() instanceof SearchResultCacheStatsAction).count()
+        );
     }
 }
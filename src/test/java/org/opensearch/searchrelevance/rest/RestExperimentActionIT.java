@@ -14,16 +14,20 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.searchrelevance.model.QueryWithReference;
 import org.opensearch.searchrelevance.plugin.SearchRelevanceRestTestCase;
+import org.opensearch.test.rest.yaml.ObjectPath;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
 /**
- * Integration tests for RestPutExperimentAction, RestGetExperimentAction and RestDeleteExperimentAction
+ * Integration tests for RestPutExperimentAction, RestGetExperimentAction, RestGetExperimentResultsAction and RestDeleteExperimentAction
  */
 public class RestExperimentActionIT extends SearchRelevanceRestTestCase {
 
@@ -96,6 +100,100 @@ public class RestExperimentActionIT extends SearchRelevanceRestTestCase {
         assertEquals(RestStatus.OK.getStatus(), deleteResponse.getStatusLine().getStatusCode());
     }
 
+    public void testExperimentResultsPaging() throws Exception {
+        makeRequest("PUT", "/sample_index", null);
+        Response putQuerySetResponse = makeRequest(
+            "PUT",
+            QUERY_SETS_ENDPOINT,
+            createQuerySetRequestBody("test_queryset_name", "test_queryset_description")
+        );
+        String querySetId = (String) entityAsMap(putQuerySetResponse).get("query_set_id");
+        String query = "{\"query\": {\n\"match_all\": {}}}";
+        List<String> searchConfigurationList = new ArrayList<>();
+        for (String name : List.of("test_name", "test_name2")) {
+            Response response = makeRequest(
+                "PUT",
+                SEARCH_CONFIGURATIONS_ENDPOINT,
+                createSearchConfigurationRequestBody(name, "sample_index", query)
+            );
+            searchConfigurationList.add((String) entityAsMap(response).get("search_configuration_id"));
+        }
+        Response putResponse = makeRequest("PUT", EXPERIMENTS_ENDPOINT, createPairwiseRequestBody(querySetId, searchConfigurationList));
+        String experimentId = (String) entityAsMap(putResponse).get("experiment_id");
+        String resultsEndpoint = EXPERIMENTS_ENDPOINT + "/" + experimentId + "/results";
+
+        // the results of both query texts are checkpointed before the experiment completes
+        assertBusy(() -> {
+            makeRequest("POST", "/_refresh", null);
+            Response getResponse = makeRequest("GET", EXPERIMENTS_ENDPOINT + "/" + experimentId, null);
+            assertTrue(getResponse.toString(), EntityUtils.toString(getResponse.getEntity()).contains("COMPLETED"));
+        }, 30, TimeUnit.SECONDS);
+
+        Map<String, Object> firstPage = entityAsMap(makeRequest("GET", resultsEndpoint + "?from=0&size=1", null));
+        Map<String, Object> secondPage = entityAsMap(makeRequest("GET", resultsEndpoint + "?from=1&size=1", null));
+        Map<String, Object> emptyPage = entityAsMap(makeRequest("GET", resultsEndpoint + "?from=2&size=1", null));
+        assertEquals(2, ((Number) ObjectPath.eval("hits.total.value", firstPage)).intValue());
+        assertEquals(1, ((List<?>) ObjectPath.eval("hits.hits", firstPage)).size());
+        assertEquals(1, ((List<?>) ObjectPath.eval("hits.hits", secondPage)).size());
+        assertEquals(0, ((List<?>) ObjectPath.eval("hits.hits", emptyPage)).size());
+        assertNotEquals(
+            ObjectPath.eval("hits.hits.0._source.queryText", firstPage),
+            ObjectPath.eval("hits.hits.0._source.queryText", secondPage)
+        );
+
+        // results are keyed by the full query set entry, {queryText}#{referenceAnswer}
+        Map<String, Object> filtered = entityAsMap(makeRequest("GET", resultsEndpoint + "?query_text=apple%23", null));
+        assertEquals(1, ((Number) ObjectPath.eval("hits.total.value", filtered)).intValue());
+        assertEquals("apple#", ObjectPath.eval("hits.hits.0._source.queryText", filtered));
+
+        ResponseException negativeFrom = expectThrows(
+            ResponseException.class,
+            () -> makeRequest("GET", resultsEndpoint + "?from=-1", null)
+        );
+        assertEquals(RestStatus.BAD_REQUEST.getStatus(), negativeFrom.getResponse().getStatusLine().getStatusCode());
+        assertTrue(EntityUtils.toString(negativeFrom.getResponse().getEntity()).contains("from must be non-negative"));
+
+        ResponseException unknownExperiment = expectThrows(
+            ResponseException.class,
+            () -> makeRequest("GET", EXPERIMENTS_ENDPOINT + "/unknown/results", null)
+        );
+        assertEquals(RestStatus.NOT_FOUND.getStatus(), unknownExperiment.getResponse().getStatusLine().getStatusCode());
+    }
+
+    public void testInvalidExperimentSettingsAreBadRequests() throws Exception {
+        Map<String, Object> requestMap = new HashMap<>();
+        requestMap.put("querySetId", "querySet");
+        requestMap.put("searchConfigurationList", List.of("searchConfiguration"));
+        requestMap.put("size", 10);
+        requestMap.put("type", "PAIRWISE_COMPARISON");
+
+        // a time value without unit
+        requestMap.put("timeBudget", 600);
+        assertBadRequest(OBJECT_MAPPER.writeValueAsString(requestMap));
+        // a time budget that expires at once
+        requestMap.put("timeBudget", "-1");
+        assertBadRequest(OBJECT_MAPPER.writeValueAsString(requestMap));
+        requestMap.put("timeBudget", "0s");
+        assertBadRequest(OBJECT_MAPPER.writeValueAsString(requestMap));
+        requestMap.remove("timeBudget");
+        requestMap.put("searchTimeout", 500);
+        assertBadRequest(OBJECT_MAPPER.writeValueAsString(requestMap));
+        requestMap.put("searchTimeout", "0ms");
+        assertBadRequest(OBJECT_MAPPER.writeValueAsString(requestMap));
+        requestMap.remove("searchTimeout");
+        requestMap.put("priority", 1);
+        assertBadRequest(OBJECT_MAPPER.writeValueAsString(requestMap));
+        requestMap.put("priority", "interactiv");
+        ResponseException failure = assertBadRequest(OBJECT_MAPPER.writeValueAsString(requestMap));
+        assertTrue(EntityUtils.toString(failure.getResponse().getEntity()).contains("[INTERACTIVE, BATCH]"));
+    }
+
+    private ResponseException assertBadRequest(String requestBody) {
+        ResponseException failure = expectThrows(ResponseException.class, () -> makeRequest("PUT", EXPERIMENTS_ENDPOINT, requestBody));
+        assertEquals(RestStatus.BAD_REQUEST.getStatus(), failure.getResponse().getStatusLine().getStatusCode());
+        return failure;
+    }
+
     private String createPairwiseRequestBody(String querySetId, List<String> searchConfigurationList) throws JsonProcessingException {
         Map<String, Object> requestMap = new HashMap<>();
         requestMap.put("querySetId", querySetId);